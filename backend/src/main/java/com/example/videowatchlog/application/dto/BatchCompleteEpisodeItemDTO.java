@@ -0,0 +1,75 @@
+package com.example.videowatchlog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * BatchCompleteEpisodeItemDTO - 一括視聴完了の1エピソード分の指定
+ *
+ * 視聴日時・評価・感想を省略した場合は、リクエスト全体の値を使います。
+ */
+@Schema(description = "一括視聴完了の1エピソード分の指定")
+public class BatchCompleteEpisodeItemDTO {
+    @Schema(description = "エピソードID", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "エピソードIDは必須です")
+    private Long episodeId;
+
+    @Schema(description = "視聴日時（省略時はリクエスト全体の値）", example = "2025-01-15T20:00:00")
+    @PastOrPresent(message = "視聴日時は過去である必要があります")
+    private LocalDateTime watchedAt;
+
+    @Schema(description = "評価（1～5。省略時はリクエスト全体の値）", example = "5", minimum = "1", maximum = "5")
+    @Min(value = 1, message = "評価は1以上である必要があります")
+    @Max(value = 5, message = "評価は5以下である必要があります")
+    private Integer rating;
+
+    @Schema(description = "視聴感想・コメント（省略時はリクエスト全体の値）", maxLength = 2000)
+    @Size(max = 2000, message = "感想は2000文字以下である必要があります")
+    private String comment;
+
+    public BatchCompleteEpisodeItemDTO() {}
+
+    public BatchCompleteEpisodeItemDTO(Long episodeId, LocalDateTime watchedAt, Integer rating, String comment) {
+        this.episodeId = episodeId;
+        this.watchedAt = watchedAt;
+        this.rating = rating;
+        this.comment = comment;
+    }
+
+    public Long getEpisodeId() {
+        return episodeId;
+    }
+
+    public void setEpisodeId(Long episodeId) {
+        this.episodeId = episodeId;
+    }
+
+    public LocalDateTime getWatchedAt() {
+        return watchedAt;
+    }
+
+    public void setWatchedAt(LocalDateTime watchedAt) {
+        this.watchedAt = watchedAt;
+    }
+
+    public Integer getRating() {
+        return rating;
+    }
+
+    public void setRating(Integer rating) {
+        this.rating = rating;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+}
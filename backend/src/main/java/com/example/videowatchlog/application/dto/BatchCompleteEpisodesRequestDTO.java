@@ -0,0 +1,79 @@
+package com.example.videowatchlog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * BatchCompleteEpisodesRequestDTO - エピソード一括視聴完了リクエスト
+ *
+ * 視聴日時・評価・感想はすべてのエピソードに共通の値として指定し、エピソードごとに上書きできます。
+ */
+@Schema(description = "エピソード一括視聴完了リクエスト")
+public class BatchCompleteEpisodesRequestDTO {
+    @Schema(description = "視聴完了にするエピソード（指定順に結果を返す）", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "エピソードを1件以上指定してください")
+    @Valid
+    private List<BatchCompleteEpisodeItemDTO> items;
+
+    @Schema(description = "共通の視聴日時", example = "2025-01-15T20:00:00")
+    @PastOrPresent(message = "視聴日時は過去である必要があります")
+    private LocalDateTime watchedAt;
+
+    @Schema(description = "共通の評価（1～5）", example = "4", minimum = "1", maximum = "5")
+    @Min(value = 1, message = "評価は1以上である必要があります")
+    @Max(value = 5, message = "評価は5以下である必要があります")
+    private Integer rating;
+
+    @Schema(description = "共通の視聴感想・コメント", maxLength = 2000)
+    @Size(max = 2000, message = "感想は2000文字以下である必要があります")
+    private String comment;
+
+    public BatchCompleteEpisodesRequestDTO() {}
+
+    public BatchCompleteEpisodesRequestDTO(List<BatchCompleteEpisodeItemDTO> items, LocalDateTime watchedAt,
+                                           Integer rating, String comment) {
+        this.items = items;
+        this.watchedAt = watchedAt;
+        this.rating = rating;
+        this.comment = comment;
+    }
+
+    public List<BatchCompleteEpisodeItemDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BatchCompleteEpisodeItemDTO> items) {
+        this.items = items;
+    }
+
+    public LocalDateTime getWatchedAt() {
+        return watchedAt;
+    }
+
+    public void setWatchedAt(LocalDateTime watchedAt) {
+        this.watchedAt = watchedAt;
+    }
+
+    public Integer getRating() {
+        return rating;
+    }
+
+    public void setRating(Integer rating) {
+        this.rating = rating;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+}
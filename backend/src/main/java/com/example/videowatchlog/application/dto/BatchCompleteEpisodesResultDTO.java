@@ -0,0 +1,88 @@
+package com.example.videowatchlog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * BatchCompleteEpisodesResultDTO - エピソード一括視聴完了の結果
+ *
+ * エピソードごとの結果をリクエストの指定順に返します。
+ */
+@Schema(description = "エピソード一括視聴完了の結果")
+public class BatchCompleteEpisodesResultDTO {
+    /**
+     * 1エピソード分の結果コード
+     */
+    public enum ResultCode {
+        /** 視聴済みにし、視聴記録を作成した */
+        COMPLETED,
+        /** 既に視聴済みのため変更しなかった */
+        ALREADY_WATCHED,
+        /** エピソードが見つからない */
+        NOT_FOUND,
+        /** 視聴日時・評価・感想が不正（または指定されていない） */
+        INVALID,
+        /** 同じエピソードがリクエスト内で既に指定されている */
+        DUPLICATE
+    }
+
+    @Schema(description = "視聴済みにしたエピソード数", example = "12")
+    private final int completedCount;
+
+    @Schema(description = "エピソードごとの結果（指定順）")
+    private final List<ItemResultDTO> results;
+
+    public BatchCompleteEpisodesResultDTO(List<ItemResultDTO> results) {
+        this.completedCount = (int) results.stream().filter(result -> result.getResult() == ResultCode.COMPLETED).count();
+        this.results = results;
+    }
+
+    public int getCompletedCount() {
+        return completedCount;
+    }
+
+    public List<ItemResultDTO> getResults() {
+        return results;
+    }
+
+    /**
+     * 1エピソード分の結果
+     */
+    @Schema(description = "エピソードごとの結果")
+    public static class ItemResultDTO {
+        @Schema(description = "エピソードID", example = "1")
+        private final Long episodeId;
+
+        @Schema(description = "結果コード", example = "COMPLETED")
+        private final ResultCode result;
+
+        @Schema(description = "作成した視聴記録のID（COMPLETED の場合のみ）", example = "10")
+        private final Long viewingRecordId;
+
+        @Schema(description = "INVALID の理由", example = "Rating must be between 1 and 5")
+        private final String message;
+
+        public ItemResultDTO(Long episodeId, ResultCode result, Long viewingRecordId, String message) {
+            this.episodeId = episodeId;
+            this.result = result;
+            this.viewingRecordId = viewingRecordId;
+            this.message = message;
+        }
+
+        public Long getEpisodeId() {
+            return episodeId;
+        }
+
+        public ResultCode getResult() {
+            return result;
+        }
+
+        public Long getViewingRecordId() {
+            return viewingRecordId;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
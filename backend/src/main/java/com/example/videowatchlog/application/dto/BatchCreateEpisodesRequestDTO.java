@@ -0,0 +1,45 @@
+package com.example.videowatchlog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import java.util.List;
+
+/**
+ * BatchCreateEpisodesRequestDTO - エピソード一括作成リクエスト
+ *
+ * episodes（個別に指定）と numbering（連番のテンプレート）のどちらか、または両方を指定します。
+ * 両方を指定した場合は episodes の後に numbering のエピソードが作成されます。
+ */
+@Schema(description = "エピソード一括作成リクエスト")
+public class BatchCreateEpisodesRequestDTO {
+    @Schema(description = "作成するエピソード（個別に指定）")
+    @Valid
+    private List<CreateEpisodeRequestDTO> episodes;
+
+    @Schema(description = "連番のエピソードを生成するテンプレート")
+    @Valid
+    private EpisodeNumberingDTO numbering;
+
+    public BatchCreateEpisodesRequestDTO() {}
+
+    public BatchCreateEpisodesRequestDTO(List<CreateEpisodeRequestDTO> episodes, EpisodeNumberingDTO numbering) {
+        this.episodes = episodes;
+        this.numbering = numbering;
+    }
+
+    public List<CreateEpisodeRequestDTO> getEpisodes() {
+        return episodes;
+    }
+
+    public void setEpisodes(List<CreateEpisodeRequestDTO> episodes) {
+        this.episodes = episodes;
+    }
+
+    public EpisodeNumberingDTO getNumbering() {
+        return numbering;
+    }
+
+    public void setNumbering(EpisodeNumberingDTO numbering) {
+        this.numbering = numbering;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.videowatchlog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * BatchCreateEpisodesResultDTO - エピソード一括作成の結果
+ *
+ * 作成したエピソードの詳細は返さず、件数と ID（作成順）だけを返します。
+ */
+@Schema(description = "エピソード一括作成の結果")
+public class BatchCreateEpisodesResultDTO {
+    @Schema(description = "シリーズID", example = "1")
+    private final Long seriesId;
+
+    @Schema(description = "作成したエピソード数", example = "24")
+    private final int createdCount;
+
+    @Schema(description = "作成したエピソードのID（作成順）", example = "[101, 102, 103]")
+    private final List<Long> episodeIds;
+
+    public BatchCreateEpisodesResultDTO(Long seriesId, List<Long> episodeIds) {
+        this.seriesId = seriesId;
+        this.createdCount = episodeIds.size();
+        this.episodeIds = episodeIds;
+    }
+
+    public Long getSeriesId() {
+        return seriesId;
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public List<Long> getEpisodeIds() {
+        return episodeIds;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.videowatchlog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * EpisodeNumberingDTO - 連番のエピソードを生成するテンプレート
+ *
+ * テンプレートの {n} を start から count 件分の番号（padding 桁に0埋め）に置き換えてエピソードを生成します。
+ */
+@Schema(description = "連番のエピソードを生成するテンプレート")
+public class EpisodeNumberingDTO {
+    /** 番号に置き換えるプレースホルダー */
+    public static final String PLACEHOLDER = "{n}";
+
+    @Schema(description = "エピソード情報のテンプレート（{n} が番号に置き換わる）", example = "第{n}話",
+            requiredMode = Schema.RequiredMode.REQUIRED, maxLength = 200)
+    @NotBlank(message = "エピソード情報のテンプレートは必須です")
+    @Size(max = 200, message = "エピソード情報のテンプレートは200文字以下である必要があります")
+    private String episodeInfoTemplate;
+
+    @Schema(description = "視聴ページURLのテンプレート（{n} が番号に置き換わる。省略時はURLなし）",
+            example = "https://example.com/episode/{n}")
+    private String watchPageUrlTemplate;
+
+    @Schema(description = "最初の番号（省略時は1）", example = "1", minimum = "0")
+    @Min(value = 0, message = "最初の番号は0以上である必要があります")
+    private Integer start;
+
+    @Schema(description = "生成するエピソード数", example = "24", requiredMode = Schema.RequiredMode.REQUIRED, minimum = "1")
+    @NotNull(message = "エピソード数は必須です")
+    @Min(value = 1, message = "エピソード数は1以上である必要があります")
+    private Integer count;
+
+    @Schema(description = "番号の桁数（0埋め。省略時は0埋めしない）", example = "2", minimum = "1", maximum = "6")
+    @Min(value = 1, message = "番号の桁数は1以上である必要があります")
+    @Max(value = 6, message = "番号の桁数は6以下である必要があります")
+    private Integer padding;
+
+    public EpisodeNumberingDTO() {}
+
+    public EpisodeNumberingDTO(String episodeInfoTemplate, String watchPageUrlTemplate, Integer start, Integer count,
+                               Integer padding) {
+        this.episodeInfoTemplate = episodeInfoTemplate;
+        this.watchPageUrlTemplate = watchPageUrlTemplate;
+        this.start = start;
+        this.count = count;
+        this.padding = padding;
+    }
+
+    /**
+     * テンプレートの {n} を番号に置き換えます
+     *
+     * @param template テンプレート（null の場合は null を返す）
+     * @param number 番号
+     * @return 置き換えた文字列
+     */
+    public String expand(String template, int number) {
+        if (template == null) {
+            return null;
+        }
+        String formatted = padding == null ? String.valueOf(number) : String.format("%0" + padding + "d", number);
+        return template.replace(PLACEHOLDER, formatted);
+    }
+
+    public String getEpisodeInfoTemplate() {
+        return episodeInfoTemplate;
+    }
+
+    public void setEpisodeInfoTemplate(String episodeInfoTemplate) {
+        this.episodeInfoTemplate = episodeInfoTemplate;
+    }
+
+    public String getWatchPageUrlTemplate() {
+        return watchPageUrlTemplate;
+    }
+
+    public void setWatchPageUrlTemplate(String watchPageUrlTemplate) {
+        this.watchPageUrlTemplate = watchPageUrlTemplate;
+    }
+
+    public Integer getStart() {
+        return start;
+    }
+
+    public void setStart(Integer start) {
+        this.start = start;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public void setCount(Integer count) {
+        this.count = count;
+    }
+
+    public Integer getPadding() {
+        return padding;
+    }
+
+    public void setPadding(Integer padding) {
+        this.padding = padding;
+    }
+}
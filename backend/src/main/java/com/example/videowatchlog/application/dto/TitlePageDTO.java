@@ -0,0 +1,45 @@
+package com.example.videowatchlog.application.dto;
+
+import com.example.videowatchlog.application.readmodel.TitleCursor;
+
+import java.util.List;
+
+/**
+ * TitlePageDTO - タイトル一覧の1ページ分
+ *
+ * nextCursor が null の場合は最終ページです。
+ */
+public class TitlePageDTO {
+    private final List<TitleSummaryDTO> items;
+    private final String nextCursor;
+
+    public TitlePageDTO(List<TitleSummaryDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * limit + 1 件まで取得した結果からページを作成します
+     * limit を超える行があれば次ページが存在するため、limit 件目からカーソルを生成します。
+     *
+     * @param rows 取得結果（最大 limit + 1 件、(createdAt, id) の降順）
+     * @param limit 1ページの件数
+     * @return ページ
+     */
+    public static TitlePageDTO fromRows(List<TitleSummaryDTO> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new TitlePageDTO(rows, null);
+        }
+        List<TitleSummaryDTO> items = rows.subList(0, limit);
+        TitleSummaryDTO last = items.get(limit - 1);
+        return new TitlePageDTO(items, new TitleCursor(last.getCreatedAt(), last.getId()).encode());
+    }
+
+    public List<TitleSummaryDTO> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.videowatchlog.application.dto;
+
+import com.example.videowatchlog.application.readmodel.TitleCursor;
+
+/**
+ * TitlePageRequestDTO - タイトル一覧のページ指定
+ *
+ * cursor を省略した場合は先頭ページ、limit を省略した場合は {@link #DEFAULT_LIMIT} 件です。
+ */
+public class TitlePageRequestDTO {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private final TitleCursor cursor;
+    private final int limit;
+
+    public TitlePageRequestDTO(TitleCursor cursor, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalStateException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    /**
+     * リクエストパラメータからページ指定を作成します
+     *
+     * @param cursor 前ページのレスポンスで返されたカーソル（null の場合は先頭ページ）
+     * @param limit 1ページの件数（null の場合は DEFAULT_LIMIT）
+     * @return ページ指定
+     * @throws IllegalStateException カーソルが不正、または limit が範囲外の場合
+     */
+    public static TitlePageRequestDTO of(String cursor, Integer limit) {
+        return new TitlePageRequestDTO(
+            cursor == null || cursor.isBlank() ? null : TitleCursor.decode(cursor),
+            limit == null ? DEFAULT_LIMIT : limit
+        );
+    }
+
+    /**
+     * 先頭ページのページ指定を作成します
+     *
+     * @return 先頭ページ・DEFAULT_LIMIT 件のページ指定
+     */
+    public static TitlePageRequestDTO firstPage() {
+        return new TitlePageRequestDTO(null, DEFAULT_LIMIT);
+    }
+
+    /**
+     * @return 開始位置のカーソル（先頭ページの場合は null）
+     */
+    public TitleCursor getCursor() {
+        return cursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -7,6 +7,8 @@ import java.time.LocalDateTime;
  * TitleSummaryDTO - タイトル概要情報
  *
  * タイトル一覧表示時に使用される簡潔な情報
+ * 視聴の進捗（エピソード数・視聴済みエピソード数・最終視聴日時・平均評価）は一覧と検索結果でのみ設定され、
+ * 作成時のレスポンスでは null です。
  */
 @Schema(description = "タイトル概要情報")
 public class TitleSummaryDTO {
@@ -22,11 +24,33 @@ public class TitleSummaryDTO {
     @Schema(description = "更新日時", example = "2025-01-15T10:30:00")
     private LocalDateTime updatedAt;
 
+    @Schema(description = "エピソード数（一覧・検索結果でのみ設定）", example = "25")
+    private Integer totalEpisodes;
+
+    @Schema(description = "視聴済みエピソード数（一覧・検索結果でのみ設定）", example = "12")
+    private Integer watchedEpisodes;
+
+    @Schema(description = "最終視聴日時（視聴記録がない場合は null）", example = "2025-01-20T21:00:00")
+    private LocalDateTime lastWatchedAt;
+
+    @Schema(description = "平均評価（視聴記録がない場合は null）", example = "4.25")
+    private Double averageRating;
+
     public TitleSummaryDTO(Long id, String name, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, name, createdAt, updatedAt, null, null, null, null);
+    }
+
+    public TitleSummaryDTO(Long id, String name, LocalDateTime createdAt, LocalDateTime updatedAt,
+                           Integer totalEpisodes, Integer watchedEpisodes,
+                           LocalDateTime lastWatchedAt, Double averageRating) {
         this.id = id;
         this.name = name;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.totalEpisodes = totalEpisodes;
+        this.watchedEpisodes = watchedEpisodes;
+        this.lastWatchedAt = lastWatchedAt;
+        this.averageRating = averageRating;
     }
 
     // Getters
@@ -45,4 +69,20 @@ public class TitleSummaryDTO {
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
+
+    public Integer getTotalEpisodes() {
+        return totalEpisodes;
+    }
+
+    public Integer getWatchedEpisodes() {
+        return watchedEpisodes;
+    }
+
+    public LocalDateTime getLastWatchedAt() {
+        return lastWatchedAt;
+    }
+
+    public Double getAverageRating() {
+        return averageRating;
+    }
 }
@@ -0,0 +1,84 @@
+package com.example.videowatchlog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+/**
+ * WatchListImportProgressDTO - 実行中（または最近終了した）一括取り込みの進捗
+ */
+@Schema(description = "一括取り込みの進捗")
+public class WatchListImportProgressDTO {
+    /**
+     * 取り込みの段階
+     */
+    public enum Phase {
+        /** 行を読み込み・検証して取り込み用のテーブルに送っている */
+        STAGING,
+        /** 読み込んだ行を既存のデータに統合している */
+        MERGING,
+        /** コミットした */
+        COMPLETED,
+        /** 失敗した（ロールバックした） */
+        FAILED
+    }
+
+    @Schema(description = "取り込みID", example = "1")
+    private final long id;
+
+    @Schema(description = "入力の形式", example = "CSV")
+    private final String format;
+
+    @Schema(description = "段階", example = "STAGING")
+    private final Phase phase;
+
+    @Schema(description = "これまでに読み込んだ行数", example = "5000")
+    private final long rowsRead;
+
+    @Schema(description = "これまでに不正だった行数", example = "1")
+    private final long rowsRejected;
+
+    @Schema(description = "開始日時", example = "2024-02-01T20:00:00")
+    private final LocalDateTime startedAt;
+
+    @Schema(description = "終了日時（実行中は null）", example = "2024-02-01T20:00:05")
+    private final LocalDateTime finishedAt;
+
+    public WatchListImportProgressDTO(long id, String format, Phase phase, long rowsRead, long rowsRejected,
+                                      LocalDateTime startedAt, LocalDateTime finishedAt) {
+        this.id = id;
+        this.format = format;
+        this.phase = phase;
+        this.rowsRead = rowsRead;
+        this.rowsRejected = rowsRejected;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
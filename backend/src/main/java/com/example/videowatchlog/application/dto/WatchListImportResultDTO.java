@@ -0,0 +1,122 @@
+package com.example.videowatchlog.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * WatchListImportResultDTO - 視聴リストの一括取り込みの結果
+ *
+ * 不正な行は取り込まずに件数を数え、先頭から一定件数までを行番号と理由の組で返します。
+ */
+@Schema(description = "視聴リストの一括取り込みの結果")
+public class WatchListImportResultDTO {
+    @Schema(description = "取り込みID（GET /imports の id）", example = "1")
+    private final long importId;
+
+    @Schema(description = "読み込んだ行数（空行を除く）", example = "12000")
+    private final long rowsRead;
+
+    @Schema(description = "取り込んだ行数", example = "11998")
+    private final long rowsImported;
+
+    @Schema(description = "不正なため取り込まなかった行数", example = "2")
+    private final long rowsRejected;
+
+    @Schema(description = "作成したタイトル数", example = "300")
+    private final int titlesCreated;
+
+    @Schema(description = "作成したシリーズ数", example = "320")
+    private final int seriesCreated;
+
+    @Schema(description = "作成したエピソード数", example = "11000")
+    private final int episodesCreated;
+
+    @Schema(description = "追加した視聴ページURL数", example = "11000")
+    private final int watchPageUrlsAdded;
+
+    @Schema(description = "追加した視聴記録数", example = "9000")
+    private final int viewingRecordsAdded;
+
+    @Schema(description = "不正な行（先頭から一定件数まで）")
+    private final List<RowErrorDTO> errors;
+
+    public WatchListImportResultDTO(long importId, long rowsRead, long rowsImported, long rowsRejected,
+                                    int titlesCreated, int seriesCreated, int episodesCreated,
+                                    int watchPageUrlsAdded, int viewingRecordsAdded, List<RowErrorDTO> errors) {
+        this.importId = importId;
+        this.rowsRead = rowsRead;
+        this.rowsImported = rowsImported;
+        this.rowsRejected = rowsRejected;
+        this.titlesCreated = titlesCreated;
+        this.seriesCreated = seriesCreated;
+        this.episodesCreated = episodesCreated;
+        this.watchPageUrlsAdded = watchPageUrlsAdded;
+        this.viewingRecordsAdded = viewingRecordsAdded;
+        this.errors = errors;
+    }
+
+    public long getImportId() {
+        return importId;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getRowsImported() {
+        return rowsImported;
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    public int getTitlesCreated() {
+        return titlesCreated;
+    }
+
+    public int getSeriesCreated() {
+        return seriesCreated;
+    }
+
+    public int getEpisodesCreated() {
+        return episodesCreated;
+    }
+
+    public int getWatchPageUrlsAdded() {
+        return watchPageUrlsAdded;
+    }
+
+    public int getViewingRecordsAdded() {
+        return viewingRecordsAdded;
+    }
+
+    public List<RowErrorDTO> getErrors() {
+        return errors;
+    }
+
+    /**
+     * 不正な行
+     */
+    @Schema(description = "不正な行")
+    public static class RowErrorDTO {
+        @Schema(description = "行番号（1始まり、CSV はヘッダー行を含む）", example = "42")
+        private final long line;
+
+        @Schema(description = "理由", example = "Rating must be between 1 and 5")
+        private final String message;
+
+        public RowErrorDTO(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
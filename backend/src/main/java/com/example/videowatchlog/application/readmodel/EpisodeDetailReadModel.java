@@ -0,0 +1,47 @@
+package com.example.videowatchlog.application.readmodel;
+
+/**
+ * EpisodeDetailReadModel - CQRS Query Model (Application Layer)
+ *
+ * Architecture Decision:
+ * This is a Read Model (Query Model) in CQRS pattern, NOT a Domain Model.
+ * - Placed in application.readmodel (NOT domain.model)
+ * - No business logic (getters only)
+ * - Immutable DTO for presentation layer
+ * - Episode + ViewingRecord（EpisodeReadModel）に、表示するシリーズ名・タイトル名を加えたもの
+ * - エピソード詳細の画面（GET /episodes/{id}）のために1クエリで読み込まれる
+ *
+ * Related:
+ * - Write Model: domain.model.Episode (Entity)
+ * - Query Service: application.readmodel.service.EpisodeReadService
+ * - Persistence: infrastructure.persistence.readmodel.EpisodeReadMapper (MyBatis)
+ */
+public class EpisodeDetailReadModel {
+    private final EpisodeReadModel episode;
+    private final String seriesName;
+    private final Long titleId;
+    private final String titleName;
+
+    public EpisodeDetailReadModel(EpisodeReadModel episode, String seriesName, Long titleId, String titleName) {
+        this.episode = episode;
+        this.seriesName = seriesName;
+        this.titleId = titleId;
+        this.titleName = titleName;
+    }
+
+    public EpisodeReadModel getEpisode() {
+        return episode;
+    }
+
+    public String getSeriesName() {
+        return seriesName;
+    }
+
+    public Long getTitleId() {
+        return titleId;
+    }
+
+    public String getTitleName() {
+        return titleName;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.videowatchlog.application.readmodel;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * TitleCursor - タイトル一覧のキーセットページング用カーソル
+ *
+ * タイトル一覧は (created_at DESC, id DESC) の順に並ぶため、ページの最後のタイトルの
+ * (createdAt, id) を次ページの開始位置として使用します。OFFSET と異なり、
+ * 何ページ目であっても索引から直接読み始められるため応答時間はページ位置に依存しません。
+ *
+ * 検索クエリを指定した検索は (rank DESC, created_at DESC, id DESC) の順に並ぶため、
+ * そのカーソルは rank も保持します（一覧・クエリなし検索のカーソルでは null）。
+ * rank の尺度は検索の経路（DB の検索、検索索引の部分一致、部分一致がない場合の DB の類似検索）ごとに異なるため、
+ * カーソルはどの経路のページのものかも保持し（{@link Source}）、続きのページは同じ経路で検索します。
+ *
+ * クライアントには不透明なトークン（Base64URL）として渡し、内部表現には依存させません。
+ */
+public final class TitleCursor {
+    private static final char SEPARATOR = '|';
+
+    /**
+     * カーソルを作った検索の経路
+     */
+    public enum Source {
+        /** 一覧、または DB の検索（TitleRepository.search） */
+        DATABASE(null),
+        /** 検索索引の部分一致（rank は 1 + クエリ長 / タイトル名の長さ） */
+        INDEX("I"),
+        /** 検索索引に部分一致がない場合の DB の類似検索（rank は word_similarity） */
+        SIMILAR("S");
+
+        /** トークンの先頭に付ける記号（DATABASE は付けない） */
+        private final String code;
+
+        Source(String code) {
+            this.code = code;
+        }
+    }
+
+    private final Source source;
+    private final Float rank;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public TitleCursor(LocalDateTime createdAt, Long id) {
+        this(null, createdAt, id);
+    }
+
+    public TitleCursor(Float rank, LocalDateTime createdAt, Long id) {
+        this(Source.DATABASE, rank, createdAt, id);
+    }
+
+    public TitleCursor(Source source, Float rank, LocalDateTime createdAt, Long id) {
+        if (source == null || createdAt == null || id == null) {
+            throw new IllegalArgumentException("source, createdAt and id must not be null");
+        }
+        if (source != Source.DATABASE && rank == null) {
+            throw new IllegalArgumentException("rank must not be null for " + source);
+        }
+        this.source = source;
+        this.rank = rank;
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * @return カーソルを作った検索の経路
+     */
+    public Source getSource() {
+        return source;
+    }
+
+    /**
+     * @return 検索の rank（rank を持たないカーソルの場合は null）
+     */
+    public Float getRank() {
+        return rank;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * カーソルをトークンに変換します
+     *
+     * @return Base64URL（パディングなし）のトークン
+     */
+    public String encode() {
+        String raw = createdAt + String.valueOf(SEPARATOR) + id;
+        if (rank != null) {
+            raw = rank + String.valueOf(SEPARATOR) + raw;
+        }
+        if (source.code != null) {
+            raw = source.code + SEPARATOR + raw;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * トークンからカーソルを復元します
+     *
+     * @param token encode() で生成したトークン
+     * @return カーソル
+     * @throws IllegalStateException トークンが不正な場合（400 Bad Request）
+     */
+    public static TitleCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // 一覧は "createdAt|id"、DB の検索は "rank|createdAt|id"、索引の経路は "経路|rank|createdAt|id"
+            String[] parts = raw.split(Pattern.quote(String.valueOf(SEPARATOR)), -1);
+            if (parts.length < 2 || parts.length > 4) {
+                throw new IllegalStateException("Invalid cursor: " + token);
+            }
+            Source source = parts.length == 4 ? sourceOf(parts[0], token) : Source.DATABASE;
+            int createdAtIndex = parts.length - 2;
+            return new TitleCursor(
+                source,
+                parts.length >= 3 ? Float.valueOf(parts[createdAtIndex - 1]) : null,
+                LocalDateTime.parse(parts[createdAtIndex]),
+                Long.valueOf(parts[createdAtIndex + 1])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalStateException("Invalid cursor: " + token, e);
+        }
+    }
+
+    private static Source sourceOf(String code, String token) {
+        for (Source source : Source.values()) {
+            if (code.equals(source.code)) {
+                return source;
+            }
+        }
+        throw new IllegalStateException("Invalid cursor: " + token);
+    }
+}
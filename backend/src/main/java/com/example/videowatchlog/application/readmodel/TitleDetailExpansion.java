@@ -0,0 +1,59 @@
+package com.example.videowatchlog.application.readmodel;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * TitleDetailExpansion - タイトル詳細の展開オプション
+ *
+ * GET /titles/{id}?expand=watchPageUrls,viewingRecords のように指定し、
+ * TitleDetailReadModel をどの深さまで読み込むかを制御します。
+ *
+ * Query Budget:
+ * - 展開なし: Title + Series + Episode の行のみ
+ * - WATCH_PAGE_URLS: タイトル配下の全エピソードの URL 行を追加
+ * - VIEWING_RECORDS: タイトル配下の全エピソードの視聴記録行を追加
+ * 展開の有無に関わらず 1 クエリで、エピソード件数にも依存しません。
+ */
+public enum TitleDetailExpansion {
+    WATCH_PAGE_URLS("watchPageUrls"),
+    VIEWING_RECORDS("viewingRecords");
+
+    private final String value;
+
+    TitleDetailExpansion(String value) {
+        this.value = value;
+    }
+
+    /**
+     * expand パラメータで使用する値
+     *
+     * @return パラメータ値（例: "watchPageUrls"）
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * expand パラメータの値から展開オプションを解決します
+     * 値の大文字小文字は区別せず、未知の値は無視します。
+     *
+     * @param values パラメータ値のコレクション（null 可）
+     * @return 展開オプションのセット
+     */
+    public static Set<TitleDetailExpansion> fromValues(Collection<String> values) {
+        Set<TitleDetailExpansion> expansions = EnumSet.noneOf(TitleDetailExpansion.class);
+        if (values == null) {
+            return expansions;
+        }
+        for (String value : values) {
+            for (TitleDetailExpansion expansion : values()) {
+                if (expansion.value.equalsIgnoreCase(value.trim())) {
+                    expansions.add(expansion);
+                }
+            }
+        }
+        return expansions;
+    }
+}
@@ -11,9 +11,14 @@ import java.time.LocalDateTime;
  * - No business logic (getters only)
  * - Optimized for read operations (denormalized, lightweight)
  * - Immutable DTO for presentation layer
- * - Title 単体の情報を保持
+ * - Title 単体の情報と、視聴の進捗（title_progress の集計値）を保持
  * - Series/Episode 情報は含まない（一覧表示では不要）
  *
+ * 進捗（エピソード数・視聴済みエピソード数・最終視聴日時・平均評価）は、
+ * エピソード・視聴記録の変更と同じトランザクションでトリガーが更新する title_progress から読むため、
+ * 一覧の1行あたり主キー検索1回で取得できます。検索索引から作られたモデルなど、
+ * 進捗を読み込んでいない場合は null です。
+ *
  * CQRS Separation:
  * - Write operations: Use domain.model.Title (Command Model with business logic)
  * - Read operations: Use application.readmodel.TitleListReadModel (Query Model)
@@ -34,12 +39,29 @@ public class TitleListReadModel {
     private final String name;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
+    private final Integer totalEpisodes;
+    private final Integer watchedEpisodes;
+    private final LocalDateTime lastWatchedAt;
+    private final Double averageRating;
 
+    /**
+     * 進捗を含まないタイトル（進捗の項目は null）
+     */
     public TitleListReadModel(Long id, String name, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, name, createdAt, updatedAt, null, null, null, null);
+    }
+
+    public TitleListReadModel(Long id, String name, LocalDateTime createdAt, LocalDateTime updatedAt,
+                              Integer totalEpisodes, Integer watchedEpisodes,
+                              LocalDateTime lastWatchedAt, Double averageRating) {
         this.id = id;
         this.name = name;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.totalEpisodes = totalEpisodes;
+        this.watchedEpisodes = watchedEpisodes;
+        this.lastWatchedAt = lastWatchedAt;
+        this.averageRating = averageRating;
     }
 
     public Long getId() {
@@ -57,4 +79,32 @@ public class TitleListReadModel {
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
+
+    /**
+     * @return エピソード数（進捗を読み込んでいない場合は null）
+     */
+    public Integer getTotalEpisodes() {
+        return totalEpisodes;
+    }
+
+    /**
+     * @return 視聴済みエピソード数（進捗を読み込んでいない場合は null）
+     */
+    public Integer getWatchedEpisodes() {
+        return watchedEpisodes;
+    }
+
+    /**
+     * @return 最も新しい視聴記録の視聴日時（視聴記録がない場合は null）
+     */
+    public LocalDateTime getLastWatchedAt() {
+        return lastWatchedAt;
+    }
+
+    /**
+     * @return 視聴記録の評価の平均（視聴記録がない場合は null）
+     */
+    public Double getAverageRating() {
+        return averageRating;
+    }
 }
@@ -0,0 +1,94 @@
+package com.example.videowatchlog.application.readmodel;
+
+import com.example.videowatchlog.domain.model.WatchStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * WatchListExportNode - 全件エクスポートの1要素（タイトル・シリーズ・エピソードとその子要素のいずれか1件）
+ *
+ * エクスポートはタイトル → タイトル情報URL → シリーズ → エピソード → 視聴ページURL → 視聴記録 の
+ * 階層を深さ優先の順に並べた要素の列として読み込まれます。各要素は親を持たず、
+ * 直前に読み込まれた上位の要素に属します（木をメモリ上に組み立てずに書き出すため）。
+ *
+ * 種類ごとに使う項目:
+ * - TITLE: id, text（名前）, createdAt, updatedAt
+ * - TITLE_INFO_URL: id, text（URL）
+ * - SERIES: id, text（名前）, createdAt, updatedAt
+ * - EPISODE: id, text（エピソード情報）, watchStatus, createdAt, updatedAt
+ * - WATCH_PAGE_URL: id, text（URL）
+ * - VIEWING_RECORD: id, watchedAt, rating, comment, createdAt（記録日時）
+ */
+public class WatchListExportNode {
+    /**
+     * 要素の種類（宣言順が階層内の並び順）
+     */
+    public enum Kind {
+        TITLE,
+        TITLE_INFO_URL,
+        SERIES,
+        EPISODE,
+        WATCH_PAGE_URL,
+        VIEWING_RECORD
+    }
+
+    private final Kind kind;
+    private final Long id;
+    private final String text;
+    private final WatchStatus watchStatus;
+    private final LocalDateTime watchedAt;
+    private final Integer rating;
+    private final String comment;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public WatchListExportNode(Kind kind, Long id, String text, WatchStatus watchStatus,
+                               LocalDateTime watchedAt, Integer rating, String comment,
+                               LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.kind = kind;
+        this.id = id;
+        this.text = text;
+        this.watchStatus = watchStatus;
+        this.watchedAt = watchedAt;
+        this.rating = rating;
+        this.comment = comment;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public WatchStatus getWatchStatus() {
+        return watchStatus;
+    }
+
+    public LocalDateTime getWatchedAt() {
+        return watchedAt;
+    }
+
+    public Integer getRating() {
+        return rating;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
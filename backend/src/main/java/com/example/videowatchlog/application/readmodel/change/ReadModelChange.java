@@ -0,0 +1,89 @@
+package com.example.videowatchlog.application.readmodel.change;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * ReadModelChange - 書き込みによって古くなった Read Model（キャッシュ・検索索引）のエントリ
+ *
+ * 書き込みを行ったプロセスはコミット後に自身のキャッシュを直接無効化し、
+ * 同じ内容を ReadModelChangeBus で他のプロセスへ伝えます。
+ * - titleDetailIds: タイトル詳細のキャッシュを無効化するタイトル
+ * - episodeDetailIds: エピソード詳細のキャッシュを無効化するエピソード
+ * - searchIndexTitleIds: 検索索引のエントリを DB から読み直すタイトル（作成・名前の変更・削除）
+ */
+public final class ReadModelChange {
+    private final Set<Long> titleDetailIds;
+    private final Set<Long> episodeDetailIds;
+    private final Set<Long> searchIndexTitleIds;
+
+    public ReadModelChange(Collection<Long> titleDetailIds, Collection<Long> episodeDetailIds,
+                           Collection<Long> searchIndexTitleIds) {
+        this.titleDetailIds = Set.copyOf(titleDetailIds);
+        this.episodeDetailIds = Set.copyOf(episodeDetailIds);
+        this.searchIndexTitleIds = Set.copyOf(searchIndexTitleIds);
+    }
+
+    public static ReadModelChange titleDetail(Long titleId) {
+        return new ReadModelChange(Set.of(titleId), Set.of(), Set.of());
+    }
+
+    public static ReadModelChange titleDetails(Collection<Long> titleIds) {
+        return new ReadModelChange(titleIds, Set.of(), Set.of());
+    }
+
+    public static ReadModelChange episodeDetails(Collection<Long> episodeIds) {
+        return new ReadModelChange(Set.of(), episodeIds, Set.of());
+    }
+
+    public static ReadModelChange searchIndexTitle(Long titleId) {
+        return new ReadModelChange(Set.of(), Set.of(), Set.of(titleId));
+    }
+
+    public static ReadModelChange searchIndexTitles(Collection<Long> titleIds) {
+        return new ReadModelChange(Set.of(), Set.of(), titleIds);
+    }
+
+    public Set<Long> getTitleDetailIds() {
+        return titleDetailIds;
+    }
+
+    public Set<Long> getEpisodeDetailIds() {
+        return episodeDetailIds;
+    }
+
+    public Set<Long> getSearchIndexTitleIds() {
+        return searchIndexTitleIds;
+    }
+
+    public boolean isEmpty() {
+        return titleDetailIds.isEmpty() && episodeDetailIds.isEmpty() && searchIndexTitleIds.isEmpty();
+    }
+
+    /**
+     * 2つの変更をまとめます（同じトランザクション内の変更を1回で伝えるため）
+     *
+     * @param other もう一方の変更
+     * @return 両方のエントリを含む変更
+     */
+    public ReadModelChange merge(ReadModelChange other) {
+        return new ReadModelChange(
+                union(titleDetailIds, other.titleDetailIds),
+                union(episodeDetailIds, other.episodeDetailIds),
+                union(searchIndexTitleIds, other.searchIndexTitleIds));
+    }
+
+    private static Set<Long> union(Set<Long> a, Set<Long> b) {
+        Set<Long> union = new LinkedHashSet<>(a);
+        union.addAll(b);
+        return union;
+    }
+
+    @Override
+    public String toString() {
+        return "ReadModelChange{titleDetailIds=" + titleDetailIds
+                + ", episodeDetailIds=" + episodeDetailIds
+                + ", searchIndexTitleIds=" + searchIndexTitleIds + "}";
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.videowatchlog.application.readmodel.change;
+
+/**
+ * ReadModelChangeBus インターフェース
+ *
+ * 書き込みによる Read Model の変更を、同じデータベースを使う他のプロセス（レプリカ）へ伝えます。
+ * Application層に配置し、Infrastructure層で実装します（PostgreSQL の LISTEN/NOTIFY）。
+ *
+ * - publish された変更はトランザクションのコミット時にまとめて送られ、ロールバックされた場合は送られません
+ * - 他のプロセスからの変更を受け取ると RemoteReadModelChangeEvent を発行します（自身が送った変更は除く）
+ * - 変更を受け取れなかった可能性がある場合（購読の接続が切れて再接続した場合など）は ReadModelResyncEvent を発行します
+ */
+public interface ReadModelChangeBus {
+    /**
+     * 変更を他のプロセスへ伝えます（トランザクション内ではコミット時、トランザクション外では即座に）
+     *
+     * @param change 変更
+     */
+    void publish(ReadModelChange change);
+}
@@ -0,0 +1,10 @@
+package com.example.videowatchlog.application.readmodel.change;
+
+/**
+ * ReadModelResyncEvent - 他のプロセスの変更を受け取れなかった可能性があることの通知
+ *
+ * 購読の接続が切れて再接続した場合などに ReadModelChangeBus が発行します。
+ * キャッシュ・検索索引を持つサービスは、どのエントリが古くなったか分からないため全体を破棄・再構築します。
+ */
+public final class ReadModelResyncEvent {
+}
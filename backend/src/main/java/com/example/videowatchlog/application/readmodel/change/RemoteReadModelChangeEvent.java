@@ -0,0 +1,19 @@
+package com.example.videowatchlog.application.readmodel.change;
+
+/**
+ * RemoteReadModelChangeEvent - 他のプロセスがコミットした書き込みによる Read Model の変更
+ *
+ * ReadModelChangeBus が受信用のスレッドで発行します。
+ * キャッシュ・検索索引を持つサービスが @EventListener で受け取り、該当するエントリを無効化・更新します。
+ */
+public final class RemoteReadModelChangeEvent {
+    private final ReadModelChange change;
+
+    public RemoteReadModelChangeEvent(ReadModelChange change) {
+        this.change = change;
+    }
+
+    public ReadModelChange getChange() {
+        return change;
+    }
+}
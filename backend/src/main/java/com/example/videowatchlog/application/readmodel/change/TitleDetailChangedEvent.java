@@ -0,0 +1,22 @@
+package com.example.videowatchlog.application.readmodel.change;
+
+import java.util.Set;
+
+/**
+ * TitleDetailChangedEvent - このプロセスの書き込みによるタイトル詳細（配下のシリーズ・エピソード・視聴記録、進捗を含む）の変更
+ *
+ * TitleReadService が詳細のキャッシュを無効化する際に、書き込みと同じトランザクション内（書き込みの後）で同期的に発行します。
+ * 検索索引など、タイトルの進捗を持つサービスが @EventListener で受け取り、変更後の値を読み直します。
+ * 他のプロセスの変更は RemoteReadModelChangeEvent（ReadModelChange.getTitleDetailIds）で届きます。
+ */
+public final class TitleDetailChangedEvent {
+    private final Set<Long> titleIds;
+
+    public TitleDetailChangedEvent(Set<Long> titleIds) {
+        this.titleIds = Set.copyOf(titleIds);
+    }
+
+    public Set<Long> getTitleIds() {
+        return titleIds;
+    }
+}
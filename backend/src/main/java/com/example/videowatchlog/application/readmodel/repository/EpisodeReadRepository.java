@@ -1,6 +1,7 @@
 package com.example.videowatchlog.application.readmodel.repository;
 
-import com.example.videowatchlog.application.readmodel.EpisodeReadModel;
+import com.example.videowatchlog.application.readmodel.EpisodeDetailReadModel;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,11 +12,37 @@ import java.util.Optional;
  */
 public interface EpisodeReadRepository {
     /**
-     * エピソード詳細を取得（ViewingRecord を含む）
+     * エピソード詳細を取得（シリーズ名・タイトル名、視聴ページURL、ViewingRecord を含む）
+     * Episode 集約・Series・Title を個別に読み込まず、1クエリで求めます。
+     *
+     * @param episodeId エピソードID
+     * @return エピソード詳細（エピソードが存在しない場合は空）
+     */
+    Optional<EpisodeDetailReadModel> findEpisodeDetailById(Long episodeId);
+
+    /**
+     * エピソード詳細のバージョンを取得
+     * シリーズ名・タイトル名を含むエピソード詳細の内容が変わると必ず変わる値です（HTTP の ETag に使用）。
+     * 詳細本体を読み込まず、1行の集計クエリで求めます。
      *
-     * @param seriesId シリーズID
      * @param episodeId エピソードID
-     * @return エピソード詳細
+     * @return バージョン（エピソードが存在しない場合は空）
+     */
+    Optional<String> findEpisodeDetailVersion(Long episodeId);
+
+    /**
+     * シリーズに属するエピソードのIDを取得
+     *
+     * @param seriesId シリーズID
+     * @return エピソードIDのリスト
+     */
+    List<Long> findEpisodeIdsBySeriesId(Long seriesId);
+
+    /**
+     * タイトルに属する（すべてのシリーズの）エピソードのIDを取得
+     *
+     * @param titleId タイトルID
+     * @return エピソードIDのリスト
      */
-    Optional<EpisodeReadModel> findEpisodeDetailByIdAndSeriesId(Long seriesId, Long episodeId);
+    List<Long> findEpisodeIdsByTitleId(Long titleId);
 }
@@ -1,9 +1,14 @@
 package com.example.videowatchlog.application.readmodel.repository;
 
+import com.example.videowatchlog.application.readmodel.TitleCursor;
+import com.example.videowatchlog.application.readmodel.TitleDetailExpansion;
 import com.example.videowatchlog.application.readmodel.TitleDetailReadModel;
 import com.example.videowatchlog.application.readmodel.TitleListReadModel;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * TitleReadRepository インターフェース
@@ -23,17 +28,75 @@ import java.util.Optional;
  */
 public interface TitleReadRepository {
     /**
-     * すべてのタイトル一覧を取得
+     * タイトル一覧を1ページ分取得（(createdAt, id) の降順、キーセットページング）
      *
+     * @param after 開始位置のカーソル（このタイトルより後ろを返す。null の場合は先頭から）
+     * @param limit 最大件数
      * @return タイトル一覧
      */
-    List<TitleListReadModel> findAllTitles();
+    List<TitleListReadModel> findTitlesPage(TitleCursor after, int limit);
 
     /**
-     * タイトル詳細を取得（Series/Episode/ViewingRecord を含む）
+     * タイトル一覧の1件を取得
      *
      * @param titleId タイトルID
+     * @return タイトル（存在しない場合は空）
+     */
+    Optional<TitleListReadModel> findTitleById(Long titleId);
+
+    /**
+     * 複数のタイトルを1クエリで取得（タイトルと進捗）
+     *
+     * @param titleIds タイトルID
+     * @return タイトル（存在しないIDは含まない。順序は不定）
+     */
+    List<TitleListReadModel> findTitlesByIds(Collection<Long> titleIds);
+
+    /**
+     * すべてのタイトルを (createdAt, id) の降順で1件ずつ action に渡す
+     * 全件をメモリに保持しないため、件数に関わらず使用メモリは一定です。
+     * 読み取り専用トランザクション内で呼び出す必要があります。
+     *
+     * @param action 各タイトルを受け取る処理
+     */
+    void forEachTitle(Consumer<TitleListReadModel> action);
+
+    /**
+     * タイトル詳細を取得（Series/Episode を含む。WatchPageUrl/ViewingRecord は含まない）
+     *
+     * @param titleId タイトルID
+     * @return タイトル詳細
+     */
+    default Optional<TitleDetailReadModel> findTitleDetailById(Long titleId) {
+        return findTitleDetailById(titleId, Set.of());
+    }
+
+    /**
+     * タイトル詳細を取得（Series/Episode に加え、展開オプションで指定された子要素を含む）
+     * 子要素はエピソード単位ではなくタイトル単位の一括クエリで取得します。
+     *
+     * @param titleId タイトルID
+     * @param expansions 展開オプション
      * @return タイトル詳細
      */
-    Optional<TitleDetailReadModel> findTitleDetailById(Long titleId);
+    Optional<TitleDetailReadModel> findTitleDetailById(Long titleId, Set<TitleDetailExpansion> expansions);
+
+    /**
+     * タイトル詳細のバージョンを取得
+     * 同じ展開オプションの詳細の内容が変わると必ず変わる値です（HTTP の ETag に使用）。
+     * 詳細本体を読み込まず、1行の集計クエリで求めます。
+     *
+     * @param titleId タイトルID
+     * @param expansions 展開オプション
+     * @return バージョン（タイトルが存在しない場合は空）
+     */
+    Optional<String> findTitleDetailVersion(Long titleId, Set<TitleDetailExpansion> expansions);
+
+    /**
+     * シリーズが属するタイトルのIDを取得
+     *
+     * @param seriesId シリーズID
+     * @return タイトルID（シリーズが存在しない場合は空）
+     */
+    Optional<Long> findTitleIdBySeriesId(Long seriesId);
 }
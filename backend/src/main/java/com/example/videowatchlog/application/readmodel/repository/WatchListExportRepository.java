@@ -0,0 +1,31 @@
+package com.example.videowatchlog.application.readmodel.repository;
+
+import com.example.videowatchlog.application.readmodel.WatchListExportNode;
+
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+/**
+ * WatchListExportRepository インターフェース
+ *
+ * 視聴記録の全件（タイトル → シリーズ → エピソード → 視聴ページURL・視聴記録）をエクスポートするための
+ * 読み取り専用リポジトリです。どちらのメソッドも結果をメモリに蓄積せず、DB から読み込んだ順に渡すため、
+ * 件数に関わらず使用メモリは一定です。読み取り専用トランザクション内で呼び出す必要があります。
+ */
+public interface WatchListExportRepository {
+    /**
+     * すべての要素を階層の深さ優先の順（各階層は ID 順）で1件ずつ action に渡す
+     *
+     * @param action 各要素を受け取る処理
+     */
+    void forEachNode(Consumer<WatchListExportNode> action);
+
+    /**
+     * すべての視聴記録を1行1件（視聴ページURL・視聴記録ごと、子要素のない階層は1行）の CSV で out に書き出す
+     * 列は一括取り込み（POST /imports）と同じ title, series, episode, watchPageUrl, watchedAt, rating, comment で、
+     * ヘッダー行付きです。並び順は {@link #forEachNode} と同じです。
+     *
+     * @param out 書き出し先（close しない）
+     */
+    void writeCsv(OutputStream out);
+}
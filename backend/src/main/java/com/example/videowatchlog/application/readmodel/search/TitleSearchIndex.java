@@ -0,0 +1,517 @@
+package com.example.videowatchlog.application.readmodel.search;
+
+import com.example.videowatchlog.application.readmodel.TitleCursor;
+import com.example.videowatchlog.application.readmodel.TitleListReadModel;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * TitleSearchIndex - タイトル名のメモリ上の転置索引（バイグラム・トライグラム）
+ *
+ * タイトル名を正規化（NFKC による全角・半角の統一、小文字化、ひらがな → カタカナ）した文字列の
+ * 隣接2文字（バイグラム）と隣接3文字（トライグラム）ごとに、それを含む文書番号の昇順の int 配列
+ * （ポスティングリスト）を持ちます。3文字以上のクエリはクエリ中のトライグラム、2文字のクエリはバイグラムの
+ * ポスティングリストを短い順に積集合し、候補を正規化後の部分一致で確認します。1文字のクエリは全件を走査します。
+ * バイグラムだけでは英字の語（"an", "er" など出現頻度の高い組み合わせばかりになる）の候補が多くなるため、
+ * 3文字以上はトライグラムで絞り込みます。
+ *
+ * 結果は (rank DESC, createdAt DESC, id DESC) の順です。rank は 1 + クエリ長 / タイトル名の長さ（文字数）で、
+ * タイトル名に占めるクエリの割合が大きいほど上位になります（DB 検索の部分一致と同じく 1〜2 の範囲）。
+ *
+ * 各タイトルは一覧と同じ視聴の進捗も持つため、検索結果を返すのに DB を読む必要はありません
+ * （進捗の変更は TitleSearchIndexService が反映します）。
+ *
+ * 文書番号は追加順に振るため、ポスティングリストへの追加は常に末尾です。名前の変更は削除と追加として扱い、
+ * 削除した文書番号はすぐには再利用しません。空き番号が COMPACTION_MIN_FREE_SLOTS と索引のタイトル数の
+ * 大きいほうを超えたら、番号を順序を保って詰め直し、ポスティングリストの番号も書き換えます（昇順は保たれます）。
+ * 詰め直しは空き番号の数に比例する回数の更新に1回のため、名前の変更を繰り返しても文書の配列は伸び続けません。
+ * 読み取りと更新は ReentrantReadWriteLock で保護しており、複数スレッドから利用できます。
+ */
+public class TitleSearchIndex {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    /** 文書番号を詰め直す空き番号（削除済みの文書）の最小数 */
+    static final int COMPACTION_MIN_FREE_SLOTS = 1024;
+    private static final Comparator<Hit> RESULT_ORDER = Comparator
+            .comparingDouble((Hit hit) -> hit.rank).reversed()
+            .thenComparing(Comparator.comparingLong((Hit hit) -> hit.document.createdAt).reversed())
+            .thenComparing(Comparator.comparingLong((Hit hit) -> hit.document.titleId).reversed());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** 文書番号 → 文書（削除済みは null） */
+    private final ArrayList<Document> documents = new ArrayList<>();
+    private final Map<Long, Integer> documentIdsByTitleId = new HashMap<>();
+    /** バイグラム（2文字のコードポイントを long に詰めたもの） → 文書番号のポスティングリスト */
+    private final Map<Long, PostingList> bigramPostings = new HashMap<>();
+    /** トライグラム（3文字のコードポイントを long に詰めたもの） → 文書番号のポスティングリスト */
+    private final Map<Long, PostingList> trigramPostings = new HashMap<>();
+
+    /**
+     * タイトルを追加します（同じ ID のタイトルがあれば置き換えます）
+     * title が進捗を持たない場合（名前の変更など）は、置き換える前のタイトルの進捗を引き継ぎます。
+     *
+     * @param title タイトル
+     */
+    public void put(TitleListReadModel title) {
+        lock.writeLock().lock();
+        try {
+            Document previous = removeDocument(title.getId());
+            int documentId = documents.size();
+            String normalizedName = normalize(title.getName());
+            int[] codePoints = normalizedName.codePoints().toArray();
+            documents.add(new Document(title, normalizedName, codePoints.length, previous));
+            documentIdsByTitleId.put(title.getId(), documentId);
+            for (long bigram : distinctGrams(codePoints, 2)) {
+                bigramPostings.computeIfAbsent(bigram, key -> new PostingList()).append(documentId);
+            }
+            for (long trigram : distinctGrams(codePoints, 3)) {
+                trigramPostings.computeIfAbsent(trigram, key -> new PostingList()).append(documentId);
+            }
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * タイトルを削除します（存在しない場合は何もしません）
+     *
+     * @param titleId タイトルID
+     */
+    public void remove(Long titleId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(titleId);
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * タイトルを取得します
+     *
+     * @param titleId タイトルID
+     * @return タイトル（進捗を含む。索引にない場合は空）
+     */
+    public Optional<TitleListReadModel> get(Long titleId) {
+        lock.readLock().lock();
+        try {
+            Integer documentId = documentIdsByTitleId.get(titleId);
+            return documentId == null ? Optional.empty() : Optional.of(documents.get(documentId).toReadModel());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ポスティングリストの余分な容量を解放します
+     * 一括で構築した後に呼ぶと、配列の伸長で生じた空き（最大で要素数と同じ分）がなくなります。
+     */
+    public void trimToSize() {
+        lock.writeLock().lock();
+        try {
+            bigramPostings.values().forEach(PostingList::trimToSize);
+            trigramPostings.values().forEach(PostingList::trimToSize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 文書番号の数（削除済みの空き番号を含む。詰め直しの確認用）
+     */
+    int documentSlots() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 索引に含まれるタイトル数
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentIdsByTitleId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * タイトル名に query を（正規化後に）部分一致で含むタイトルを検索します
+     *
+     * @param query 検索クエリ
+     * @param after 開始位置のカーソル（null の場合は先頭から。rank を持つカーソルのみ）
+     * @param limit 最大件数
+     * @return after より後ろの最大 limit 件と、カーソルに関係なく一致したタイトルの総数
+     */
+    public Result search(String query, TitleCursor after, int limit) {
+        int[] queryCodePoints = normalize(query).codePoints().toArray();
+        if (queryCodePoints.length == 0) {
+            return new Result(List.of(), 0);
+        }
+        String normalizedQuery = new String(queryCodePoints, 0, queryCodePoints.length);
+
+        lock.readLock().lock();
+        try {
+            // 上位 limit 件だけを保持するため、並び順で最も後ろのものを先頭に置くヒープを使う
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RESULT_ORDER.reversed());
+            int matchCount = 0;
+            DocumentIdIterator candidates = candidates(queryCodePoints);
+            for (int documentId = candidates.next(); documentId >= 0; documentId = candidates.next()) {
+                Document document = documents.get(documentId);
+                if (document == null || !document.normalizedName.contains(normalizedQuery)) {
+                    continue;
+                }
+                matchCount++;
+                Hit hit = new Hit(document, 1f + (float) queryCodePoints.length / document.length);
+                if (after != null && !isAfter(hit, after)) {
+                    continue;
+                }
+                top.add(hit);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(RESULT_ORDER);
+            return new Result(hits, matchCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 検索用にタイトル名・クエリを正規化します
+     * NFKC で全角英数・半角カナなどの幅を統一し、小文字化したうえで、ひらがなをカタカナに揃えます。
+     *
+     * @param text 対象文字列
+     * @return 正規化後の文字列
+     */
+    public static String normalize(String text) {
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(folded.length());
+        folded.codePoints().forEach(codePoint ->
+                normalized.appendCodePoint(isFoldableHiragana(codePoint) ? codePoint + ('ァ' - 'ぁ') : codePoint));
+        return normalized.toString();
+    }
+
+    private static boolean isFoldableHiragana(int codePoint) {
+        // ぁ（U+3041）〜ゖ（U+3096）は同じ並びのカタカナ（U+30A1〜U+30F6）に対応する
+        return codePoint >= 'ぁ' && codePoint <= 'ゖ';
+    }
+
+    /**
+     * @return 削除した文書（なければ null）
+     */
+    private Document removeDocument(Long titleId) {
+        Integer documentId = documentIdsByTitleId.remove(titleId);
+        if (documentId == null) {
+            return null;
+        }
+        Document document = documents.set(documentId, null);
+        int[] codePoints = document.normalizedName.codePoints().toArray();
+        removePostings(bigramPostings, distinctGrams(codePoints, 2), documentId);
+        removePostings(trigramPostings, distinctGrams(codePoints, 3), documentId);
+        return document;
+    }
+
+    /**
+     * 空き番号が多くなった場合に、文書番号を順序を保って詰め直します
+     * 新しい番号は古い番号の順に振るため、ポスティングリストは書き換えるだけで昇順のままです。
+     */
+    private void compactIfSparse() {
+        int live = documentIdsByTitleId.size();
+        if (documents.size() - live <= Math.max(COMPACTION_MIN_FREE_SLOTS, live)) {
+            return;
+        }
+        int[] newDocumentIds = new int[documents.size()];
+        int next = 0;
+        for (int documentId = 0; documentId < documents.size(); documentId++) {
+            Document document = documents.get(documentId);
+            if (document == null) {
+                newDocumentIds[documentId] = -1;
+                continue;
+            }
+            newDocumentIds[documentId] = next;
+            documents.set(next, document);
+            documentIdsByTitleId.put(document.titleId, next);
+            next++;
+        }
+        documents.subList(next, documents.size()).clear();
+        documents.trimToSize();
+        bigramPostings.values().forEach(list -> list.renumber(newDocumentIds));
+        trigramPostings.values().forEach(list -> list.renumber(newDocumentIds));
+    }
+
+    private static void removePostings(Map<Long, PostingList> postings, long[] grams, int documentId) {
+        for (long gram : grams) {
+            PostingList list = postings.get(gram);
+            list.remove(documentId);
+            if (list.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * クエリを含みうる文書番号の候補を返します
+     * 3文字以上のクエリはトライグラム、2文字のクエリはバイグラムのポスティングリストの積集合、
+     * 1文字のクエリは全文書です。
+     */
+    private DocumentIdIterator candidates(int[] queryCodePoints) {
+        if (queryCodePoints.length < 2) {
+            int[] next = {0};
+            return () -> next[0] < documents.size() ? next[0]++ : -1;
+        }
+        boolean useTrigrams = queryCodePoints.length >= 3;
+        long[] grams = distinctGrams(queryCodePoints, useTrigrams ? 3 : 2);
+        Map<Long, PostingList> postings = useTrigrams ? trigramPostings : bigramPostings;
+        PostingList[] lists = new PostingList[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return () -> -1;
+            }
+        }
+        // 最も短いリストを走査し、残りのリストは読み進めた位置から順に探す（候補は昇順のため戻らない）
+        Arrays.sort(lists, Comparator.comparingInt((PostingList list) -> list.size));
+        int[] positions = new int[lists.length];
+        return () -> {
+            PostingList shortest = lists[0];
+            candidate:
+            while (positions[0] < shortest.size) {
+                int documentId = shortest.ids[positions[0]++];
+                for (int i = 1; i < lists.length; i++) {
+                    positions[i] = lists[i].seek(positions[i], documentId);
+                    if (positions[i] == lists[i].size) {
+                        positions[0] = shortest.size;
+                        return -1;
+                    }
+                    if (lists[i].ids[positions[i]] != documentId) {
+                        continue candidate;
+                    }
+                }
+                return documentId;
+            }
+            return -1;
+        };
+    }
+
+    /**
+     * 隣接 n 文字（n = 2, 3）を、重複を除いて long に詰めて返します（1文字 21 ビット）
+     */
+    private static long[] distinctGrams(int[] codePoints, int n) {
+        if (codePoints.length < n) {
+            return new long[0];
+        }
+        long[] grams = new long[codePoints.length - n + 1];
+        for (int i = 0; i < grams.length; i++) {
+            long gram = 0;
+            for (int j = 0; j < n; j++) {
+                gram = (gram << 21) | codePoints[i + j];
+            }
+            grams[i] = gram;
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    /**
+     * hit が after より並び順で後ろにあるか（(rank, createdAt, id) が after より小さいか）
+     */
+    private static boolean isAfter(Hit hit, TitleCursor after) {
+        int byRank = Float.compare(hit.rank, after.getRank());
+        if (byRank != 0) {
+            return byRank < 0;
+        }
+        int byCreatedAt = Long.compare(hit.document.createdAt, toEpochNanos(after.getCreatedAt()));
+        if (byCreatedAt != 0) {
+            return byCreatedAt < 0;
+        }
+        return hit.document.titleId < after.getId();
+    }
+
+    @FunctionalInterface
+    private interface DocumentIdIterator {
+        /**
+         * @return 次の文書番号（終端では -1）
+         */
+        int next();
+    }
+
+    private static long toEpochNanos(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + dateTime.getNano();
+    }
+
+    private static LocalDateTime fromEpochNanos(long epochNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(epochNanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    /**
+     * 索引内のタイトル
+     * 件数分保持するため、TitleListReadModel（LocalDateTime・ボクシングした数値を持つ）ではなく日時・進捗をプリミティブで持ち、
+     * TitleListReadModel は検索結果として返す分だけ作ります。進捗の null は番兵の値（NO_COUNT など）で表します。
+     */
+    private static final class Document {
+        private static final int NO_COUNT = -1;
+        private static final long NO_DATE_TIME = Long.MIN_VALUE;
+
+        private final long titleId;
+        private final String name;
+        private final String normalizedName;
+        /** 正規化後のタイトル名の文字数（コードポイント数） */
+        private final int length;
+        private final long createdAt;
+        private final long updatedAt;
+        private final int totalEpisodes;
+        private final int watchedEpisodes;
+        private final long lastWatchedAt;
+        /** 平均評価（評価がない場合は NaN） */
+        private final double averageRating;
+
+        /**
+         * @param previous 置き換える前の文書（title が進捗を持たない場合はその進捗を引き継ぐ。なければ null）
+         */
+        private Document(TitleListReadModel title, String normalizedName, int length, Document previous) {
+            this.titleId = title.getId();
+            this.name = title.getName();
+            this.normalizedName = normalizedName;
+            this.length = length;
+            this.createdAt = toEpochNanos(title.getCreatedAt());
+            this.updatedAt = toEpochNanos(title.getUpdatedAt());
+            if (title.getTotalEpisodes() == null && previous != null) {
+                this.totalEpisodes = previous.totalEpisodes;
+                this.watchedEpisodes = previous.watchedEpisodes;
+                this.lastWatchedAt = previous.lastWatchedAt;
+                this.averageRating = previous.averageRating;
+            } else {
+                this.totalEpisodes = title.getTotalEpisodes() == null ? NO_COUNT : title.getTotalEpisodes();
+                this.watchedEpisodes = title.getWatchedEpisodes() == null ? NO_COUNT : title.getWatchedEpisodes();
+                this.lastWatchedAt = title.getLastWatchedAt() == null ? NO_DATE_TIME : toEpochNanos(title.getLastWatchedAt());
+                this.averageRating = title.getAverageRating() == null ? Double.NaN : title.getAverageRating();
+            }
+        }
+
+        private TitleListReadModel toReadModel() {
+            return new TitleListReadModel(titleId, name, fromEpochNanos(createdAt), fromEpochNanos(updatedAt),
+                    totalEpisodes == NO_COUNT ? null : totalEpisodes,
+                    watchedEpisodes == NO_COUNT ? null : watchedEpisodes,
+                    lastWatchedAt == NO_DATE_TIME ? null : fromEpochNanos(lastWatchedAt),
+                    Double.isNaN(averageRating) ? null : averageRating);
+        }
+    }
+
+    /**
+     * 文書番号の昇順の int 配列（ボクシングを避けるため List&lt;Integer&gt; は使わない）
+     */
+    static final class PostingList {
+        private int[] ids = new int[2];
+        private int size;
+
+        void append(int documentId) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(size * 2, 2));
+            }
+            ids[size++] = documentId;
+        }
+
+        void remove(int documentId) {
+            int index = Arrays.binarySearch(ids, 0, size, documentId);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+        }
+
+        /**
+         * from 以降で documentId 以上の最初の位置を返します（なければ size）
+         * 直後にあることが多いため、1, 2, 4, ... と間隔を広げてから範囲内を二分探索します。
+         */
+        int seek(int from, int documentId) {
+            int bound = 1;
+            while (from + bound < size && ids[from + bound] < documentId) {
+                bound <<= 1;
+            }
+            int index = Arrays.binarySearch(ids, from, Math.min(from + bound + 1, size), documentId);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        /**
+         * 文書番号を newDocumentIds[古い番号] に書き換えます（新しい番号は古い番号の順のため昇順を保つ）
+         */
+        void renumber(int[] newDocumentIds) {
+            for (int i = 0; i < size; i++) {
+                ids[i] = newDocumentIds[ids[i]];
+            }
+        }
+
+        void trimToSize() {
+            ids = Arrays.copyOf(ids, size);
+        }
+    }
+
+    /**
+     * 検索結果の1件
+     */
+    public static final class Hit {
+        private final Document document;
+        private final float rank;
+
+        private Hit(Document document, float rank) {
+            this.document = document;
+            this.rank = rank;
+        }
+
+        public TitleListReadModel getTitle() {
+            return document.toReadModel();
+        }
+
+        public float getRank() {
+            return rank;
+        }
+    }
+
+    /**
+     * 検索結果
+     */
+    public static final class Result {
+        private final List<Hit> hits;
+        private final int matchCount;
+
+        Result(List<Hit> hits, int matchCount) {
+            this.hits = hits;
+            this.matchCount = matchCount;
+        }
+
+        /**
+         * @return カーソル以降の上位 limit 件（並び順どおり）
+         */
+        public List<Hit> getHits() {
+            return hits;
+        }
+
+        /**
+         * @return カーソルに関係なくクエリに一致したタイトルの総数
+         */
+        public int getMatchCount() {
+            return matchCount;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.videowatchlog.application.readmodel.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * AfterCommit - 書き込みの結果を Read Model 側（キャッシュ・検索索引）へ反映するタイミングの制御
+ *
+ * トランザクション内ではコミット後に実行し（ロールバックされた変更は反映しない）、
+ * トランザクション外では各ステートメントが確定済みのため即座に実行します。
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
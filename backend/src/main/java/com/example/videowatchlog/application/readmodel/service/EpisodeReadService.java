@@ -1,10 +1,21 @@
 package com.example.videowatchlog.application.readmodel.service;
 
-import com.example.videowatchlog.application.readmodel.EpisodeReadModel;
+import com.example.videowatchlog.application.readmodel.EpisodeDetailReadModel;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChange;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChangeBus;
+import com.example.videowatchlog.application.readmodel.change.ReadModelResyncEvent;
+import com.example.videowatchlog.application.readmodel.change.RemoteReadModelChangeEvent;
 import com.example.videowatchlog.application.readmodel.repository.EpisodeReadRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,24 +26,169 @@ import java.util.Optional;
  * - Depends on application.readmodel.repository.EpisodeReadRepository
  * - Transforms raw database results into immutable ReadModels (DTOs)
  * - Separates read-side queries from domain write operations (Command/Query separation)
+ *
+ * Cache Invalidation:
+ * - エピソード詳細は Caffeine のキャッシュ（エピソードIDごと、件数と TTL で追い出し）から返す
+ * - エピソード・視聴記録を変更する UseCase が evictEpisodeDetail を、シリーズ・タイトルを変更・削除する UseCase が
+ *   evictEpisodeDetailsOfSeries / evictEpisodeDetailsOfTitle を呼び、コミット後に該当エントリを無効化する
+ *   （エピソード詳細はシリーズ名・タイトル名を含むため、名前の変更でも無効化する）
+ * - 他のプロセスのキャッシュは ReadModelChangeBus 経由で無効化される（TitleReadService と同様）
+ * - エントリには読み込む直前に求めたバージョンを記録し、条件付き GET では DB のバージョンと異なるエントリを読み直す
+ *   （TitleReadService と同様）
+ * - ヒット・ミス・追い出しの件数は cache.gets / cache.evictions（cache=episodeDetail）のメトリクスで確認できる
  */
 @Service
 public class EpisodeReadService {
+    static final String EPISODE_DETAIL_CACHE_NAME = "episodeDetail";
+
     private final EpisodeReadRepository episodeReadRepository;
+    private final ReadModelChangeBus readModelChangeBus;
+    private final Cache<Long, CachedEpisodeDetail> episodeDetailCache;
 
-    public EpisodeReadService(EpisodeReadRepository episodeReadRepository) {
+    public EpisodeReadService(
+            EpisodeReadRepository episodeReadRepository,
+            ReadModelChangeBus readModelChangeBus,
+            MeterRegistry meterRegistry,
+            @Value("${read-model-cache.episode-detail.maximum-size:5000}") long maximumSize,
+            @Value("${read-model-cache.episode-detail.expire-after-write:10m}") Duration expireAfterWrite) {
         this.episodeReadRepository = episodeReadRepository;
+        this.readModelChangeBus = readModelChangeBus;
+        this.episodeDetailCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, episodeDetailCache, EPISODE_DETAIL_CACHE_NAME);
+    }
+
+    /**
+     * エピソード詳細を取得（シリーズ名・タイトル名、ViewingRecord を含む）
+     * キャッシュにあればクエリは発行しません（存在しないエピソードはキャッシュしません）。
+     * キャッシュのヒットでコネクションを使わないよう、トランザクションは付けていません（読み込みは1ステートメント）。
+     *
+     * @param episodeId エピソードID
+     * @return エピソード詳細（エピソードが存在しない場合は空）
+     */
+    public Optional<EpisodeDetailReadModel> getEpisodeDetail(Long episodeId) {
+        CachedEpisodeDetail cached = episodeDetailCache.get(episodeId, key -> load(key, null));
+        return Optional.ofNullable(cached).map(entry -> entry.detail);
+    }
+
+    /**
+     * 指定したバージョン以降のエピソード詳細を取得（HTTP の条件付き GET 用）
+     * キャッシュのエントリが同じバージョンのものであればそのまま返し、異なる場合やバージョンが不明な場合は
+     * 読み直してキャッシュを置き換えます（TitleReadService#getTitleDetail(Long, java.util.Set, String) と同様）。
+     *
+     * @param episodeId エピソードID
+     * @param version getEpisodeDetailVersion で求めたバージョン
+     * @return エピソード詳細（エピソードが存在しない場合は空）
+     */
+    public Optional<EpisodeDetailReadModel> getEpisodeDetail(Long episodeId, String version) {
+        CachedEpisodeDetail cached = episodeDetailCache.getIfPresent(episodeId);
+        if (cached == null || !version.equals(cached.version)) {
+            cached = episodeDetailCache.asMap().compute(episodeId, (key, current) ->
+                    current != null && version.equals(current.version) ? current : load(key, version));
+        }
+        return Optional.ofNullable(cached).map(entry -> entry.detail);
     }
 
     /**
-     * エピソード詳細を取得（ViewingRecord を含む）
+     * エピソード詳細を読み込みます（存在しない場合は null）
+     *
+     * @param version 読み込む直前に求めたバージョン（不明な場合は null）
+     */
+    private CachedEpisodeDetail load(Long episodeId, String version) {
+        return episodeReadRepository.findEpisodeDetailById(episodeId)
+                .map(detail -> new CachedEpisodeDetail(version, detail))
+                .orElse(null);
+    }
+
+    /**
+     * エピソード詳細のバージョンを取得（HTTP の条件付き GET 用）
+     * 詳細本体を読み込まずに1行の集計クエリで求めるため、キャッシュはしません。
      *
-     * @param seriesId シリーズID
      * @param episodeId エピソードID
-     * @return エピソード詳細
+     * @return バージョン（エピソードが存在しない場合は空）
+     */
+    public Optional<String> getEpisodeDetailVersion(Long episodeId) {
+        return episodeReadRepository.findEpisodeDetailVersion(episodeId);
+    }
+
+    /**
+     * エピソード詳細のキャッシュを無効化します（トランザクション内ではコミット後）
+     *
+     * @param episodeId 変更したエピソード（または視聴記録を変更したエピソード）のID
      */
-    @Transactional(readOnly = true)
-    public Optional<EpisodeReadModel> getEpisodeDetail(Long seriesId, Long episodeId) {
-        return episodeReadRepository.findEpisodeDetailByIdAndSeriesId(seriesId, episodeId);
+    public void evictEpisodeDetail(Long episodeId) {
+        evictAll(List.of(episodeId));
+    }
+
+    /**
+     * 複数のエピソード詳細のキャッシュを無効化します（トランザクション内ではコミット後）
+     *
+     * @param episodeIds 変更したエピソードのID
+     */
+    public void evictEpisodeDetails(List<Long> episodeIds) {
+        evictAll(episodeIds);
+    }
+
+    /**
+     * シリーズに属するエピソード詳細のキャッシュを無効化します（トランザクション内ではコミット後）
+     * エピソードIDは呼び出し時点（シリーズの削除前）に解決します。
+     *
+     * @param seriesId 変更・削除するシリーズのID
+     */
+    public void evictEpisodeDetailsOfSeries(Long seriesId) {
+        evictAll(episodeReadRepository.findEpisodeIdsBySeriesId(seriesId));
+    }
+
+    /**
+     * タイトルに属するエピソード詳細のキャッシュを無効化します（トランザクション内ではコミット後）
+     * エピソードIDは呼び出し時点（タイトルの削除前）に解決します。
+     *
+     * @param titleId 変更・削除するタイトルのID
+     */
+    public void evictEpisodeDetailsOfTitle(Long titleId) {
+        evictAll(episodeReadRepository.findEpisodeIdsByTitleId(titleId));
+    }
+
+    /**
+     * 他のプロセスで変更されたエピソードの詳細のキャッシュを無効化します
+     *
+     * @param event 他のプロセスの変更
+     */
+    @EventListener
+    public void onRemoteChange(RemoteReadModelChangeEvent event) {
+        episodeDetailCache.invalidateAll(event.getChange().getEpisodeDetailIds());
+    }
+
+    /**
+     * 他のプロセスの変更を受け取れなかった可能性があるため、エピソード詳細のキャッシュをすべて破棄します
+     */
+    @EventListener(ReadModelResyncEvent.class)
+    public void onResync() {
+        episodeDetailCache.invalidateAll();
+    }
+
+    private void evictAll(List<Long> episodeIds) {
+        if (!episodeIds.isEmpty()) {
+            AfterCommit.run(() -> episodeDetailCache.invalidateAll(episodeIds));
+            readModelChangeBus.publish(ReadModelChange.episodeDetails(episodeIds));
+        }
+    }
+
+    /**
+     * エピソード詳細のキャッシュのエントリ
+     * version は読み込む直前に求めたバージョンのため、詳細の内容は version と同じか、それより新しいものです。
+     */
+    private static final class CachedEpisodeDetail {
+        /** 読み込む直前のバージョン（バージョンを求めずに読み込んだ場合は null） */
+        private final String version;
+        private final EpisodeDetailReadModel detail;
+
+        CachedEpisodeDetail(String version, EpisodeDetailReadModel detail) {
+            this.version = version;
+            this.detail = detail;
+        }
     }
 }
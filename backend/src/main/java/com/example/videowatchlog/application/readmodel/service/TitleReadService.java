@@ -1,13 +1,34 @@
 package com.example.videowatchlog.application.readmodel.service;
 
+import com.example.videowatchlog.application.readmodel.TitleCursor;
+import com.example.videowatchlog.application.readmodel.TitleDetailExpansion;
 import com.example.videowatchlog.application.readmodel.TitleDetailReadModel;
 import com.example.videowatchlog.application.readmodel.TitleListReadModel;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChange;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChangeBus;
+import com.example.videowatchlog.application.readmodel.change.ReadModelResyncEvent;
+import com.example.videowatchlog.application.readmodel.change.RemoteReadModelChangeEvent;
+import com.example.videowatchlog.application.readmodel.change.TitleDetailChangedEvent;
 import com.example.videowatchlog.application.readmodel.repository.TitleReadRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * TitleReadService - CQRS Query Service (Application Layer)
@@ -25,8 +46,20 @@ import java.util.Optional;
  *
  * Performance Optimization:
  * - Phase 7 Architecture: Single JOIN query replaces N+1 queries
- * - GetAllTitles: 101 queries → 1 query (99% reduction)
+ * - GetAllTitles: 101 queries → 1 query (99% reduction), keyset-paginated
  * - GetTitleDetail: 2-3 queries → 1 query (50-66% reduction)
+ * - GetTitleDetail: 同じタイトルの繰り返しの参照は Caffeine のキャッシュから返す（件数と TTL で追い出し）
+ *
+ * Cache Invalidation:
+ * - タイトル・シリーズ・エピソード・視聴記録を変更する UseCase が evictTitleDetail / evictTitleDetailOfSeries を呼び、
+ *   コミット後にそのタイトルのエントリ（すべての展開オプション）を無効化する
+ * - 読み込み中のエントリの無効化は読み込みの完了を待ってから行われるため、
+ *   コミット前のデータを読んだ読み込みがキャッシュに残ることはない
+ * - エントリには読み込む直前に求めたバージョンを記録し、条件付き GET では DB のバージョンと異なるエントリを読み直す
+ *   （コミットから無効化までの間や、他のプロセスの変更の通知が届く前でも、ETag より古い本文を返さない）
+ * - 他のプロセス（レプリカ）のキャッシュは ReadModelChangeBus（PostgreSQL の LISTEN/NOTIFY）経由で無効化され、
+ *   変更を受け取れなかった可能性がある場合（受信の接続の再接続後）はキャッシュ全体を破棄する
+ * - ヒット・ミス・追い出しの件数は cache.gets / cache.evictions（cache=titleDetail）のメトリクスで確認できる
  *
  * CQRS Separation:
  * - Write operations: Use domain repositories (domain.model entities, domain.repository interfaces)
@@ -40,32 +73,271 @@ import java.util.Optional;
  */
 @Service
 public class TitleReadService {
+    static final String TITLE_DETAIL_CACHE_NAME = "titleDetail";
+
+    /** 展開オプションのすべての組み合わせ（タイトル単位の無効化で使用） */
+    private static final List<Set<TitleDetailExpansion>> ALL_EXPANSION_SETS = allExpansionSets();
+
     private final TitleReadRepository titleReadRepository;
+    private final ReadModelChangeBus readModelChangeBus;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<TitleDetailKey, CachedTitleDetail> titleDetailCache;
 
-    public TitleReadService(TitleReadRepository titleReadRepository) {
+    public TitleReadService(
+            TitleReadRepository titleReadRepository,
+            ReadModelChangeBus readModelChangeBus,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${read-model-cache.title-detail.maximum-size:1000}") long maximumSize,
+            @Value("${read-model-cache.title-detail.expire-after-write:10m}") Duration expireAfterWrite) {
         this.titleReadRepository = titleReadRepository;
+        this.readModelChangeBus = readModelChangeBus;
+        this.eventPublisher = eventPublisher;
+        this.titleDetailCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, titleDetailCache, TITLE_DETAIL_CACHE_NAME);
     }
 
     /**
-     * すべてのタイトル一覧を取得
-     * Phase 7: 1 クエリで全件取得（元は 101 クエリ）
+     * タイトル一覧を1ページ分取得
+     * キーセットページングのため、ライブラリ全体の件数やページ位置に関わらず1クエリ・limit 件の読み込みで済みます。
      *
+     * @param after 開始位置のカーソル（null の場合は先頭ページ）
+     * @param limit 最大件数
      * @return タイトル一覧
      */
     @Transactional(readOnly = true)
-    public List<TitleListReadModel> getAllTitles() {
-        return titleReadRepository.findAllTitles();
+    public List<TitleListReadModel> getTitlesPage(TitleCursor after, int limit) {
+        return titleReadRepository.findTitlesPage(after, limit);
+    }
+
+    /**
+     * タイトル一覧の1件を取得（キャッシュしない）
+     *
+     * @param titleId タイトルID
+     * @return タイトル（存在しない場合は空）
+     */
+    public Optional<TitleListReadModel> getTitle(Long titleId) {
+        return titleReadRepository.findTitleById(titleId);
+    }
+
+    /**
+     * タイトル一覧の複数件を1クエリで取得（キャッシュしない）
+     *
+     * @param titleIds タイトルID
+     * @return タイトル（存在しないIDは含まない。順序は不定）
+     */
+    public List<TitleListReadModel> getTitles(Collection<Long> titleIds) {
+        return titleReadRepository.findTitlesByIds(titleIds);
+    }
+
+    /**
+     * すべてのタイトルを1件ずつ action に渡す（ストリーミング用）
+     * MyBatis の Cursor はトランザクション内でのみ有効なため、読み取り専用トランザクションで全件を走査します。
+     *
+     * @param action 各タイトルを受け取る処理
+     */
+    @Transactional(readOnly = true)
+    public void forEachTitle(Consumer<TitleListReadModel> action) {
+        titleReadRepository.forEachTitle(action);
     }
 
     /**
-     * タイトル詳細を取得（Series/Episode/ViewingRecord を含む）
+     * タイトル詳細を取得（Series/Episode を含む）
      * Phase 7: 1 JOIN クエリで全データ取得（元は 2-3 クエリ）
      *
      * @param titleId タイトルID
      * @return タイトル詳細
      */
-    @Transactional(readOnly = true)
     public Optional<TitleDetailReadModel> getTitleDetail(Long titleId) {
-        return titleReadRepository.findTitleDetailById(titleId);
+        return getTitleDetail(titleId, Set.of());
+    }
+
+    /**
+     * タイトル詳細を展開オプション付きで取得
+     * 展開された子要素も UNION ALL で同じ 1 クエリに含まれます。エピソード件数には依存しません。
+     * キャッシュにあればクエリは発行しません（存在しないタイトルはキャッシュしません）。
+     * キャッシュのヒットでコネクションを使わないよう、トランザクションは付けていません（読み込みは1ステートメント）。
+     *
+     * @param titleId タイトルID
+     * @param expansions 展開オプション
+     * @return タイトル詳細
+     */
+    public Optional<TitleDetailReadModel> getTitleDetail(Long titleId, Set<TitleDetailExpansion> expansions) {
+        CachedTitleDetail cached = titleDetailCache.get(
+                new TitleDetailKey(titleId, expansions),
+                key -> load(titleId, expansions, null));
+        return Optional.ofNullable(cached).map(entry -> entry.detail);
+    }
+
+    /**
+     * 指定したバージョン以降のタイトル詳細を取得（HTTP の条件付き GET 用）
+     * キャッシュのエントリが同じバージョンのものであればそのまま返し、異なる場合（変更のコミットから無効化までの間、
+     * 他のプロセスの変更の通知が届く前など）やバージョンが不明な場合は読み直してキャッシュを置き換えます。
+     * 読み直しは version を求めた後に行うため、返す詳細が version より古いことはありません。
+     *
+     * @param titleId タイトルID
+     * @param expansions 展開オプション
+     * @param version getTitleDetailVersion で求めたバージョン
+     * @return タイトル詳細
+     */
+    public Optional<TitleDetailReadModel> getTitleDetail(Long titleId, Set<TitleDetailExpansion> expansions, String version) {
+        TitleDetailKey key = new TitleDetailKey(titleId, expansions);
+        CachedTitleDetail cached = titleDetailCache.getIfPresent(key);
+        if (cached == null || !version.equals(cached.version)) {
+            // compute は同じキーの無効化と排他になるため、読み込み中にコミットされた変更の無効化も失われない
+            cached = titleDetailCache.asMap().compute(key, (k, current) ->
+                    current != null && version.equals(current.version) ? current : load(titleId, expansions, version));
+        }
+        return Optional.ofNullable(cached).map(entry -> entry.detail);
+    }
+
+    /**
+     * タイトル詳細を読み込みます（存在しない場合は null）
+     *
+     * @param version 読み込む直前に求めたバージョン（不明な場合は null）
+     */
+    private CachedTitleDetail load(Long titleId, Set<TitleDetailExpansion> expansions, String version) {
+        return titleReadRepository.findTitleDetailById(titleId, expansions)
+                .map(detail -> new CachedTitleDetail(version, detail))
+                .orElse(null);
+    }
+
+    /**
+     * タイトル詳細のバージョンを取得（HTTP の条件付き GET 用）
+     * 詳細本体を読み込まずに1行の集計クエリで求めるため、キャッシュはしません。
+     *
+     * @param titleId タイトルID
+     * @param expansions 展開オプション
+     * @return バージョン（タイトルが存在しない場合は空）
+     */
+    public Optional<String> getTitleDetailVersion(Long titleId, Set<TitleDetailExpansion> expansions) {
+        return titleReadRepository.findTitleDetailVersion(titleId, expansions);
+    }
+
+    /**
+     * タイトル詳細のキャッシュを無効化します（トランザクション内ではコミット後）
+     * タイトル自体、またはその配下のシリーズ・エピソード・視聴記録を変更した UseCase から呼び出します。
+     * 他のプロセスのキャッシュも ReadModelChangeBus 経由で無効化されます。
+     * 同じトランザクション内で TitleDetailChangedEvent を発行するため、書き込みの後に呼び出してください。
+     *
+     * @param titleId 変更したタイトルのID
+     */
+    public void evictTitleDetail(Long titleId) {
+        AfterCommit.run(() -> invalidateTitleDetails(Set.of(titleId)));
+        readModelChangeBus.publish(ReadModelChange.titleDetail(titleId));
+        eventPublisher.publishEvent(new TitleDetailChangedEvent(Set.of(titleId)));
+    }
+
+    /**
+     * 複数のタイトル詳細のキャッシュを無効化します（トランザクション内ではコミット後）
+     *
+     * @param titleIds 変更したタイトルのID
+     * @see #evictTitleDetail(Long)
+     */
+    public void evictTitleDetails(Collection<Long> titleIds) {
+        if (!titleIds.isEmpty()) {
+            Set<Long> ids = Set.copyOf(titleIds);
+            AfterCommit.run(() -> invalidateTitleDetails(ids));
+            readModelChangeBus.publish(ReadModelChange.titleDetails(ids));
+            eventPublisher.publishEvent(new TitleDetailChangedEvent(ids));
+        }
+    }
+
+    /**
+     * シリーズが属するタイトルの詳細のキャッシュを無効化します（トランザクション内ではコミット後）
+     * タイトルIDは呼び出し時点（シリーズの削除前）に解決します。
+     *
+     * @param seriesId 変更したシリーズ（または配下のエピソード・視聴記録を変更したシリーズ）のID
+     */
+    public void evictTitleDetailOfSeries(Long seriesId) {
+        titleReadRepository.findTitleIdBySeriesId(seriesId).ifPresent(this::evictTitleDetail);
+    }
+
+    /**
+     * 他のプロセスで変更されたタイトルの詳細のキャッシュを無効化します
+     *
+     * @param event 他のプロセスの変更
+     */
+    @EventListener
+    public void onRemoteChange(RemoteReadModelChangeEvent event) {
+        invalidateTitleDetails(event.getChange().getTitleDetailIds());
+    }
+
+    /**
+     * 他のプロセスの変更を受け取れなかった可能性があるため、タイトル詳細のキャッシュをすべて破棄します
+     */
+    @EventListener(ReadModelResyncEvent.class)
+    public void onResync() {
+        titleDetailCache.invalidateAll();
+    }
+
+    private void invalidateTitleDetails(Set<Long> titleIds) {
+        titleDetailCache.invalidateAll(titleIds.stream()
+                .flatMap(titleId -> ALL_EXPANSION_SETS.stream().map(expansions -> new TitleDetailKey(titleId, expansions)))
+                .toList());
+    }
+
+    private static List<Set<TitleDetailExpansion>> allExpansionSets() {
+        TitleDetailExpansion[] values = TitleDetailExpansion.values();
+        List<Set<TitleDetailExpansion>> sets = new ArrayList<>();
+        for (int mask = 0; mask < 1 << values.length; mask++) {
+            Set<TitleDetailExpansion> set = EnumSet.noneOf(TitleDetailExpansion.class);
+            for (int i = 0; i < values.length; i++) {
+                if ((mask & 1 << i) != 0) {
+                    set.add(values[i]);
+                }
+            }
+            sets.add(Set.copyOf(set));
+        }
+        return List.copyOf(sets);
+    }
+
+    /**
+     * タイトル詳細のキャッシュのエントリ
+     * version は読み込む直前に求めたバージョンのため、詳細の内容は version と同じか、それより新しいものです。
+     */
+    private static final class CachedTitleDetail {
+        /** 読み込む直前のバージョン（バージョンを求めずに読み込んだ場合は null） */
+        private final String version;
+        private final TitleDetailReadModel detail;
+
+        CachedTitleDetail(String version, TitleDetailReadModel detail) {
+            this.version = version;
+            this.detail = detail;
+        }
+    }
+
+    /**
+     * タイトル詳細のキャッシュのキー（タイトルIDと展開オプション）
+     */
+    private static final class TitleDetailKey {
+        private final Long titleId;
+        private final Set<TitleDetailExpansion> expansions;
+
+        TitleDetailKey(Long titleId, Set<TitleDetailExpansion> expansions) {
+            this.titleId = titleId;
+            this.expansions = Set.copyOf(expansions);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TitleDetailKey)) {
+                return false;
+            }
+            TitleDetailKey other = (TitleDetailKey) o;
+            return titleId.equals(other.titleId) && expansions.equals(other.expansions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(titleId, expansions);
+        }
     }
 }
@@ -0,0 +1,219 @@
+package com.example.videowatchlog.application.readmodel.service;
+
+import com.example.videowatchlog.application.readmodel.TitleCursor;
+import com.example.videowatchlog.application.readmodel.TitleListReadModel;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChange;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChangeBus;
+import com.example.videowatchlog.application.readmodel.change.ReadModelResyncEvent;
+import com.example.videowatchlog.application.readmodel.change.RemoteReadModelChangeEvent;
+import com.example.videowatchlog.application.readmodel.change.TitleDetailChangedEvent;
+import com.example.videowatchlog.application.readmodel.search.TitleSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * TitleSearchIndexService - タイトル名のメモリ上の検索索引（TitleSearchIndex）を構築・更新する
+ *
+ * 起動完了時（ApplicationReadyEvent）に全タイトルを読み込んで索引を構築し、
+ * 以降はタイトルの作成・更新・削除ユースケースから通知された変更をコミット後に反映します。
+ * ロールバックされた変更は索引に反映されません。
+ *
+ * 索引は一覧と同じ視聴の進捗も持ちます。シリーズ・エピソード・視聴記録の変更（進捗の変更）は
+ * TitleReadService が発行する TitleDetailChangedEvent で受け取り、書き込みと同じトランザクション内で
+ * 変更後のタイトル（トリガーが更新した title_progress を含む）を1ステートメントで読み直して、コミット後に反映します。
+ * 索引を使っていない間（最初の構築の前）は読み直しません。
+ *
+ * 構築が終わるまで search は空を返し、呼び出し側は DB の検索を使います。
+ * 構築中に通知された変更は構築後の索引にも適用するため、構築と並行した書き込みも失われません。
+ *
+ * 索引はこのプロセスのメモリ上にあり、他のプロセス（レプリカ）が行った書き込みは ReadModelChangeBus 経由で届いた
+ * タイトルID（タイトル詳細の変更を含む）を DB から読み直して反映します。変更を受け取れなかった可能性がある場合は索引を構築し直します。
+ */
+@Service
+public class TitleSearchIndexService {
+    private static final Logger log = LoggerFactory.getLogger(TitleSearchIndexService.class);
+
+    private final TitleReadService titleReadService;
+    private final ReadModelChangeBus readModelChangeBus;
+
+    /** 検索に使う索引（最初の構築が終わるまでは null） */
+    private volatile TitleSearchIndex index;
+    /** 構築中に通知された変更（構築中でなければ null） */
+    private List<Consumer<TitleSearchIndex>> changesDuringRebuild;
+
+    public TitleSearchIndexService(TitleReadService titleReadService, ReadModelChangeBus readModelChangeBus) {
+        this.titleReadService = titleReadService;
+        this.readModelChangeBus = readModelChangeBus;
+    }
+
+    /**
+     * 全タイトルから索引を構築し直します
+     * 構築中も以前の索引（あれば）で検索でき、構築が終わった時点で新しい索引に切り替えます。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            if (changesDuringRebuild != null) {
+                return;
+            }
+            changesDuringRebuild = new ArrayList<>();
+        }
+        long startedAt = System.nanoTime();
+        TitleSearchIndex rebuilt = new TitleSearchIndex();
+        boolean loaded = false;
+        try {
+            titleReadService.forEachTitle(rebuilt::put);
+            rebuilt.trimToSize();
+            loaded = true;
+        } finally {
+            // 読み込みに失敗した場合は以前の索引（なければ DB の検索）を使い続ける
+            synchronized (this) {
+                List<Consumer<TitleSearchIndex>> changes = changesDuringRebuild;
+                changesDuringRebuild = null;
+                if (loaded) {
+                    changes.forEach(change -> change.accept(rebuilt));
+                    index = rebuilt;
+                }
+            }
+        }
+        log.info("Title search index built: {} titles in {} ms",
+                rebuilt.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 索引でタイトル名の部分一致検索を行います
+     *
+     * @param query 検索クエリ
+     * @param after 開始位置のカーソル（null の場合は先頭から）
+     * @param limit 最大件数
+     * @return 検索結果（索引の構築が終わっていない場合は空）
+     */
+    public Optional<TitleSearchIndex.Result> search(String query, TitleCursor after, int limit) {
+        TitleSearchIndex current = index;
+        return current == null ? Optional.empty() : Optional.of(current.search(query, after, limit));
+    }
+
+    /**
+     * 索引からタイトルを取得します
+     *
+     * @param titleId タイトルID
+     * @return タイトル（進捗を含む。索引の構築が終わっていない場合、索引にない場合は空）
+     */
+    public Optional<TitleListReadModel> getTitle(Long titleId) {
+        TitleSearchIndex current = index;
+        return current == null ? Optional.empty() : current.get(titleId);
+    }
+
+    /**
+     * タイトルの作成・更新を索引に反映します（トランザクション内ではコミット後）
+     *
+     * @param title 保存後のタイトル
+     */
+    public void titleSaved(TitleListReadModel title) {
+        afterCommit(target -> target.put(title));
+        readModelChangeBus.publish(ReadModelChange.searchIndexTitle(title.getId()));
+    }
+
+    /**
+     * 複数のタイトルの作成・更新を索引に反映します（トランザクション内ではコミット後）
+     *
+     * @param titles 保存後のタイトル
+     */
+    public void titlesSaved(List<TitleListReadModel> titles) {
+        if (titles.isEmpty()) {
+            return;
+        }
+        afterCommit(target -> titles.forEach(target::put));
+        readModelChangeBus.publish(ReadModelChange.searchIndexTitles(
+                titles.stream().map(TitleListReadModel::getId).toList()));
+    }
+
+    /**
+     * タイトルの削除を索引に反映します（トランザクション内ではコミット後）
+     *
+     * @param titleId 削除したタイトルのID
+     */
+    public void titleDeleted(Long titleId) {
+        afterCommit(target -> target.remove(titleId));
+        readModelChangeBus.publish(ReadModelChange.searchIndexTitle(titleId));
+    }
+
+    /**
+     * このプロセスで変更されたタイトルの進捗を索引に反映します（トランザクション内ではコミット後）
+     * 変更と同じトランザクション内で呼ばれるため、コミット前の変更後の値を読み直します。
+     * 削除されたタイトルは読み直しても見つからないため何もしません（titleDeleted で除きます）。
+     *
+     * @param event このプロセスの変更
+     */
+    @EventListener
+    public void onTitleDetailChanged(TitleDetailChangedEvent event) {
+        if (!isIndexing()) {
+            return;
+        }
+        List<TitleListReadModel> titles = titleReadService.getTitles(event.getTitleIds());
+        if (!titles.isEmpty()) {
+            afterCommit(target -> titles.forEach(target::put));
+        }
+    }
+
+    /**
+     * 他のプロセスで作成・更新・削除されたタイトル（進捗の変更を含む）を、DB から読み直して索引に反映します
+     * 通知はコミット後に届くため、読み直した時点の状態（削除済みなら索引から除く）が反映されます。
+     * 通知を受け取るスレッドを長く止めないよう、通知されたタイトルは件数に関わらず1ステートメントでまとめて読み直します。
+     *
+     * @param event 他のプロセスの変更
+     */
+    @EventListener
+    public void onRemoteChange(RemoteReadModelChangeEvent event) {
+        Set<Long> titleIds = new HashSet<>(event.getChange().getSearchIndexTitleIds());
+        titleIds.addAll(event.getChange().getTitleDetailIds());
+        if (titleIds.isEmpty() || !isIndexing()) {
+            return;
+        }
+        List<TitleListReadModel> titles = titleReadService.getTitles(titleIds);
+        Set<Long> deletedIds = new HashSet<>(titleIds);
+        titles.forEach(title -> deletedIds.remove(title.getId()));
+        apply(target -> {
+            titles.forEach(target::put);
+            deletedIds.forEach(target::remove);
+        });
+    }
+
+    /**
+     * 他のプロセスの変更を受け取れなかった可能性があるため、索引を構築し直します
+     */
+    @EventListener(ReadModelResyncEvent.class)
+    public void onResync() {
+        rebuild();
+    }
+
+    /**
+     * @return 索引を使っているか、構築中か（変更を反映する必要があるか）
+     */
+    private synchronized boolean isIndexing() {
+        return index != null || changesDuringRebuild != null;
+    }
+
+    private void afterCommit(Consumer<TitleSearchIndex> change) {
+        AfterCommit.run(() -> apply(change));
+    }
+
+    private synchronized void apply(Consumer<TitleSearchIndex> change) {
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+        if (index != null) {
+            change.accept(index);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.videowatchlog.application.usecase;
+
+import com.example.videowatchlog.application.dto.BatchCompleteEpisodeItemDTO;
+import com.example.videowatchlog.application.dto.BatchCompleteEpisodesRequestDTO;
+import com.example.videowatchlog.application.dto.BatchCompleteEpisodesResultDTO;
+import com.example.videowatchlog.application.dto.BatchCompleteEpisodesResultDTO.ItemResultDTO;
+import com.example.videowatchlog.application.dto.BatchCompleteEpisodesResultDTO.ResultCode;
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.domain.model.ViewingRecord;
+import com.example.videowatchlog.domain.repository.EpisodeCompletion;
+import com.example.videowatchlog.domain.repository.EpisodeRepository;
+import com.example.videowatchlog.domain.service.ViewingRecordIdService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * BatchCompleteEpisodesUseCase - 複数のエピソードをまとめて視聴完了にするユースケース
+ *
+ * CompleteEpisodeUseCase と同じ規則（未視聴のエピソードだけを視聴済みにし、最初の視聴記録を作成する）を、
+ * エピソードの集約を読み込まずに1ステートメントで適用します。
+ * 1件ずつの失敗（視聴済み・存在しない・入力が不正・重複指定）はリクエスト全体を失敗させず、
+ * エピソードごとの結果コードとして返します。
+ */
+@Service
+public class BatchCompleteEpisodesUseCase {
+    private final ViewingRecordIdService viewingRecordIdService;
+    private final EpisodeRepository episodeRepository;
+    private final TitleReadService titleReadService;
+    private final EpisodeReadService episodeReadService;
+    private final int maxEpisodes;
+
+    public BatchCompleteEpisodesUseCase(
+            ViewingRecordIdService viewingRecordIdService,
+            EpisodeRepository episodeRepository,
+            TitleReadService titleReadService,
+            EpisodeReadService episodeReadService,
+            @Value("${episode-batch.max-episodes:1000}") int maxEpisodes) {
+        this.viewingRecordIdService = viewingRecordIdService;
+        this.episodeRepository = episodeRepository;
+        this.titleReadService = titleReadService;
+        this.episodeReadService = episodeReadService;
+        this.maxEpisodes = maxEpisodes;
+    }
+
+    /**
+     * エピソードをまとめて視聴完了にします
+     *
+     * @param request 対象のエピソードと、共通（またはエピソードごと）の視聴日時・評価・感想
+     * @return エピソードごとの結果（指定順）
+     * @throws IllegalStateException エピソードの指定がない、または上限を超える場合
+     */
+    @Transactional
+    public BatchCompleteEpisodesResultDTO execute(BatchCompleteEpisodesRequestDTO request) {
+        List<BatchCompleteEpisodeItemDTO> items = request.getItems();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalStateException("エピソードを1件以上指定してください");
+        }
+        if (items.size() > maxEpisodes) {
+            throw new IllegalStateException("一度に視聴完了にできるエピソードは" + maxEpisodes + "件までです");
+        }
+
+        // 入力を検証し、有効な指定だけを視聴記録にする（IDは有効な件数分をまとめて采番）
+        Map<Long, ItemResultDTO> rejected = new HashMap<>();
+        Map<Long, ViewingRecord> unsaved = new LinkedHashMap<>();
+        Set<Long> seen = new HashSet<>();
+        for (BatchCompleteEpisodeItemDTO item : items) {
+            Long episodeId = item.getEpisodeId();
+            if (!seen.add(episodeId)) {
+                continue;
+            }
+            LocalDateTime watchedAt = item.getWatchedAt() != null ? item.getWatchedAt() : request.getWatchedAt();
+            Integer rating = item.getRating() != null ? item.getRating() : request.getRating();
+            String comment = item.getComment() != null ? item.getComment() : request.getComment();
+            if (watchedAt == null || rating == null) {
+                rejected.put(episodeId, invalid(episodeId, "視聴日時と評価を指定してください"));
+                continue;
+            }
+            try {
+                unsaved.put(episodeId, ViewingRecord.create(null, episodeId, watchedAt, rating, comment));
+            } catch (IllegalArgumentException e) {
+                rejected.put(episodeId, invalid(episodeId, e.getMessage()));
+            }
+        }
+
+        List<Long> ids = viewingRecordIdService.generateIds(unsaved.size());
+        Map<Long, ViewingRecord> records = new LinkedHashMap<>();
+        int index = 0;
+        for (ViewingRecord record : unsaved.values()) {
+            records.put(record.getEpisodeId(), new ViewingRecord(ids.get(index++), record.getEpisodeId(),
+                    record.getWatchedAt(), record.getRating(), record.getComment(), record.getRecordedAt()));
+        }
+
+        Map<Long, EpisodeCompletion> completions = new HashMap<>();
+        for (EpisodeCompletion completion : episodeRepository.markAllAsWatched(new ArrayList<>(records.values()))) {
+            completions.put(completion.getEpisodeId(), completion);
+        }
+
+        // Invalidate cached read models of the completed episodes and their titles
+        List<Long> completedEpisodeIds = new ArrayList<>();
+        Set<Long> titleIds = new HashSet<>();
+        for (EpisodeCompletion completion : completions.values()) {
+            if (completion.getOutcome() == EpisodeCompletion.Outcome.COMPLETED) {
+                completedEpisodeIds.add(completion.getEpisodeId());
+                titleIds.add(completion.getTitleId());
+            }
+        }
+        titleIds.forEach(titleReadService::evictTitleDetail);
+        episodeReadService.evictEpisodeDetails(completedEpisodeIds);
+
+        // 指定順に結果を並べる（2回目以降に指定されたエピソードは DUPLICATE）
+        List<ItemResultDTO> results = new ArrayList<>(items.size());
+        Set<Long> reported = new HashSet<>();
+        for (BatchCompleteEpisodeItemDTO item : items) {
+            Long episodeId = item.getEpisodeId();
+            if (!reported.add(episodeId)) {
+                results.add(new ItemResultDTO(episodeId, ResultCode.DUPLICATE, null, null));
+            } else if (rejected.containsKey(episodeId)) {
+                results.add(rejected.get(episodeId));
+            } else {
+                results.add(toResult(completions.get(episodeId), records.get(episodeId)));
+            }
+        }
+        return new BatchCompleteEpisodesResultDTO(results);
+    }
+
+    private static ItemResultDTO toResult(EpisodeCompletion completion, ViewingRecord record) {
+        return switch (completion.getOutcome()) {
+            case COMPLETED -> new ItemResultDTO(completion.getEpisodeId(), ResultCode.COMPLETED, record.getId(), null);
+            case ALREADY_WATCHED -> new ItemResultDTO(completion.getEpisodeId(), ResultCode.ALREADY_WATCHED, null, null);
+            case NOT_FOUND -> new ItemResultDTO(completion.getEpisodeId(), ResultCode.NOT_FOUND, null, null);
+        };
+    }
+
+    private static ItemResultDTO invalid(Long episodeId, String message) {
+        return new ItemResultDTO(episodeId, ResultCode.INVALID, null, message);
+    }
+}
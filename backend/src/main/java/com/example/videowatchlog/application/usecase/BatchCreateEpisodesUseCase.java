@@ -0,0 +1,114 @@
+package com.example.videowatchlog.application.usecase;
+
+import com.example.videowatchlog.application.dto.BatchCreateEpisodesRequestDTO;
+import com.example.videowatchlog.application.dto.BatchCreateEpisodesResultDTO;
+import com.example.videowatchlog.application.dto.CreateEpisodeRequestDTO;
+import com.example.videowatchlog.application.dto.EpisodeNumberingDTO;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.domain.model.Episode;
+import com.example.videowatchlog.domain.model.Series;
+import com.example.videowatchlog.domain.model.WatchPageUrl;
+import com.example.videowatchlog.domain.repository.EpisodeRepository;
+import com.example.videowatchlog.domain.repository.SeriesRepository;
+import com.example.videowatchlog.domain.service.EpisodeIdService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BatchCreateEpisodesUseCase - エピソード一括作成ユースケース
+ *
+ * シーズン全体などの複数のエピソードを1つのトランザクションで作成します。
+ * エピソード件数に関わらず、シリーズの確認・IDの予約・エピソードの挿入・URLの挿入の
+ * 数ステートメントで完了します（IDは1回のシーケンス呼び出しでまとめて予約し、挿入は JDBC バッチ）。
+ */
+@Service
+public class BatchCreateEpisodesUseCase {
+    private final EpisodeIdService episodeIdService;
+    private final EpisodeRepository episodeRepository;
+    private final SeriesRepository seriesRepository;
+    private final TitleReadService titleReadService;
+    private final int maxEpisodes;
+
+    public BatchCreateEpisodesUseCase(
+            EpisodeIdService episodeIdService,
+            EpisodeRepository episodeRepository,
+            SeriesRepository seriesRepository,
+            TitleReadService titleReadService,
+            @Value("${episode-batch.max-episodes:1000}") int maxEpisodes) {
+        this.episodeIdService = episodeIdService;
+        this.episodeRepository = episodeRepository;
+        this.seriesRepository = seriesRepository;
+        this.titleReadService = titleReadService;
+        this.maxEpisodes = maxEpisodes;
+    }
+
+    /**
+     * エピソードを一括作成します
+     *
+     * @param titleId タイトルID（シリーズが属するタイトルであること）
+     * @param seriesId シリーズID
+     * @param request 作成するエピソード（個別の指定・連番のテンプレート）
+     * @return 作成したエピソードの件数とID
+     * @throws IllegalArgumentException シリーズが見つからない（またはタイトルに属さない）場合
+     * @throws IllegalStateException 作成するエピソードがない、または上限を超える場合
+     */
+    @Transactional
+    public BatchCreateEpisodesResultDTO execute(Long titleId, Long seriesId, BatchCreateEpisodesRequestDTO request) {
+        List<CreateEpisodeRequestDTO> requests = expand(request);
+        if (requests.isEmpty()) {
+            throw new IllegalStateException("作成するエピソードを指定してください");
+        }
+        if (requests.size() > maxEpisodes) {
+            throw new IllegalStateException("一度に作成できるエピソードは" + maxEpisodes + "件までです");
+        }
+
+        Series series = seriesRepository.findById(seriesId)
+                .filter(found -> found.getTitleId().equals(titleId))
+                .orElseThrow(() -> new IllegalArgumentException("シリーズが見つかりません"));
+
+        List<Long> ids = episodeIdService.generateIds(requests.size());
+        List<Episode> episodes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            CreateEpisodeRequestDTO episodeRequest = requests.get(i);
+            Episode episode = Episode.create(ids.get(i), seriesId, episodeRequest.getEpisodeInfo());
+            if (episodeRequest.getWatchPageUrls() != null) {
+                for (String url : episodeRequest.getWatchPageUrls()) {
+                    episode.addWatchPageUrl(new WatchPageUrl(url));
+                }
+            }
+            episodes.add(episode);
+        }
+
+        episodeRepository.addAll(episodes);
+        titleReadService.evictTitleDetail(series.getTitleId());
+        return new BatchCreateEpisodesResultDTO(seriesId, ids);
+    }
+
+    /**
+     * 個別の指定と連番のテンプレートを、作成するエピソードの並びに展開します
+     */
+    private List<CreateEpisodeRequestDTO> expand(BatchCreateEpisodesRequestDTO request) {
+        List<CreateEpisodeRequestDTO> requests = new ArrayList<>();
+        if (request.getEpisodes() != null) {
+            requests.addAll(request.getEpisodes());
+        }
+        EpisodeNumberingDTO numbering = request.getNumbering();
+        if (numbering != null) {
+            if (numbering.getCount() > maxEpisodes) {
+                throw new IllegalStateException("一度に作成できるエピソードは" + maxEpisodes + "件までです");
+            }
+            int start = numbering.getStart() != null ? numbering.getStart() : 1;
+            for (int number = start; number < start + numbering.getCount(); number++) {
+                String url = numbering.expand(numbering.getWatchPageUrlTemplate(), number);
+                requests.add(new CreateEpisodeRequestDTO(
+                        numbering.expand(numbering.getEpisodeInfoTemplate(), number),
+                        url != null ? List.of(url) : null));
+            }
+        }
+        return requests;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.videowatchlog.application.usecase;
 
 import com.example.videowatchlog.application.dto.ViewingRecordDetailDTO;
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
 import com.example.videowatchlog.domain.model.Episode;
 import com.example.videowatchlog.domain.model.ViewingRecord;
 import com.example.videowatchlog.domain.model.WatchStatus;
@@ -24,10 +26,15 @@ import java.util.Objects;
 public class CompleteEpisodeUseCase {
     private final ViewingRecordIdService viewingRecordIdService;
     private final EpisodeRepository episodeRepository;
+    private final TitleReadService titleReadService;
+    private final EpisodeReadService episodeReadService;
 
-    public CompleteEpisodeUseCase(ViewingRecordIdService viewingRecordIdService, EpisodeRepository episodeRepository) {
+    public CompleteEpisodeUseCase(ViewingRecordIdService viewingRecordIdService, EpisodeRepository episodeRepository,
+            TitleReadService titleReadService, EpisodeReadService episodeReadService) {
         this.viewingRecordIdService = Objects.requireNonNull(viewingRecordIdService, "viewingRecordIdService must not be null");
         this.episodeRepository = Objects.requireNonNull(episodeRepository, "episodeRepository must not be null");
+        this.titleReadService = Objects.requireNonNull(titleReadService, "titleReadService must not be null");
+        this.episodeReadService = Objects.requireNonNull(episodeReadService, "episodeReadService must not be null");
     }
 
     /**
@@ -67,6 +74,10 @@ public class CompleteEpisodeUseCase {
         // Persist changes
         episodeRepository.save(episode);
 
+        // Invalidate cached read models
+        titleReadService.evictTitleDetailOfSeries(episode.getSeriesId());
+        episodeReadService.evictEpisodeDetail(episodeId);
+
         // Return created viewing record as DTO
         return new ViewingRecordDetailDTO(
                 viewingRecord.getId(),
@@ -1,6 +1,7 @@
 package com.example.videowatchlog.application.usecase;
 
 import com.example.videowatchlog.application.dto.CreateEpisodeRequestDTO;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
 import com.example.videowatchlog.domain.model.Episode;
 import com.example.videowatchlog.domain.model.Series;
 import com.example.videowatchlog.domain.model.WatchPageUrl;
@@ -18,11 +19,14 @@ public class CreateEpisodeUseCase {
     private final EpisodeIdService episodeIdService;
     private final EpisodeRepository episodeRepository;
     private final SeriesRepository seriesRepository;
+    private final TitleReadService titleReadService;
 
-    public CreateEpisodeUseCase(EpisodeIdService episodeIdService, EpisodeRepository episodeRepository, SeriesRepository seriesRepository) {
+    public CreateEpisodeUseCase(EpisodeIdService episodeIdService, EpisodeRepository episodeRepository, SeriesRepository seriesRepository,
+                                TitleReadService titleReadService) {
         this.episodeIdService = episodeIdService;
         this.episodeRepository = episodeRepository;
         this.seriesRepository = seriesRepository;
+        this.titleReadService = titleReadService;
     }
 
     @Transactional
@@ -40,6 +44,7 @@ public class CreateEpisodeUseCase {
         }
 
         episodeRepository.save(episode);
+        titleReadService.evictTitleDetail(series.getTitleId());
         // Phase 7: Series の Episode フィールドがなくなったため、Episode を単独で保存
         // Series はもはや Episode リストを保持しません
         return id;
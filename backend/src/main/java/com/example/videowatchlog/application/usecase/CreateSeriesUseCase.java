@@ -1,6 +1,7 @@
 package com.example.videowatchlog.application.usecase;
 
 import com.example.videowatchlog.application.dto.CreateSeriesRequestDTO;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
 import com.example.videowatchlog.domain.model.Series;
 import com.example.videowatchlog.domain.model.Title;
 import com.example.videowatchlog.domain.repository.SeriesRepository;
@@ -17,11 +18,14 @@ public class CreateSeriesUseCase {
     private final SeriesIdService seriesIdService;
     private final SeriesRepository seriesRepository;
     private final TitleRepository titleRepository;
+    private final TitleReadService titleReadService;
 
-    public CreateSeriesUseCase(SeriesIdService seriesIdService, SeriesRepository seriesRepository, TitleRepository titleRepository) {
+    public CreateSeriesUseCase(SeriesIdService seriesIdService, SeriesRepository seriesRepository, TitleRepository titleRepository,
+                               TitleReadService titleReadService) {
         this.seriesIdService = seriesIdService;
         this.seriesRepository = seriesRepository;
         this.titleRepository = titleRepository;
+        this.titleReadService = titleReadService;
     }
 
     @Transactional
@@ -32,6 +36,7 @@ public class CreateSeriesUseCase {
         Long id = seriesIdService.generateId();
         Series series = Series.create(id, titleId, request.getName());
         seriesRepository.save(series);
+        titleReadService.evictTitleDetail(titleId);
         // Phase 7: Title の Series フィールドがなくなったため、Series を単独で保存
         // Title はもはや Series リストを保持しません
         return id;
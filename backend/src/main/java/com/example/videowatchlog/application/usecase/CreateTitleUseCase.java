@@ -2,6 +2,9 @@ package com.example.videowatchlog.application.usecase;
 
 import com.example.videowatchlog.application.dto.CreateTitleRequestDTO;
 import com.example.videowatchlog.application.dto.TitleSummaryDTO;
+import com.example.videowatchlog.application.readmodel.TitleListReadModel;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleSearchIndexService;
 import com.example.videowatchlog.domain.model.Title;
 import com.example.videowatchlog.domain.model.TitleInfoUrl;
 import com.example.videowatchlog.domain.repository.TitleRepository;
@@ -20,14 +23,20 @@ public class CreateTitleUseCase {
     private final TitleIdService titleIdService;
     private final TitleRepository titleRepository;
     private final TitleDuplicationCheckService duplicationCheckService;
+    private final TitleSearchIndexService titleSearchIndexService;
+    private final TitleReadService titleReadService;
 
     public CreateTitleUseCase(
             TitleIdService titleIdService,
             TitleRepository titleRepository,
-            TitleDuplicationCheckService duplicationCheckService) {
+            TitleDuplicationCheckService duplicationCheckService,
+            TitleSearchIndexService titleSearchIndexService,
+            TitleReadService titleReadService) {
         this.titleIdService = titleIdService;
         this.titleRepository = titleRepository;
         this.duplicationCheckService = duplicationCheckService;
+        this.titleSearchIndexService = titleSearchIndexService;
+        this.titleReadService = titleReadService;
     }
 
     /**
@@ -60,6 +69,12 @@ public class CreateTitleUseCase {
         // 保存
         Title saved = titleRepository.save(title);
 
+        // 検索索引に反映（コミット後）
+        titleSearchIndexService.titleSaved(new TitleListReadModel(
+                saved.getId(), saved.getName(), saved.getCreatedAt(), saved.getUpdatedAt()));
+        // 自動生成したエピソードの進捗も検索索引に反映される（TitleDetailChangedEvent）
+        titleReadService.evictTitleDetail(saved.getId());
+
         // DTOに変換
         return new TitleSummaryDTO(
                 saved.getId(),
@@ -1,5 +1,8 @@
 package com.example.videowatchlog.application.usecase;
 
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.domain.model.Episode;
 import com.example.videowatchlog.domain.repository.EpisodeRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,15 +13,22 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class DeleteEpisodeUseCase {
     private final EpisodeRepository episodeRepository;
+    private final TitleReadService titleReadService;
+    private final EpisodeReadService episodeReadService;
 
-    public DeleteEpisodeUseCase(EpisodeRepository episodeRepository) {
+    public DeleteEpisodeUseCase(EpisodeRepository episodeRepository, TitleReadService titleReadService,
+                                EpisodeReadService episodeReadService) {
         this.episodeRepository = episodeRepository;
+        this.titleReadService = titleReadService;
+        this.episodeReadService = episodeReadService;
     }
 
     @Transactional
     public void execute(Long episodeId) {
-        episodeRepository.findById(episodeId)
+        Episode episode = episodeRepository.findById(episodeId)
                 .orElseThrow(() -> new IllegalArgumentException("エピソードが見つかりません"));
         episodeRepository.delete(episodeId);
+        titleReadService.evictTitleDetailOfSeries(episode.getSeriesId());
+        episodeReadService.evictEpisodeDetail(episodeId);
     }
 }
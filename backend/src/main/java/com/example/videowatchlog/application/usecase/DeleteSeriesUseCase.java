@@ -1,5 +1,8 @@
 package com.example.videowatchlog.application.usecase;
 
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.domain.model.Series;
 import com.example.videowatchlog.domain.repository.SeriesRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,15 +13,23 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class DeleteSeriesUseCase {
     private final SeriesRepository seriesRepository;
+    private final TitleReadService titleReadService;
+    private final EpisodeReadService episodeReadService;
 
-    public DeleteSeriesUseCase(SeriesRepository seriesRepository) {
+    public DeleteSeriesUseCase(SeriesRepository seriesRepository, TitleReadService titleReadService,
+                               EpisodeReadService episodeReadService) {
         this.seriesRepository = seriesRepository;
+        this.titleReadService = titleReadService;
+        this.episodeReadService = episodeReadService;
     }
 
     @Transactional
     public void execute(Long seriesId) {
-        seriesRepository.findById(seriesId)
+        Series series = seriesRepository.findById(seriesId)
                 .orElseThrow(() -> new IllegalArgumentException("シリーズが見つかりません"));
+        // 配下のエピソードはカスケード削除されるため、削除前にキャッシュの無効化対象を解決する
+        episodeReadService.evictEpisodeDetailsOfSeries(seriesId);
         seriesRepository.delete(seriesId);
+        titleReadService.evictTitleDetail(series.getTitleId());
     }
 }
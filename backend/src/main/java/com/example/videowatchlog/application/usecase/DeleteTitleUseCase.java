@@ -1,5 +1,8 @@
 package com.example.videowatchlog.application.usecase;
 
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleSearchIndexService;
 import com.example.videowatchlog.domain.repository.TitleRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,15 +13,26 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class DeleteTitleUseCase {
     private final TitleRepository titleRepository;
+    private final TitleSearchIndexService titleSearchIndexService;
+    private final TitleReadService titleReadService;
+    private final EpisodeReadService episodeReadService;
 
-    public DeleteTitleUseCase(TitleRepository titleRepository) {
+    public DeleteTitleUseCase(TitleRepository titleRepository, TitleSearchIndexService titleSearchIndexService,
+                              TitleReadService titleReadService, EpisodeReadService episodeReadService) {
         this.titleRepository = titleRepository;
+        this.titleSearchIndexService = titleSearchIndexService;
+        this.titleReadService = titleReadService;
+        this.episodeReadService = episodeReadService;
     }
 
     @Transactional
     public void execute(Long titleId) {
         titleRepository.findById(titleId)
                 .orElseThrow(() -> new IllegalArgumentException("タイトルが見つかりません"));
+        // 配下のエピソードはカスケード削除されるため、削除前にキャッシュの無効化対象を解決する
+        episodeReadService.evictEpisodeDetailsOfTitle(titleId);
         titleRepository.delete(titleId);
+        titleSearchIndexService.titleDeleted(titleId);
+        titleReadService.evictTitleDetail(titleId);
     }
 }
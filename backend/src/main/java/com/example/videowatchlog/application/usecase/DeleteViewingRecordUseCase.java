@@ -1,5 +1,7 @@
 package com.example.videowatchlog.application.usecase;
 
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
 import com.example.videowatchlog.domain.model.Episode;
 import com.example.videowatchlog.domain.model.ViewingRecord;
 import com.example.videowatchlog.domain.repository.EpisodeRepository;
@@ -30,10 +32,15 @@ import java.util.Objects;
 public class DeleteViewingRecordUseCase {
     private final EpisodeRepository episodeRepository;
     private final ViewingRecordRepository viewingRecordRepository;
+    private final TitleReadService titleReadService;
+    private final EpisodeReadService episodeReadService;
 
-    public DeleteViewingRecordUseCase(EpisodeRepository episodeRepository, ViewingRecordRepository viewingRecordRepository) {
+    public DeleteViewingRecordUseCase(EpisodeRepository episodeRepository, ViewingRecordRepository viewingRecordRepository,
+            TitleReadService titleReadService, EpisodeReadService episodeReadService) {
         this.episodeRepository = Objects.requireNonNull(episodeRepository, "episodeRepository must not be null");
         this.viewingRecordRepository = Objects.requireNonNull(viewingRecordRepository, "viewingRecordRepository must not be null");
+        this.titleReadService = Objects.requireNonNull(titleReadService, "titleReadService must not be null");
+        this.episodeReadService = Objects.requireNonNull(episodeReadService, "episodeReadService must not be null");
     }
 
     /**
@@ -62,5 +69,9 @@ public class DeleteViewingRecordUseCase {
 
         // Persist episode changes (also deletes the record via cascade)
         episodeRepository.save(episode);
+
+        // Invalidate cached read models (after commit)
+        titleReadService.evictTitleDetailOfSeries(episode.getSeriesId());
+        episodeReadService.evictEpisodeDetail(episode.getId());
     }
 }
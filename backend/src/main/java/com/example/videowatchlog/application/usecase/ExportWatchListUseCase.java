@@ -0,0 +1,62 @@
+package com.example.videowatchlog.application.usecase;
+
+import com.example.videowatchlog.application.readmodel.repository.WatchListExportRepository;
+import com.example.videowatchlog.application.watchlistexport.WatchListExportFormat;
+import com.example.videowatchlog.application.watchlistexport.WatchListNdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+
+/**
+ * ExportWatchListUseCase - 視聴記録の全件（タイトル → シリーズ → エピソード → 視聴ページURL・視聴記録）を
+ * エクスポートするユースケース（バックアップ・分析用）
+ *
+ * タイトルごとに GetTitleDetailUseCase で詳細を組み立てる場合と違い、1クエリ（または1回の COPY）で
+ * 全件を読み込み、読み込んだ順に出力先へ書き出します。結果をメモリに蓄積しないため、
+ * 件数に関わらず使用メモリは一定です。
+ *
+ * - NDJSON: 1行1タイトルで、シリーズ以下を入れ子で含む（WatchListNdjsonWriter）
+ * - CSV: 1行1件の視聴ページURL・視聴記録で、DB が COPY TO STDOUT で生成する（一括取り込みで読み込める列）
+ *
+ * どちらも1つのステートメントで読み込むため、出力はその開始時点のスナップショットで、エクスポート中の書き込みは含まれません。
+ */
+@Service
+public class ExportWatchListUseCase {
+    private static final Logger log = LoggerFactory.getLogger(ExportWatchListUseCase.class);
+
+    private final WatchListExportRepository watchListExportRepository;
+    private final ObjectMapper objectMapper;
+
+    public ExportWatchListUseCase(WatchListExportRepository watchListExportRepository, ObjectMapper objectMapper) {
+        this.watchListExportRepository = watchListExportRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 全件を out に書き出します
+     *
+     * @param format 出力の形式
+     * @param out 書き出し先（close しない）
+     */
+    @Transactional(readOnly = true)
+    public void execute(WatchListExportFormat format, OutputStream out) {
+        long startedAt = System.nanoTime();
+        switch (format) {
+            case NDJSON -> {
+                WatchListNdjsonWriter writer = new WatchListNdjsonWriter(objectMapper, out);
+                watchListExportRepository.forEachNode(writer);
+                long titles = writer.finish();
+                log.info("Watch log exported as NDJSON: {} titles in {} ms",
+                        titles, (System.nanoTime() - startedAt) / 1_000_000);
+            }
+            case CSV -> {
+                watchListExportRepository.writeCsv(out);
+                log.info("Watch log exported as CSV in {} ms", (System.nanoTime() - startedAt) / 1_000_000);
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.videowatchlog.application.usecase;
 
+import com.example.videowatchlog.application.dto.TitlePageDTO;
+import com.example.videowatchlog.application.dto.TitlePageRequestDTO;
 import com.example.videowatchlog.application.dto.TitleSummaryDTO;
 import com.example.videowatchlog.application.readmodel.TitleListReadModel;
 import com.example.videowatchlog.application.readmodel.service.TitleReadService;
@@ -7,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -14,6 +17,7 @@ import java.util.stream.Collectors;
  *
  * Phase 7 CQRS 改善:
  * - 101 クエリ → 1 クエリに削減（99% 削減）
+ * - (createdAt, id) のキーセットでページングし、1リクエストで読み込む件数を limit 件に抑える
  * - TitleReadService を使用して読み取り最適化
  */
 @Service
@@ -27,17 +31,29 @@ public class GetAllTitlesUseCase {
     }
 
     /**
-     * すべてのタイトルを取得する
-     * Phase 7: 1 クエリで全件取得（元は 101 クエリ）
+     * タイトル一覧を1ページ分取得する
+     * 次ページの有無を判定するため limit + 1 件を読み込み、超過分はカーソルの生成にのみ使用する。
      *
-     * @return タイトルサマリーのリスト
+     * @param page ページ指定
+     * @return タイトルサマリーのページ
      */
-    public List<TitleSummaryDTO> execute() {
+    public TitlePageDTO execute(TitlePageRequestDTO page) {
         // Phase 7: TitleReadService から Read Model を取得
-        List<TitleListReadModel> titles = titleReadService.getAllTitles();
-        return titles.stream()
+        List<TitleListReadModel> titles = titleReadService.getTitlesPage(page.getCursor(), page.getLimit() + 1);
+        List<TitleSummaryDTO> rows = titles.stream()
                 .map(this::toSummaryDTO)
                 .collect(Collectors.toList());
+        return TitlePageDTO.fromRows(rows, page.getLimit());
+    }
+
+    /**
+     * すべてのタイトルを1件ずつ action に渡す（一括取得用のストリーミング）
+     * ページングせずに全件を走査しますが、結果をリストに蓄積しないため使用メモリは件数に依存しません。
+     *
+     * @param action 各タイトルサマリーを受け取る処理
+     */
+    public void streamAll(Consumer<TitleSummaryDTO> action) {
+        titleReadService.forEachTitle(model -> action.accept(toSummaryDTO(model)));
     }
 
     private TitleSummaryDTO toSummaryDTO(TitleListReadModel model) {
@@ -45,7 +61,11 @@ public class GetAllTitlesUseCase {
                 model.getId(),
                 model.getName(),
                 model.getCreatedAt(),
-                model.getUpdatedAt()
+                model.getUpdatedAt(),
+                model.getTotalEpisodes(),
+                model.getWatchedEpisodes(),
+                model.getLastWatchedAt(),
+                model.getAverageRating()
         );
     }
 }
@@ -1,69 +1,76 @@
 package com.example.videowatchlog.application.usecase;
 
 import com.example.videowatchlog.application.dto.EpisodeDetailDTO;
+import com.example.videowatchlog.application.readmodel.EpisodeDetailReadModel;
 import com.example.videowatchlog.application.readmodel.EpisodeReadModel;
-import com.example.videowatchlog.application.readmodel.ViewingRecordReadModel;
 import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
-import com.example.videowatchlog.domain.model.Episode;
-import com.example.videowatchlog.domain.model.Series;
-import com.example.videowatchlog.domain.model.Title;
-import com.example.videowatchlog.domain.repository.EpisodeRepository;
-import com.example.videowatchlog.domain.repository.SeriesRepository;
-import com.example.videowatchlog.domain.repository.TitleRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * GetEpisodeDetailUseCase - エピソード詳細取得ユースケース
+ *
+ * エピソード詳細の Read Model（シリーズ名・タイトル名を含む）だけを使います。
+ * Episode 集約・Series・Title は読み込まないため、1回の取得で発行されるステートメントは
+ * バージョンの集計と、キャッシュにない場合の詳細の読み込みの最大2つです。
  */
 @Service
 public class GetEpisodeDetailUseCase {
     private final EpisodeReadService episodeReadService;
-    private final EpisodeRepository episodeRepository;
-    private final SeriesRepository seriesRepository;
-    private final TitleRepository titleRepository;
 
-    public GetEpisodeDetailUseCase(EpisodeReadService episodeReadService,
-                                  EpisodeRepository episodeRepository,
-                                  SeriesRepository seriesRepository,
-                                  TitleRepository titleRepository) {
+    public GetEpisodeDetailUseCase(EpisodeReadService episodeReadService) {
         this.episodeReadService = episodeReadService;
-        this.episodeRepository = episodeRepository;
-        this.seriesRepository = seriesRepository;
-        this.titleRepository = titleRepository;
+    }
+
+    /**
+     * エピソード詳細のバージョンを取得します（HTTP の ETag 用）
+     * 詳細本体の読み込みや DTO の組み立ては行わず、1行の集計クエリのみを発行します。
+     *
+     * @param episodeId エピソードID
+     * @return バージョン
+     * @throws IllegalArgumentException エピソードが見つからない場合
+     */
+    public String getVersion(Long episodeId) {
+        return episodeReadService.getEpisodeDetailVersion(episodeId)
+                .orElseThrow(() -> new IllegalArgumentException("エピソードが見つかりません（ID: " + episodeId + "）"));
     }
 
     /**
      * エピソード詳細を取得します
-     * Episode ID からエピソード情報を取得し、対応するシリーズ名、タイトル名も含めて返します。
+     * エピソード情報に、対応するシリーズ名、タイトル名も含めて返します。
      *
      * @param episodeId エピソードID
      * @return エピソード詳細
      * @throws IllegalArgumentException エピソードが見つからない場合
      */
-    @Transactional(readOnly = true)
     public EpisodeDetailDTO execute(Long episodeId) {
-        // Episode を取得（Series ID を確認するため）
-        Episode episode = episodeRepository.findById(episodeId)
+        EpisodeDetailReadModel detail = episodeReadService.getEpisodeDetail(episodeId)
                 .orElseThrow(() -> new IllegalArgumentException("エピソードが見つかりません（ID: " + episodeId + "）"));
+        return toDTO(detail);
+    }
 
-        // Series を取得
-        Series series = seriesRepository.findById(episode.getSeriesId())
-                .orElseThrow(() -> new IllegalArgumentException("シリーズが見つかりません（ID: " + episode.getSeriesId() + "）"));
-
-        // Title を取得
-        Title title = titleRepository.findById(series.getTitleId())
-                .orElseThrow(() -> new IllegalArgumentException("タイトルが見つかりません（ID: " + series.getTitleId() + "）"));
+    /**
+     * getVersion で求めたバージョン以降のエピソード詳細を取得します（HTTP の条件付き GET 用）
+     * キャッシュの内容が version と異なる場合は読み直すため、ETag（version）より古い本文を返すことはありません。
+     *
+     * @param episodeId エピソードID
+     * @param version getVersion で求めたバージョン
+     * @return エピソード詳細
+     * @throws IllegalArgumentException エピソードが見つからない場合
+     */
+    public EpisodeDetailDTO execute(Long episodeId, String version) {
+        EpisodeDetailReadModel detail = episodeReadService.getEpisodeDetail(episodeId, version)
+                .orElseThrow(() -> new IllegalArgumentException("エピソードが見つかりません（ID: " + episodeId + "）"));
+        return toDTO(detail);
+    }
 
-        // EpisodeReadModel を取得（ViewingRecords を含む）
-        EpisodeReadModel episodeReadModel = episodeReadService.getEpisodeDetail(series.getId(), episodeId)
-                .orElseThrow(() -> new IllegalArgumentException("エピソード詳細が見つかりません（ID: " + episodeId + "）"));
+    private EpisodeDetailDTO toDTO(EpisodeDetailReadModel detail) {
+        EpisodeReadModel episode = detail.getEpisode();
 
         // ViewingRecords を DTO に変換
-        List<EpisodeDetailDTO.ViewingRecordDTO> viewingRecords = episodeReadModel.getViewingRecords().stream()
+        List<EpisodeDetailDTO.ViewingRecordDTO> viewingRecords = episode.getViewingRecords().stream()
                 .map(record -> new EpisodeDetailDTO.ViewingRecordDTO(
                         record.getId(),
                         record.getEpisodeId(),
@@ -75,17 +82,17 @@ public class GetEpisodeDetailUseCase {
                 .collect(Collectors.toList());
 
         return new EpisodeDetailDTO(
-                episodeReadModel.getId(),
-                episodeReadModel.getEpisodeInfo(),
-                episodeReadModel.getWatchStatus().toString(),
-                episodeReadModel.getWatchPageUrls(),
-                series.getId(),
-                series.getName(),
-                title.getId(),
-                title.getName(),
+                episode.getId(),
+                episode.getEpisodeInfo(),
+                episode.getWatchStatus().toString(),
+                episode.getWatchPageUrls(),
+                episode.getSeriesId(),
+                detail.getSeriesName(),
+                detail.getTitleId(),
+                detail.getTitleName(),
                 viewingRecords,
-                episodeReadModel.getCreatedAt(),
-                episodeReadModel.getUpdatedAt()
+                episode.getCreatedAt(),
+                episode.getUpdatedAt()
         );
     }
 }
@@ -4,15 +4,16 @@ import com.example.videowatchlog.application.dto.TitleDetailDTO;
 import com.example.videowatchlog.application.dto.TitleDetailDTO.SeriesDetailDTO;
 import com.example.videowatchlog.application.dto.TitleDetailDTO.EpisodeDetailDTO;
 import com.example.videowatchlog.application.dto.TitleDetailDTO.ViewingRecordDTO;
+import com.example.videowatchlog.application.readmodel.TitleDetailExpansion;
 import com.example.videowatchlog.application.readmodel.TitleDetailReadModel;
 import com.example.videowatchlog.application.readmodel.SeriesReadModel;
 import com.example.videowatchlog.application.readmodel.EpisodeReadModel;
 import com.example.videowatchlog.application.readmodel.ViewingRecordReadModel;
 import com.example.videowatchlog.application.readmodel.service.TitleReadService;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -35,12 +36,63 @@ public class GetTitleDetailUseCase {
      * @return タイトル詳細
      * @throws IllegalArgumentException タイトルが見つからない場合
      */
-    @Transactional(readOnly = true)
     public TitleDetailDTO execute(Long titleId) {
         // Phase 7: TitleReadService から Read Model を取得（1 JOIN クエリで全データ）
         TitleDetailReadModel titleDetail = titleReadService.getTitleDetail(titleId)
                 .orElseThrow(() -> new IllegalArgumentException("タイトルが見つかりません（ID: " + titleId + "）"));
 
+        return mapToTitleDetailDTO(titleDetail);
+    }
+
+    /**
+     * タイトル詳細を展開オプション付きで取得します
+     * WatchPageUrl / ViewingRecord も同じ 1 クエリで読み込まれます。
+     * TitleReadService のキャッシュにあればクエリもコネクションの取得も行わないよう、トランザクションは付けていません。
+     *
+     * @param titleId タイトルID
+     * @param expansions 展開オプション（空の場合は execute(titleId) と同じ）
+     * @return タイトル詳細
+     * @throws IllegalArgumentException タイトルが見つからない場合
+     */
+    public TitleDetailDTO execute(Long titleId, Set<TitleDetailExpansion> expansions) {
+        TitleDetailReadModel titleDetail = titleReadService.getTitleDetail(titleId, expansions)
+                .orElseThrow(() -> new IllegalArgumentException("タイトルが見つかりません（ID: " + titleId + "）"));
+
+        return mapToTitleDetailDTO(titleDetail);
+    }
+
+    /**
+     * getVersion で求めたバージョン以降のタイトル詳細を取得します（HTTP の条件付き GET 用）
+     * キャッシュの内容が version と異なる場合は読み直すため、ETag（version）より古い本文を返すことはありません。
+     *
+     * @param titleId タイトルID
+     * @param expansions 展開オプション
+     * @param version getVersion で求めたバージョン
+     * @return タイトル詳細
+     * @throws IllegalArgumentException タイトルが見つからない場合
+     */
+    public TitleDetailDTO execute(Long titleId, Set<TitleDetailExpansion> expansions, String version) {
+        TitleDetailReadModel titleDetail = titleReadService.getTitleDetail(titleId, expansions, version)
+                .orElseThrow(() -> new IllegalArgumentException("タイトルが見つかりません（ID: " + titleId + "）"));
+
+        return mapToTitleDetailDTO(titleDetail);
+    }
+
+    /**
+     * タイトル詳細のバージョンを取得します（HTTP の ETag 用）
+     * 詳細本体の読み込みや DTO の組み立ては行わず、1行の集計クエリのみを発行します。
+     *
+     * @param titleId タイトルID
+     * @param expansions 展開オプション（展開オプションごとに異なるバージョンになります）
+     * @return バージョン
+     * @throws IllegalArgumentException タイトルが見つからない場合
+     */
+    public String getVersion(Long titleId, Set<TitleDetailExpansion> expansions) {
+        return titleReadService.getTitleDetailVersion(titleId, expansions)
+                .orElseThrow(() -> new IllegalArgumentException("タイトルが見つかりません（ID: " + titleId + "）"));
+    }
+
+    private TitleDetailDTO mapToTitleDetailDTO(TitleDetailReadModel titleDetail) {
         // Series データを変換
         List<SeriesDetailDTO> seriesDetailList = titleDetail.getSeries().stream()
                 .map(this::mapToSeriesDetailDTO)
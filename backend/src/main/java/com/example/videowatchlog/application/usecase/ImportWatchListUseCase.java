@@ -0,0 +1,262 @@
+package com.example.videowatchlog.application.usecase;
+
+import com.example.videowatchlog.application.dto.WatchListImportProgressDTO;
+import com.example.videowatchlog.application.dto.WatchListImportResultDTO;
+import com.example.videowatchlog.application.dto.WatchListImportResultDTO.RowErrorDTO;
+import com.example.videowatchlog.application.readmodel.TitleListReadModel;
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleSearchIndexService;
+import com.example.videowatchlog.application.watchlistimport.WatchListImportFormat;
+import com.example.videowatchlog.application.watchlistimport.WatchListImportTracker;
+import com.example.videowatchlog.application.watchlistimport.WatchListLine;
+import com.example.videowatchlog.application.watchlistimport.WatchListLineReader;
+import com.example.videowatchlog.domain.model.Episode;
+import com.example.videowatchlog.domain.model.Series;
+import com.example.videowatchlog.domain.model.Title;
+import com.example.videowatchlog.domain.model.ViewingRecord;
+import com.example.videowatchlog.domain.model.WatchPageUrl;
+import com.example.videowatchlog.domain.repository.WatchListImportRepository;
+import com.example.videowatchlog.domain.repository.WatchListImportRow;
+import com.example.videowatchlog.domain.repository.WatchListMergeResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * ImportWatchListUseCase - 視聴リスト（タイトル・シリーズ・エピソード・視聴ページURL・視聴記録）の一括取り込みユースケース
+ *
+ * 入力（NDJSON または CSV）を1行ずつ読み込み、ドメインモデル（Title, Series, Episode, WatchPageUrl, ViewingRecord）の
+ * 規則で検証してから WatchListImportRepository に送ります。行はメモリ上に溜めず、読み込みながら取り込み用のテーブルへ
+ * 送られ、すべて読み込んだ後に既存のデータへまとめて統合されます（1トランザクション）。
+ *
+ * - 不正な行は取り込まずに件数を数え、先頭から maxErrorSamples 件までを行番号と理由の組で返す
+ * - 同じ入力を再度取り込んでもデータは変わらない（既存のタイトル・シリーズ・エピソードと照合するため）
+ * - 進捗は WatchListImportTracker で確認できる
+ */
+@Service
+public class ImportWatchListUseCase {
+    /** 検証時に親のIDの代わりに使う値（IDは統合時に決まるため） */
+    private static final Long UNASSIGNED_ID = 0L;
+
+    private final WatchListImportRepository watchListImportRepository;
+    private final WatchListImportTracker tracker;
+    private final TitleReadService titleReadService;
+    private final EpisodeReadService episodeReadService;
+    private final TitleSearchIndexService titleSearchIndexService;
+    private final ObjectMapper objectMapper;
+    private final int maxErrorSamples;
+
+    public ImportWatchListUseCase(
+            WatchListImportRepository watchListImportRepository,
+            WatchListImportTracker tracker,
+            TitleReadService titleReadService,
+            EpisodeReadService episodeReadService,
+            TitleSearchIndexService titleSearchIndexService,
+            ObjectMapper objectMapper,
+            @Value("${watch-list-import.max-error-samples:100}") int maxErrorSamples) {
+        this.watchListImportRepository = watchListImportRepository;
+        this.tracker = tracker;
+        this.titleReadService = titleReadService;
+        this.episodeReadService = episodeReadService;
+        this.titleSearchIndexService = titleSearchIndexService;
+        this.objectMapper = objectMapper;
+        this.maxErrorSamples = maxErrorSamples;
+    }
+
+    /**
+     * 視聴リストを取り込みます
+     *
+     * @param format 入力の形式
+     * @param input 入力（UTF-8）
+     * @return 取り込みの結果
+     * @throws IllegalStateException CSV のヘッダー行が不正な場合
+     */
+    @Transactional
+    public WatchListImportResultDTO execute(WatchListImportFormat format, InputStream input) {
+        WatchListImportTracker.Job job = tracker.start(format);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    job.finish(status == STATUS_COMMITTED);
+                }
+            });
+        }
+
+        ValidatedRows rows;
+        long staged;
+        try (WatchListLineReader reader = WatchListLineReader.open(format, input, objectMapper)) {
+            rows = new ValidatedRows(reader, job);
+            staged = watchListImportRepository.stage(rows);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import input", e);
+        }
+
+        job.merging();
+        WatchListMergeResult merged = watchListImportRepository.merge();
+
+        // Read Model（キャッシュ・検索索引）に反映（コミット後）
+        titleReadService.evictTitleDetails(merged.getTitleIds());
+        episodeReadService.evictEpisodeDetails(merged.getUpdatedEpisodeIds());
+        titleSearchIndexService.titlesSaved(merged.getCreatedTitles().stream()
+                .map(title -> new TitleListReadModel(
+                        title.getId(), title.getName(), title.getCreatedAt(), title.getUpdatedAt()))
+                .toList());
+
+        return new WatchListImportResultDTO(
+                job.getId(),
+                staged + rows.rejected,
+                staged,
+                rows.rejected,
+                merged.getCreatedTitles().size(),
+                merged.getSeriesCreated(),
+                merged.getEpisodesCreated(),
+                merged.getWatchPageUrlsAdded(),
+                merged.getViewingRecordsAdded(),
+                rows.errors);
+    }
+
+    /**
+     * 実行中（および最近終了した）取り込みの進捗を取得します
+     *
+     * @return 進捗（実行中は開始順、終了したものは新しい順）
+     */
+    public List<WatchListImportProgressDTO> listProgress() {
+        return tracker.list();
+    }
+
+    /**
+     * 1行をドメインモデルの規則で検証し、取り込む行に変換します
+     *
+     * シリーズ・エピソードが省略された行は、下位の項目（エピソード・視聴ページURL・視聴記録）があれば
+     * デフォルト（空文字）のシリーズ・エピソードを対象にします。
+     *
+     * @param line 読み込んだ行
+     * @return 取り込む行
+     * @throws IllegalArgumentException 行が不正な場合
+     */
+    static WatchListImportRow toRow(WatchListLine line) {
+        if (line.getError() != null) {
+            throw new IllegalArgumentException(line.getError());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        new Title(null, line.getTitle(), null, now, now);
+
+        LocalDateTime watchedAt = parseWatchedAt(line.getWatchedAt());
+        Integer rating = parseRating(line.getRating());
+        String url = line.getWatchPageUrl();
+        String episodeInfo = line.getEpisode() != null ? line.getEpisode()
+                : url != null || watchedAt != null ? "" : null;
+        String seriesName = line.getSeries() != null ? line.getSeries()
+                : episodeInfo != null ? "" : null;
+
+        if (seriesName != null) {
+            new Series(null, UNASSIGNED_ID, seriesName, now, now);
+        }
+        if (episodeInfo != null) {
+            Episode.create(null, UNASSIGNED_ID, episodeInfo);
+        }
+        if (url != null) {
+            new WatchPageUrl(url);
+        }
+        if (watchedAt != null) {
+            ViewingRecord.create(null, UNASSIGNED_ID, watchedAt, rating, line.getComment());
+        } else if (rating != null || line.getComment() != null) {
+            throw new IllegalArgumentException("rating と comment は watchedAt と一緒に指定してください");
+        }
+        return new WatchListImportRow(line.getLineNumber(), line.getTitle(), seriesName, episodeInfo,
+                url, watchedAt, rating, line.getComment());
+    }
+
+    private static LocalDateTime parseWatchedAt(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("watchedAt は ISO 8601 形式（例: 2024-02-01T20:00:00）で指定してください");
+        }
+    }
+
+    private static Integer parseRating(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("rating は整数で指定してください");
+        }
+    }
+
+    /**
+     * 入力を1行ずつ読み込み、有効な行だけを返す Iterator
+     * 不正な行は件数を数え、先頭から maxErrorSamples 件までの理由を残します。
+     */
+    private final class ValidatedRows implements Iterator<WatchListImportRow> {
+        private final WatchListLineReader reader;
+        private final WatchListImportTracker.Job job;
+        private final List<RowErrorDTO> errors = new ArrayList<>();
+        private long rejected;
+        private WatchListImportRow next;
+
+        ValidatedRows(WatchListLineReader reader, WatchListImportTracker.Job job) {
+            this.reader = reader;
+            this.job = job;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                WatchListLine line = readLine();
+                if (line == null) {
+                    return false;
+                }
+                try {
+                    next = toRow(line);
+                    job.rowRead(false);
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                    if (errors.size() < maxErrorSamples) {
+                        errors.add(new RowErrorDTO(line.getLineNumber(), e.getMessage()));
+                    }
+                    job.rowRead(true);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public WatchListImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            WatchListImportRow row = next;
+            next = null;
+            return row;
+        }
+
+        private WatchListLine readLine() {
+            try {
+                return reader.read();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read import input", e);
+            }
+        }
+    }
+}
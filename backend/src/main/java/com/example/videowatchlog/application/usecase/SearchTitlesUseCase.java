@@ -1,48 +1,235 @@
 package com.example.videowatchlog.application.usecase;
 
+import com.example.videowatchlog.application.dto.TitlePageDTO;
+import com.example.videowatchlog.application.dto.TitlePageRequestDTO;
 import com.example.videowatchlog.application.dto.TitleSummaryDTO;
+import com.example.videowatchlog.application.readmodel.TitleCursor;
+import com.example.videowatchlog.application.readmodel.TitleListReadModel;
+import com.example.videowatchlog.application.readmodel.search.TitleSearchIndex;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleSearchIndexService;
 import com.example.videowatchlog.domain.model.Title;
 import com.example.videowatchlog.domain.model.WatchStatus;
 import com.example.videowatchlog.domain.repository.TitleRepository;
+import com.example.videowatchlog.domain.repository.TitleSearchHit;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * SearchTitlesUseCase - タイトルを検索する UseCase
+ *
+ * 視聴状態を指定しないクエリ検索は、部分一致をメモリ上の検索索引（TitleSearchIndexService）で求めます。
+ * 索引は視聴の進捗も持つため、部分一致が1件以上あれば DB にはクエリを発行しません。
+ * 部分一致が1件もない場合に限り、類似（タイプミスなど）のタイトルを DB の類似検索（TitleRepository.searchSimilar）で
+ * 求めます。これは1ページにつき limit + 1 件の1クエリで、進捗は索引から付けます。
+ * 視聴状態を指定した場合、索引の構築前、正規化すると空になるクエリは DB（TitleRepository.search）で検索します。
+ *
+ * 索引と DB では部分一致の rank の尺度が異なるため、次ページのカーソルにはどの経路のページかを記録し
+ * （TitleCursor.Source）、続きのページは同じ経路で検索します。索引の経路のカーソルで索引を使えない場合は、
+ * 行の欠落・重複を避けるため IllegalStateException（400）とし、先頭ページからの検索し直しを求めます。
+ *
+ * DB の経路では、ページのタイトルの視聴の進捗を最後に1クエリ（主キー検索）でまとめて読み込みます。
+ * 索引を使う場合はコネクションを占有しないよう、このクラスにはトランザクションを付けていません。
  */
 @Service
-@Transactional(readOnly = true)
 public class SearchTitlesUseCase {
 
     private final TitleRepository titleRepository;
+    private final TitleSearchIndexService titleSearchIndexService;
+    private final TitleReadService titleReadService;
 
-    public SearchTitlesUseCase(TitleRepository titleRepository) {
+    public SearchTitlesUseCase(TitleRepository titleRepository, TitleSearchIndexService titleSearchIndexService,
+                               TitleReadService titleReadService) {
         this.titleRepository = titleRepository;
+        this.titleSearchIndexService = titleSearchIndexService;
+        this.titleReadService = titleReadService;
     }
 
     /**
-     * タイトルを検索する
+     * タイトルを検索する（先頭ページ）
      *
      * @param query 検索クエリ (nullの場合は全タイトル)
      * @param watchStatus 視聴状態でのフィルタリング (nullの場合はフィルタリングなし)
      * @return タイトルサマリーのリスト
      */
     public List<TitleSummaryDTO> execute(String query, WatchStatus watchStatus) {
-        List<Title> titles = titleRepository.search(query, watchStatus);
+        return execute(query, watchStatus, TitlePageRequestDTO.firstPage()).getItems();
+    }
+
+    /**
+     * タイトルを検索する（カーソルでページング）
+     *
+     * query を指定した場合はタイトル名の部分一致で検索し、関連度の高い順に返します。
+     * 部分一致がない場合は類似（表記ゆれ・タイプミス）のタイトルを返します。query が null の場合は一覧と同じく作成日時の新しい順です。
+     *
+     * @param query 検索クエリ (nullの場合は全タイトル)
+     * @param watchStatus 視聴状態でのフィルタリング (nullの場合はフィルタリングなし)
+     * @param page ページ指定
+     * @return タイトルサマリーのページ
+     * @throws IllegalStateException カーソルが別の検索（query・watchStatus の有無が異なる）のものである場合、
+     *                               または索引の経路のカーソルで索引を使えない場合
+     */
+    public TitlePageDTO execute(String query, WatchStatus watchStatus, TitlePageRequestDTO page) {
+        TitleCursor cursor = page.getCursor();
+        if (cursor != null && (query != null) != (cursor.getRank() != null)) {
+            throw new IllegalStateException("Cursor does not match the search query");
+        }
+        if (cursor != null && cursor.getSource() != TitleCursor.Source.DATABASE && watchStatus != null) {
+            throw new IllegalStateException("Cursor does not match the search query");
+        }
+
+        SearchResult result = null;
+        if (query != null && watchStatus == null) {
+            result = searchWithIndex(query, cursor, page.getLimit());
+        }
+        if (result == null) {
+            result = searchDatabase(query, watchStatus, cursor, page.getLimit());
+        }
+        return new TitlePageDTO(
+                result.titles.stream().map(this::toSummaryDTO).collect(Collectors.toList()),
+                result.nextCursor == null ? null : result.nextCursor.encode());
+    }
+
+    /**
+     * 索引の部分一致（部分一致がない場合は DB の類似検索）でページを求めます
+     *
+     * @return ページ（DB の検索を使う場合は null）
+     */
+    private SearchResult searchWithIndex(String query, TitleCursor cursor, int limit) {
+        if (cursor != null && cursor.getSource() == TitleCursor.Source.DATABASE) {
+            return null;
+        }
+        if (cursor != null && cursor.getSource() == TitleCursor.Source.SIMILAR) {
+            return searchSimilar(query, cursor, limit);
+        }
+        if (cursor == null && TitleSearchIndex.normalize(query).isEmpty()) {
+            return null;
+        }
+        Optional<TitleSearchIndex.Result> indexed = titleSearchIndexService.search(query, cursor, limit + 1);
+        if (indexed.isEmpty()) {
+            if (cursor != null) {
+                throw new IllegalStateException("Search index is not available; restart the search from the first page");
+            }
+            return null;
+        }
+
+        List<TitleSearchIndex.Hit> hits = indexed.get().getHits();
+        if (hits.isEmpty() && cursor == null) {
+            return searchSimilar(query, null, limit);
+        }
+        // 部分一致があれば類似検索（DB）は行わない
+        boolean hasNext = hits.size() > limit;
+        List<TitleSearchIndex.Hit> pageHits = hasNext ? hits.subList(0, limit) : hits;
+        TitleCursor nextCursor = null;
+        if (hasNext) {
+            TitleSearchIndex.Hit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = new TitleCursor(TitleCursor.Source.INDEX, last.getRank(), last.getTitle().getCreatedAt(), last.getTitle().getId());
+        }
+        return new SearchResult(pageHits.stream().map(TitleSearchIndex.Hit::getTitle).toList(), nextCursor);
+    }
+
+    /**
+     * 索引に部分一致がないクエリの類似のタイトルを、DB の類似検索（1クエリ）で求めます
+     * 進捗は索引から付けます（索引にまだ反映されていないタイトルは進捗なし）。
+     *
+     * @param after 開始位置（SIMILAR のカーソル、null の場合は先頭から）
+     */
+    private SearchResult searchSimilar(String query, TitleCursor after, int limit) {
+        List<TitleSearchHit> hits = titleRepository.searchSimilar(
+                query,
+                after == null ? null : after.getRank(),
+                after == null ? null : after.getCreatedAt(),
+                after == null ? null : after.getId(),
+                limit + 1);
+
+        boolean hasNext = hits.size() > limit;
+        List<TitleSearchHit> pageHits = hasNext ? hits.subList(0, limit) : hits;
+        List<TitleListReadModel> titles = pageHits.stream()
+                .map(hit -> titleSearchIndexService.getTitle(hit.getTitle().getId())
+                        .orElseGet(() -> toReadModel(hit.getTitle())))
+                .toList();
+        TitleCursor nextCursor = null;
+        if (hasNext) {
+            TitleSearchHit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = new TitleCursor(TitleCursor.Source.SIMILAR, last.getRank(), last.getTitle().getCreatedAt(), last.getTitle().getId());
+        }
+        return new SearchResult(titles, nextCursor);
+    }
+
+    /**
+     * DB（TitleRepository.search）でページを求めます
+     */
+    private SearchResult searchDatabase(String query, WatchStatus watchStatus, TitleCursor cursor, int limit) {
+        List<TitleSearchHit> hits = titleRepository.search(
+                query,
+                watchStatus,
+                cursor == null ? null : cursor.getRank(),
+                cursor == null ? null : cursor.getCreatedAt(),
+                cursor == null ? null : cursor.getId(),
+                limit + 1);
+
+        // limit + 1 件目があれば次ページが存在するため、limit 件目の位置をカーソルにする
+        boolean hasNext = hits.size() > limit;
+        List<TitleSearchHit> pageHits = hasNext ? hits.subList(0, limit) : hits;
+        List<TitleListReadModel> titles = withProgress(pageHits.stream()
+                .map(hit -> toReadModel(hit.getTitle()))
+                .toList());
+        TitleCursor nextCursor = null;
+        if (hasNext) {
+            TitleSearchHit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = new TitleCursor(last.getRank(), last.getTitle().getCreatedAt(), last.getTitle().getId());
+        }
+        return new SearchResult(titles, nextCursor);
+    }
+
+    /**
+     * ページのタイトルに視聴の進捗を付けます（1クエリ）
+     * 検索の後に削除されたタイトルは、進捗なしで返します。
+     */
+    private List<TitleListReadModel> withProgress(List<TitleListReadModel> titles) {
+        if (titles.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, TitleListReadModel> progressById = titleReadService.getTitles(
+                        titles.stream().map(TitleListReadModel::getId).toList()).stream()
+                .collect(Collectors.toMap(TitleListReadModel::getId, Function.identity()));
         return titles.stream()
-                .map(this::toSummaryDTO)
-                .collect(Collectors.toList());
+                .map(title -> progressById.getOrDefault(title.getId(), title))
+                .toList();
     }
 
-    private TitleSummaryDTO toSummaryDTO(Title title) {
+    private static TitleListReadModel toReadModel(Title title) {
+        return new TitleListReadModel(title.getId(), title.getName(), title.getCreatedAt(), title.getUpdatedAt());
+    }
+
+    private TitleSummaryDTO toSummaryDTO(TitleListReadModel title) {
         return new TitleSummaryDTO(
                 title.getId(),
                 title.getName(),
                 title.getCreatedAt(),
-                title.getUpdatedAt()
+                title.getUpdatedAt(),
+                title.getTotalEpisodes(),
+                title.getWatchedEpisodes(),
+                title.getLastWatchedAt(),
+                title.getAverageRating()
         );
     }
+
+    /**
+     * 1ページ分の検索結果と次ページのカーソル（次ページがなければ null）
+     */
+    private static final class SearchResult {
+        private final List<TitleListReadModel> titles;
+        private final TitleCursor nextCursor;
+
+        SearchResult(List<TitleListReadModel> titles, TitleCursor nextCursor) {
+            this.titles = titles;
+            this.nextCursor = nextCursor;
+        }
+    }
 }
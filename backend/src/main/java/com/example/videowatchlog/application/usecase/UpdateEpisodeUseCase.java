@@ -1,5 +1,7 @@
 package com.example.videowatchlog.application.usecase;
 
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
 import com.example.videowatchlog.domain.model.Episode;
 import com.example.videowatchlog.domain.model.WatchPageUrl;
 import com.example.videowatchlog.domain.repository.EpisodeRepository;
@@ -13,9 +15,14 @@ import java.util.List;
 @Service
 public class UpdateEpisodeUseCase {
     private final EpisodeRepository episodeRepository;
+    private final TitleReadService titleReadService;
+    private final EpisodeReadService episodeReadService;
 
-    public UpdateEpisodeUseCase(EpisodeRepository episodeRepository) {
+    public UpdateEpisodeUseCase(EpisodeRepository episodeRepository, TitleReadService titleReadService,
+                                EpisodeReadService episodeReadService) {
         this.episodeRepository = episodeRepository;
+        this.titleReadService = titleReadService;
+        this.episodeReadService = episodeReadService;
     }
 
     @Transactional
@@ -28,12 +35,11 @@ public class UpdateEpisodeUseCase {
         }
 
         if (watchPageUrls != null) {
-            episode.getWatchPageUrls().clear();
-            for (String url : watchPageUrls) {
-                episode.addWatchPageUrl(new WatchPageUrl(url));
-            }
+            episode.replaceWatchPageUrls(watchPageUrls.stream().map(WatchPageUrl::new).toList());
         }
 
         episodeRepository.save(episode);
+        titleReadService.evictTitleDetailOfSeries(episode.getSeriesId());
+        episodeReadService.evictEpisodeDetail(episodeId);
     }
 }
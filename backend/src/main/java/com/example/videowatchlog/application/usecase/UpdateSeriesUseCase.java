@@ -1,6 +1,8 @@
 package com.example.videowatchlog.application.usecase;
 
 import com.example.videowatchlog.application.dto.UpdateTitleRequestDTO;
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
 import com.example.videowatchlog.domain.model.Series;
 import com.example.videowatchlog.domain.repository.SeriesRepository;
 import org.springframework.stereotype.Service;
@@ -12,9 +14,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class UpdateSeriesUseCase {
     private final SeriesRepository seriesRepository;
+    private final TitleReadService titleReadService;
+    private final EpisodeReadService episodeReadService;
 
-    public UpdateSeriesUseCase(SeriesRepository seriesRepository) {
+    public UpdateSeriesUseCase(SeriesRepository seriesRepository, TitleReadService titleReadService,
+                               EpisodeReadService episodeReadService) {
         this.seriesRepository = seriesRepository;
+        this.titleReadService = titleReadService;
+        this.episodeReadService = episodeReadService;
     }
 
     @Transactional
@@ -23,5 +30,8 @@ public class UpdateSeriesUseCase {
                 .orElseThrow(() -> new IllegalArgumentException("シリーズが見つかりません"));
         series.updateName(name);
         seriesRepository.save(series);
+        titleReadService.evictTitleDetail(series.getTitleId());
+        // エピソード詳細はシリーズ名を含む
+        episodeReadService.evictEpisodeDetailsOfSeries(seriesId);
     }
 }
@@ -1,6 +1,10 @@
 package com.example.videowatchlog.application.usecase;
 
 import com.example.videowatchlog.application.dto.UpdateTitleRequestDTO;
+import com.example.videowatchlog.application.readmodel.TitleListReadModel;
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleSearchIndexService;
 import com.example.videowatchlog.domain.model.Title;
 import com.example.videowatchlog.domain.model.TitleInfoUrl;
 import com.example.videowatchlog.domain.repository.TitleRepository;
@@ -13,9 +17,16 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class UpdateTitleUseCase {
     private final TitleRepository titleRepository;
+    private final TitleSearchIndexService titleSearchIndexService;
+    private final TitleReadService titleReadService;
+    private final EpisodeReadService episodeReadService;
 
-    public UpdateTitleUseCase(TitleRepository titleRepository) {
+    public UpdateTitleUseCase(TitleRepository titleRepository, TitleSearchIndexService titleSearchIndexService,
+                              TitleReadService titleReadService, EpisodeReadService episodeReadService) {
         this.titleRepository = titleRepository;
+        this.titleSearchIndexService = titleSearchIndexService;
+        this.titleReadService = titleReadService;
+        this.episodeReadService = episodeReadService;
     }
 
     @Transactional
@@ -32,6 +43,13 @@ public class UpdateTitleUseCase {
             }
         }
 
-        titleRepository.save(title);
+        Title saved = titleRepository.save(title);
+
+        // 検索索引に反映（コミット後）
+        titleSearchIndexService.titleSaved(new TitleListReadModel(
+                saved.getId(), saved.getName(), saved.getCreatedAt(), saved.getUpdatedAt()));
+        titleReadService.evictTitleDetail(titleId);
+        // エピソード詳細はタイトル名を含む
+        episodeReadService.evictEpisodeDetailsOfTitle(titleId);
     }
 }
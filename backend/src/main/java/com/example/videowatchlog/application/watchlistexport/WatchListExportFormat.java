@@ -0,0 +1,45 @@
+package com.example.videowatchlog.application.watchlistexport;
+
+import java.util.Locale;
+
+/**
+ * WatchListExportFormat - 全件エクスポートの出力の形式
+ */
+public enum WatchListExportFormat {
+    /** 改行区切り JSON（1行に1タイトル。シリーズ・エピソード・視聴ページURL・視聴記録を入れ子で含む） */
+    NDJSON("application/x-ndjson", "ndjson"),
+    /** ヘッダー行付きの CSV（1行に1件の視聴ページURL・視聴記録。列は一括取り込みと同じ） */
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    WatchListExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * 形式の名前（大文字・小文字を区別しない）から形式を取得します
+     *
+     * @param name 形式の名前（ndjson または csv）
+     * @return 形式
+     * @throws IllegalStateException 対応していない形式の場合
+     */
+    public static WatchListExportFormat fromName(String name) {
+        for (WatchListExportFormat format : values()) {
+            if (format.name().equals(name.trim().toUpperCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new IllegalStateException("対応していない形式です: " + name);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.videowatchlog.application.watchlistexport;
+
+import com.example.videowatchlog.application.readmodel.WatchListExportNode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * WatchListNdjsonWriter - 全件エクスポートの要素を1行1タイトルの入れ子の JSON として逐次書き出す Consumer
+ *
+ * 要素は WatchListExportRepository#forEachNode の順（深さ優先）で渡される前提で、
+ * 要素を受け取るたびに JsonGenerator でその場で書き出し、開いている配列・オブジェクトは
+ * 上位の要素が来たとき（または finish）に閉じます。タイトル1件分の木もメモリ上に組み立てないため、
+ * 件数やタイトルの大きさに関わらず使用メモリは一定です。
+ *
+ * 1行の形式:
+ * {"id", "name", "createdAt", "updatedAt", "titleInfoUrls": [url],
+ *  "series": [{"id", "name", "createdAt", "updatedAt",
+ *    "episodes": [{"id", "episodeInfo", "watchStatus", "createdAt", "updatedAt", "watchPageUrls": [url],
+ *      "viewingRecords": [{"id", "watchedAt", "rating", "comment", "recordedAt"}]}]}]}
+ *
+ * 1インスタンスにつき1回のエクスポートを書き出します（スレッドセーフではありません）。
+ */
+public class WatchListNdjsonWriter implements Consumer<WatchListExportNode> {
+    /**
+     * 書き込み中の位置（最も内側の開いている配列）
+     */
+    private enum State {
+        /** タイトルの外（行の間） */
+        NONE,
+        /** タイトルの titleInfoUrls */
+        TITLE_INFO_URLS,
+        /** タイトルの series（シリーズの外） */
+        SERIES,
+        /** シリーズの episodes（エピソードの外） */
+        EPISODES,
+        /** エピソードの watchPageUrls */
+        WATCH_PAGE_URLS,
+        /** エピソードの viewingRecords */
+        VIEWING_RECORDS
+    }
+
+    private final JsonGenerator generator;
+    private State state = State.NONE;
+    private long titles;
+
+    public WatchListNdjsonWriter(ObjectMapper objectMapper, OutputStream out) {
+        try {
+            this.generator = objectMapper.createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void accept(WatchListExportNode node) {
+        try {
+            switch (node.getKind()) {
+                case TITLE -> writeTitle(node);
+                case TITLE_INFO_URL -> {
+                    expect(node, State.TITLE_INFO_URLS);
+                    generator.writeString(node.getText());
+                }
+                case SERIES -> writeSeries(node);
+                case EPISODE -> writeEpisode(node);
+                case WATCH_PAGE_URL -> {
+                    expect(node, State.WATCH_PAGE_URLS);
+                    generator.writeString(node.getText());
+                }
+                case VIEWING_RECORD -> writeViewingRecord(node);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 書き込み中のタイトルを閉じ、バッファを出力先に送ります
+     *
+     * @return 書き出したタイトルの数
+     */
+    public long finish() {
+        try {
+            closeTitle();
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return titles;
+    }
+
+    private void writeTitle(WatchListExportNode node) throws IOException {
+        closeTitle();
+        generator.writeStartObject();
+        generator.writeNumberField("id", node.getId());
+        generator.writeStringField("name", node.getText());
+        writeDateTimeField("createdAt", node.getCreatedAt());
+        writeDateTimeField("updatedAt", node.getUpdatedAt());
+        generator.writeArrayFieldStart("titleInfoUrls");
+        state = State.TITLE_INFO_URLS;
+    }
+
+    private void writeSeries(WatchListExportNode node) throws IOException {
+        closeSeries();
+        if (state == State.TITLE_INFO_URLS) {
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("series");
+            state = State.SERIES;
+        }
+        expect(node, State.SERIES);
+        generator.writeStartObject();
+        generator.writeNumberField("id", node.getId());
+        generator.writeStringField("name", node.getText());
+        writeDateTimeField("createdAt", node.getCreatedAt());
+        writeDateTimeField("updatedAt", node.getUpdatedAt());
+        generator.writeArrayFieldStart("episodes");
+        state = State.EPISODES;
+    }
+
+    private void writeEpisode(WatchListExportNode node) throws IOException {
+        closeEpisode();
+        expect(node, State.EPISODES);
+        generator.writeStartObject();
+        generator.writeNumberField("id", node.getId());
+        generator.writeStringField("episodeInfo", node.getText());
+        generator.writeStringField("watchStatus", node.getWatchStatus().name());
+        writeDateTimeField("createdAt", node.getCreatedAt());
+        writeDateTimeField("updatedAt", node.getUpdatedAt());
+        generator.writeArrayFieldStart("watchPageUrls");
+        state = State.WATCH_PAGE_URLS;
+    }
+
+    private void writeViewingRecord(WatchListExportNode node) throws IOException {
+        if (state == State.WATCH_PAGE_URLS) {
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("viewingRecords");
+            state = State.VIEWING_RECORDS;
+        }
+        expect(node, State.VIEWING_RECORDS);
+        generator.writeStartObject();
+        generator.writeNumberField("id", node.getId());
+        writeDateTimeField("watchedAt", node.getWatchedAt());
+        generator.writeNumberField("rating", node.getRating());
+        generator.writeStringField("comment", node.getComment());
+        writeDateTimeField("recordedAt", node.getCreatedAt());
+        generator.writeEndObject();
+    }
+
+    private void closeEpisode() throws IOException {
+        if (state == State.WATCH_PAGE_URLS) {
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("viewingRecords");
+            state = State.VIEWING_RECORDS;
+        }
+        if (state == State.VIEWING_RECORDS) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+            state = State.EPISODES;
+        }
+    }
+
+    private void closeSeries() throws IOException {
+        closeEpisode();
+        if (state == State.EPISODES) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+            state = State.SERIES;
+        }
+    }
+
+    private void closeTitle() throws IOException {
+        closeSeries();
+        if (state == State.TITLE_INFO_URLS) {
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("series");
+            state = State.SERIES;
+        }
+        if (state == State.SERIES) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            titles++;
+            state = State.NONE;
+        }
+    }
+
+    private void writeDateTimeField(String name, LocalDateTime value) throws IOException {
+        generator.writeFieldName(name);
+        generator.writeObject(value);
+    }
+
+    private void expect(WatchListExportNode node, State expected) {
+        if (state != expected) {
+            throw new IllegalStateException(
+                    "Unexpected export node " + node.getKind() + " " + node.getId() + " in " + state);
+        }
+    }
+}
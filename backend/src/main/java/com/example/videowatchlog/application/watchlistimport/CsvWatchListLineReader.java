@@ -0,0 +1,196 @@
+package com.example.videowatchlog.application.watchlistimport;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CsvWatchListLineReader - ヘッダー行付きの CSV（RFC 4180）の入力を1レコードずつ読み込む
+ *
+ * - 1行目はヘッダー行で、列名は title, series, episode, watchPageUrl, watchedAt, rating, comment
+ *   （title は必須、ほかは省略可・順不同）
+ * - 引用符（"）で囲んだ値は区切り文字・改行・"" による引用符を含められる
+ * - 引用符なしの空の値は未指定（null）、"" で囲んだ空の値は空文字として扱う
+ * - 改行は LF・CRLF のどちらも受け付ける
+ */
+final class CsvWatchListLineReader implements WatchListLineReader {
+    private static final List<String> COLUMNS =
+            List.of("title", "series", "episode", "watchPageUrl", "watchedAt", "rating", "comment");
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final Reader reader;
+    /** COLUMNS の各列が入力の何列目か（ない列は -1） */
+    private final int[] columnIndexes = new int[COLUMNS.size()];
+    private final int columnCount;
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    /** 次に読み込む文字の行番号 */
+    private long lineNumber = 1;
+    /** 読み込み中のレコードの文字数 */
+    private int recordLength;
+    /** 読み込み中のレコードの形式の誤り */
+    private String recordError;
+
+    CsvWatchListLineReader(Reader reader) throws IOException {
+        this.reader = reader;
+        if (!readRecord()) {
+            throw new IllegalStateException("CSV のヘッダー行がありません");
+        }
+        if (recordError != null) {
+            throw new IllegalStateException("CSV のヘッダー行が不正です: " + recordError);
+        }
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            String name = fields.get(i) != null ? fields.get(i).trim() : "";
+            if (i == 0 && name.startsWith(BYTE_ORDER_MARK)) {
+                // 表計算ソフトが UTF-8 の CSV の先頭に付ける BOM
+                name = name.substring(1);
+            }
+            if (!COLUMNS.contains(name)) {
+                throw new IllegalStateException("CSV のヘッダー行に不明な列があります: " + name);
+            }
+            if (header.put(name, i) != null) {
+                throw new IllegalStateException("CSV のヘッダー行に同じ列が複数あります: " + name);
+            }
+        }
+        if (!header.containsKey("title")) {
+            throw new IllegalStateException("CSV のヘッダー行に title 列がありません");
+        }
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            columnIndexes[i] = header.getOrDefault(COLUMNS.get(i), -1);
+        }
+        columnCount = fields.size();
+    }
+
+    @Override
+    public WatchListLine read() throws IOException {
+        while (true) {
+            long startLine = lineNumber;
+            if (!readRecord()) {
+                return null;
+            }
+            if (recordError != null) {
+                return WatchListLine.malformed(startLine, recordError);
+            }
+            if (fields.size() == 1 && fields.get(0) == null) {
+                // 空行
+                continue;
+            }
+            if (fields.size() != columnCount) {
+                return WatchListLine.malformed(startLine,
+                        "列の数（" + fields.size() + "）がヘッダー行（" + columnCount + "）と一致しません");
+            }
+            return new WatchListLine(startLine,
+                    column(0), column(1), column(2), column(3), column(4), column(5), column(6));
+        }
+    }
+
+    private String column(int column) {
+        int index = columnIndexes[column];
+        return index < 0 ? null : fields.get(index);
+    }
+
+    /**
+     * 次のレコードを fields に読み込みます
+     *
+     * @return レコードを読み込んだ場合は true（入力の終わりに達していた場合は false）
+     */
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        recordLength = 0;
+        recordError = null;
+        int c = reader.read();
+        if (c == -1) {
+            return false;
+        }
+        while (true) {
+            field.setLength(0);
+            boolean quoted = false;
+            if (c == '"') {
+                quoted = true;
+                c = readQuoted();
+            }
+            while (c != ',' && c != '\n' && c != '\r' && c != -1) {
+                // 引用符で囲んだ値の後の文字、または引用符なしの値
+                if (quoted && recordError == null) {
+                    recordError = "引用符で囲んだ値の後に区切り文字がありません";
+                }
+                append(c);
+                c = reader.read();
+            }
+            fields.add(quoted || field.length() > 0 ? field.toString() : null);
+            if (c == ',') {
+                c = reader.read();
+                continue;
+            }
+            if (c == '\r') {
+                c = reader.read();
+                if (c != '\n' && c != -1) {
+                    // CR だけの改行は受け付けない（次のレコードの先頭の文字を読んでしまうため）
+                    recordError = "改行は LF または CRLF で区切ってください";
+                    skipLine(c);
+                    return true;
+                }
+            }
+            if (c == '\n') {
+                lineNumber++;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 開始の引用符の後から終わりの引用符までを field に読み込みます
+     *
+     * @return 終わりの引用符の次の文字
+     */
+    private int readQuoted() throws IOException {
+        while (true) {
+            int c = reader.read();
+            if (c == -1) {
+                if (recordError == null) {
+                    recordError = "引用符が閉じられていません";
+                }
+                return c;
+            }
+            if (c == '"') {
+                c = reader.read();
+                if (c != '"') {
+                    return c;
+                }
+            }
+            if (c == '\n') {
+                lineNumber++;
+            }
+            append(c);
+        }
+    }
+
+    private void append(int c) {
+        recordLength++;
+        if (recordLength > MAX_LINE_LENGTH) {
+            if (recordError == null) {
+                recordError = "レコードが長すぎます（" + MAX_LINE_LENGTH + "文字まで）";
+            }
+            return;
+        }
+        field.append((char) c);
+    }
+
+    private void skipLine(int c) throws IOException {
+        while (c != '\n' && c != -1) {
+            c = reader.read();
+        }
+        if (c == '\n') {
+            lineNumber++;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
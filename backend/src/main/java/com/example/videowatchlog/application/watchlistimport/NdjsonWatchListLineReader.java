@@ -0,0 +1,116 @@
+package com.example.videowatchlog.application.watchlistimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * NdjsonWatchListLineReader - 改行区切り JSON の入力を1行ずつ読み込む
+ *
+ * 各行は1つの JSON オブジェクトで、項目の値は文字列・数値（または null）です。未知の項目は無視します。
+ * 行ごとに読み込むため、JSON として読み込めない行があってもその行だけを不正な行として続行できます。
+ */
+final class NdjsonWatchListLineReader implements WatchListLineReader {
+    // readLine の結果
+    private static final int END_OF_INPUT = -1;
+    private static final int COMPLETE = 0;
+    private static final int TOO_LONG = 1;
+
+    private final Reader reader;
+    private final ObjectReader objectReader;
+    private final StringBuilder line = new StringBuilder();
+    private long lineNumber;
+
+    NdjsonWatchListLineReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectReader = objectMapper.reader();
+    }
+
+    @Override
+    public WatchListLine read() throws IOException {
+        while (true) {
+            line.setLength(0);
+            int result = readLine();
+            if (result == END_OF_INPUT) {
+                return null;
+            }
+            lineNumber++;
+            if (result == TOO_LONG) {
+                return WatchListLine.malformed(lineNumber, "行が長すぎます（" + MAX_LINE_LENGTH + "文字まで）");
+            }
+            String json = line.toString();
+            if (json.isBlank()) {
+                continue;
+            }
+            return parse(json);
+        }
+    }
+
+    /**
+     * 次の行を line に読み込みます（改行は含めない。長すぎる場合は行末まで読み飛ばす）
+     */
+    private int readLine() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return END_OF_INPUT;
+        }
+        boolean tooLong = false;
+        while (c != -1 && c != '\n') {
+            if (line.length() < MAX_LINE_LENGTH) {
+                line.append((char) c);
+            } else {
+                tooLong = true;
+            }
+            c = reader.read();
+        }
+        int last = line.length() - 1;
+        if (last >= 0 && line.charAt(last) == '\r') {
+            line.setLength(last);
+        }
+        return tooLong ? TOO_LONG : COMPLETE;
+    }
+
+    private WatchListLine parse(String json) {
+        JsonNode node;
+        try {
+            node = objectReader.readTree(json);
+        } catch (JsonProcessingException e) {
+            return WatchListLine.malformed(lineNumber, "JSON として読み込めません: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return WatchListLine.malformed(lineNumber, "JSON オブジェクトではありません");
+        }
+        try {
+            return new WatchListLine(lineNumber,
+                    text(node, "title"),
+                    text(node, "series"),
+                    text(node, "episode"),
+                    text(node, "watchPageUrl"),
+                    text(node, "watchedAt"),
+                    text(node, "rating"),
+                    text(node, "comment"));
+        } catch (IllegalArgumentException e) {
+            return WatchListLine.malformed(lineNumber, e.getMessage());
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        if (!value.isValueNode()) {
+            throw new IllegalArgumentException(field + " は文字列または数値で指定してください");
+        }
+        return value.asText();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.videowatchlog.application.watchlistimport;
+
+import java.util.Optional;
+
+/**
+ * WatchListImportFormat - 一括取り込みの入力の形式
+ *
+ * どちらの形式も1件（1行）がタイトル・シリーズ・エピソードと、エピソードに追加する視聴ページURL・視聴記録を表し、
+ * 項目名は title, series, episode, watchPageUrl, watchedAt, rating, comment です（CSV はヘッダー行で指定）。
+ */
+public enum WatchListImportFormat {
+    /** 改行区切り JSON（1行に1オブジェクト） */
+    NDJSON("application/x-ndjson"),
+    /** ヘッダー行付きの CSV（RFC 4180） */
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    WatchListImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Content-Type から形式を判定します（charset などのパラメータは無視）
+     *
+     * @param contentType Content-Type（null 可）
+     * @return 形式（対応していない場合は空）
+     */
+    public static Optional<WatchListImportFormat> fromContentType(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        String mediaType = contentType.split(";", 2)[0].trim();
+        for (WatchListImportFormat format : values()) {
+            if (format.mediaType.equalsIgnoreCase(mediaType)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
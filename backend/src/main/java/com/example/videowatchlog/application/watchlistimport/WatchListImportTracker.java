@@ -0,0 +1,149 @@
+package com.example.videowatchlog.application.watchlistimport;
+
+import com.example.videowatchlog.application.dto.WatchListImportProgressDTO;
+import com.example.videowatchlog.application.dto.WatchListImportProgressDTO.Phase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WatchListImportTracker - このプロセスで実行中の一括取り込みの進捗を管理する
+ *
+ * 取り込みは1リクエストの中で行われるため、結果はそのリクエストの応答で返ります。
+ * 実行中の進捗（段階・読み込んだ行数）は GET /imports で別のリクエストから確認できます。
+ * 終了した取り込みも直近 MAX_FINISHED 件まで残します。
+ *
+ * 進捗はログにも出力します（progressInterval 行ごと、および段階が変わるたび）。
+ */
+@Component
+public class WatchListImportTracker {
+    private static final Logger log = LoggerFactory.getLogger(WatchListImportTracker.class);
+
+    /** 残しておく終了した取り込みの数 */
+    static final int MAX_FINISHED = 20;
+
+    private final long progressInterval;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Job> running = new ConcurrentHashMap<>();
+    /** 終了した取り込み（新しい順） */
+    private final Deque<WatchListImportProgressDTO> finished = new ArrayDeque<>();
+
+    public WatchListImportTracker(@Value("${watch-list-import.progress-interval:10000}") long progressInterval) {
+        if (progressInterval < 1) {
+            throw new IllegalArgumentException("Progress interval must be positive: " + progressInterval);
+        }
+        this.progressInterval = progressInterval;
+    }
+
+    /**
+     * 取り込みの開始を記録します
+     *
+     * @param format 入力の形式
+     * @return 取り込みの進捗（終了時に finish を呼び出すこと）
+     */
+    public Job start(WatchListImportFormat format) {
+        Job job = new Job(sequence.incrementAndGet(), format);
+        running.put(job.id, job);
+        log.info("Watch list import {} started ({})", job.id, format);
+        return job;
+    }
+
+    /**
+     * 実行中の取り込み（開始順）と、終了した取り込み（新しい順）の進捗を返します
+     *
+     * @return 進捗
+     */
+    public List<WatchListImportProgressDTO> list() {
+        List<WatchListImportProgressDTO> progress = new ArrayList<>();
+        running.values().stream()
+                .sorted(Comparator.comparingLong(job -> job.id))
+                .forEach(job -> progress.add(job.snapshot(null)));
+        synchronized (finished) {
+            progress.addAll(finished);
+        }
+        return progress;
+    }
+
+    /**
+     * 1件の取り込みの進捗
+     * 更新は取り込みを実行するスレッドだけが行い、ほかのスレッドからは snapshot で読み取ります。
+     */
+    public final class Job {
+        private final long id;
+        private final WatchListImportFormat format;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong rowsRejected = new AtomicLong();
+        private volatile Phase phase = Phase.STAGING;
+
+        private Job(long id, WatchListImportFormat format) {
+            this.id = id;
+            this.format = format;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * 1行を読み込んだことを記録します
+         *
+         * @param rejected 不正なため取り込まない行の場合は true
+         */
+        public void rowRead(boolean rejected) {
+            long read = rowsRead.incrementAndGet();
+            if (rejected) {
+                rowsRejected.incrementAndGet();
+            }
+            if (read % progressInterval == 0) {
+                log.info("Watch list import {}: {} rows read, {} rejected", id, read, rowsRejected.get());
+            }
+        }
+
+        /**
+         * 読み込みを終え、統合を始めたことを記録します
+         */
+        public void merging() {
+            phase = Phase.MERGING;
+            log.info("Watch list import {}: merging {} rows ({} rejected)",
+                    id, rowsRead.get() - rowsRejected.get(), rowsRejected.get());
+        }
+
+        /**
+         * 取り込みの終了を記録します
+         *
+         * @param committed コミットした場合は true（ロールバックした場合は false）
+         */
+        public void finish(boolean committed) {
+            if (running.remove(id) == null) {
+                return;
+            }
+            phase = committed ? Phase.COMPLETED : Phase.FAILED;
+            WatchListImportProgressDTO snapshot = snapshot(LocalDateTime.now());
+            synchronized (finished) {
+                finished.addFirst(snapshot);
+                while (finished.size() > MAX_FINISHED) {
+                    finished.removeLast();
+                }
+            }
+            log.info("Watch list import {} {}: {} rows read, {} rejected",
+                    id, committed ? "completed" : "failed", rowsRead.get(), rowsRejected.get());
+        }
+
+        private WatchListImportProgressDTO snapshot(LocalDateTime finishedAt) {
+            return new WatchListImportProgressDTO(id, format.name(), phase, rowsRead.get(), rowsRejected.get(),
+                    startedAt, finishedAt);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.videowatchlog.application.watchlistimport;
+
+/**
+ * WatchListLine - 入力から読み込んだ1件（未検証の文字列のまま）
+ *
+ * 形式として読み込めなかった場合は error に理由を持ちます。
+ */
+public class WatchListLine {
+    private final long lineNumber;
+    private final String title;
+    private final String series;
+    private final String episode;
+    private final String watchPageUrl;
+    private final String watchedAt;
+    private final String rating;
+    private final String comment;
+    private final String error;
+
+    public WatchListLine(long lineNumber, String title, String series, String episode, String watchPageUrl,
+                         String watchedAt, String rating, String comment) {
+        this(lineNumber, title, series, episode, watchPageUrl, watchedAt, rating, comment, null);
+    }
+
+    private WatchListLine(long lineNumber, String title, String series, String episode, String watchPageUrl,
+                          String watchedAt, String rating, String comment, String error) {
+        this.lineNumber = lineNumber;
+        this.title = title;
+        this.series = series;
+        this.episode = episode;
+        this.watchPageUrl = watchPageUrl;
+        this.watchedAt = watchedAt;
+        this.rating = rating;
+        this.comment = comment;
+        this.error = error;
+    }
+
+    /**
+     * 形式として読み込めなかった行を作成します
+     *
+     * @param lineNumber 行番号
+     * @param error 理由
+     * @return 読み込めなかった行
+     */
+    public static WatchListLine malformed(long lineNumber, String error) {
+        return new WatchListLine(lineNumber, null, null, null, null, null, null, null, error);
+    }
+
+    /**
+     * 入力中の行番号（1始まり、複数行にわたる CSV のレコードは開始行）
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getSeries() {
+        return series;
+    }
+
+    public String getEpisode() {
+        return episode;
+    }
+
+    public String getWatchPageUrl() {
+        return watchPageUrl;
+    }
+
+    public String getWatchedAt() {
+        return watchedAt;
+    }
+
+    public String getRating() {
+        return rating;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    /**
+     * 形式として読み込めなかった理由（読み込めた場合は null）
+     */
+    public String getError() {
+        return error;
+    }
+}
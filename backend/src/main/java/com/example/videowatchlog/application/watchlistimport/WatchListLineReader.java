@@ -0,0 +1,48 @@
+package com.example.videowatchlog.application.watchlistimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * WatchListLineReader - 一括取り込みの入力を1件ずつ読み込む
+ *
+ * 入力全体をメモリに読み込まず、呼び出しごとに次の1件だけを読み込みます。
+ * 1件の長さは MAX_LINE_LENGTH 文字までで、超える行は読み飛ばして不正な行として返します。
+ */
+public interface WatchListLineReader extends Closeable {
+    /** 1件（NDJSON の1行、CSV の1レコード）の最大文字数 */
+    int MAX_LINE_LENGTH = 65_536;
+
+    /**
+     * 次の1件を読み込みます（空行は読み飛ばす）
+     *
+     * @return 読み込んだ1件（入力の終わりに達した場合は null）
+     * @throws IOException 入力を読み込めない場合
+     */
+    WatchListLine read() throws IOException;
+
+    /**
+     * 入力（UTF-8）を指定の形式で読み込む WatchListLineReader を作成します
+     *
+     * @param format 入力の形式
+     * @param input 入力
+     * @param objectMapper NDJSON の読み込みに使う ObjectMapper
+     * @return WatchListLineReader
+     * @throws IOException 入力を読み込めない場合
+     * @throws IllegalStateException CSV のヘッダー行が不正な場合
+     */
+    static WatchListLineReader open(WatchListImportFormat format, InputStream input, ObjectMapper objectMapper)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return switch (format) {
+            case NDJSON -> new NdjsonWatchListLineReader(reader, objectMapper);
+            case CSV -> new CsvWatchListLineReader(reader);
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.videowatchlog.config;
+
+import com.example.videowatchlog.infrastructure.persistence.MyBatisStatementMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MyBatisMetricsConfig - MyBatis のステートメントごとのメトリクスを登録する
+ *
+ * Interceptor の Bean は MyBatis の自動設定が SqlSessionFactory のプラグインとして登録します
+ * （MyBatisBatchWriter が開くバッチ用のセッションも同じ SqlSessionFactory のため対象になります）。
+ * メトリクスは /actuator/prometheus（mybatis_statement_seconds・mybatis_statement_rows）と
+ * /actuator/metrics/mybatis.statement で確認できます。
+ * mybatis-metrics.enabled=false で無効にできます。
+ */
+@Configuration
+@ConditionalOnProperty(name = "mybatis-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MyBatisMetricsConfig {
+
+    @Bean
+    public MyBatisStatementMetricsInterceptor myBatisStatementMetricsInterceptor(MeterRegistry meterRegistry) {
+        return new MyBatisStatementMetricsInterceptor(meterRegistry);
+    }
+}
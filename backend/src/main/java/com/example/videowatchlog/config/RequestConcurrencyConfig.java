@@ -0,0 +1,84 @@
+package com.example.videowatchlog.config;
+
+import com.example.videowatchlog.presentation.filter.RequestConcurrencyLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * RequestConcurrencyConfig - 仮想スレッドでリクエストを処理する場合の同時処理数の上限を登録する
+ *
+ * spring.threads.virtual.enabled=true の場合だけ有効です（プラットフォームスレッドの場合は
+ * Tomcat の max-threads が同時処理数の上限になります）。
+ * 上限は request-concurrency.max-concurrent-requests、0 の場合はコネクションプールの最大数から
+ * request-concurrency.reserved-connections を引いた数です。
+ * コネクションプールはリクエスト以外の処理とも共有しています。
+ * - 起動完了時（ApplicationReadyEvent）の検索索引の構築
+ * - 他のプロセスの変更の通知を受け取るスレッドでの、索引の読み直し・構築し直し
+ * これらの分（reserved-connections）をリクエストの上限から除くことで、リクエストは同時に1つのコネクションしか
+ * 使わないため、リクエスト以外の処理が予約分を超えない限り Hikari でのコネクションの待ちは発生せず、
+ * 空きを待つのは仮想スレッドでも待ち合わせられるこのフィルターだけになります。
+ * （HikariCP はコネクションを待っているスレッドがいる間、返却するスレッドが Thread.yield で受け渡しを繰り返すため、
+ * 仮想スレッドが Hikari で待つと、待っているスレッドに実行の順番が回らず処理が止まることがあります）
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class RequestConcurrencyConfig {
+    private static final Logger log = LoggerFactory.getLogger(RequestConcurrencyConfig.class);
+
+    @Bean
+    @ConditionalOnProperty(name = "request-concurrency.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RequestConcurrencyLimitFilter> requestConcurrencyLimitFilter(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${request-concurrency.max-concurrent-requests:0}") int maxConcurrentRequests,
+            @Value("${request-concurrency.reserved-connections:2}") int reservedConnections,
+            @Value("${request-concurrency.max-wait:5s}") Duration maxWait) throws SQLException {
+        int limit = maxConcurrentRequests > 0
+                ? maxConcurrentRequests
+                : defaultLimit(maximumPoolSize(dataSource), reservedConnections);
+        RequestConcurrencyLimitFilter filter = new RequestConcurrencyLimitFilter(limit, maxWait, objectMapper);
+        log.info("Request concurrency limited to {} (max wait {})", limit, maxWait);
+
+        Gauge.builder("http.server.requests.concurrency.active", filter, RequestConcurrencyLimitFilter::getActiveRequests)
+                .description("Requests being processed under the concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("http.server.requests.concurrency.waiting", filter, RequestConcurrencyLimitFilter::getWaitingRequests)
+                .description("Requests waiting for the concurrency limit")
+                .register(meterRegistry);
+
+        return new FilterRegistrationBean<>(filter);
+    }
+
+    /**
+     * 既定の上限（コネクションプールの最大数から、リクエスト以外の処理の分を除いた数）
+     */
+    static int defaultLimit(int maximumPoolSize, int reservedConnections) {
+        if (reservedConnections < 0 || reservedConnections >= maximumPoolSize) {
+            throw new IllegalStateException("request-concurrency.reserved-connections must be between 0 and "
+                    + (maximumPoolSize - 1) + " for a pool of " + maximumPoolSize + ": " + reservedConnections);
+        }
+        return maximumPoolSize - reservedConnections;
+    }
+
+    private static int maximumPoolSize(DataSource dataSource) throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            throw new IllegalStateException(
+                    "request-concurrency.max-concurrent-requests must be set when the DataSource is not a HikariDataSource");
+        }
+        return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+    }
+}
@@ -15,6 +15,13 @@ import java.util.Objects;
  * - Watch status starts as UNWATCHED
  * - Once WATCHED, cannot be changed back to UNWATCHED (except when all viewing records are deleted)
  * - Deleting an episode cascades to all ViewingRecords
+ *
+ * Change tracking:
+ * - WatchPageUrls and ViewingRecords added / removed since the episode was loaded (or last saved)
+ *   are tracked so that the repository can persist only the delta.
+ * - A change in the order of the WatchPageUrls is tracked as a reorder; the repository then rewrites
+ *   all of them, since the persisted order is the insertion order.
+ * - The lists passed to the constructor are treated as the persisted state.
  */
 public class Episode {
     private final Long id;
@@ -26,6 +33,13 @@ public class Episode {
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // Changes not yet persisted (in the order they were made)
+    private final List<WatchPageUrl> addedWatchPageUrls = new ArrayList<>();
+    private final List<WatchPageUrl> removedWatchPageUrls = new ArrayList<>();
+    private boolean watchPageUrlsReordered;
+    private final List<ViewingRecord> addedViewingRecords = new ArrayList<>();
+    private final List<ViewingRecord> removedViewingRecords = new ArrayList<>();
+
     /**
      * Constructor for Episode entity.
      *
@@ -132,6 +146,7 @@ public class Episode {
         Objects.requireNonNull(url, "WatchPageUrl must not be null");
         if (!this.watchPageUrls.contains(url)) {
             this.watchPageUrls.add(url);
+            trackAdded(url, addedWatchPageUrls, removedWatchPageUrls);
         }
     }
 
@@ -141,7 +156,34 @@ public class Episode {
      * @param url Watch page URL to remove
      */
     public void removeWatchPageUrl(WatchPageUrl url) {
-        this.watchPageUrls.remove(url);
+        if (this.watchPageUrls.remove(url)) {
+            trackRemoved(url, addedWatchPageUrls, removedWatchPageUrls);
+        }
+    }
+
+    /**
+     * Replaces the watch page URLs.
+     * The resulting list follows the given order (duplicates are ignored). If URLs kept from the current
+     * list change their relative position, the change is tracked as a reorder.
+     *
+     * @param urls New watch page URLs
+     */
+    public void replaceWatchPageUrls(List<WatchPageUrl> urls) {
+        Objects.requireNonNull(urls, "urls must not be null");
+        for (WatchPageUrl url : new ArrayList<>(this.watchPageUrls)) {
+            if (!urls.contains(url)) {
+                removeWatchPageUrl(url);
+            }
+        }
+        for (WatchPageUrl url : urls) {
+            addWatchPageUrl(url);
+        }
+        List<WatchPageUrl> requested = urls.stream().distinct().toList();
+        if (!this.watchPageUrls.equals(requested)) {
+            this.watchPageUrls.clear();
+            this.watchPageUrls.addAll(requested);
+            this.watchPageUrlsReordered = true;
+        }
     }
 
     /**
@@ -154,6 +196,7 @@ public class Episode {
         Objects.requireNonNull(record, "ViewingRecord must not be null");
         if (!this.viewingRecords.contains(record)) {
             this.viewingRecords.add(record);
+            trackAdded(record, addedViewingRecords, removedViewingRecords);
 
             // Auto-update watch status to WATCHED
             if (this.watchStatus != WatchStatus.WATCHED) {
@@ -170,7 +213,9 @@ public class Episode {
      * @param record Viewing record to remove
      */
     public void removeViewingRecord(ViewingRecord record) {
-        this.viewingRecords.remove(record);
+        if (this.viewingRecords.remove(record)) {
+            trackRemoved(record, addedViewingRecords, removedViewingRecords);
+        }
         // If all viewing records are deleted, revert to UNWATCHED
         if (this.viewingRecords.isEmpty()) {
             this.watchStatus = WatchStatus.UNWATCHED;
@@ -196,6 +241,32 @@ public class Episode {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Clears the tracked changes.
+     * Called by the repository after the changes have been persisted.
+     */
+    public void clearChanges() {
+        addedWatchPageUrls.clear();
+        removedWatchPageUrls.clear();
+        watchPageUrlsReordered = false;
+        addedViewingRecords.clear();
+        removedViewingRecords.clear();
+    }
+
+    private static <T> void trackAdded(T element, List<T> added, List<T> removed) {
+        // Re-adding an element removed since the last save cancels the removal
+        if (!removed.remove(element)) {
+            added.add(element);
+        }
+    }
+
+    private static <T> void trackRemoved(T element, List<T> added, List<T> removed) {
+        // Removing an element added since the last save cancels the addition
+        if (!added.remove(element)) {
+            removed.add(element);
+        }
+    }
+
     // Getters
     public Long getId() {
         return id;
@@ -221,6 +292,41 @@ public class Episode {
         return new ArrayList<>(viewingRecords);
     }
 
+    /**
+     * @return Watch page URLs added since the episode was loaded or last saved
+     */
+    public List<WatchPageUrl> getAddedWatchPageUrls() {
+        return new ArrayList<>(addedWatchPageUrls);
+    }
+
+    /**
+     * @return Watch page URLs removed since the episode was loaded or last saved
+     */
+    public List<WatchPageUrl> getRemovedWatchPageUrls() {
+        return new ArrayList<>(removedWatchPageUrls);
+    }
+
+    /**
+     * @return true if the order of the watch page URLs changed since the episode was loaded or last saved
+     */
+    public boolean isWatchPageUrlsReordered() {
+        return watchPageUrlsReordered;
+    }
+
+    /**
+     * @return Viewing records added since the episode was loaded or last saved
+     */
+    public List<ViewingRecord> getAddedViewingRecords() {
+        return new ArrayList<>(addedViewingRecords);
+    }
+
+    /**
+     * @return Viewing records removed since the episode was loaded or last saved
+     */
+    public List<ViewingRecord> getRemovedViewingRecords() {
+        return new ArrayList<>(removedViewingRecords);
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,49 @@
+package com.example.videowatchlog.domain.repository;
+
+/**
+ * EpisodeCompletion - エピソードの一括視聴完了の1件分の結果
+ *
+ * 視聴完了（UNWATCHED → WATCHED と最初の視聴記録の作成）は未視聴のエピソードにだけ行われ、
+ * 既に視聴済みのエピソード・存在しないエピソードは変更されません。
+ */
+public class EpisodeCompletion {
+    /**
+     * 1件分の結果
+     */
+    public enum Outcome {
+        /** 視聴済みにし、視聴記録を作成した */
+        COMPLETED,
+        /** 既に視聴済みのため変更しなかった */
+        ALREADY_WATCHED,
+        /** エピソードが存在しない */
+        NOT_FOUND
+    }
+
+    private final Long episodeId;
+    private final Long titleId;
+    private final Outcome outcome;
+
+    public EpisodeCompletion(Long episodeId, Long titleId, Outcome outcome) {
+        if (episodeId == null || outcome == null) {
+            throw new IllegalArgumentException("episodeId and outcome must not be null");
+        }
+        this.episodeId = episodeId;
+        this.titleId = titleId;
+        this.outcome = outcome;
+    }
+
+    public Long getEpisodeId() {
+        return episodeId;
+    }
+
+    /**
+     * エピソードが属するタイトルのID（エピソードが存在しない場合は null）
+     */
+    public Long getTitleId() {
+        return titleId;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+}
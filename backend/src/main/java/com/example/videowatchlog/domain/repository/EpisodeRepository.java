@@ -1,6 +1,7 @@
 package com.example.videowatchlog.domain.repository;
 
 import com.example.videowatchlog.domain.model.Episode;
+import com.example.videowatchlog.domain.model.ViewingRecord;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +32,21 @@ public interface EpisodeRepository {
      */
     Episode save(Episode episode);
 
+    /**
+     * 新規の Episode（視聴ページURL・視聴履歴を含む）をまとめて保存します
+     * 既存の Episode の更新には save を使います
+     * @param episodes 保存する新規の Episode
+     */
+    void addAll(List<Episode> episodes);
+
+    /**
+     * 未視聴の Episode をまとめて視聴済みにし、それぞれの最初の視聴記録を保存します
+     * 既に視聴済み・存在しない Episode は変更せず、結果で区別します
+     * @param firstRecords 各 Episode の最初の視聴記録（視聴記録の Episode ID が対象。重複しないこと）
+     * @return Episode ごとの結果（順不同）
+     */
+    List<EpisodeCompletion> markAllAsWatched(List<ViewingRecord> firstRecords);
+
     /**
      * IDで Episode を削除します（カスケード削除）
      * @param id 削除する Episode ID
@@ -2,6 +2,7 @@ package com.example.videowatchlog.domain.repository;
 
 import com.example.videowatchlog.domain.model.Title;
 import com.example.videowatchlog.domain.model.WatchStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,10 +46,35 @@ public interface TitleRepository {
     boolean existsByName(String name);
 
     /**
-     * タイトルを検索します
+     * タイトルを検索します（キーセットページング）
+     *
+     * query を指定した場合は、タイトル名に部分一致するタイトルと、単語類似度がしきい値以上のタイトルを
+     * (rank, createdAt, id) の降順で返します。query が null の場合は (createdAt, id) の降順です。
+     *
      * @param query 検索クエリ (null の場合は全タイトル)
-     * @param watchStatus 視聴状態でのフィルタリング (null の場合はフィルタリングなし)
-     * @return 条件にマッチした Title リスト
+     * @param watchStatus 視聴状態でのフィルタリング（その視聴状態のエピソードを1件以上持つタイトルのみ。
+     *                    null の場合はフィルタリングなしで、エピソードのないタイトルも含む）
+     * @param afterRank 開始位置の rank (query を指定した場合のみ使用、null の場合は先頭から)
+     * @param afterCreatedAt このタイトルより後ろを返す開始位置の作成日時 (null の場合は先頭から)
+     * @param afterId このタイトルより後ろを返す開始位置のID (null の場合は先頭から)
+     * @param limit 最大件数
+     * @return 条件にマッチしたタイトルと rank のリスト
      */
-    List<Title> search(String query, WatchStatus watchStatus);
+    List<TitleSearchHit> search(String query, WatchStatus watchStatus,
+                                Float afterRank, LocalDateTime afterCreatedAt, Long afterId, int limit);
+
+    /**
+     * タイトル名に部分一致せず、単語類似度がしきい値以上のタイトルだけを検索します（キーセットページング）
+     *
+     * search の類似の部分と同じ条件・rank（単語類似度、0〜1）で、(rank, createdAt, id) の降順に返します。
+     * メモリ上の検索索引に部分一致がない場合に、類似のタイトルを求めるために使用します。
+     *
+     * @param query 検索クエリ
+     * @param afterRank 開始位置の rank (null の場合は先頭から)
+     * @param afterCreatedAt 開始位置の作成日時 (null の場合は先頭から)
+     * @param afterId 開始位置のID (null の場合は先頭から)
+     * @param limit 最大件数
+     * @return 条件にマッチしたタイトルと rank のリスト
+     */
+    List<TitleSearchHit> searchSimilar(String query, Float afterRank, LocalDateTime afterCreatedAt, Long afterId, int limit);
 }
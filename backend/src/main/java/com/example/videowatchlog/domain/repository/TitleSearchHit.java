@@ -0,0 +1,32 @@
+package com.example.videowatchlog.domain.repository;
+
+import com.example.videowatchlog.domain.model.Title;
+
+/**
+ * TitleSearchHit - タイトル検索の1件分の結果
+ *
+ * 検索クエリを指定した場合、結果は関連度（rank）の降順に並びます。
+ * rank はタイトル名に検索クエリを部分文字列として含む場合 1 + 単語類似度、
+ * 含まずに類似しているだけの場合は単語類似度（0〜1）です。
+ * 検索クエリを指定しない場合 rank は null です。
+ */
+public class TitleSearchHit {
+    private final Title title;
+    private final Float rank;
+
+    public TitleSearchHit(Title title, Float rank) {
+        if (title == null) {
+            throw new IllegalArgumentException("title must not be null");
+        }
+        this.title = title;
+        this.rank = rank;
+    }
+
+    public Title getTitle() {
+        return title;
+    }
+
+    public Float getRank() {
+        return rank;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.videowatchlog.domain.repository;
+
+import java.util.Iterator;
+
+/**
+ * WatchListImportRepository インターフェース
+ *
+ * 視聴リスト（タイトル・シリーズ・エピソード・視聴ページURL・視聴記録）の一括取り込みを行います。
+ * 行を1件ずつ集約として保存するのではなく、一時的な取り込み用テーブルに読み込んでから
+ * 既存のデータにまとめて統合します。stage と merge は同じトランザクション内で順に呼び出します。
+ */
+public interface WatchListImportRepository {
+    /**
+     * 行を取り込み用のテーブルに読み込みます
+     * 行は1件ずつ送られ、メモリ上に保持されません。
+     *
+     * @param rows 検証済みの行
+     * @return 読み込んだ行数
+     */
+    long stage(Iterator<WatchListImportRow> rows);
+
+    /**
+     * 読み込んだ行を既存のデータに統合し、取り込み用のテーブルを破棄します
+     *
+     * - タイトルは名前（大文字・小文字を区別しない）、シリーズはタイトルと名前、エピソードはシリーズと
+     *   エピソード情報で既存のものと照合し、なければ作成する
+     * - 視聴ページURL・視聴記録は同じものがなければ追加する（視聴記録は視聴日時が同じものを同じとみなす）。
+     *   そのため、同じ入力を再度取り込んでもデータは変わらない
+     * - 視聴記録を追加したエピソードは視聴済みにする
+     *
+     * @return 統合の結果
+     */
+    WatchListMergeResult merge();
+}
@@ -0,0 +1,80 @@
+package com.example.videowatchlog.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * WatchListImportRow - 視聴リストの一括取り込みの1行（検証済み）
+ *
+ * 1行はタイトル・シリーズ・エピソードのパスと、エピソードに追加する視聴ページURL・視聴記録を表します。
+ * 値はドメインモデル（Title, Series, Episode, WatchPageUrl, ViewingRecord）の規則で検証済みであること。
+ *
+ * - seriesName が null の行はタイトルだけを取り込む（空文字はデフォルトシリーズ）
+ * - episodeInfo が null の行はエピソードを取り込まない（空文字はデフォルトエピソード）
+ * - watchedAt がある行は視聴記録を追加し、エピソードを視聴済みにする
+ */
+public class WatchListImportRow {
+    private final long lineNumber;
+    private final String titleName;
+    private final String seriesName;
+    private final String episodeInfo;
+    private final String watchPageUrl;
+    private final LocalDateTime watchedAt;
+    private final Integer rating;
+    private final String comment;
+
+    public WatchListImportRow(long lineNumber, String titleName, String seriesName, String episodeInfo,
+                              String watchPageUrl, LocalDateTime watchedAt, Integer rating, String comment) {
+        if (titleName == null) {
+            throw new IllegalArgumentException("titleName must not be null");
+        }
+        if (seriesName == null && episodeInfo != null) {
+            throw new IllegalArgumentException("episodeInfo requires seriesName");
+        }
+        if (episodeInfo == null && (watchPageUrl != null || watchedAt != null)) {
+            throw new IllegalArgumentException("watchPageUrl and watchedAt require episodeInfo");
+        }
+        this.lineNumber = lineNumber;
+        this.titleName = titleName;
+        this.seriesName = seriesName;
+        this.episodeInfo = episodeInfo;
+        this.watchPageUrl = watchPageUrl;
+        this.watchedAt = watchedAt;
+        this.rating = rating;
+        this.comment = comment;
+    }
+
+    /**
+     * 入力中の行番号（1始まり）
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getTitleName() {
+        return titleName;
+    }
+
+    public String getSeriesName() {
+        return seriesName;
+    }
+
+    public String getEpisodeInfo() {
+        return episodeInfo;
+    }
+
+    public String getWatchPageUrl() {
+        return watchPageUrl;
+    }
+
+    public LocalDateTime getWatchedAt() {
+        return watchedAt;
+    }
+
+    public Integer getRating() {
+        return rating;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.videowatchlog.domain.repository;
+
+import com.example.videowatchlog.domain.model.Title;
+
+import java.util.List;
+
+/**
+ * WatchListMergeResult - 一括取り込みの行を既存のデータに統合した結果
+ *
+ * 件数のほか、Read Model（キャッシュ・検索索引）へ反映するための ID を含みます。
+ * ID の数は取り込んだ行数ではなく、対象になったタイトル・既存のエピソードの数に比例します。
+ */
+public class WatchListMergeResult {
+    private final List<Title> createdTitles;
+    private final int seriesCreated;
+    private final int episodesCreated;
+    private final int watchPageUrlsAdded;
+    private final int viewingRecordsAdded;
+    private final List<Long> titleIds;
+    private final List<Long> updatedEpisodeIds;
+
+    public WatchListMergeResult(List<Title> createdTitles, int seriesCreated, int episodesCreated,
+                                int watchPageUrlsAdded, int viewingRecordsAdded,
+                                List<Long> titleIds, List<Long> updatedEpisodeIds) {
+        this.createdTitles = List.copyOf(createdTitles);
+        this.seriesCreated = seriesCreated;
+        this.episodesCreated = episodesCreated;
+        this.watchPageUrlsAdded = watchPageUrlsAdded;
+        this.viewingRecordsAdded = viewingRecordsAdded;
+        this.titleIds = List.copyOf(titleIds);
+        this.updatedEpisodeIds = List.copyOf(updatedEpisodeIds);
+    }
+
+    /**
+     * 新規に作成したタイトル
+     */
+    public List<Title> getCreatedTitles() {
+        return createdTitles;
+    }
+
+    public int getSeriesCreated() {
+        return seriesCreated;
+    }
+
+    public int getEpisodesCreated() {
+        return episodesCreated;
+    }
+
+    public int getWatchPageUrlsAdded() {
+        return watchPageUrlsAdded;
+    }
+
+    public int getViewingRecordsAdded() {
+        return viewingRecordsAdded;
+    }
+
+    /**
+     * 取り込みの対象になったタイトル（新規・既存）のID
+     */
+    public List<Long> getTitleIds() {
+        return titleIds;
+    }
+
+    /**
+     * 視聴ページURL・視聴記録を追加した既存のエピソードのID
+     */
+    public List<Long> getUpdatedEpisodeIds() {
+        return updatedEpisodeIds;
+    }
+}
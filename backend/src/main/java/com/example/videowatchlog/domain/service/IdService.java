@@ -1,5 +1,8 @@
 package com.example.videowatchlog.domain.service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * IdService - エンティティID采番の基本仕様
  *
@@ -14,4 +17,18 @@ public interface IdService {
      * @return 采番されたID
      */
     Long generateId();
+
+    /**
+     * 新規エンティティのIDをまとめて生成します（一括作成用）
+     *
+     * @param count 件数
+     * @return 采番されたID（count 件）
+     */
+    default List<Long> generateIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(generateId());
+        }
+        return ids;
+    }
 }
@@ -1,8 +1,12 @@
 package com.example.videowatchlog.infrastructure.persistence;
 
+import com.example.videowatchlog.infrastructure.persistence.entity.EpisodeCompletionEntity;
 import com.example.videowatchlog.infrastructure.persistence.entity.EpisodeEntity;
+import com.example.videowatchlog.infrastructure.persistence.entity.ViewingRecordEntity;
+import com.example.videowatchlog.infrastructure.persistence.entity.WatchPageUrlEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,9 +32,19 @@ public interface EpisodeMapper {
     void insert(EpisodeEntity episodeEntity);
 
     /**
-     * エピソードを更新します
+     * エピソードを保存します（存在しなければ挿入、存在すれば更新する1ステートメント）
      */
-    void update(EpisodeEntity episodeEntity);
+    void upsert(EpisodeEntity episodeEntity);
+
+    /**
+     * 未視聴のエピソードを視聴済みにし、最初の視聴記録を挿入します（1ステートメント）
+     *
+     * @param records 各エピソードの最初の視聴記録（エピソードIDは重複しないこと）
+     * @param updatedAt 視聴済みにしたエピソードの更新日時
+     * @return エピソードごとの結果（順不同）
+     */
+    List<EpisodeCompletionEntity> completeAll(@Param("records") List<ViewingRecordEntity> records,
+                                              @Param("updatedAt") LocalDateTime updatedAt);
 
     /**
      * エピソードを削除します
@@ -43,12 +57,17 @@ public interface EpisodeMapper {
     List<com.example.videowatchlog.domain.model.WatchPageUrl> selectWatchPageUrlsByEpisodeId(@Param("id") Long episodeId);
 
     /**
-     * 視聴ページURLを挿入します
+     * シリーズに属する全エピソードの視聴ページURLを1クエリで取得します（episode_id, id 順）
+     */
+    List<WatchPageUrlEntity> selectWatchPageUrlsBySeriesId(@Param("seriesId") Long seriesId);
+
+    /**
+     * 視聴ページURLを挿入します（複数件は MyBatisBatchWriter でバッチ実行する）
      */
     void insertWatchPageUrl(@Param("episodeId") Long episodeId, @Param("url") String url);
 
     /**
-     * エピソードIDで視聴ページURLを全削除します
+     * エピソードの視聴ページURLのうち、指定したURLを1ステートメントで削除します
      */
-    void deleteWatchPageUrlsByEpisodeId(@Param("episodeId") Long episodeId);
+    void deleteWatchPageUrls(@Param("episodeId") Long episodeId, @Param("urls") String[] urls);
 }
@@ -3,12 +3,21 @@ package com.example.videowatchlog.infrastructure.persistence;
 import com.example.videowatchlog.domain.model.Episode;
 import com.example.videowatchlog.domain.model.ViewingRecord;
 import com.example.videowatchlog.domain.model.WatchPageUrl;
+import com.example.videowatchlog.domain.repository.EpisodeCompletion;
 import com.example.videowatchlog.domain.repository.EpisodeRepository;
+import com.example.videowatchlog.infrastructure.persistence.entity.EpisodeCompletionEntity;
 import com.example.videowatchlog.infrastructure.persistence.entity.EpisodeEntity;
+import com.example.videowatchlog.infrastructure.persistence.entity.ViewingRecordEntity;
+import com.example.videowatchlog.infrastructure.persistence.entity.WatchPageUrlEntity;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * EpisodeRepositoryImpl - Repository 実装
@@ -17,10 +26,15 @@ import java.util.Optional;
 public class EpisodeRepositoryImpl implements EpisodeRepository {
     private final EpisodeMapper episodeMapper;
     private final ViewingRecordMapper viewingRecordMapper;
+    private final MyBatisBatchWriter batchWriter;
 
-    public EpisodeRepositoryImpl(EpisodeMapper episodeMapper, ViewingRecordMapper viewingRecordMapper) {
+    public EpisodeRepositoryImpl(
+            EpisodeMapper episodeMapper,
+            ViewingRecordMapper viewingRecordMapper,
+            MyBatisBatchWriter batchWriter) {
         this.episodeMapper = episodeMapper;
         this.viewingRecordMapper = viewingRecordMapper;
+        this.batchWriter = batchWriter;
     }
 
     @Override
@@ -40,76 +54,137 @@ public class EpisodeRepositoryImpl implements EpisodeRepository {
                 });
     }
 
+    /**
+     * シリーズに属するエピソードを、視聴ページURL・視聴履歴まで含めて取得します
+     *
+     * 子要素はエピソードごとではなくシリーズ単位で一括取得し、メモリ上で episode_id ごとに振り分けます。
+     * 発行されるクエリはエピソード件数に関わらず3回（エピソード・URL・視聴履歴）です。
+     */
     @Override
     public List<Episode> findBySeriesId(Long seriesId) {
-        return episodeMapper.findBySeriesId(seriesId)
-                .stream()
-                .map(entity -> {
-                    // Load WatchPageUrls
-                    List<WatchPageUrl> watchPageUrls = episodeMapper.selectWatchPageUrlsByEpisodeId(entity.getId());
+        List<EpisodeEntity> entities = episodeMapper.findBySeriesId(seriesId);
+        if (entities.isEmpty()) {
+            return List.of();
+        }
 
-                    // Load ViewingRecords
-                    List<ViewingRecord> viewingRecords = viewingRecordMapper.findByEpisodeId(entity.getId())
-                            .stream()
-                            .map(viewingRecordEntity -> viewingRecordEntity.toDomain())
-                            .toList();
+        Map<Long, List<WatchPageUrl>> watchPageUrlsByEpisodeId = new HashMap<>();
+        for (WatchPageUrlEntity urlEntity : episodeMapper.selectWatchPageUrlsBySeriesId(seriesId)) {
+            watchPageUrlsByEpisodeId.computeIfAbsent(urlEntity.getEpisodeId(), key -> new ArrayList<>())
+                    .add(urlEntity.toDomain());
+        }
 
-                    return entity.toDomain(watchPageUrls, viewingRecords);
-                })
+        Map<Long, List<ViewingRecord>> viewingRecordsByEpisodeId = new HashMap<>();
+        for (ViewingRecordEntity recordEntity : viewingRecordMapper.findBySeriesId(seriesId)) {
+            viewingRecordsByEpisodeId.computeIfAbsent(recordEntity.getEpisodeId(), key -> new ArrayList<>())
+                    .add(recordEntity.toDomain());
+        }
+
+        return entities.stream()
+                .map(entity -> entity.toDomain(
+                        watchPageUrlsByEpisodeId.getOrDefault(entity.getId(), List.of()),
+                        viewingRecordsByEpisodeId.getOrDefault(entity.getId(), List.of())))
                 .toList();
     }
 
+    /**
+     * エピソードを保存します
+     *
+     * エピソード行は upsert の1ステートメントで保存し、子要素（視聴ページURL・視聴履歴）は
+     * 読み込み後（または前回の保存後）に追加・削除された差分だけを、種類ごとに1ステートメント
+     * （追加は JDBC バッチ）で反映します。
+     * 視聴ページURLの並び順は挿入順（id 順）のため、並び順が変わった場合は視聴ページURLをすべて削除して
+     * 新しい順に挿入し直します。
+     * 発行されるステートメント数は変更の内容で決まり、既存の子要素の件数には依存しません。
+     */
     @Override
+    @Transactional
     public Episode save(Episode episode) {
-        EpisodeEntity entity = EpisodeEntity.fromDomain(episode);
         Long episodeId = episode.getId();
 
-        // Check if episode exists in database
-        boolean exists = episodeMapper.findById(episodeId).isPresent();
-
-        if (!exists) {
-            // Insert new episode
-            episodeMapper.insert(entity);
+        // Insert new episode or update existing episode (without a preceding existence check)
+        episodeMapper.upsert(EpisodeEntity.fromDomain(episode));
+
+        // WatchPageUrls: apply only the removed / added URLs (or rewrite all of them when reordered)
+        List<WatchPageUrl> removedUrls = episode.getRemovedWatchPageUrls();
+        if (episode.isWatchPageUrlsReordered()) {
+            // 永続化済みのURLは、現在のURLか削除されたURLのいずれかに含まれる
+            List<WatchPageUrl> currentUrls = episode.getWatchPageUrls();
+            episodeMapper.deleteWatchPageUrls(episodeId, Stream.concat(currentUrls.stream(), removedUrls.stream())
+                    .map(WatchPageUrl::getUrl).toArray(String[]::new));
+            insertWatchPageUrls(episodeId, currentUrls);
         } else {
-            // Update existing episode
-            episodeMapper.update(entity);
+            if (!removedUrls.isEmpty()) {
+                episodeMapper.deleteWatchPageUrls(episodeId,
+                        removedUrls.stream().map(WatchPageUrl::getUrl).toArray(String[]::new));
+            }
+            List<WatchPageUrl> addedUrls = episode.getAddedWatchPageUrls();
+            if (!addedUrls.isEmpty()) {
+                insertWatchPageUrls(episodeId, addedUrls);
+            }
         }
 
-        // Save WatchPageUrls: delete all and re-insert
-        episodeMapper.deleteWatchPageUrlsByEpisodeId(episodeId);
-        for (WatchPageUrl url : episode.getWatchPageUrls()) {
-            episodeMapper.insertWatchPageUrl(episodeId, url.getUrl());
+        // ViewingRecords: apply only the removed / added records
+        List<ViewingRecord> removedRecords = episode.getRemovedViewingRecords();
+        if (!removedRecords.isEmpty()) {
+            viewingRecordMapper.deleteByIds(removedRecords.stream().map(ViewingRecord::getId).toArray(Long[]::new));
         }
+        insertViewingRecords(episode.getAddedViewingRecords());
 
-        // Save ViewingRecords: handle both additions and deletions
-        List<com.example.videowatchlog.infrastructure.persistence.entity.ViewingRecordEntity> existingRecords = viewingRecordMapper.findByEpisodeId(episodeId);
-
-        // Get IDs of records in the current episode
-        List<Long> currentRecordIds = episode.getViewingRecords().stream()
-                .map(ViewingRecord::getId)
-                .toList();
+        episode.clearChanges();
+        return episode;
+    }
 
-        // Delete records that are no longer in the episode
-        for (com.example.videowatchlog.infrastructure.persistence.entity.ViewingRecordEntity record : existingRecords) {
-            if (!currentRecordIds.contains(record.getId())) {
-                viewingRecordMapper.delete(record.getId());
+    /**
+     * 新規のエピソードを、視聴ページURL・視聴履歴まで含めてまとめて保存します
+     *
+     * エピソード・URL・視聴履歴をそれぞれ JDBC バッチで挿入するため、
+     * 発行されるステートメント数はエピソードの件数に関わらず最大3回です。
+     */
+    @Override
+    @Transactional
+    public void addAll(List<Episode> episodes) {
+        batchWriter.write(EpisodeMapper.class, episodes,
+                (mapper, episode) -> mapper.insert(EpisodeEntity.fromDomain(episode)));
+
+        List<WatchPageUrlEntity> urls = new ArrayList<>();
+        List<ViewingRecord> records = new ArrayList<>();
+        for (Episode episode : episodes) {
+            for (WatchPageUrl url : episode.getWatchPageUrls()) {
+                urls.add(WatchPageUrlEntity.of(episode.getId(), url.getUrl()));
             }
+            records.addAll(episode.getViewingRecords());
         }
+        batchWriter.write(EpisodeMapper.class, urls,
+                (mapper, url) -> mapper.insertWatchPageUrl(url.getEpisodeId(), url.getUrl()));
+        insertViewingRecords(records);
 
-        // Get IDs of existing records in database
-        List<Long> existingRecordIds = existingRecords.stream()
-                .map(com.example.videowatchlog.infrastructure.persistence.entity.ViewingRecordEntity::getId)
-                .toList();
+        episodes.forEach(Episode::clearChanges);
+    }
 
-        // Insert new records that don't exist in the database yet
-        for (ViewingRecord record : episode.getViewingRecords()) {
-            if (!existingRecordIds.contains(record.getId())) {
-                viewingRecordMapper.insert(com.example.videowatchlog.infrastructure.persistence.entity.ViewingRecordEntity.fromDomain(record));
-            }
+    /**
+     * 未視聴のエピソードを視聴済みにし、最初の視聴記録を保存します
+     *
+     * 集約を読み込まず、状態の遷移（UNWATCHED → WATCHED）と視聴記録の挿入を1ステートメントで行います。
+     */
+    @Override
+    public List<EpisodeCompletion> markAllAsWatched(List<ViewingRecord> firstRecords) {
+        if (firstRecords.isEmpty()) {
+            return List.of();
         }
+        return episodeMapper.completeAll(
+                        firstRecords.stream().map(ViewingRecordEntity::fromDomain).toList(), LocalDateTime.now())
+                .stream()
+                .map(EpisodeCompletionEntity::toCompletion)
+                .toList();
+    }
 
-        // Return the saved episode
-        return episode;
+    private void insertWatchPageUrls(Long episodeId, List<WatchPageUrl> urls) {
+        batchWriter.write(EpisodeMapper.class, urls, (mapper, url) -> mapper.insertWatchPageUrl(episodeId, url.getUrl()));
+    }
+
+    private void insertViewingRecords(List<ViewingRecord> records) {
+        batchWriter.write(ViewingRecordMapper.class, records,
+                (mapper, record) -> mapper.insert(ViewingRecordEntity.fromDomain(record)));
     }
 
     @Override
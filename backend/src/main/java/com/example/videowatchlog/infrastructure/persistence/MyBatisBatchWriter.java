@@ -0,0 +1,83 @@
+package com.example.videowatchlog.infrastructure.persistence;
+
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.MyBatisExceptionTranslator;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiConsumer;
+
+/**
+ * MyBatisBatchWriter - 複数行の書き込みを JDBC バッチで実行するためのコンポーネント
+ *
+ * 通常のマッパー（SqlSessionTemplate、SIMPLE 実行）は1ステートメントごとにラウンドトリップが発生するため、
+ * 同じステートメントを多数の行に対して実行する場合はこのクラスを経由します。
+ *
+ * - ExecutorType.BATCH の SqlSession を開き、flushSize 件ごとに executeBatch で送信する
+ *   （PostgreSQL ドライバの reWriteBatchedInserts により、INSERT は複数行の VALUES に書き換えられる）
+ * - 接続は Spring が管理するため、トランザクション内ではそのトランザクションの接続で実行される
+ *   （同じトランザクションの SqlSessionTemplate は実行方式を切り替えられないため、別のセッションとして開く）
+ * - 書き込み後、同じトランザクションの SqlSessionTemplate のローカルキャッシュを破棄する
+ *   （別のセッションの書き込みはキャッシュを無効化しないため）
+ * - 直接開いたセッションの例外は SqlSessionTemplate を通らないため、SqlSessionTemplate と同じく
+ *   MyBatisExceptionTranslator で Spring の DataAccessException（一意制約違反は DuplicateKeyException など）に変換する
+ */
+@Component
+public class MyBatisBatchWriter {
+    private final SqlSessionFactory sqlSessionFactory;
+    private final SqlSessionTemplate sqlSessionTemplate;
+    private final PersistenceExceptionTranslator exceptionTranslator;
+    private final int flushSize;
+
+    public MyBatisBatchWriter(
+            SqlSessionFactory sqlSessionFactory,
+            SqlSessionTemplate sqlSessionTemplate,
+            @Value("${persistence.batch.flush-size:1000}") int flushSize) {
+        if (flushSize < 1) {
+            throw new IllegalArgumentException("Batch flush size must be positive: " + flushSize);
+        }
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.sqlSessionTemplate = sqlSessionTemplate;
+        this.exceptionTranslator = new MyBatisExceptionTranslator(
+                sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(), true);
+        this.flushSize = flushSize;
+    }
+
+    /**
+     * 各要素に対してマッパーのステートメントを JDBC バッチで実行します
+     *
+     * @param mapperType マッパーのインターフェース
+     * @param items 書き込む要素
+     * @param statement 1要素分のステートメントを呼び出す処理（戻り値は使わない）
+     * @return 書き込んだ要素の件数
+     * @throws DataAccessException 書き込みに失敗した場合
+     */
+    public <M, T> int write(Class<M> mapperType, Iterable<T> items, BiConsumer<M, T> statement) {
+        int count = 0;
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            M mapper = session.getMapper(mapperType);
+            for (T item : items) {
+                statement.accept(mapper, item);
+                count++;
+                if (count % flushSize == 0) {
+                    session.flushStatements();
+                }
+            }
+            // 残りを送る（トランザクション内ではコミットはトランザクションの完了時に行われる）
+            session.commit();
+        } catch (PersistenceException e) {
+            DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(e);
+            throw translated != null ? translated : e;
+        }
+        if (count > 0) {
+            sqlSessionTemplate.clearCache();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.videowatchlog.infrastructure.persistence;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatisStatementMetricsInterceptor - マップされたステートメントごとの実行時間と行数のメトリクス
+ *
+ * Executor の query / queryCursor / update を横取りし、ステートメントID（Mapper のインターフェース名.メソッド名、
+ * 例: TitleReadMapper.findTitleDetailById）ごとに次のメトリクスを記録します。
+ * - mybatis.statement（Timer）: 実行時間。タグは statement・command（select / insert / update / delete）・
+ *   outcome（success / error）
+ * - mybatis.statement.rows（DistributionSummary）: 1回の実行で返した行数（select）・更新した行数（insert / update / delete）
+ *
+ * - ResultHandler で受け取るクエリ（戻り値のリストが空）は、handler に渡された行を数える
+ * - Cursor で受け取るクエリは、クエリの実行（最初の行を受け取るまで）の時間だけを記録し、行数は記録しない
+ * - JDBC バッチ（ExecutorType.BATCH）の update はバッチへの追加の時間だけを記録し、行数は記録しない
+ *   （実際の送信は flushStatements で、複数のステートメントがまとめて送られる）
+ * - MyBatis のローカルキャッシュから返された結果も1回の実行として数える
+ *
+ * メーターはステートメントごとに初回の実行時に作成して保持し、2回目以降はマップの参照と
+ * System.nanoTime の2回の呼び出しだけで記録します。
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "queryCursor",
+        args = {MappedStatement.class, Object.class, RowBounds.class}),
+    @Signature(type = Executor.class, method = "update",
+        args = {MappedStatement.class, Object.class})
+})
+public class MyBatisStatementMetricsInterceptor implements Interceptor {
+    static final String TIMER_NAME = "mybatis.statement";
+    static final String ROWS_NAME = "mybatis.statement.rows";
+
+    private static final int RESULT_HANDLER_ARG_INDEX = 3;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, StatementMeters> metersByStatementId = new ConcurrentHashMap<>();
+
+    public MyBatisStatementMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        StatementMeters meters = meters((MappedStatement) args[0]);
+        String method = invocation.getMethod().getName();
+
+        CountingResultHandler countingHandler = null;
+        if (method.equals("query") && args[RESULT_HANDLER_ARG_INDEX] instanceof ResultHandler<?> handler) {
+            countingHandler = new CountingResultHandler(handler);
+            args[RESULT_HANDLER_ARG_INDEX] = countingHandler;
+        }
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            meters.errorTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        meters.successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (countingHandler != null) {
+            meters.rows.record(countingHandler.count);
+        } else if (result instanceof List<?> list) {
+            meters.rows.record(list.size());
+        } else if (result instanceof Integer updated && updated >= 0) {
+            // BatchExecutor は件数の代わりに負の値（BATCH_UPDATE_RETURN_VALUE）を返す
+            meters.rows.record(updated);
+        }
+        return result;
+    }
+
+    private StatementMeters meters(MappedStatement statement) {
+        StatementMeters meters = metersByStatementId.get(statement.getId());
+        if (meters == null) {
+            meters = metersByStatementId.computeIfAbsent(statement.getId(), id -> new StatementMeters(statement));
+        }
+        return meters;
+    }
+
+    /**
+     * ステートメントIDから、パッケージ名を除いた Mapper のインターフェース名.メソッド名を返します
+     * （例: com.example...readmodel.TitleReadMapper.findTitleDetailById → TitleReadMapper.findTitleDetailById）
+     */
+    static String shortStatementId(String statementId) {
+        int methodSeparator = statementId.lastIndexOf('.');
+        if (methodSeparator < 0) {
+            return statementId;
+        }
+        return statementId.substring(statementId.lastIndexOf('.', methodSeparator - 1) + 1);
+    }
+
+    /**
+     * 1つのステートメントのメーター
+     */
+    private final class StatementMeters {
+        private final String statementId;
+        private final String command;
+        private final Timer successTimer;
+        private final DistributionSummary rows;
+
+        StatementMeters(MappedStatement statement) {
+            this.statementId = shortStatementId(statement.getId());
+            this.command = statement.getSqlCommandType().name().toLowerCase(Locale.ROOT);
+            this.successTimer = timer("success");
+            this.rows = DistributionSummary.builder(ROWS_NAME)
+                    .description("Rows returned or affected by a MyBatis mapped statement")
+                    .baseUnit("rows")
+                    .tag("statement", statementId)
+                    .tag("command", command)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * 失敗した実行の Timer（失敗したステートメントだけに作成する。2回目以降はレジストリに登録済みのものが返る）
+         */
+        Timer errorTimer() {
+            return timer("error");
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder(TIMER_NAME)
+                    .description("Execution time of a MyBatis mapped statement")
+                    .tag("statement", statementId)
+                    .tag("command", command)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 呼び出し元の ResultHandler に渡した行を数える ResultHandler
+     * （1回のクエリの中で1つのスレッドからだけ呼ばれる）
+     */
+    private static final class CountingResultHandler implements ResultHandler<Object> {
+        private final ResultHandler<Object> delegate;
+        private long count;
+
+        @SuppressWarnings("unchecked")
+        CountingResultHandler(ResultHandler<?> delegate) {
+            this.delegate = (ResultHandler<Object>) delegate;
+        }
+
+        @Override
+        public void handleResult(ResultContext<?> context) {
+            count++;
+            delegate.handleResult(context);
+        }
+    }
+}
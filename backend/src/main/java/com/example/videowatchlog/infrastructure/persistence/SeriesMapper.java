@@ -28,9 +28,9 @@ public interface SeriesMapper {
     void insert(SeriesEntity seriesEntity);
 
     /**
-     * シリーズを更新します
+     * シリーズを保存します（存在しなければ挿入、存在すれば更新する1ステートメント）
      */
-    void update(SeriesEntity seriesEntity);
+    void upsert(SeriesEntity seriesEntity);
 
     /**
      * シリーズを削除します
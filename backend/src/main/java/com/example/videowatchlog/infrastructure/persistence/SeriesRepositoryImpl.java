@@ -38,18 +38,10 @@ public class SeriesRepositoryImpl implements SeriesRepository {
     @Override
     public Series save(Series series) {
         SeriesEntity entity = SeriesEntity.fromDomain(series);
-        Long seriesId = series.getId();
-
-        // Check if series exists in database
-        boolean exists = seriesMapper.findById(seriesId).isPresent();
-
-        if (!exists) {
-            // Insert new series
-            seriesMapper.insert(entity);
-        } else {
-            // Update existing series
-            seriesMapper.update(entity);
-        }
+
+        // Insert new series or update existing series (without a preceding existence check)
+        seriesMapper.upsert(entity);
+
         // Return domain model with the auto-generated or existing ID
         // Phase 7: Episode パラメータを削除
         return entity.toDomain();
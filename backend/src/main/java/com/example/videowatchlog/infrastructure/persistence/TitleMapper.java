@@ -2,8 +2,11 @@ package com.example.videowatchlog.infrastructure.persistence;
 
 import com.example.videowatchlog.domain.model.WatchStatus;
 import com.example.videowatchlog.infrastructure.persistence.entity.TitleEntity;
+import com.example.videowatchlog.infrastructure.persistence.entity.TitleInfoUrlEntity;
+import com.example.videowatchlog.infrastructure.persistence.entity.TitleSearchHitEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,10 +38,10 @@ public interface TitleMapper {
     void insert(TitleEntity titleEntity);
 
     /**
-     * タイトルを更新します
-     * @param titleEntity 更新するタイトルエンティティ
+     * タイトルを保存します（存在しなければ挿入、存在すれば更新する1ステートメント）
+     * @param titleEntity 保存するタイトルエンティティ
      */
-    void update(TitleEntity titleEntity);
+    void upsert(TitleEntity titleEntity);
 
     /**
      * タイトルを削除します（カスケード削除）
@@ -54,12 +57,45 @@ public interface TitleMapper {
     boolean existsByName(@Param("name") String name);
 
     /**
-     * タイトルを検索します
+     * タイトルを検索します（キーセットページング）
+     * query を指定した場合は (rank, created_at, id)、指定しない場合は (created_at, id) の降順です。
      * @param query 検索クエリ (null の場合は条件なし)
+     * @param pattern query をエスケープして % で囲んだ LIKE パターン (query が null の場合は null)
      * @param watchStatus 視聴状態でのフィルタリング (null の場合は条件なし)
-     * @return 条件にマッチしたタイトルエンティティリスト
+     * @param afterRank 開始位置の rank (query を指定した場合のみ使用)
+     * @param afterCreatedAt 開始位置の作成日時 (null の場合は先頭から)
+     * @param afterId 開始位置のID (null の場合は先頭から)
+     * @param limit 最大件数
+     * @return 条件にマッチしたタイトルと rank のエンティティリスト
      */
-    List<TitleEntity> search(@Param("query") String query, @Param("watchStatus") WatchStatus watchStatus);
+    List<TitleSearchHitEntity> search(
+            @Param("query") String query,
+            @Param("pattern") String pattern,
+            @Param("watchStatus") WatchStatus watchStatus,
+            @Param("afterRank") Float afterRank,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit);
+
+    /**
+     * タイトル名に部分一致せず、単語類似度がしきい値以上のタイトルだけを検索します（キーセットページング）
+     * 結果は (rank, created_at, id) の降順で、rank は単語類似度です。
+     *
+     * @param query 検索クエリ
+     * @param pattern 部分一致を除くための LIKE パターン（エスケープ済み、前後に % を付与）
+     * @param afterRank 前ページ最後のタイトルの rank（null の場合は先頭ページ）
+     * @param afterCreatedAt 前ページ最後のタイトルの作成日時（null の場合は先頭ページ）
+     * @param afterId 前ページ最後のタイトルのID（null の場合は先頭ページ）
+     * @param limit 最大件数
+     * @return 条件にマッチしたタイトルと rank のエンティティリスト
+     */
+    List<TitleSearchHitEntity> searchSimilar(
+            @Param("query") String query,
+            @Param("pattern") String pattern,
+            @Param("afterRank") Float afterRank,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit);
 
     /**
      * タイトルIDでタイトル情報URLを取得します
@@ -67,4 +103,11 @@ public interface TitleMapper {
      * @return タイトル情報URLのリスト
      */
     List<com.example.videowatchlog.domain.model.TitleInfoUrl> selectTitleInfoUrlsByTitleId(@Param("id") Long titleId);
+
+    /**
+     * 複数タイトルのタイトル情報URLを1クエリで取得します（N+1回避）
+     * @param titleIds タイトルIDの配列
+     * @return title_id, id 順に並んだタイトル情報URLエンティティリスト
+     */
+    List<TitleInfoUrlEntity> selectTitleInfoUrlsByTitleIds(@Param("titleIds") Long[] titleIds);
 }
@@ -3,12 +3,22 @@ package com.example.videowatchlog.infrastructure.persistence;
 import com.example.videowatchlog.domain.model.Episode;
 import com.example.videowatchlog.domain.model.Series;
 import com.example.videowatchlog.domain.model.Title;
+import com.example.videowatchlog.domain.model.TitleInfoUrl;
 import com.example.videowatchlog.domain.model.WatchStatus;
 import com.example.videowatchlog.domain.repository.TitleRepository;
+import com.example.videowatchlog.domain.repository.TitleSearchHit;
+import com.example.videowatchlog.infrastructure.persistence.entity.TitleEntity;
+import com.example.videowatchlog.infrastructure.persistence.entity.TitleInfoUrlEntity;
+import com.example.videowatchlog.infrastructure.persistence.entity.TitleSearchHitEntity;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * TitleRepositoryImpl - Repository 実装
@@ -29,62 +39,29 @@ public class TitleRepositoryImpl implements TitleRepository {
 
     @Override
     public Optional<Title> findById(Long id) {
-        Optional<com.example.videowatchlog.infrastructure.persistence.entity.TitleEntity> entityOpt = titleMapper.findById(id);
+        Optional<TitleEntity> entityOpt = titleMapper.findById(id);
         if (entityOpt.isEmpty()) {
             return Optional.empty();
         }
 
-        // Load TitleInfoUrls
-        List<com.example.videowatchlog.domain.model.TitleInfoUrl> titleInfoUrlsList = titleMapper.selectTitleInfoUrlsByTitleId(id);
-        java.util.Set<com.example.videowatchlog.domain.model.TitleInfoUrl> titleInfoUrls = new java.util.LinkedHashSet<>(titleInfoUrlsList);
-
         // Phase 7: Series は独立した集約になったため、ここでは読み込みません
-        return Optional.of(entityOpt.get().toDomain(titleInfoUrls));
+        return Optional.of(toDomainWithTitleInfoUrls(List.of(entityOpt.get())).get(0));
     }
 
     @Override
     public List<Title> findAll() {
-        List<com.example.videowatchlog.infrastructure.persistence.entity.TitleEntity> entities = titleMapper.findAll();
-        return entities.stream()
-                .map(entity -> {
-                    // Load TitleInfoUrls
-                    List<com.example.videowatchlog.domain.model.TitleInfoUrl> titleInfoUrlsList = titleMapper.selectTitleInfoUrlsByTitleId(entity.getId());
-                    java.util.Set<com.example.videowatchlog.domain.model.TitleInfoUrl> titleInfoUrls = new java.util.LinkedHashSet<>(titleInfoUrlsList);
-
-                    // Phase 7: Series は独立した集約になったため、ここでは読み込みません
-                    return entity.toDomain(titleInfoUrls);
-                })
-                .toList();
+        return toDomainWithTitleInfoUrls(titleMapper.findAll());
     }
 
     @Override
     @Transactional
     public Title save(Title title) {
-        // Check if title exists in database
-        boolean exists = titleMapper.findById(title.getId()).isPresent();
-
-        if (!exists) {
-            // 1. Title -> TitleEntity に変換して挿入
-            com.example.videowatchlog.infrastructure.persistence.entity.TitleEntity entity =
-                    com.example.videowatchlog.infrastructure.persistence.entity.TitleEntity.fromDomain(title);
-            titleMapper.insert(entity);
-
-            // 2. IDが設定された新しいTitleインスタンスを返す（不変なため新規作成）
-            // Phase 7: Series フィールドを削除
-            return new Title(
-                    entity.getId(),
-                    title.getName(),
-                    title.getTitleInfoUrls(),
-                    title.getCreatedAt(),
-                    title.getUpdatedAt()
-            );
-        } else {
-            // Title -> TitleEntity に変換して更新
-            com.example.videowatchlog.infrastructure.persistence.entity.TitleEntity entity =
-                    com.example.videowatchlog.infrastructure.persistence.entity.TitleEntity.fromDomain(title);
-            titleMapper.update(entity);
-            return title;
-        }
+        // Title -> TitleEntity に変換し、挿入または更新（存在確認の SELECT は行わない）
+        titleMapper.upsert(TitleEntity.fromDomain(title));
+
+        // IDは采番済みのため、保存したTitleをそのまま返す
+        // Phase 7: Series フィールドを削除
+        return title;
     }
 
     @Override
@@ -98,17 +75,73 @@ public class TitleRepositoryImpl implements TitleRepository {
     }
 
     @Override
-    public List<Title> search(String query, WatchStatus watchStatus) {
-        List<com.example.videowatchlog.infrastructure.persistence.entity.TitleEntity> entities = titleMapper.search(query, watchStatus);
+    @Transactional(readOnly = true)
+    public List<TitleSearchHit> search(String query, WatchStatus watchStatus,
+                                       Float afterRank, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        String pattern = query == null ? null : "%" + escapeLikePattern(query) + "%";
+        List<TitleSearchHitEntity> entities =
+                titleMapper.search(query, pattern, watchStatus, afterRank, afterCreatedAt, afterId, limit);
+        Map<Long, Set<TitleInfoUrl>> urlsByTitleId = loadTitleInfoUrls(entities);
+        return entities.stream()
+                .map(entity -> entity.toSearchHit(urlsByTitleId.get(entity.getId())))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TitleSearchHit> searchSimilar(String query, Float afterRank, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        String pattern = "%" + escapeLikePattern(query) + "%";
+        List<TitleSearchHitEntity> entities =
+                titleMapper.searchSimilar(query, pattern, afterRank, afterCreatedAt, afterId, limit);
+        Map<Long, Set<TitleInfoUrl>> urlsByTitleId = loadTitleInfoUrls(entities);
         return entities.stream()
-                .map(entity -> {
-                    // Load TitleInfoUrls
-                    List<com.example.videowatchlog.domain.model.TitleInfoUrl> titleInfoUrlsList = titleMapper.selectTitleInfoUrlsByTitleId(entity.getId());
-                    java.util.Set<com.example.videowatchlog.domain.model.TitleInfoUrl> titleInfoUrls = new java.util.LinkedHashSet<>(titleInfoUrlsList);
-
-                    // Phase 7: Series は独立した集約になったため、ここでは読み込みません
-                    return entity.toDomain(titleInfoUrls);
-                })
+                .map(entity -> entity.toSearchHit(urlsByTitleId.get(entity.getId())))
                 .toList();
     }
+
+    /**
+     * LIKE のワイルドカード（%, _）とエスケープ文字をエスケープします
+     * 検索クエリに含まれる % や _ を文字そのものとして部分一致させるために使用します。
+     */
+    static String escapeLikePattern(String query) {
+        return query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * TitleEntity のリストを TitleInfoUrl 付きの Title に変換します
+     *
+     * タイトル情報URLは結果セット全体に対して1クエリ（title_id = ANY(?)）でまとめて取得し、
+     * メモリ上で title_id ごとに振り分けます。発行されるクエリ数はタイトル件数に依存しません。
+     *
+     * @param entities 変換対象のタイトルエンティティ（並び順は維持されます）
+     * @return Title ドメインモデルのリスト
+     */
+    private List<Title> toDomainWithTitleInfoUrls(List<TitleEntity> entities) {
+        Map<Long, Set<TitleInfoUrl>> urlsByTitleId = loadTitleInfoUrls(entities);
+
+        // Phase 7: Series は独立した集約になったため、ここでは読み込みません
+        return entities.stream()
+                .map(entity -> entity.toDomain(urlsByTitleId.get(entity.getId())))
+                .toList();
+    }
+
+    /**
+     * 結果セット全体のタイトル情報URLを1クエリで取得し、title_id ごとに振り分けます
+     *
+     * @param entities 対象のタイトルエンティティ
+     * @return title_id → タイトル情報URL（登録順）。結果が空の場合はクエリを発行しません
+     */
+    private Map<Long, Set<TitleInfoUrl>> loadTitleInfoUrls(List<? extends TitleEntity> entities) {
+        if (entities.isEmpty()) {
+            return Map.of();
+        }
+
+        Long[] titleIds = entities.stream().map(TitleEntity::getId).toArray(Long[]::new);
+        Map<Long, Set<TitleInfoUrl>> urlsByTitleId = new HashMap<>();
+        for (TitleInfoUrlEntity urlEntity : titleMapper.selectTitleInfoUrlsByTitleIds(titleIds)) {
+            urlsByTitleId.computeIfAbsent(urlEntity.getTitleId(), key -> new LinkedHashSet<>())
+                    .add(urlEntity.toDomain());
+        }
+        return urlsByTitleId;
+    }
 }
@@ -23,7 +23,12 @@ public interface ViewingRecordMapper {
     List<ViewingRecordEntity> findByEpisodeId(@Param("episodeId") Long episodeId);
 
     /**
-     * 視聴履歴を挿入します（IDが自動設定される）
+     * シリーズに属する全エピソードの視聴履歴を1クエリで取得します（エピソードごとに新しい順）
+     */
+    List<ViewingRecordEntity> findBySeriesId(@Param("seriesId") Long seriesId);
+
+    /**
+     * 視聴履歴を挿入します（複数件は MyBatisBatchWriter でバッチ実行する）
      */
     void insert(ViewingRecordEntity viewingRecordEntity);
 
@@ -31,4 +36,9 @@ public interface ViewingRecordMapper {
      * 視聴履歴を削除します
      */
     void delete(@Param("id") Long id);
+
+    /**
+     * 視聴履歴を1ステートメントでまとめて削除します
+     */
+    void deleteByIds(@Param("ids") Long[] ids);
 }
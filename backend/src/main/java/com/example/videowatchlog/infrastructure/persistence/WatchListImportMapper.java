@@ -0,0 +1,106 @@
+package com.example.videowatchlog.infrastructure.persistence;
+
+import com.example.videowatchlog.infrastructure.persistence.entity.TitleEntity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * WatchListImportMapper - 視聴リストの一括取り込み用の MyBatis マッパーインターフェース
+ *
+ * 取り込み用の一時テーブル（import_rows など）は接続ごとに作成され、同じトランザクション内でだけ使えます。
+ */
+@Mapper
+public interface WatchListImportMapper {
+
+    /**
+     * 行を読み込む一時テーブル（import_rows）を作成します
+     */
+    void createImportRows();
+
+    /**
+     * 一時テーブルの統計情報を収集します
+     *
+     * @param table 一時テーブルの名前（呼び出し側の定数に限る）
+     */
+    void analyze(@Param("table") String table);
+
+    /**
+     * 行のタイトルを既存のタイトルと照合します（import_titles を作成）
+     */
+    void resolveTitles();
+
+    /**
+     * 既存でないタイトルにIDを采番して挿入します
+     *
+     * @return 挿入したタイトル数
+     */
+    int insertTitles(@Param("now") LocalDateTime now);
+
+    /**
+     * 行のシリーズを既存のシリーズと照合します（import_series を作成）
+     */
+    void resolveSeries();
+
+    /**
+     * 既存でないシリーズにIDを采番して挿入します
+     *
+     * @return 挿入したシリーズ数
+     */
+    int insertSeries(@Param("now") LocalDateTime now);
+
+    /**
+     * 行のエピソードを既存のエピソードと照合します（import_episodes を作成）
+     */
+    void resolveEpisodes();
+
+    /**
+     * 既存でないエピソードにIDを采番して挿入します
+     *
+     * @return 挿入したエピソード数
+     */
+    int insertEpisodes(@Param("now") LocalDateTime now);
+
+    /**
+     * 視聴記録を追加する既存の未視聴エピソードを視聴済みにします
+     *
+     * @return 視聴済みにしたエピソード数
+     */
+    int markEpisodesWatched(@Param("now") LocalDateTime now);
+
+    /**
+     * まだない視聴ページURLを挿入します
+     *
+     * @return 挿入したURL数
+     */
+    int insertWatchPageUrls();
+
+    /**
+     * まだない視聴記録にIDを采番して挿入します
+     *
+     * @return 挿入した視聴記録数
+     */
+    int insertViewingRecords(@Param("now") LocalDateTime now);
+
+    /**
+     * 新規に作成したタイトルを取得します（ID順）
+     */
+    List<TitleEntity> selectCreatedTitles();
+
+    /**
+     * 取り込みの対象になったタイトルのIDを取得します
+     */
+    List<Long> selectTitleIds();
+
+    /**
+     * 視聴ページURL・視聴記録を追加する既存のエピソードのIDを取得します
+     */
+    List<Long> selectUpdatedEpisodeIds();
+
+    /**
+     * 取り込み用の一時テーブルを破棄します
+     */
+    void dropStagingTables();
+}
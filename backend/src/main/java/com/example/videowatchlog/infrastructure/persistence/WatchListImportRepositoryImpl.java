@@ -0,0 +1,177 @@
+package com.example.videowatchlog.infrastructure.persistence;
+
+import com.example.videowatchlog.domain.model.Title;
+import com.example.videowatchlog.domain.repository.WatchListImportRepository;
+import com.example.videowatchlog.domain.repository.WatchListImportRow;
+import com.example.videowatchlog.domain.repository.WatchListMergeResult;
+import com.example.videowatchlog.infrastructure.persistence.entity.TitleEntity;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * WatchListImportRepositoryImpl - Repository 実装
+ *
+ * stage: トランザクションの接続で CopyManager による COPY FROM STDIN（CSV 形式）を開始し、
+ * 行を1件ずつ CSV に変換してバッファ（copyBufferSize バイト）単位で送ります。
+ * 行を INSERT する場合と違い、行数に関わらずステートメントは1つで、メモリ上に行は溜まりません。
+ *
+ * merge: WatchListImportMapper の集合指向の SQL で、タイトル → シリーズ → エピソード → 視聴ページURL・視聴記録の
+ * 順に統合します。ステートメント数は行数に関わらず一定です。
+ *
+ * 一時テーブルはトランザクションの終了時に破棄されるため、どちらもトランザクション内でだけ呼び出せます。
+ */
+@Repository
+public class WatchListImportRepositoryImpl implements WatchListImportRepository {
+    private static final String COPY_SQL = "COPY import_rows (line_number, title_name, series_name, episode_info,"
+            + " watch_page_url, watched_at, rating, comment) FROM STDIN (FORMAT csv)";
+
+    private final DataSource dataSource;
+    private final WatchListImportMapper mapper;
+    private final int copyBufferSize;
+
+    public WatchListImportRepositoryImpl(
+            DataSource dataSource,
+            WatchListImportMapper mapper,
+            @Value("${watch-list-import.copy-buffer-size:65536}") int copyBufferSize) {
+        if (copyBufferSize < 1) {
+            throw new IllegalArgumentException("COPY buffer size must be positive: " + copyBufferSize);
+        }
+        this.dataSource = dataSource;
+        this.mapper = mapper;
+        this.copyBufferSize = copyBufferSize;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long stage(Iterator<WatchListImportRow> rows) {
+        mapper.createImportRows();
+        long count;
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            count = copy(connection.unwrap(PGConnection.class).getCopyAPI(), rows);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to load import rows", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+        mapper.analyze("import_rows");
+        return count;
+    }
+
+    private long copy(CopyManager copyManager, Iterator<WatchListImportRow> rows) throws SQLException {
+        CopyIn copyIn = copyManager.copyIn(COPY_SQL);
+        long count = 0;
+        try {
+            Writer writer = new OutputStreamWriter(new PGCopyOutputStream(copyIn, copyBufferSize), StandardCharsets.UTF_8);
+            StringBuilder line = new StringBuilder();
+            while (rows.hasNext()) {
+                line.setLength(0);
+                appendCsv(line, rows.next());
+                writer.append(line);
+                count++;
+            }
+            // 残りのバッファを送り、COPY を終える
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load import rows", e);
+        } finally {
+            // 行の読み込み・変換に失敗した場合は COPY を取り消す（接続を次のステートメントに使えるようにする）
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+        return count;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public WatchListMergeResult merge() {
+        LocalDateTime now = LocalDateTime.now();
+
+        mapper.resolveTitles();
+        mapper.analyze("import_titles");
+        mapper.insertTitles(now);
+
+        mapper.resolveSeries();
+        mapper.analyze("import_series");
+        int seriesCreated = mapper.insertSeries(now);
+
+        mapper.resolveEpisodes();
+        mapper.analyze("import_episodes");
+        int episodesCreated = mapper.insertEpisodes(now);
+        mapper.markEpisodesWatched(now);
+
+        int watchPageUrlsAdded = mapper.insertWatchPageUrls();
+        int viewingRecordsAdded = mapper.insertViewingRecords(now);
+
+        List<Title> createdTitles = mapper.selectCreatedTitles().stream()
+                .map(entity -> entity.toDomain(Set.of()))
+                .toList();
+        WatchListMergeResult result = new WatchListMergeResult(createdTitles, seriesCreated, episodesCreated,
+                watchPageUrlsAdded, viewingRecordsAdded, mapper.selectTitleIds(), mapper.selectUpdatedEpisodeIds());
+
+        mapper.dropStagingTables();
+        return result;
+    }
+
+    /**
+     * 1行を COPY の CSV 形式で追加します
+     * null は引用符なしの空（NULL）、文字列は常に引用符で囲む（空文字と NULL を区別するため）
+     */
+    static void appendCsv(StringBuilder line, WatchListImportRow row) {
+        line.append(row.getLineNumber()).append(',');
+        appendQuoted(line, row.getTitleName());
+        line.append(',');
+        appendQuoted(line, row.getSeriesName());
+        line.append(',');
+        appendQuoted(line, row.getEpisodeInfo());
+        line.append(',');
+        appendQuoted(line, row.getWatchPageUrl());
+        line.append(',');
+        if (row.getWatchedAt() != null) {
+            line.append(row.getWatchedAt());
+        }
+        line.append(',');
+        if (row.getRating() != null) {
+            line.append(row.getRating());
+        }
+        line.append(',');
+        appendQuoted(line, row.getComment());
+        line.append('\n');
+    }
+
+    private static void appendQuoted(StringBuilder line, String value) {
+        if (value == null) {
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.videowatchlog.infrastructure.persistence.entity;
+
+import com.example.videowatchlog.domain.repository.EpisodeCompletion;
+
+/**
+ * EpisodeCompletionEntity - エピソードの一括視聴完了の結果の1行（MyBatis マッピング用）
+ */
+public class EpisodeCompletionEntity {
+    private Long episodeId;
+    private Long titleId;
+    private String outcome;
+
+    /**
+     * Default constructor for MyBatis.
+     */
+    public EpisodeCompletionEntity() {
+    }
+
+    /**
+     * Convert to completion result.
+     *
+     * @return EpisodeCompletion
+     */
+    public EpisodeCompletion toCompletion() {
+        return new EpisodeCompletion(episodeId, titleId, EpisodeCompletion.Outcome.valueOf(outcome));
+    }
+
+    public Long getEpisodeId() {
+        return episodeId;
+    }
+
+    public void setEpisodeId(Long episodeId) {
+        this.episodeId = episodeId;
+    }
+
+    public Long getTitleId() {
+        return titleId;
+    }
+
+    public void setTitleId(Long titleId) {
+        this.titleId = titleId;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.videowatchlog.infrastructure.persistence.entity;
+
+import com.example.videowatchlog.domain.model.TitleInfoUrl;
+
+/**
+ * TitleInfoUrl entity for persistence layer (MyBatis mapping).
+ * 複数タイトル分の URL を一括取得する際に、所属する title_id を保持するための行モデルです。
+ */
+public class TitleInfoUrlEntity {
+    private Long titleId;
+    private String url;
+
+    /**
+     * Default constructor for MyBatis.
+     */
+    public TitleInfoUrlEntity() {
+    }
+
+    /**
+     * Convert to domain model.
+     *
+     * @return TitleInfoUrl value object
+     */
+    public TitleInfoUrl toDomain() {
+        return new TitleInfoUrl(this.url);
+    }
+
+    // Getters and setters
+
+    public Long getTitleId() {
+        return titleId;
+    }
+
+    public void setTitleId(Long titleId) {
+        this.titleId = titleId;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.videowatchlog.infrastructure.persistence.entity;
+
+import com.example.videowatchlog.domain.model.TitleInfoUrl;
+import com.example.videowatchlog.domain.repository.TitleSearchHit;
+
+import java.util.Set;
+
+/**
+ * TitleSearchHitEntity - タイトル検索結果の1行（MyBatis マッピング用）
+ *
+ * titles の列に加えて、検索クエリに対する rank を保持します。
+ */
+public class TitleSearchHitEntity extends TitleEntity {
+    private Float rank;
+
+    /**
+     * Default constructor for MyBatis.
+     */
+    TitleSearchHitEntity() {
+    }
+
+    /**
+     * Convert to search hit.
+     *
+     * @param titleInfoUrls Title info URLs (loaded separately)
+     * @return TitleSearchHit
+     */
+    public TitleSearchHit toSearchHit(Set<TitleInfoUrl> titleInfoUrls) {
+        return new TitleSearchHit(toDomain(titleInfoUrls), rank);
+    }
+
+    public Float getRank() {
+        return rank;
+    }
+
+    public void setRank(Float rank) {
+        this.rank = rank;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.videowatchlog.infrastructure.persistence.entity;
+
+import com.example.videowatchlog.domain.model.WatchPageUrl;
+
+/**
+ * WatchPageUrl entity for persistence layer (MyBatis mapping).
+ * 複数エピソード分の URL を一括取得する際に、所属する episode_id を保持するための行モデルです。
+ */
+public class WatchPageUrlEntity {
+    private Long episodeId;
+    private String url;
+
+    /**
+     * Default constructor for MyBatis.
+     */
+    public WatchPageUrlEntity() {
+    }
+
+    /**
+     * Create an entity for the given episode.
+     *
+     * @param episodeId 所属するエピソードの ID
+     * @param url URL
+     * @return WatchPageUrlEntity
+     */
+    public static WatchPageUrlEntity of(Long episodeId, String url) {
+        WatchPageUrlEntity entity = new WatchPageUrlEntity();
+        entity.episodeId = episodeId;
+        entity.url = url;
+        return entity;
+    }
+
+    /**
+     * Convert to domain model.
+     *
+     * @return WatchPageUrl value object
+     */
+    public WatchPageUrl toDomain() {
+        return new WatchPageUrl(this.url);
+    }
+
+    // Getters and setters
+
+    public Long getEpisodeId() {
+        return episodeId;
+    }
+
+    public void setEpisodeId(Long episodeId) {
+        this.episodeId = episodeId;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.videowatchlog.infrastructure.persistence.readmodel;
+
+import com.example.videowatchlog.application.readmodel.EpisodeDetailReadModel;
+import com.example.videowatchlog.application.readmodel.EpisodeReadModel;
+import com.example.videowatchlog.application.readmodel.ViewingRecordReadModel;
+import com.example.videowatchlog.domain.model.WatchStatus;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * EpisodeDetailAggregator - エピソード詳細の行を逐次 Read Model に畳み込む ResultHandler
+ *
+ * クエリ結果は Episode 本体（シリーズ名・タイトル名を含む）の1行、視聴ページURLの行、視聴記録の行が UNION ALL で連結されたもので、
+ * 子要素は各1行ずつしか現れません（URL × 視聴記録の直積にはならない）。
+ * そのため重複排除は不要で、行の種類に応じてリストへ追加するだけで集約できます。
+ *
+ * 1インスタンスにつき1クエリ分の結果を集約します（スレッドセーフではありません）。
+ * リストは変更できないビューとして Read Model に渡します（TitleDetailAggregator と同様）。
+ */
+public class EpisodeDetailAggregator implements ResultHandler<EpisodeDetailRow> {
+    private long episodeId;
+    private long seriesId;
+    private String episodeInfo;
+    private WatchStatus watchStatus;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String seriesName;
+    private long titleId;
+    private String titleName;
+    private final List<String> watchPageUrls = new ArrayList<>();
+    private final List<ViewingRecordReadModel> viewingRecords = new ArrayList<>();
+
+    @Override
+    public void handleResult(ResultContext<? extends EpisodeDetailRow> context) {
+        EpisodeDetailRow row = context.getResultObject();
+        switch (row.getRowKind()) {
+            case EpisodeDetailRow.KIND_EPISODE -> {
+                episodeId = row.getEpisodeId();
+                seriesId = row.getSeriesId();
+                episodeInfo = row.getEpisodeInfo();
+                watchStatus = row.getWatchStatus();
+                createdAt = row.getEpisodeCreatedAt();
+                updatedAt = row.getEpisodeUpdatedAt();
+                seriesName = row.getSeriesName();
+                titleId = row.getTitleId();
+                titleName = row.getTitleName();
+            }
+            case EpisodeDetailRow.KIND_WATCH_PAGE_URL -> watchPageUrls.add(row.getUrl());
+            case EpisodeDetailRow.KIND_VIEWING_RECORD -> viewingRecords.add(new ViewingRecordReadModel(
+                row.getRecordId(),
+                row.getEpisodeId(),
+                row.getWatchedAt(),
+                row.getRating(),
+                row.getComment(),
+                row.getRecordedAt()
+            ));
+            default -> throw new IllegalStateException("Unknown row kind: " + row.getRowKind());
+        }
+    }
+
+    /**
+     * 集約結果を返します
+     *
+     * @return エピソード詳細（エピソードの行がなかった場合は Empty）
+     */
+    public Optional<EpisodeDetailReadModel> getResult() {
+        if (episodeId == 0) {
+            return Optional.empty();
+        }
+        EpisodeReadModel episode = new EpisodeReadModel(
+            episodeId,
+            seriesId,
+            episodeInfo,
+            watchStatus,
+            Collections.unmodifiableList(watchPageUrls),
+            Collections.unmodifiableList(viewingRecords),
+            createdAt,
+            updatedAt
+        );
+        return Optional.of(new EpisodeDetailReadModel(episode, seriesName, titleId, titleName));
+    }
+}
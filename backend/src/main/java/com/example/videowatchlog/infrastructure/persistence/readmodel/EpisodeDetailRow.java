@@ -0,0 +1,167 @@
+package com.example.videowatchlog.infrastructure.persistence.readmodel;
+
+import com.example.videowatchlog.domain.model.WatchStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * EpisodeDetailRow - エピソード詳細クエリの型付き行モデル
+ *
+ * findEpisodeDetailById の1行を表します。行ごとに Map を生成せず、
+ * ID は primitive long（NULL は 0）で保持します。
+ *
+ * rowKind により行の種類を区別します（EpisodeReadMapper.xml の row_kind）:
+ * - {@link #KIND_EPISODE}: Episode 本体の行（常に先頭の1行。シリーズ名・タイトルID・タイトル名を含む）
+ * - {@link #KIND_WATCH_PAGE_URL}: 視聴ページURL
+ * - {@link #KIND_VIEWING_RECORD}: 視聴記録
+ */
+public class EpisodeDetailRow {
+    public static final int KIND_EPISODE = 0;
+    public static final int KIND_WATCH_PAGE_URL = 1;
+    public static final int KIND_VIEWING_RECORD = 2;
+
+    private int rowKind;
+    private long episodeId;
+    private long seriesId;
+    private String episodeInfo;
+    private WatchStatus watchStatus;
+    private LocalDateTime episodeCreatedAt;
+    private LocalDateTime episodeUpdatedAt;
+    private String seriesName;
+    private long titleId;
+    private String titleName;
+    private String url;
+    private long recordId;
+    private LocalDateTime watchedAt;
+    private int rating;
+    private String comment;
+    private LocalDateTime recordedAt;
+
+    public int getRowKind() {
+        return rowKind;
+    }
+
+    public void setRowKind(int rowKind) {
+        this.rowKind = rowKind;
+    }
+
+    public long getEpisodeId() {
+        return episodeId;
+    }
+
+    public void setEpisodeId(long episodeId) {
+        this.episodeId = episodeId;
+    }
+
+    public long getSeriesId() {
+        return seriesId;
+    }
+
+    public void setSeriesId(long seriesId) {
+        this.seriesId = seriesId;
+    }
+
+    public String getEpisodeInfo() {
+        return episodeInfo;
+    }
+
+    public void setEpisodeInfo(String episodeInfo) {
+        this.episodeInfo = episodeInfo;
+    }
+
+    public WatchStatus getWatchStatus() {
+        return watchStatus;
+    }
+
+    public void setWatchStatus(WatchStatus watchStatus) {
+        this.watchStatus = watchStatus;
+    }
+
+    public LocalDateTime getEpisodeCreatedAt() {
+        return episodeCreatedAt;
+    }
+
+    public void setEpisodeCreatedAt(LocalDateTime episodeCreatedAt) {
+        this.episodeCreatedAt = episodeCreatedAt;
+    }
+
+    public LocalDateTime getEpisodeUpdatedAt() {
+        return episodeUpdatedAt;
+    }
+
+    public void setEpisodeUpdatedAt(LocalDateTime episodeUpdatedAt) {
+        this.episodeUpdatedAt = episodeUpdatedAt;
+    }
+
+    public String getSeriesName() {
+        return seriesName;
+    }
+
+    public void setSeriesName(String seriesName) {
+        this.seriesName = seriesName;
+    }
+
+    public long getTitleId() {
+        return titleId;
+    }
+
+    public void setTitleId(long titleId) {
+        this.titleId = titleId;
+    }
+
+    public String getTitleName() {
+        return titleName;
+    }
+
+    public void setTitleName(String titleName) {
+        this.titleName = titleName;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public long getRecordId() {
+        return recordId;
+    }
+
+    public void setRecordId(long recordId) {
+        this.recordId = recordId;
+    }
+
+    public LocalDateTime getWatchedAt() {
+        return watchedAt;
+    }
+
+    public void setWatchedAt(LocalDateTime watchedAt) {
+        this.watchedAt = watchedAt;
+    }
+
+    public int getRating() {
+        return rating;
+    }
+
+    public void setRating(int rating) {
+        this.rating = rating;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+
+    public void setRecordedAt(LocalDateTime recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+}
@@ -2,8 +2,9 @@ package com.example.videowatchlog.infrastructure.persistence.readmodel;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
 import java.util.List;
-import java.util.Map;
 
 /**
  * EpisodeReadMapper - エピソード読み取り用 MyBatis Mapper
@@ -14,14 +15,38 @@ import java.util.Map;
 @Mapper
 public interface EpisodeReadMapper {
     /**
-     * エピソード詳細と関連する全データを取得（raw 形式）
+     * エピソード詳細と関連する全データ（シリーズ名・タイトル名を含む）を1クエリで取得し、行ごとに handler へ渡す
+     * 結果はリストに蓄積されず、EpisodeDetailAggregator が ResultSet から読み込まれた順に集約する
      *
-     * @param seriesId シリーズID
      * @param episodeId エピソードID
-     * @return エピソード、watch_page_urls、視聴記録を含む JOIN クエリの結果
+     * @param handler 行を受け取る ResultHandler
      */
-    List<Map<String, Object>> findEpisodeDetailByIdAndSeriesIdRaw(
-        @Param("seriesId") Long seriesId,
-        @Param("episodeId") Long episodeId
+    void findEpisodeDetailById(
+        @Param("episodeId") Long episodeId,
+        ResultHandler<EpisodeDetailRow> handler
     );
+
+    /**
+     * エピソード詳細のバージョン（内容が変わると変わる値）を1行の集計で取得
+     *
+     * @param episodeId エピソードID
+     * @return バージョン（エピソードが存在しない場合は null）
+     */
+    String findEpisodeDetailVersion(@Param("episodeId") Long episodeId);
+
+    /**
+     * シリーズに属するエピソードのIDを取得
+     *
+     * @param seriesId シリーズID
+     * @return エピソードIDのリスト
+     */
+    List<Long> findEpisodeIdsBySeriesId(@Param("seriesId") Long seriesId);
+
+    /**
+     * タイトルに属するエピソードのIDを取得
+     *
+     * @param titleId タイトルID
+     * @return エピソードIDのリスト
+     */
+    List<Long> findEpisodeIdsByTitleId(@Param("titleId") Long titleId);
 }
@@ -0,0 +1,336 @@
+package com.example.videowatchlog.infrastructure.persistence.readmodel;
+
+import com.example.videowatchlog.application.readmodel.change.ReadModelChange;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChangeBus;
+import com.example.videowatchlog.application.readmodel.change.ReadModelResyncEvent;
+import com.example.videowatchlog.application.readmodel.change.RemoteReadModelChangeEvent;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * PgNotifyReadModelChangeBus - PostgreSQL の LISTEN/NOTIFY による ReadModelChangeBus の実装
+ *
+ * 送信:
+ * - トランザクション内で publish された変更をまとめ、コミット直前（beforeCommit）に同じ接続で pg_notify を発行する。
+ *   NOTIFY はトランザクションのコミット時に配信されるため、ロールバックされた変更は配信されず、
+ *   コミットと送信の間でプロセスが停止しても通知が失われることはない
+ * - 1通知のペイロードは 8000 バイト未満に制限されるため、ID が多い場合は複数の通知に分割する
+ *
+ * 受信:
+ * - コネクションプールとは別の専用接続で LISTEN し、専用スレッドで通知を待つ
+ * - 他のプロセスの通知は RemoteReadModelChangeEvent として発行する（送信元IDで自身の通知は除く）
+ * - 通知がない間は定期的に SELECT 1 で接続を確認し、切断されたら再接続する。
+ *   切断中の通知は届かないため、再接続後に ReadModelResyncEvent を発行してキャッシュ全体を破棄させる
+ *
+ * 起動時は Web サーバーより先に LISTEN を始める（最初の接続の前にキャッシュへ読み込まれることはない）。
+ *
+ * ペイロードの形式: 送信元ID;タイトル詳細のID;エピソード詳細のID;検索索引のタイトルID（各 ID はカンマ区切り）
+ */
+@Component
+public class PgNotifyReadModelChangeBus implements ReadModelChangeBus, SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(PgNotifyReadModelChangeBus.class);
+
+    /** 1通知に含める ID の最大数（ID 20 桁 × 300 件でもペイロードの上限 8000 バイトに収まる） */
+    static final int MAX_IDS_PER_NOTIFICATION = 300;
+
+    /** 受信用の接続の application_name（pg_stat_activity での識別用） */
+    static final String LISTENER_APPLICATION_NAME = "read-model-change-listener";
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final String channel;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Duration pollInterval;
+    private final Duration reconnectDelay;
+    /** このプロセスの送信元ID（自身の通知を受信時に除くため） */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    /** start() が終わった後に最初の接続ができた場合も、それまでの通知は届いていないため再同期する */
+    private volatile boolean startupComplete;
+    private volatile Connection listenerConnection;
+    private Thread listenerThread;
+
+    public PgNotifyReadModelChangeBus(
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${read-model-cache.invalidation.enabled:true}") boolean enabled,
+            @Value("${read-model-cache.invalidation.channel:read_model_changes}") String channel,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${read-model-cache.invalidation.poll-interval:10s}") Duration pollInterval,
+            @Value("${read-model-cache.invalidation.reconnect-delay:5s}") Duration reconnectDelay) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel name: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollInterval = pollInterval;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public void publish(ReadModelChange change) {
+        if (!enabled || change.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notifyOtherNodes(change);
+            return;
+        }
+        PendingChange pending = (PendingChange) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChange();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(change);
+    }
+
+    private void notifyOtherNodes(ReadModelChange change) {
+        for (String payload : encode(nodeId, change)) {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (!enabled) {
+            return;
+        }
+        CountDownLatch firstAttempt = new CountDownLatch(1);
+        listenerThread = new Thread(() -> listen(firstAttempt), LISTENER_APPLICATION_NAME);
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        try {
+            if (!firstAttempt.await(STARTUP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Read model change listener is not connected yet; caches will be flushed once it connects");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        startupComplete = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(listenerConnection);
+        Thread thread = listenerThread;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            listenerThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Web サーバー（DEFAULT_PHASE 付近）より先に開始し、後に停止する
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void listen(CountDownLatch firstAttempt) {
+        boolean missedPossible = false;
+        while (running) {
+            try (Connection connection = openListenerConnection()) {
+                listenerConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (missedPossible || startupComplete) {
+                    log.warn("Read model change listener (re)connected; flushing read model caches");
+                    eventPublisher.publishEvent(new ReadModelResyncEvent());
+                } else {
+                    log.info("Listening for read model changes on channel {}", channel);
+                }
+                missedPossible = true;
+                firstAttempt.countDown();
+                receive(connection);
+            } catch (SQLException | RuntimeException e) {
+                missedPossible = true;
+                firstAttempt.countDown();
+                if (running) {
+                    log.warn("Read model change listener failed; reconnecting in {}", reconnectDelay, e);
+                    sleep(reconnectDelay);
+                }
+            } finally {
+                listenerConnection = null;
+            }
+        }
+    }
+
+    private Connection openListenerConnection() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", username);
+        properties.setProperty("password", password);
+        properties.setProperty("ApplicationName", LISTENER_APPLICATION_NAME);
+        return DriverManager.getConnection(url, properties);
+    }
+
+    private void receive(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications((int) pollInterval.toMillis());
+            if (notifications == null || notifications.length == 0) {
+                // 通知がない間も接続が生きていることを確認する（切断が getNotifications で検知されない場合があるため）
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                handle(notification.getParameter());
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        String[] parts = payload.split(";", -1);
+        if (parts.length != 4) {
+            log.warn("Ignoring malformed read model change notification: {}", payload);
+            return;
+        }
+        if (parts[0].equals(nodeId)) {
+            return;
+        }
+        eventPublisher.publishEvent(new RemoteReadModelChangeEvent(
+                new ReadModelChange(parseIds(parts[1]), parseIds(parts[2]), parseIds(parts[3]))));
+    }
+
+    /**
+     * 変更を通知のペイロードに変換します（ID が MAX_IDS_PER_NOTIFICATION 件を超える場合は複数に分割）
+     *
+     * @param nodeId 送信元ID
+     * @param change 変更
+     * @return ペイロード
+     */
+    static List<String> encode(String nodeId, ReadModelChange change) {
+        List<Collection<Long>> kinds = List.of(
+                change.getTitleDetailIds(), change.getEpisodeDetailIds(), change.getSearchIndexTitleIds());
+        List<String> payloads = new ArrayList<>();
+        List<List<Long>> chunk = emptyChunk();
+        int size = 0;
+        for (int kind = 0; kind < kinds.size(); kind++) {
+            for (Long id : kinds.get(kind)) {
+                if (size == MAX_IDS_PER_NOTIFICATION) {
+                    payloads.add(format(nodeId, chunk));
+                    chunk = emptyChunk();
+                    size = 0;
+                }
+                chunk.get(kind).add(id);
+                size++;
+            }
+        }
+        if (size > 0) {
+            payloads.add(format(nodeId, chunk));
+        }
+        return payloads;
+    }
+
+    private static List<List<Long>> emptyChunk() {
+        return List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+
+    private static String format(String nodeId, List<List<Long>> chunk) {
+        return nodeId + ";" + chunk.stream()
+                .map(ids -> ids.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                .collect(Collectors.joining(";"));
+    }
+
+    private static List<Long> parseIds(String ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(ids.split(",")).map(Long::valueOf).toList();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close read model change listener connection", e);
+        }
+    }
+
+    /**
+     * トランザクション内で publish された変更（コミット直前に1回で送信する）
+     */
+    private final class PendingChange implements TransactionSynchronization {
+        private ReadModelChange change = new ReadModelChange(List.of(), List.of(), List.of());
+
+        void add(ReadModelChange other) {
+            change = change.merge(other);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            notifyOtherNodes(change);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PgNotifyReadModelChangeBus.this);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.videowatchlog.infrastructure.persistence.readmodel;
+
+import com.example.videowatchlog.application.readmodel.EpisodeReadModel;
+import com.example.videowatchlog.application.readmodel.SeriesReadModel;
+import com.example.videowatchlog.application.readmodel.TitleDetailReadModel;
+import com.example.videowatchlog.application.readmodel.ViewingRecordReadModel;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * TitleDetailAggregator - タイトル詳細の行を逐次 Read Model に畳み込む ResultHandler
+ *
+ * MyBatis が ResultSet から1行読み込むたびに呼び出され、行を保持せずにその場で集約します。
+ * クエリは Series → Episode → (Episode の子要素) の順に並んでいる前提で、
+ * 直前の Series/Episode の ID（primitive long）と比較するだけで所属を判定するため、
+ * ID をキーにした Map は使用しません。
+ *
+ * 1インスタンスにつき1クエリ分の結果を集約します（スレッドセーフではありません）。
+ * Read Model には変更できないビュー（Collections.unmodifiableList）としてリストを渡すため、
+ * 集約後の Read Model はキャッシュを通して複数のリクエスト・スレッドで共有しても変更されません。
+ */
+public class TitleDetailAggregator implements ResultHandler<TitleDetailRow> {
+    private long titleId;
+    private String titleName;
+    private LocalDateTime titleCreatedAt;
+    private LocalDateTime titleUpdatedAt;
+    private final List<SeriesReadModel> series = new ArrayList<>();
+
+    private long currentSeriesId;
+    private List<EpisodeReadModel> currentEpisodes;
+    private long currentEpisodeId;
+    private List<String> currentWatchPageUrls;
+    private List<ViewingRecordReadModel> currentViewingRecords;
+
+    @Override
+    public void handleResult(ResultContext<? extends TitleDetailRow> context) {
+        TitleDetailRow row = context.getResultObject();
+        switch (row.getRowKind()) {
+            case TitleDetailRow.KIND_EPISODE -> handleEpisodeRow(row);
+            case TitleDetailRow.KIND_WATCH_PAGE_URL -> {
+                if (row.getEpisodeId() == currentEpisodeId) {
+                    currentWatchPageUrls.add(row.getUrl());
+                }
+            }
+            case TitleDetailRow.KIND_VIEWING_RECORD -> {
+                if (row.getEpisodeId() == currentEpisodeId) {
+                    currentViewingRecords.add(new ViewingRecordReadModel(
+                        row.getRecordId(),
+                        row.getEpisodeId(),
+                        row.getWatchedAt(),
+                        row.getRating(),
+                        row.getComment(),
+                        row.getRecordedAt()
+                    ));
+                }
+            }
+            default -> throw new IllegalStateException("Unknown row kind: " + row.getRowKind());
+        }
+    }
+
+    private void handleEpisodeRow(TitleDetailRow row) {
+        // タイトル情報は全行で同じ
+        if (titleId == 0) {
+            titleId = row.getTitleId();
+            titleName = row.getTitleName();
+            titleCreatedAt = row.getTitleCreatedAt();
+            titleUpdatedAt = row.getTitleUpdatedAt();
+        }
+
+        // Series がない場合（LEFT JOIN で NULL）は Title のみ
+        if (row.getSeriesId() == 0) {
+            return;
+        }
+        if (row.getSeriesId() != currentSeriesId) {
+            currentSeriesId = row.getSeriesId();
+            currentEpisodes = new ArrayList<>();
+            series.add(new SeriesReadModel(
+                row.getSeriesId(),
+                row.getTitleId(),
+                row.getSeriesName(),
+                Collections.unmodifiableList(currentEpisodes),
+                row.getSeriesCreatedAt(),
+                row.getSeriesUpdatedAt()
+            ));
+        }
+
+        if (row.getEpisodeId() == 0) {
+            return;
+        }
+        currentEpisodeId = row.getEpisodeId();
+        currentWatchPageUrls = new ArrayList<>();
+        currentViewingRecords = new ArrayList<>();
+        currentEpisodes.add(new EpisodeReadModel(
+            row.getEpisodeId(),
+            row.getSeriesId(),
+            row.getEpisodeInfo(),
+            row.getWatchStatus(),
+            Collections.unmodifiableList(currentWatchPageUrls),
+            Collections.unmodifiableList(currentViewingRecords),
+            row.getEpisodeCreatedAt(),
+            row.getEpisodeUpdatedAt()
+        ));
+    }
+
+    /**
+     * 集約結果を返します
+     *
+     * @return タイトル詳細（行が1件もなかった場合は Empty）
+     */
+    public Optional<TitleDetailReadModel> getResult() {
+        if (titleId == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new TitleDetailReadModel(
+                titleId, titleName, Collections.unmodifiableList(series), titleCreatedAt, titleUpdatedAt));
+    }
+}
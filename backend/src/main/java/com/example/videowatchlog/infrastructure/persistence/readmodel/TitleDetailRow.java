@@ -0,0 +1,203 @@
+package com.example.videowatchlog.infrastructure.persistence.readmodel;
+
+import com.example.videowatchlog.domain.model.WatchStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * TitleDetailRow - タイトル詳細クエリの型付き行モデル
+ *
+ * findTitleDetailById の1行を表します。行ごとに Map を生成せず、
+ * ID は primitive long（NULL は 0）で保持します。
+ *
+ * rowKind により行の種類を区別します:
+ * - {@link #KIND_EPISODE}: Title/Series/Episode の行（LEFT JOIN のため Series/Episode が無い場合は ID が 0）
+ * - {@link #KIND_WATCH_PAGE_URL}: 直前の Episode に属する視聴ページURL
+ * - {@link #KIND_VIEWING_RECORD}: 直前の Episode に属する視聴記録
+ */
+public class TitleDetailRow {
+    public static final int KIND_EPISODE = 0;
+    public static final int KIND_WATCH_PAGE_URL = 1;
+    public static final int KIND_VIEWING_RECORD = 2;
+
+    private int rowKind;
+    private long titleId;
+    private String titleName;
+    private LocalDateTime titleCreatedAt;
+    private LocalDateTime titleUpdatedAt;
+    private long seriesId;
+    private String seriesName;
+    private LocalDateTime seriesCreatedAt;
+    private LocalDateTime seriesUpdatedAt;
+    private long episodeId;
+    private String episodeInfo;
+    private WatchStatus watchStatus;
+    private LocalDateTime episodeCreatedAt;
+    private LocalDateTime episodeUpdatedAt;
+    private String url;
+    private long recordId;
+    private LocalDateTime watchedAt;
+    private int rating;
+    private String comment;
+    private LocalDateTime recordedAt;
+
+    public int getRowKind() {
+        return rowKind;
+    }
+
+    public void setRowKind(int rowKind) {
+        this.rowKind = rowKind;
+    }
+
+    public long getTitleId() {
+        return titleId;
+    }
+
+    public void setTitleId(long titleId) {
+        this.titleId = titleId;
+    }
+
+    public String getTitleName() {
+        return titleName;
+    }
+
+    public void setTitleName(String titleName) {
+        this.titleName = titleName;
+    }
+
+    public LocalDateTime getTitleCreatedAt() {
+        return titleCreatedAt;
+    }
+
+    public void setTitleCreatedAt(LocalDateTime titleCreatedAt) {
+        this.titleCreatedAt = titleCreatedAt;
+    }
+
+    public LocalDateTime getTitleUpdatedAt() {
+        return titleUpdatedAt;
+    }
+
+    public void setTitleUpdatedAt(LocalDateTime titleUpdatedAt) {
+        this.titleUpdatedAt = titleUpdatedAt;
+    }
+
+    public long getSeriesId() {
+        return seriesId;
+    }
+
+    public void setSeriesId(long seriesId) {
+        this.seriesId = seriesId;
+    }
+
+    public String getSeriesName() {
+        return seriesName;
+    }
+
+    public void setSeriesName(String seriesName) {
+        this.seriesName = seriesName;
+    }
+
+    public LocalDateTime getSeriesCreatedAt() {
+        return seriesCreatedAt;
+    }
+
+    public void setSeriesCreatedAt(LocalDateTime seriesCreatedAt) {
+        this.seriesCreatedAt = seriesCreatedAt;
+    }
+
+    public LocalDateTime getSeriesUpdatedAt() {
+        return seriesUpdatedAt;
+    }
+
+    public void setSeriesUpdatedAt(LocalDateTime seriesUpdatedAt) {
+        this.seriesUpdatedAt = seriesUpdatedAt;
+    }
+
+    public long getEpisodeId() {
+        return episodeId;
+    }
+
+    public void setEpisodeId(long episodeId) {
+        this.episodeId = episodeId;
+    }
+
+    public String getEpisodeInfo() {
+        return episodeInfo;
+    }
+
+    public void setEpisodeInfo(String episodeInfo) {
+        this.episodeInfo = episodeInfo;
+    }
+
+    public WatchStatus getWatchStatus() {
+        return watchStatus;
+    }
+
+    public void setWatchStatus(WatchStatus watchStatus) {
+        this.watchStatus = watchStatus;
+    }
+
+    public LocalDateTime getEpisodeCreatedAt() {
+        return episodeCreatedAt;
+    }
+
+    public void setEpisodeCreatedAt(LocalDateTime episodeCreatedAt) {
+        this.episodeCreatedAt = episodeCreatedAt;
+    }
+
+    public LocalDateTime getEpisodeUpdatedAt() {
+        return episodeUpdatedAt;
+    }
+
+    public void setEpisodeUpdatedAt(LocalDateTime episodeUpdatedAt) {
+        this.episodeUpdatedAt = episodeUpdatedAt;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public long getRecordId() {
+        return recordId;
+    }
+
+    public void setRecordId(long recordId) {
+        this.recordId = recordId;
+    }
+
+    public LocalDateTime getWatchedAt() {
+        return watchedAt;
+    }
+
+    public void setWatchedAt(LocalDateTime watchedAt) {
+        this.watchedAt = watchedAt;
+    }
+
+    public int getRating() {
+        return rating;
+    }
+
+    public void setRating(int rating) {
+        this.rating = rating;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+
+    public void setRecordedAt(LocalDateTime recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+}
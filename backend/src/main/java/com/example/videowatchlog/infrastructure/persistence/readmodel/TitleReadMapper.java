@@ -1,13 +1,13 @@
 package com.example.videowatchlog.infrastructure.persistence.readmodel;
 
-import com.example.videowatchlog.application.readmodel.TitleDetailReadModel;
 import com.example.videowatchlog.application.readmodel.TitleListReadModel;
 import org.apache.ibatis.annotations.Mapper;
-import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 
 /**
  * TitleReadMapper - タイトル読み取り用 MyBatis マッパー
@@ -20,20 +20,80 @@ import java.util.Optional;
 public interface TitleReadMapper {
 
     /**
-     * すべてのタイトル一覧を取得（最小限の情報）
+     * タイトル一覧を1ページ分取得（タイトルと進捗、(created_at, id) の降順）
+     * (created_at, id) の行値比較でキーセットページングを行い、idx_titles_created_at_id を使って開始位置から読み始める
      *
+     * @param afterCreatedAt 前ページ最後のタイトルの作成日時（null の場合は先頭ページ）
+     * @param afterId 前ページ最後のタイトルのID（null の場合は先頭ページ）
+     * @param limit 最大件数
      * @return タイトル一覧
      */
-    @Select("SELECT id, name, created_at, updated_at FROM titles ORDER BY created_at DESC")
-    List<TitleListReadModel> findAllTitles();
+    List<TitleListReadModel> findTitlesPage(
+        @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+        @Param("afterId") Long afterId,
+        @Param("limit") int limit
+    );
 
     /**
-     * タイトル詳細の生データを取得（Series/Episode/ViewingRecord を含む）
-     * 単一の JOIN クエリで全データを取得（返却はマップのリスト）
-     * TitleReadService でこれを TitleDetailReadModel に変換する
+     * タイトル一覧の1件を取得（タイトルと進捗）
      *
      * @param titleId タイトルID
-     * @return タイトル詳細の生データ
+     * @return タイトル（存在しない場合は null）
      */
-    List<Map<String, Object>> findTitleDetailByIdRaw(Long titleId);
+    TitleListReadModel findTitleById(@Param("titleId") Long titleId);
+
+    /**
+     * 複数のタイトルを取得（タイトルと進捗、= ANY で1回のラウンドトリップ）
+     *
+     * @param titleIds タイトルIDの配列
+     * @return タイトル（存在しないIDは含まない）
+     */
+    List<TitleListReadModel> findTitlesByIds(@Param("titleIds") Long[] titleIds);
+
+    /**
+     * すべてのタイトル一覧をカーソルで逐次取得（(created_at, id) の降順）
+     * 結果はリストに蓄積されず、fetchSize 件ずつ ResultSet から読み込まれる。
+     * 返された Cursor はトランザクション（SqlSession）内でのみ有効で、使用後に close すること。
+     *
+     * @return タイトル一覧のカーソル
+     */
+    Cursor<TitleListReadModel> streamAllTitles();
+
+    /**
+     * タイトル詳細を1クエリで取得し、行ごとに handler へ渡す（Series/Episode と展開された子要素を含む）
+     * 結果はリストに蓄積されず、TitleDetailAggregator が ResultSet から読み込まれた順に集約する
+     *
+     * @param titleId タイトルID
+     * @param withWatchPageUrls 視聴ページURLの行を含めるか
+     * @param withViewingRecords 視聴記録の行を含めるか
+     * @param handler 行を受け取る ResultHandler
+     */
+    void findTitleDetailById(
+        @Param("titleId") Long titleId,
+        @Param("withWatchPageUrls") boolean withWatchPageUrls,
+        @Param("withViewingRecords") boolean withViewingRecords,
+        ResultHandler<TitleDetailRow> handler
+    );
+
+    /**
+     * タイトル詳細のバージョン（内容が変わると変わる値）を1行の集計で取得
+     *
+     * @param titleId タイトルID
+     * @param withWatchPageUrls 視聴ページURLをバージョンに含めるか
+     * @param withViewingRecords 視聴記録をバージョンに含めるか
+     * @return バージョン（タイトルが存在しない場合は null）
+     */
+    String findTitleDetailVersion(
+        @Param("titleId") Long titleId,
+        @Param("withWatchPageUrls") boolean withWatchPageUrls,
+        @Param("withViewingRecords") boolean withViewingRecords
+    );
+
+    /**
+     * シリーズが属するタイトルのIDを取得
+     *
+     * @param seriesId シリーズID
+     * @return タイトルID（シリーズが存在しない場合は null）
+     */
+    Long findTitleIdBySeriesId(@Param("seriesId") Long seriesId);
 }
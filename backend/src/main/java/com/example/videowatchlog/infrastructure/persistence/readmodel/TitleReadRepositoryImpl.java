@@ -1,19 +1,20 @@
 package com.example.videowatchlog.infrastructure.persistence.readmodel;
 
-import com.example.videowatchlog.application.readmodel.EpisodeReadModel;
-import com.example.videowatchlog.application.readmodel.SeriesReadModel;
+import com.example.videowatchlog.application.readmodel.TitleCursor;
+import com.example.videowatchlog.application.readmodel.TitleDetailExpansion;
 import com.example.videowatchlog.application.readmodel.TitleDetailReadModel;
 import com.example.videowatchlog.application.readmodel.TitleListReadModel;
 import com.example.videowatchlog.application.readmodel.repository.TitleReadRepository;
-import com.example.videowatchlog.domain.model.WatchStatus;
-import com.example.videowatchlog.infrastructure.persistence.readmodel.TitleReadMapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Repository;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * TitleReadRepositoryImpl - CQRS Read Model Repository 実装
@@ -35,118 +36,59 @@ public class TitleReadRepositoryImpl implements TitleReadRepository {
     }
 
     @Override
-    public List<TitleListReadModel> findAllTitles() {
-        return titleReadMapper.findAllTitles();
+    public List<TitleListReadModel> findTitlesPage(TitleCursor after, int limit) {
+        if (after == null) {
+            return titleReadMapper.findTitlesPage(null, null, limit);
+        }
+        return titleReadMapper.findTitlesPage(after.getCreatedAt(), after.getId(), limit);
     }
 
     @Override
-    public Optional<TitleDetailReadModel> findTitleDetailById(Long titleId) {
-        List<Map<String, Object>> rawResults = titleReadMapper.findTitleDetailByIdRaw(titleId);
-        if (rawResults.isEmpty()) {
-            return Optional.empty();
-        }
-
-        // 生データから TitleDetailReadModel を構築
-        return Optional.of(buildTitleDetail(rawResults));
+    public Optional<TitleListReadModel> findTitleById(Long titleId) {
+        return Optional.ofNullable(titleReadMapper.findTitleById(titleId));
     }
 
-    /**
-     * 生データから TitleDetailReadModel を構築
-     * JOIN クエリの結果（複数行）をメモリで集約
-     */
-    private TitleDetailReadModel buildTitleDetail(List<Map<String, Object>> rows) {
-        if (rows.isEmpty()) {
-            throw new IllegalArgumentException("No data to build TitleDetailReadModel");
+    @Override
+    public List<TitleListReadModel> findTitlesByIds(Collection<Long> titleIds) {
+        if (titleIds.isEmpty()) {
+            return List.of();
         }
+        return titleReadMapper.findTitlesByIds(titleIds.toArray(Long[]::new));
+    }
 
-        // タイトル情報は全行で同じ
-        Map<String, Object> firstRow = rows.get(0);
-        Long titleId = ((Number) firstRow.get("title_id")).longValue();
-        String titleName = (String) firstRow.get("title_name");
-        LocalDateTime titleCreatedAt = toLocalDateTime(firstRow.get("title_created_at"));
-        LocalDateTime titleUpdatedAt = toLocalDateTime(firstRow.get("title_updated_at"));
-
-        // Series と Episode をメモリで集約
-        LinkedHashMap<Long, SeriesReadModel> seriesMap = new LinkedHashMap<>();
-
-        for (Map<String, Object> row : rows) {
-            Object seriesIdObj = row.get("s_id");
-
-            // Series がある場合のみ処理
-            if (seriesIdObj != null) {
-                Long seriesId = ((Number) seriesIdObj).longValue();
-
-                // Series を新規作成する場合
-                if (!seriesMap.containsKey(seriesId)) {
-                    Long sTitleId = ((Number) row.get("s_title_id")).longValue();
-                    String seriesName = (String) row.get("s_name");
-                    LocalDateTime seriesCreatedAt = toLocalDateTime(row.get("s_created_at"));
-                    LocalDateTime seriesUpdatedAt = toLocalDateTime(row.get("s_updated_at"));
-
-                    SeriesReadModel series = new SeriesReadModel(
-                        seriesId,
-                        sTitleId,
-                        seriesName,
-                        new ArrayList<>(),
-                        seriesCreatedAt,
-                        seriesUpdatedAt
-                    );
-                    seriesMap.put(seriesId, series);
-                }
-
-                // Episode を処理
-                Object episodeIdObj = row.get("e_id");
-                if (episodeIdObj != null) {
-                    Long episodeId = ((Number) episodeIdObj).longValue();
-                    Long episodeSeriesId = ((Number) row.get("e_series_id")).longValue();
-                    String episodeInfo = (String) row.get("e_episode_info");
-                    WatchStatus watchStatus = WatchStatus.valueOf((String) row.get("e_watch_status"));
-                    LocalDateTime episodeCreatedAt = toLocalDateTime(row.get("e_created_at"));
-                    LocalDateTime episodeUpdatedAt = toLocalDateTime(row.get("e_updated_at"));
-
-                    EpisodeReadModel episode = new EpisodeReadModel(
-                        episodeId,
-                        episodeSeriesId,
-                        episodeInfo,
-                        watchStatus,
-                        new ArrayList<>(), // watchPageUrls は遅延ロード
-                        new ArrayList<>(), // viewingRecords は遅延ロード
-                        episodeCreatedAt,
-                        episodeUpdatedAt
-                    );
-
-                    // 対応する Series に Episode を追加
-                    SeriesReadModel series = seriesMap.get(episodeSeriesId);
-                    if (series != null) {
-                        series.getEpisodes().add(episode);
-                    }
-                }
-            }
+    @Override
+    public void forEachTitle(Consumer<TitleListReadModel> action) {
+        try (Cursor<TitleListReadModel> cursor = titleReadMapper.streamAllTitles()) {
+            cursor.forEach(action);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close title cursor", e);
         }
+    }
 
-        return new TitleDetailReadModel(
+    @Override
+    public Optional<TitleDetailReadModel> findTitleDetailById(Long titleId, Set<TitleDetailExpansion> expansions) {
+        // 行は ResultSet から読み込まれるたびに集約され、中間リストやマップは作られない
+        TitleDetailAggregator aggregator = new TitleDetailAggregator();
+        titleReadMapper.findTitleDetailById(
             titleId,
-            titleName,
-            new ArrayList<>(seriesMap.values()),
-            titleCreatedAt,
-            titleUpdatedAt
+            expansions.contains(TitleDetailExpansion.WATCH_PAGE_URLS),
+            expansions.contains(TitleDetailExpansion.VIEWING_RECORDS),
+            aggregator
         );
+        return aggregator.getResult();
     }
 
-    /**
-     * sql.Timestamp から java.time.LocalDateTime への型変換ヘルパー
-     * MyBatis がデータベースから取得した日時は Timestamp の場合がある
-     */
-    private LocalDateTime toLocalDateTime(Object value) {
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof LocalDateTime) {
-            return (LocalDateTime) value;
-        }
-        if (value instanceof java.sql.Timestamp) {
-            return ((java.sql.Timestamp) value).toLocalDateTime();
-        }
-        throw new IllegalArgumentException("Cannot convert " + value.getClass() + " to LocalDateTime");
+    @Override
+    public Optional<String> findTitleDetailVersion(Long titleId, Set<TitleDetailExpansion> expansions) {
+        return Optional.ofNullable(titleReadMapper.findTitleDetailVersion(
+            titleId,
+            expansions.contains(TitleDetailExpansion.WATCH_PAGE_URLS),
+            expansions.contains(TitleDetailExpansion.VIEWING_RECORDS)
+        ));
+    }
+
+    @Override
+    public Optional<Long> findTitleIdBySeriesId(Long seriesId) {
+        return Optional.ofNullable(titleReadMapper.findTitleIdBySeriesId(seriesId));
     }
 }
@@ -0,0 +1,22 @@
+package com.example.videowatchlog.infrastructure.persistence.readmodel;
+
+import com.example.videowatchlog.application.readmodel.WatchListExportNode;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
+
+/**
+ * WatchListExportMapper - 全件エクスポート用 MyBatis マッパー
+ */
+@Mapper
+public interface WatchListExportMapper {
+
+    /**
+     * すべての要素（タイトル・タイトル情報URL・シリーズ・エピソード・視聴ページURL・視聴記録）を
+     * 階層の深さ優先の順にカーソルで逐次取得
+     * 結果はリストに蓄積されず、fetchSize 件ずつ ResultSet から読み込まれる。
+     * 返された Cursor はトランザクション（SqlSession）内でのみ有効で、使用後に close すること。
+     *
+     * @return 要素のカーソル
+     */
+    Cursor<WatchListExportNode> streamAllNodes();
+}
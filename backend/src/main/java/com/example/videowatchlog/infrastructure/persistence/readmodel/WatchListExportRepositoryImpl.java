@@ -0,0 +1,82 @@
+package com.example.videowatchlog.infrastructure.persistence.readmodel;
+
+import com.example.videowatchlog.application.readmodel.WatchListExportNode;
+import com.example.videowatchlog.application.readmodel.repository.WatchListExportRepository;
+import org.apache.ibatis.cursor.Cursor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * WatchListExportRepositoryImpl - Read Model Repository 実装
+ *
+ * forEachNode: WatchListExportMapper のカーソルで要素を fetchSize 件ずつ読み込みます。
+ *
+ * writeCsv: トランザクションの接続で CopyManager による COPY ... TO STDOUT（CSV 形式）を実行し、
+ * サーバーが生成した CSV をそのまま out に書き出します。行を Java のオブジェクトに変換しないため、
+ * 行数に関わらず使用メモリは一定です。NULL は引用符なしの空、空文字は "" で出力されるため、
+ * 一括取り込みの CSV と同じく両者を区別できます。
+ */
+@Repository
+public class WatchListExportRepositoryImpl implements WatchListExportRepository {
+    /**
+     * 1行1件の視聴記録（子要素のない階層は LEFT JOIN の NULL で1行）
+     * watchedAt は一括取り込みで読み込める ISO 8601 形式（末尾の0の小数秒は省略）
+     */
+    static final String COPY_CSV_SQL = "COPY ("
+            + "SELECT t.name AS title, s.name AS series, e.episode_info AS episode, c.url AS \"watchPageUrl\","
+            + " RTRIM(RTRIM(TO_CHAR(c.watched_at, 'YYYY-MM-DD\"T\"HH24:MI:SS.US'), '0'), '.') AS \"watchedAt\","
+            + " c.rating, c.comment"
+            + " FROM titles t"
+            + " LEFT JOIN series s ON s.title_id = t.id"
+            + " LEFT JOIN episodes e ON e.series_id = s.id"
+            + " LEFT JOIN LATERAL ("
+            + "SELECT 0 AS node_order, w.id, w.url, CAST(NULL AS TIMESTAMP) AS watched_at,"
+            + " CAST(NULL AS INT) AS rating, CAST(NULL AS TEXT) AS comment"
+            + " FROM watch_page_urls w WHERE w.episode_id = e.id"
+            + " UNION ALL"
+            + " SELECT 1, v.id, NULL, v.watched_at, v.rating, v.comment"
+            + " FROM viewing_records v WHERE v.episode_id = e.id"
+            + ") c ON TRUE"
+            + " ORDER BY t.id, s.id NULLS FIRST, e.id NULLS FIRST, c.node_order, c.id"
+            + ") TO STDOUT (FORMAT csv, HEADER)";
+
+    private final DataSource dataSource;
+    private final WatchListExportMapper mapper;
+
+    public WatchListExportRepositoryImpl(DataSource dataSource, WatchListExportMapper mapper) {
+        this.dataSource = dataSource;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void forEachNode(Consumer<WatchListExportNode> action) {
+        try (Cursor<WatchListExportNode> cursor = mapper.streamAllNodes()) {
+            cursor.forEach(action);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close export cursor", e);
+        }
+    }
+
+    @Override
+    public void writeCsv(OutputStream out) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyOut(COPY_CSV_SQL, out);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to export watch log as CSV", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write CSV export", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+}
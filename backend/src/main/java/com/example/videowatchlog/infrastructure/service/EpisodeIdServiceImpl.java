@@ -1,36 +1,45 @@
 package com.example.videowatchlog.infrastructure.service;
 
 import com.example.videowatchlog.domain.service.EpisodeIdService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * EpisodeIdServiceImpl - Episode エンティティ用 ID采番サービス実装
  *
- * PostgreSQL の episodes_id_seq シーケンスから一意なIDを采番します。
+ * PostgreSQL の episodes_id_seq シーケンスからIDをブロック単位で予約し、一意なIDを采番します。
  */
 @Service
 public class EpisodeIdServiceImpl implements EpisodeIdService {
-    private final JdbcTemplate jdbcTemplate;
+    private final SequenceBlockIdAllocator allocator;
 
-    public EpisodeIdServiceImpl(JdbcTemplate jdbcTemplate) {
-        this.jdbcTemplate = jdbcTemplate;
+    public EpisodeIdServiceImpl(
+            JdbcTemplate jdbcTemplate,
+            @Value("${id-generation.block-size:50}") int blockSize) {
+        this.allocator = new SequenceBlockIdAllocator(jdbcTemplate, "episodes_id_seq", blockSize);
     }
 
     /**
-     * PostgreSQL の SERIAL シーケンスから次のEpisode IDを取得
+     * 予約済みのブロックから次のEpisode IDを取得（使い切った場合のみシーケンスを呼び出す）
      *
      * @return 采番されたID
      */
     @Override
     public Long generateId() {
-        Long id = jdbcTemplate.queryForObject(
-            "SELECT nextval('episodes_id_seq')",
-            Long.class
-        );
-        if (id == null) {
-            throw new IllegalStateException("Failed to generate ID for Episode from sequence episodes_id_seq");
-        }
-        return id;
+        return allocator.nextId();
+    }
+
+    /**
+     * 必要な数のブロックを1回のシーケンス呼び出しで予約してIDをまとめて取得
+     *
+     * @param count 件数
+     * @return 采番されたID
+     */
+    @Override
+    public List<Long> generateIds(int count) {
+        return allocator.nextIds(count);
     }
 }
@@ -0,0 +1,142 @@
+package com.example.videowatchlog.infrastructure.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * SequenceBlockIdAllocator - シーケンスからIDをブロック単位で予約して払い出す采番器（pooled 方式）
+ *
+ * シーケンスの INCREMENT BY を N とすると、nextval が返した値 v から v + N - 1 までは他の nextval に返されないため、
+ * 1回の nextval で blockSize 件（N 以下）のIDをまとめて予約し、メモリ上の AtomicLong から払い出します。
+ *
+ * - 払い出しはロックを取らない（ブロックを使い切ったスレッドだけが補充のためにロックを取る）
+ * - 補充は1スレッドだけが行い、同じブロックを使い切った他のスレッドは補充されたブロックを使う
+ *   （補充は DB を呼び出すため、仮想スレッドがキャリアスレッドを占有しないよう synchronized ではなく ReentrantLock で排他する）
+ * - 予約したブロックの残りはプロセスの停止で失われる（IDに欠番ができるが一意性は保たれる）
+ * - 補充のたびにシーケンスの INCREMENT BY を確認し、blockSize より小さい場合は IllegalStateException を投げる
+ *   （他のプロセスに予約されたIDを払い出さないため）
+ * - 多数のIDをまとめて必要とする場合（一括作成）は nextIds で必要な数のブロックを1ステートメントで予約する
+ */
+public final class SequenceBlockIdAllocator {
+    private static final Pattern SEQUENCE_NAME_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sequenceName;
+    private final int blockSize;
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    /** 払い出し中のブロック（初期値は使い切った状態の空ブロック） */
+    private volatile Block current = new Block(0, 0);
+
+    public SequenceBlockIdAllocator(JdbcTemplate jdbcTemplate, String sequenceName, int blockSize) {
+        if (!SEQUENCE_NAME_PATTERN.matcher(sequenceName).matches()) {
+            throw new IllegalArgumentException("Invalid sequence name: " + sequenceName);
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("ID block size must be positive: " + blockSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.sequenceName = sequenceName;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 次のIDを払い出します（ブロックを使い切った場合はシーケンスから次のブロックを予約）
+     *
+     * @return 采番されたID
+     */
+    public long nextId() {
+        while (true) {
+            Block block = current;
+            long id = block.next.getAndIncrement();
+            if (id < block.limit) {
+                return id;
+            }
+            refillLock.lock();
+            try {
+                // 待っている間に他のスレッドが補充していれば、そのブロックから払い出す
+                if (current == block) {
+                    current = reserveBlock();
+                }
+            } finally {
+                refillLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 指定した件数のIDを払い出します
+     *
+     * 払い出し中のブロックは使わず、必要な数のブロックを1回のステートメント（nextval を必要な回数）で予約します。
+     * 最後のブロックの残りは欠番になります。
+     *
+     * @param count 件数
+     * @return 采番されたID（昇順）
+     */
+    public List<Long> nextIds(int count) {
+        if (count < 1) {
+            return List.of();
+        }
+        int blocks = (count + blockSize - 1) / blockSize;
+        List<Long[]> reserved = jdbcTemplate.query(
+            "SELECT nextval(s.seqrelid), s.seqincrement FROM pg_sequence s CROSS JOIN generate_series(1, ?) "
+                + "WHERE s.seqrelid = ?::regclass",
+            (rs, rowNum) -> new Long[] {rs.getLong(1), rs.getLong(2)},
+            blocks, sequenceName
+        );
+        if (reserved.size() != blocks) {
+            throw new IllegalStateException("Failed to reserve IDs from sequence " + sequenceName);
+        }
+        List<Long> ids = new ArrayList<>(count);
+        reserved.stream()
+            .map(this::toBlock)
+            .sorted((a, b) -> Long.compare(a.limit, b.limit))
+            .forEach(block -> {
+                for (long id = block.next.get(); id < block.limit && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            });
+        return ids;
+    }
+
+    private Block reserveBlock() {
+        Long[] reserved = jdbcTemplate.queryForObject(
+            "SELECT nextval(s.seqrelid), s.seqincrement FROM pg_sequence s WHERE s.seqrelid = ?::regclass",
+            (rs, rowNum) -> new Long[] {rs.getLong(1), rs.getLong(2)},
+            sequenceName
+        );
+        if (reserved == null) {
+            throw new IllegalStateException("Failed to reserve IDs from sequence " + sequenceName);
+        }
+        return toBlock(reserved);
+    }
+
+    /**
+     * nextval の値と INCREMENT BY からブロックを作ります（INCREMENT BY が blockSize より小さい場合は予約できない）
+     */
+    private Block toBlock(Long[] reserved) {
+        if (reserved[1] < blockSize) {
+            throw new IllegalStateException("ID block size " + blockSize + " exceeds INCREMENT BY "
+                    + reserved[1] + " of sequence " + sequenceName);
+        }
+        return new Block(reserved[0], reserved[0] + blockSize);
+    }
+
+    /**
+     * 予約済みのIDの範囲 [next, limit)
+     */
+    private static final class Block {
+        private final AtomicLong next;
+        private final long limit;
+
+        Block(long start, long limit) {
+            this.next = new AtomicLong(start);
+            this.limit = limit;
+        }
+    }
+}
@@ -1,36 +1,45 @@
 package com.example.videowatchlog.infrastructure.service;
 
 import com.example.videowatchlog.domain.service.TitleIdService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * TitleIdServiceImpl - Title エンティティ用 ID采番サービス実装
  *
- * PostgreSQL の titles_id_seq シーケンスから一意なIDを采番します。
+ * PostgreSQL の titles_id_seq シーケンスからIDをブロック単位で予約し、一意なIDを采番します。
  */
 @Service
 public class TitleIdServiceImpl implements TitleIdService {
-    private final JdbcTemplate jdbcTemplate;
+    private final SequenceBlockIdAllocator allocator;
 
-    public TitleIdServiceImpl(JdbcTemplate jdbcTemplate) {
-        this.jdbcTemplate = jdbcTemplate;
+    public TitleIdServiceImpl(
+            JdbcTemplate jdbcTemplate,
+            @Value("${id-generation.block-size:50}") int blockSize) {
+        this.allocator = new SequenceBlockIdAllocator(jdbcTemplate, "titles_id_seq", blockSize);
     }
 
     /**
-     * PostgreSQL の SERIAL シーケンスから次のTitle IDを取得
+     * 予約済みのブロックから次のTitle IDを取得（使い切った場合のみシーケンスを呼び出す）
      *
      * @return 采番されたID
      */
     @Override
     public Long generateId() {
-        Long id = jdbcTemplate.queryForObject(
-            "SELECT nextval('titles_id_seq')",
-            Long.class
-        );
-        if (id == null) {
-            throw new IllegalStateException("Failed to generate ID for Title from sequence titles_id_seq");
-        }
-        return id;
+        return allocator.nextId();
+    }
+
+    /**
+     * 必要な数のブロックを1回のシーケンス呼び出しで予約してIDをまとめて取得
+     *
+     * @param count 件数
+     * @return 采番されたID
+     */
+    @Override
+    public List<Long> generateIds(int count) {
+        return allocator.nextIds(count);
     }
 }
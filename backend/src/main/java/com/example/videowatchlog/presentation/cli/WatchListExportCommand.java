@@ -0,0 +1,93 @@
+package com.example.videowatchlog.presentation.cli;
+
+import com.example.videowatchlog.application.usecase.ExportWatchListUseCase;
+import com.example.videowatchlog.application.watchlistexport.WatchListExportFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * WatchListExportCommand - 視聴記録の全件エクスポートをファイルに書き出すコマンドラインモード
+ *
+ * watch-list-export.output を指定して起動すると、起動後にエクスポート（GET /export と同じ内容）を
+ * ファイルに書き出し、アプリケーションを終了します（夜間バックアップなどの定期実行用）。
+ * Web サーバーとキャッシュの無効化の受信は不要なため、spring.main.web-application-type=none と
+ * read-model-cache.invalidation.enabled=false を合わせて指定します。
+ *
+ * <pre>
+ * java -jar videowatchlog.jar --spring.main.web-application-type=none --read-model-cache.invalidation.enabled=false \
+ *     --watch-list-export.output=/backup/watch-log.ndjson.gz --watch-list-export.format=ndjson
+ * </pre>
+ *
+ * - ファイル名が .gz で終わる場合は gzip で圧縮しながら書き出す
+ * - 書き出し中は同じディレクトリの一時ファイルに書き、完了後に置き換える（途中で失敗しても既存のファイルは壊れない）
+ * - 失敗した場合は例外で起動に失敗し、終了コードは 0 以外になる
+ */
+@Component
+@ConditionalOnProperty(name = "watch-list-export.output")
+public class WatchListExportCommand implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(WatchListExportCommand.class);
+    private static final int EXPORT_BUFFER_SIZE = 65536;
+
+    private final ExportWatchListUseCase exportWatchListUseCase;
+    private final ConfigurableApplicationContext context;
+    private final Path output;
+    private final WatchListExportFormat format;
+
+    public WatchListExportCommand(
+            ExportWatchListUseCase exportWatchListUseCase,
+            ConfigurableApplicationContext context,
+            @Value("${watch-list-export.output}") String output,
+            @Value("${watch-list-export.format:ndjson}") String format) {
+        this.exportWatchListUseCase = exportWatchListUseCase;
+        this.context = context;
+        this.output = Path.of(output).toAbsolutePath();
+        this.format = WatchListExportFormat.fromName(format);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Path temporary = output.resolveSibling(output.getFileName() + ".part");
+        try {
+            try (OutputStream out = open(temporary)) {
+                exportWatchListUseCase.execute(format, out);
+            }
+            Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write export file " + output, e);
+        } finally {
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException e) {
+                log.warn("Failed to delete temporary export file {}", temporary, e);
+            }
+        }
+        log.info("Watch log exported to {} ({} bytes)", output, output.toFile().length());
+
+        // エクスポートが終わったら（Web サーバーが起動していても）終了する
+        SpringApplication.exit(context);
+    }
+
+    private OutputStream open(Path path) throws IOException {
+        OutputStream file = Files.newOutputStream(path);
+        if (output.getFileName().toString().endsWith(".gz")) {
+            return new GZIPOutputStream(file, EXPORT_BUFFER_SIZE);
+        }
+        return new BufferedOutputStream(file, EXPORT_BUFFER_SIZE);
+    }
+}
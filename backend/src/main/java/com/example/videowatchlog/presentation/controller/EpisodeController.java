@@ -1,10 +1,13 @@
 package com.example.videowatchlog.presentation.controller;
 
+import com.example.videowatchlog.application.dto.BatchCompleteEpisodesRequestDTO;
+import com.example.videowatchlog.application.dto.BatchCompleteEpisodesResultDTO;
 import com.example.videowatchlog.application.dto.CreateEpisodeRequestDTO;
 import com.example.videowatchlog.application.dto.EpisodeDetailDTO;
 import com.example.videowatchlog.application.dto.ViewingRecordDetailDTO;
 import com.example.videowatchlog.application.dto.ViewingRecordRequestDTO;
 import com.example.videowatchlog.application.usecase.AddViewingRecordUseCase;
+import com.example.videowatchlog.application.usecase.BatchCompleteEpisodesUseCase;
 import com.example.videowatchlog.application.usecase.CompleteEpisodeUseCase;
 import com.example.videowatchlog.application.usecase.CreateEpisodeUseCase;
 import com.example.videowatchlog.application.usecase.DeleteEpisodeUseCase;
@@ -20,6 +23,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import jakarta.validation.Valid;
 
 /**
@@ -35,6 +39,7 @@ public class EpisodeController {
     private final DeleteEpisodeUseCase deleteEpisodeUseCase;
     private final CompleteEpisodeUseCase completeEpisodeUseCase;
     private final AddViewingRecordUseCase addViewingRecordUseCase;
+    private final BatchCompleteEpisodesUseCase batchCompleteEpisodesUseCase;
 
     public EpisodeController(
             GetEpisodeDetailUseCase getEpisodeDetailUseCase,
@@ -42,31 +47,42 @@ public class EpisodeController {
             UpdateEpisodeUseCase updateEpisodeUseCase,
             DeleteEpisodeUseCase deleteEpisodeUseCase,
             CompleteEpisodeUseCase completeEpisodeUseCase,
-            AddViewingRecordUseCase addViewingRecordUseCase) {
+            AddViewingRecordUseCase addViewingRecordUseCase,
+            BatchCompleteEpisodesUseCase batchCompleteEpisodesUseCase) {
         this.getEpisodeDetailUseCase = getEpisodeDetailUseCase;
         this.createEpisodeUseCase = createEpisodeUseCase;
         this.updateEpisodeUseCase = updateEpisodeUseCase;
         this.deleteEpisodeUseCase = deleteEpisodeUseCase;
         this.completeEpisodeUseCase = completeEpisodeUseCase;
         this.addViewingRecordUseCase = addViewingRecordUseCase;
+        this.batchCompleteEpisodesUseCase = batchCompleteEpisodesUseCase;
     }
 
     @GetMapping("/{episodeId}")
     @Operation(
         summary = "エピソード詳細を取得",
         description = "指定されたIDのエピソード詳細を取得します。シリーズ・タイトル情報および視聴記録も含まれます。"
+            + "レスポンスの ETag を If-None-Match に指定すると、変更がない場合は本文なしの 304 を返します。"
     )
     @ApiResponses(value = {
         @ApiResponse(
-            responseCode = "200", description = "取得成功",
+            responseCode = "200", description = "取得成功（ETag ヘッダー付き）",
             content = @Content(schema = @Schema(implementation = EpisodeDetailDTO.class))
         ),
+        @ApiResponse(responseCode = "304", description = "If-None-Match の ETag から変更なし（本文なし）"),
         @ApiResponse(responseCode = "404", description = "エピソードが見つかりません")
     })
     public ResponseEntity<EpisodeDetailDTO> getEpisodeDetail(
             @Parameter(description = "エピソードID", required = true, example = "1")
-            @PathVariable Long episodeId) {
-        EpisodeDetailDTO detail = getEpisodeDetailUseCase.execute(episodeId);
+            @PathVariable Long episodeId,
+            WebRequest webRequest) {
+        // 変更がなければ詳細を組み立てずに 304 を返す（ステータスと ETag ヘッダーは checkNotModified が設定する）
+        String version = getEpisodeDetailUseCase.getVersion(episodeId);
+        if (webRequest.checkNotModified(version)) {
+            return null;
+        }
+        // キャッシュの内容が version と異なれば読み直されるため、ETag より古い本文は返さない
+        EpisodeDetailDTO detail = getEpisodeDetailUseCase.execute(episodeId, version);
         return ResponseEntity.ok(detail);
     }
 
@@ -152,6 +168,24 @@ public class EpisodeController {
         return ResponseEntity.ok(record);
     }
 
+    @PostMapping("/complete:batch")
+    @Operation(
+        summary = "複数のエピソードの視聴をまとめて完了",
+        description = "未視聴のエピソードをまとめて視聴済みにし、それぞれの最初の視聴記録を作成します（1トランザクション）。"
+            + "視聴日時・評価・感想は共通の値を指定し、エピソードごとに上書きできます。"
+            + "既に視聴済み・見つからない・入力が不正なエピソードはリクエスト全体を失敗させず、"
+            + "エピソードごとの結果コード（COMPLETED / ALREADY_WATCHED / NOT_FOUND / INVALID / DUPLICATE）で返します。"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "処理完了（エピソードごとの結果を含む）",
+            content = @Content(schema = @Schema(implementation = BatchCompleteEpisodesResultDTO.class))),
+        @ApiResponse(responseCode = "400", description = "リクエストが不正（エピソードの指定なし・上限超過を含む）")
+    })
+    public ResponseEntity<BatchCompleteEpisodesResultDTO> batchCompleteEpisodes(
+            @Valid @RequestBody BatchCompleteEpisodesRequestDTO request) {
+        return ResponseEntity.ok(batchCompleteEpisodesUseCase.execute(request));
+    }
+
     @PostMapping("/{episodeId}/viewing-records")
     @Operation(
         summary = "視聴記録を追加",
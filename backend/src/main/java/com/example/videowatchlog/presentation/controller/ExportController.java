@@ -0,0 +1,128 @@
+package com.example.videowatchlog.presentation.controller;
+
+import com.example.videowatchlog.application.usecase.ExportWatchListUseCase;
+import com.example.videowatchlog.application.watchlistexport.WatchListExportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ExportController - 視聴記録の全件エクスポート REST API
+ */
+@RestController
+@RequestMapping("/export")
+@Tag(name = "Export", description = "視聴記録の全件エクスポート API")
+public class ExportController {
+    private static final int EXPORT_BUFFER_SIZE = 65536;
+
+    private final ExportWatchListUseCase exportWatchListUseCase;
+
+    public ExportController(ExportWatchListUseCase exportWatchListUseCase) {
+        this.exportWatchListUseCase = exportWatchListUseCase;
+    }
+
+    @GetMapping
+    @Operation(
+        summary = "視聴記録を全件エクスポート",
+        description = "すべてのタイトル・シリーズ・エピソード・視聴ページURL・視聴記録をストリーミングで返します（バックアップ・分析用）。"
+            + "ndjson は1行1タイトルでシリーズ以下を入れ子で含み、csv は1行1件の視聴ページURL・視聴記録で、"
+            + "列は一括取り込み（POST /imports）と同じです。行は DB から読み込まれた順に送信されるため、"
+            + "件数に関わらずサーバーのメモリ使用量は一定です。"
+            + "Accept-Encoding に gzip を指定すると、送信しながら gzip で圧縮します（Content-Encoding: gzip）。"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "取得成功（application/x-ndjson または text/csv）"),
+        @ApiResponse(responseCode = "400", description = "対応していない形式")
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "出力の形式（ndjson または csv）", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        WatchListExportFormat exportFormat = WatchListExportFormat.fromName(format);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+                exportWatchListUseCase.execute(exportFormat, compressed);
+                compressed.finish();
+            } else {
+                OutputStream out = new BufferedOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+                exportWatchListUseCase.execute(exportFormat, out);
+                out.flush();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getMediaType() + ";charset=UTF-8"))
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("watch-log-" + LocalDate.now() + "." + exportFormat.getFileExtension())
+                .build()
+                .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Accept-Encoding が gzip を受け付けるかを判定します
+     * カンマ区切りの各エントリの q 値を見て、gzip（または x-gzip）が q=0 で拒否されている場合は受け付けません。
+     * gzip の指定がない場合は、* の q 値に従います。
+     *
+     * @param acceptEncoding Accept-Encoding ヘッダーの値（ない場合は null）
+     * @return gzip で圧縮してよい場合は true
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = qualityOf(parts) > 0;
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return accepted;
+            }
+            if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // 不正な q 値は受け付けないものとして扱う
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.videowatchlog.presentation.controller;
+
+import com.example.videowatchlog.application.dto.WatchListImportProgressDTO;
+import com.example.videowatchlog.application.dto.WatchListImportResultDTO;
+import com.example.videowatchlog.application.usecase.ImportWatchListUseCase;
+import com.example.videowatchlog.application.watchlistimport.WatchListImportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * ImportController - 視聴リストの一括取り込み REST API
+ */
+@RestController
+@RequestMapping("/imports")
+@Tag(name = "Imports", description = "視聴リストの一括取り込み API")
+public class ImportController {
+    private static final String CSV_MEDIA_TYPE = "text/csv";
+
+    private final ImportWatchListUseCase importWatchListUseCase;
+
+    public ImportController(ImportWatchListUseCase importWatchListUseCase) {
+        this.importWatchListUseCase = importWatchListUseCase;
+    }
+
+    @PostMapping(consumes = {TitleController.NDJSON_MEDIA_TYPE, CSV_MEDIA_TYPE})
+    @Operation(
+        summary = "視聴リストを一括取り込み",
+        description = "NDJSON（application/x-ndjson）または CSV（text/csv、ヘッダー行付き）の視聴リストを取り込みます（1トランザクション）。"
+            + "1行が title, series, episode, watchPageUrl, watchedAt, rating, comment の項目を持ち（title 以外は省略可）、"
+            + "既存のタイトル（名前の大文字・小文字を区別しない）・シリーズ・エピソードと照合してなければ作成し、"
+            + "まだない視聴ページURL・視聴記録（視聴日時で照合）を追加します。同じ入力を再度取り込んでもデータは変わりません。"
+            + "不正な行は取り込まず、行番号と理由を返します。実行中の進捗は GET /imports で確認できます。"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "取り込み完了（不正な行を含む）",
+            content = @Content(schema = @Schema(implementation = WatchListImportResultDTO.class))),
+        @ApiResponse(responseCode = "400", description = "CSV のヘッダー行が不正")
+    })
+    public ResponseEntity<WatchListImportResultDTO> importWatchList(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        WatchListImportFormat format = WatchListImportFormat.fromContentType(contentType)
+                .orElseThrow(() -> new IllegalStateException("対応していない形式です: " + contentType));
+        return ResponseEntity.ok(importWatchListUseCase.execute(format, body));
+    }
+
+    @GetMapping
+    @Operation(
+        summary = "一括取り込みの進捗を取得",
+        description = "このプロセスで実行中の取り込み（開始順）と、最近終了した取り込み（新しい順）の進捗を返します。"
+    )
+    @ApiResponse(responseCode = "200", description = "取得成功",
+        content = @Content(array = @ArraySchema(schema = @Schema(implementation = WatchListImportProgressDTO.class))))
+    public ResponseEntity<List<WatchListImportProgressDTO>> listImports() {
+        return ResponseEntity.ok(importWatchListUseCase.listProgress());
+    }
+}
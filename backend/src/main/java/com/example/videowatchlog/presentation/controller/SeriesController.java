@@ -1,8 +1,11 @@
 package com.example.videowatchlog.presentation.controller;
 
+import com.example.videowatchlog.application.dto.BatchCreateEpisodesRequestDTO;
+import com.example.videowatchlog.application.dto.BatchCreateEpisodesResultDTO;
 import com.example.videowatchlog.application.dto.CreateSeriesRequestDTO;
 import com.example.videowatchlog.application.dto.SeriesDetailDTO;
 import com.example.videowatchlog.application.dto.UpdateSeriesRequestDTO;
+import com.example.videowatchlog.application.usecase.BatchCreateEpisodesUseCase;
 import com.example.videowatchlog.application.usecase.CreateSeriesUseCase;
 import com.example.videowatchlog.application.usecase.DeleteSeriesUseCase;
 import com.example.videowatchlog.application.usecase.GetSeriesDetailUseCase;
@@ -30,16 +33,19 @@ public class SeriesController {
     private final GetSeriesDetailUseCase getSeriesDetailUseCase;
     private final UpdateSeriesUseCase updateSeriesUseCase;
     private final DeleteSeriesUseCase deleteSeriesUseCase;
+    private final BatchCreateEpisodesUseCase batchCreateEpisodesUseCase;
 
     public SeriesController(
             CreateSeriesUseCase createSeriesUseCase,
             GetSeriesDetailUseCase getSeriesDetailUseCase,
             UpdateSeriesUseCase updateSeriesUseCase,
-            DeleteSeriesUseCase deleteSeriesUseCase) {
+            DeleteSeriesUseCase deleteSeriesUseCase,
+            BatchCreateEpisodesUseCase batchCreateEpisodesUseCase) {
         this.createSeriesUseCase = createSeriesUseCase;
         this.getSeriesDetailUseCase = getSeriesDetailUseCase;
         this.updateSeriesUseCase = updateSeriesUseCase;
         this.deleteSeriesUseCase = deleteSeriesUseCase;
+        this.batchCreateEpisodesUseCase = batchCreateEpisodesUseCase;
     }
 
     @GetMapping("/{seriesId}")
@@ -83,6 +89,29 @@ public class SeriesController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping("/{seriesId}/episodes:batch")
+    @Operation(
+        summary = "エピソードを一括作成",
+        description = "シリーズ配下に複数のエピソードを1つのトランザクションで作成します。"
+            + "エピソードは個別に指定するか、連番のテンプレート（{n} が番号に置き換わる）で生成します。"
+            + "作成したエピソードの詳細は返さず、件数とIDだけを返します。"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "一括作成成功",
+            content = @Content(schema = @Schema(implementation = BatchCreateEpisodesResultDTO.class))),
+        @ApiResponse(responseCode = "404", description = "シリーズが見つかりません"),
+        @ApiResponse(responseCode = "400", description = "リクエストが不正（エピソードの指定なし・上限超過を含む）")
+    })
+    public ResponseEntity<BatchCreateEpisodesResultDTO> batchCreateEpisodes(
+            @Parameter(description = "タイトルID", required = true, example = "1")
+            @PathVariable Long titleId,
+            @Parameter(description = "シリーズID", required = true, example = "1")
+            @PathVariable Long seriesId,
+            @Valid @RequestBody BatchCreateEpisodesRequestDTO request) {
+        BatchCreateEpisodesResultDTO result = batchCreateEpisodesUseCase.execute(titleId, seriesId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     @PutMapping("/{seriesId}")
     @Operation(
         summary = "シリーズを更新",
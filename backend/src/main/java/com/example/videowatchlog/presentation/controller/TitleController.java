@@ -2,8 +2,11 @@ package com.example.videowatchlog.presentation.controller;
 
 import com.example.videowatchlog.application.dto.CreateTitleRequestDTO;
 import com.example.videowatchlog.application.dto.TitleDetailDTO;
+import com.example.videowatchlog.application.dto.TitlePageDTO;
+import com.example.videowatchlog.application.dto.TitlePageRequestDTO;
 import com.example.videowatchlog.application.dto.TitleSummaryDTO;
 import com.example.videowatchlog.application.dto.UpdateTitleRequestDTO;
+import com.example.videowatchlog.application.readmodel.TitleDetailExpansion;
 import com.example.videowatchlog.application.usecase.CreateTitleUseCase;
 import com.example.videowatchlog.application.usecase.DeleteTitleUseCase;
 import com.example.videowatchlog.application.usecase.GetAllTitlesUseCase;
@@ -11,6 +14,9 @@ import com.example.videowatchlog.application.usecase.GetTitleDetailUseCase;
 import com.example.videowatchlog.application.usecase.UpdateTitleUseCase;
 import com.example.videowatchlog.application.usecase.SearchTitlesUseCase;
 import com.example.videowatchlog.domain.model.WatchStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,11 +25,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Set;
 
 /**
  * TitleController - タイトル REST API
@@ -32,12 +46,21 @@ import java.util.List;
 @RequestMapping("/titles")
 @Tag(name = "Titles", description = "タイトル(作品)管理 API")
 public class TitleController {
+    /** 次ページのカーソルを返すレスポンスヘッダー */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /** ストリーミング一覧のメディアタイプ（改行区切り JSON） */
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    private static final int NDJSON_BUFFER_SIZE = 8192;
+
     private final CreateTitleUseCase createTitleUseCase;
     private final GetAllTitlesUseCase getAllTitlesUseCase;
     private final GetTitleDetailUseCase getTitleDetailUseCase;
     private final UpdateTitleUseCase updateTitleUseCase;
     private final DeleteTitleUseCase deleteTitleUseCase;
     private final SearchTitlesUseCase searchTitlesUseCase;
+    private final ObjectMapper objectMapper;
 
     public TitleController(
             CreateTitleUseCase createTitleUseCase,
@@ -45,13 +68,15 @@ public class TitleController {
             GetTitleDetailUseCase getTitleDetailUseCase,
             UpdateTitleUseCase updateTitleUseCase,
             DeleteTitleUseCase deleteTitleUseCase,
-            SearchTitlesUseCase searchTitlesUseCase) {
+            SearchTitlesUseCase searchTitlesUseCase,
+            ObjectMapper objectMapper) {
         this.createTitleUseCase = createTitleUseCase;
         this.getAllTitlesUseCase = getAllTitlesUseCase;
         this.getTitleDetailUseCase = getTitleDetailUseCase;
         this.updateTitleUseCase = updateTitleUseCase;
         this.deleteTitleUseCase = deleteTitleUseCase;
         this.searchTitlesUseCase = searchTitlesUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -84,44 +109,110 @@ public class TitleController {
     @GetMapping
     @Operation(
         summary = "タイトル一覧を取得",
-        description = "登録されているタイトルを一覧で取得します。queryまたはwatchStatusパラメータでフィルタ可能です。"
+        description = "登録されているタイトルを作成日時の新しい順に1ページ分取得します。queryまたはwatchStatusパラメータでフィルタ可能です。"
+            + "query を指定した場合はタイトル名の部分一致と類似（タイプミス等）で検索し、関連度の高い順に返します。"
+            + "次ページがある場合はレスポンスヘッダー " + NEXT_CURSOR_HEADER + " にカーソルが返されるので、cursor パラメータに指定してください。"
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
             description = "取得成功",
             content = @Content(schema = @Schema(implementation = TitleSummaryDTO.class))
-        )
+        ),
+        @ApiResponse(responseCode = "400", description = "cursor が不正、または limit が範囲外")
     })
     public ResponseEntity<List<TitleSummaryDTO>> getTitles(
-            @Parameter(description = "検索キーワード（タイトル名の部分一致）", example = "進撃")
+            @Parameter(description = "検索キーワード（タイトル名の部分一致・類似）", example = "進撃")
             @RequestParam(required = false) String query,
             @Parameter(description = "視聴ステータスフィルタ", schema = @Schema(allowableValues = {"UNWATCHED", "WATCHED"}))
-            @RequestParam(required = false) WatchStatus watchStatus) {
-        // 両方のパラメータが null の場合: 全件取得
-        if (query == null && watchStatus == null) {
-            List<TitleSummaryDTO> result = getAllTitlesUseCase.execute();
-            return ResponseEntity.ok(result);
+            @RequestParam(required = false) WatchStatus watchStatus,
+            @Parameter(description = "前ページのレスポンスヘッダー " + NEXT_CURSOR_HEADER + " の値（省略時は先頭ページ）")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "1ページの件数（1〜" + TitlePageRequestDTO.MAX_LIMIT + "、省略時は "
+                + TitlePageRequestDTO.DEFAULT_LIMIT + "）", example = "50")
+            @RequestParam(required = false) Integer limit) {
+        TitlePageRequestDTO page = TitlePageRequestDTO.of(cursor, limit);
+
+        // 両方のパラメータが null の場合: 全件から取得、いずれかのパラメータがある場合: 検索実行
+        TitlePageDTO result = (query == null && watchStatus == null)
+            ? getAllTitlesUseCase.execute(page)
+            : searchTitlesUseCase.execute(query, watchStatus, page);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (result.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, result.getNextCursor());
         }
+        return response.body(result.getItems());
+    }
 
-        // いずれかのパラメータがある場合: 検索実行
-        List<TitleSummaryDTO> result = searchTitlesUseCase.execute(query, watchStatus);
-        return ResponseEntity.ok(result);
+    @GetMapping(produces = NDJSON_MEDIA_TYPE)
+    @Operation(
+        summary = "タイトル一覧を NDJSON でストリーミング取得",
+        description = "Accept: " + NDJSON_MEDIA_TYPE + " を指定すると、すべてのタイトルを作成日時の新しい順に"
+            + "1行1タイトルの JSON（NDJSON）で返します。ページングはなく、行は読み込まれた順に送信されるため、"
+            + "件数に関わらずサーバーのメモリ使用量と最初の行が届くまでの時間は一定です。"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "取得成功（1行ごとに TitleSummaryDTO）",
+            content = @Content(mediaType = NDJSON_MEDIA_TYPE, schema = @Schema(implementation = TitleSummaryDTO.class))
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> streamTitles() {
+        ObjectWriter writer = objectMapper.writerFor(TitleSummaryDTO.class)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream, NDJSON_BUFFER_SIZE);
+            int[] written = {0};
+            getAllTitlesUseCase.streamAll(title -> {
+                try {
+                    writer.writeValue(out, title);
+                    out.write('\n');
+                    // 最初の行はすぐに送り、以降はバッファが溜まるたびに送信する
+                    if (++written[0] == 1) {
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))
+            .body(body);
     }
 
     @GetMapping("/{id}")
     @Operation(
         summary = "タイトル詳細を取得",
         description = "指定されたIDのタイトル詳細を取得します。シリーズとエピソード情報も含まれます。"
+            + "expand パラメータで視聴ページURL・視聴記録も同時に取得できます（1 クエリ）。"
+            + "レスポンスの ETag を If-None-Match に指定すると、変更がない場合は本文なしの 304 を返します。"
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "取得成功"),
+        @ApiResponse(responseCode = "200", description = "取得成功（ETag ヘッダー付き）"),
+        @ApiResponse(responseCode = "304", description = "If-None-Match の ETag から変更なし（本文なし）"),
         @ApiResponse(responseCode = "404", description = "タイトルが見つかりません")
     })
     public ResponseEntity<TitleDetailDTO> getTitleDetail(
             @Parameter(description = "タイトルID", required = true, example = "1")
-            @PathVariable Long id) {
-        TitleDetailDTO result = getTitleDetailUseCase.execute(id);
+            @PathVariable Long id,
+            @Parameter(description = "展開する子要素（カンマ区切り、未知の値は無視）", example = "watchPageUrls,viewingRecords",
+                schema = @Schema(allowableValues = {"watchPageUrls", "viewingRecords"}))
+            @RequestParam(required = false) List<String> expand,
+            WebRequest webRequest) {
+        Set<TitleDetailExpansion> expansions = TitleDetailExpansion.fromValues(expand);
+
+        // バージョンだけを先に求め、変更がなければ詳細の読み込み・DTO の組み立て・JSON の生成を行わずに 304 を返す
+        // （304 のステータスと ETag ヘッダーは checkNotModified が設定する）
+        String version = getTitleDetailUseCase.getVersion(id, expansions);
+        if (webRequest.checkNotModified(version)) {
+            return null;
+        }
+        // キャッシュの内容が version と異なれば読み直されるため、ETag より古い本文は返さない
+        TitleDetailDTO result = getTitleDetailUseCase.execute(id, expansions, version);
         return ResponseEntity.ok(result);
     }
 
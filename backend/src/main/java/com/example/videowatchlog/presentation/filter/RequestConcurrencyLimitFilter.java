@@ -0,0 +1,155 @@
+package com.example.videowatchlog.presentation.filter;
+
+import com.example.videowatchlog.presentation.dto.ErrorResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * RequestConcurrencyLimitFilter - 同時に処理するリクエスト数の上限
+ *
+ * 仮想スレッドでリクエストを処理する場合、Tomcat のスレッドプール（max-threads）による上限がなくなり、
+ * バースト時にはすべてのリクエストが同時にコネクションプール（Hikari）のコネクションを待ちます。
+ * 待ちが connection-timeout を超えたリクエストはエラーになり、待っている間もリクエストのメモリを保持し続けるため、
+ * コネクションプールの大きさに合わせた数だけを同時に処理し、残りは到着順に待たせます。
+ *
+ * - 上限に達している場合は最大 maxWait だけ空きを待ち、空かなければ 503（Retry-After 付き）を返す
+ * - ストリーミング（StreamingResponseBody）などの非同期リクエストは、レスポンスを送り終えるまで枠を使う
+ * - /actuator（ヘルスチェック・メトリクス）は対象外
+ */
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(RequestConcurrencyLimitFilter.class);
+    private static final String EXCLUDED_PATH_PREFIX = "/actuator";
+
+    public static final String ERROR_CODE = "TOO_MANY_CONCURRENT_REQUESTS";
+
+    private final int maxConcurrentRequests;
+    private final Duration maxWait;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+
+    /**
+     * @param maxConcurrentRequests 同時に処理する最大のリクエスト数
+     * @param maxWait 上限に達している場合に空きを待つ最大の時間
+     * @param objectMapper エラーレスポンスの JSON の生成に使う ObjectMapper
+     */
+    public RequestConcurrencyLimitFilter(int maxConcurrentRequests, Duration maxWait, ObjectMapper objectMapper) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be positive: " + maxConcurrentRequests);
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxWait = maxWait;
+        this.objectMapper = objectMapper;
+        // 待っているリクエストは到着順に処理する（待ち時間の偏りで p99 が伸びないように）
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * 処理中のリクエスト数
+     */
+    public int getActiveRequests() {
+        return maxConcurrentRequests - permits.availablePermits();
+    }
+
+    /**
+     * 空きを待っているリクエスト数（概数）
+     */
+    public int getWaitingRequests() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getServletPath().startsWith(EXCLUDED_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            if (!permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                reject(request, response);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject(request, response);
+            return;
+        }
+
+        Permit permit = new Permit();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // 非同期処理が終わる（onComplete はタイムアウト・エラーの場合も最後に必ず呼ばれる）まで枠を使う
+                request.getAsyncContext().addListener(permit);
+            } else {
+                permit.release();
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("Rejected {} {}: {} requests in progress", request.getMethod(), request.getRequestURI(), maxConcurrentRequests);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, maxWait.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponseDTO(
+                "Too many concurrent requests. Please retry later.",
+                ERROR_CODE,
+                request.getRequestURI()));
+    }
+
+    /**
+     * 1件のリクエストが使っている枠（1回だけ返却する）
+     */
+    private final class Permit implements AsyncListener {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 非同期処理が再開された場合も同じリスナーで終了を待つ
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
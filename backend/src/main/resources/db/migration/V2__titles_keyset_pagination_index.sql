@@ -0,0 +1,5 @@
+-- Composite index for keyset pagination of the title list: ORDER BY created_at DESC, id DESC
+-- with WHERE (created_at, id) < (?, ?). It supersedes the single-column created_at index.
+CREATE INDEX idx_titles_created_at_id ON titles(created_at, id);
+
+DROP INDEX idx_titles_created_at;
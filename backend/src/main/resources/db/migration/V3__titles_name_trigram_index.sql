@@ -0,0 +1,7 @@
+-- Trigram index for title search (TitleMapper.search).
+-- Serves both the substring match LOWER(name) LIKE '%query%' and the fuzzy match
+-- query <% LOWER(name) (word similarity), so neither needs a sequential scan.
+-- idx_titles_name (btree on LOWER(name)) is kept for the exact-match duplicate check.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_titles_name_trgm ON titles USING gin (LOWER(name) gin_trgm_ops);
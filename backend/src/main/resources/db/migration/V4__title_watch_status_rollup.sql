@@ -0,0 +1,160 @@
+-- Per-title watch status rollup for the watchStatus filter of TitleMapper.search.
+-- "Title has an unwatched / watched episode" becomes a lookup of one row per title
+-- (through the partial indexes below) instead of a scan of the title's episodes,
+-- which is proportional to the episode count.
+--
+-- The counts are maintained by statement-level triggers in the same transaction as the
+-- change, so bulk inserts and cascaded deletes are covered as well:
+--   titles INSERT                     -> creates the row (all counts 0)
+--   episodes INSERT / UPDATE / DELETE -> adds the per-title deltas
+--   series DELETE / UPDATE OF title_id -> recounts the affected titles
+--     (episodes deleted by ON DELETE CASCADE can no longer be joined to their series)
+CREATE TABLE title_watch_status (
+    title_id BIGINT PRIMARY KEY,
+    unwatched_episodes INT NOT NULL DEFAULT 0,
+    watched_episodes INT NOT NULL DEFAULT 0,
+    has_unwatched BOOLEAN GENERATED ALWAYS AS (unwatched_episodes > 0) STORED,
+    has_watched BOOLEAN GENERATED ALWAYS AS (watched_episodes > 0) STORED,
+    CONSTRAINT fk_title_watch_status_title FOREIGN KEY (title_id) REFERENCES titles(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_title_watch_status_unwatched ON title_watch_status(title_id) WHERE has_unwatched;
+CREATE INDEX idx_title_watch_status_watched ON title_watch_status(title_id) WHERE has_watched;
+
+INSERT INTO title_watch_status (title_id, unwatched_episodes, watched_episodes)
+SELECT t.id,
+       COUNT(e.id) FILTER (WHERE e.watch_status = 'UNWATCHED'),
+       COUNT(e.id) FILTER (WHERE e.watch_status = 'WATCHED')
+FROM titles t
+LEFT JOIN series s ON s.title_id = t.id
+LEFT JOIN episodes e ON e.series_id = s.id
+GROUP BY t.id;
+
+CREATE FUNCTION title_watch_status_insert_titles() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO title_watch_status (title_id)
+    SELECT id FROM new_titles
+    ON CONFLICT (title_id) DO NOTHING;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_titles_watch_status_insert
+    AFTER INSERT ON titles
+    REFERENCING NEW TABLE AS new_titles
+    FOR EACH STATEMENT EXECUTE FUNCTION title_watch_status_insert_titles();
+
+-- Adds the per-title deltas of the changed episodes. An UPDATE contributes its old version
+-- as -1 and its new version as +1, so only a watch_status or series change has an effect.
+-- Episodes whose series is already gone (cascaded delete) are skipped; the series trigger recounts them.
+CREATE FUNCTION title_watch_status_apply_episode_changes() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE title_watch_status w
+        SET unwatched_episodes = w.unwatched_episodes + d.unwatched,
+            watched_episodes = w.watched_episodes + d.watched
+        FROM (
+            SELECT s.title_id,
+                   COUNT(*) FILTER (WHERE e.watch_status = 'UNWATCHED') AS unwatched,
+                   COUNT(*) FILTER (WHERE e.watch_status = 'WATCHED') AS watched
+            FROM new_episodes e
+            JOIN series s ON s.id = e.series_id
+            GROUP BY s.title_id
+        ) d
+        WHERE w.title_id = d.title_id;
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE title_watch_status w
+        SET unwatched_episodes = w.unwatched_episodes - d.unwatched,
+            watched_episodes = w.watched_episodes - d.watched
+        FROM (
+            SELECT s.title_id,
+                   COUNT(*) FILTER (WHERE e.watch_status = 'UNWATCHED') AS unwatched,
+                   COUNT(*) FILTER (WHERE e.watch_status = 'WATCHED') AS watched
+            FROM old_episodes e
+            JOIN series s ON s.id = e.series_id
+            GROUP BY s.title_id
+        ) d
+        WHERE w.title_id = d.title_id;
+    ELSE
+        UPDATE title_watch_status w
+        SET unwatched_episodes = w.unwatched_episodes + d.unwatched,
+            watched_episodes = w.watched_episodes + d.watched
+        FROM (
+            SELECT s.title_id,
+                   COALESCE(SUM(c.delta) FILTER (WHERE c.watch_status = 'UNWATCHED'), 0) AS unwatched,
+                   COALESCE(SUM(c.delta) FILTER (WHERE c.watch_status = 'WATCHED'), 0) AS watched
+            FROM (
+                SELECT series_id, watch_status, 1 AS delta FROM new_episodes
+                UNION ALL
+                SELECT series_id, watch_status, -1 AS delta FROM old_episodes
+            ) c
+            JOIN series s ON s.id = c.series_id
+            GROUP BY s.title_id
+        ) d
+        WHERE w.title_id = d.title_id
+          AND (d.unwatched <> 0 OR d.watched <> 0);
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_episodes_watch_status_insert
+    AFTER INSERT ON episodes
+    REFERENCING NEW TABLE AS new_episodes
+    FOR EACH STATEMENT EXECUTE FUNCTION title_watch_status_apply_episode_changes();
+
+CREATE TRIGGER trg_episodes_watch_status_update
+    AFTER UPDATE ON episodes
+    REFERENCING OLD TABLE AS old_episodes NEW TABLE AS new_episodes
+    FOR EACH STATEMENT EXECUTE FUNCTION title_watch_status_apply_episode_changes();
+
+CREATE TRIGGER trg_episodes_watch_status_delete
+    AFTER DELETE ON episodes
+    REFERENCING OLD TABLE AS old_episodes
+    FOR EACH STATEMENT EXECUTE FUNCTION title_watch_status_apply_episode_changes();
+
+-- Recounts the given titles from their episodes.
+CREATE FUNCTION title_watch_status_recount(title_ids BIGINT[]) RETURNS void LANGUAGE sql AS $$
+    UPDATE title_watch_status w
+    SET unwatched_episodes = c.unwatched,
+        watched_episodes = c.watched
+    FROM (
+        SELECT ids.title_id,
+               COUNT(e.id) FILTER (WHERE e.watch_status = 'UNWATCHED') AS unwatched,
+               COUNT(e.id) FILTER (WHERE e.watch_status = 'WATCHED') AS watched
+        FROM (SELECT DISTINCT unnest(title_ids) AS title_id) ids
+        LEFT JOIN series s ON s.title_id = ids.title_id
+        LEFT JOIN episodes e ON e.series_id = s.id
+        GROUP BY ids.title_id
+    ) c
+    WHERE w.title_id = c.title_id;
+$$;
+
+-- Recounts the titles that lost series (or gained them by a title_id change).
+-- AFTER STATEMENT triggers run after the cascaded episode deletes, so the deleted
+-- series' episodes are no longer counted. Renaming a series does not recount.
+CREATE FUNCTION title_watch_status_recount_series_titles() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM title_watch_status_recount(ARRAY(SELECT title_id FROM old_series));
+    ELSE
+        PERFORM title_watch_status_recount(ARRAY(
+            SELECT unnest(ARRAY[o.title_id, n.title_id])
+            FROM old_series o
+            JOIN new_series n ON n.id = o.id
+            WHERE o.title_id <> n.title_id
+        ));
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_series_watch_status_delete
+    AFTER DELETE ON series
+    REFERENCING OLD TABLE AS old_series
+    FOR EACH STATEMENT EXECUTE FUNCTION title_watch_status_recount_series_titles();
+
+CREATE TRIGGER trg_series_watch_status_update
+    AFTER UPDATE ON series
+    REFERENCING OLD TABLE AS old_series NEW TABLE AS new_series
+    FOR EACH STATEMENT EXECUTE FUNCTION title_watch_status_recount_series_titles();
@@ -0,0 +1,270 @@
+-- Per-title watch progress for the title list: total / watched episodes, last watched_at
+-- and average rating. The list query reads one row per title (a primary key lookup)
+-- instead of aggregating the title's episodes and viewing records.
+--
+-- The V4 watch status rollup already keeps the episode counts per title, so it is
+-- extended into this projection rather than duplicated:
+--   title_watch_status -> title_progress (indexes, functions and triggers renamed alike)
+--   + viewing_records, rating_sum, last_watched_at
+--
+-- Like the episode counts, the viewing record columns are maintained by statement-level
+-- triggers in the same transaction as the change. Every use case that changes progress
+-- (creating / deleting episodes, completing an episode, adding / deleting viewing records)
+-- as well as cascaded deletes of episodes, series and titles is covered:
+--   viewing_records INSERT -> adds count / rating sum, raises last_watched_at
+--   viewing_records DELETE -> subtracts; recomputes last_watched_at only when the latest record is deleted
+--   viewing_records UPDATE, episodes DELETE / UPDATE OF series_id, series DELETE / UPDATE OF title_id
+--     -> recounts the affected titles
+--     (viewing records deleted by ON DELETE CASCADE can no longer be joined to their title)
+ALTER TABLE title_watch_status RENAME TO title_progress;
+ALTER INDEX title_watch_status_pkey RENAME TO title_progress_pkey;
+ALTER INDEX idx_title_watch_status_unwatched RENAME TO idx_title_progress_unwatched;
+ALTER INDEX idx_title_watch_status_watched RENAME TO idx_title_progress_watched;
+ALTER TABLE title_progress RENAME CONSTRAINT fk_title_watch_status_title TO fk_title_progress_title;
+
+ALTER TABLE title_progress
+    ADD COLUMN viewing_records INT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_sum BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN last_watched_at TIMESTAMP;
+
+UPDATE title_progress p
+SET viewing_records = c.viewing_records,
+    rating_sum = c.rating_sum,
+    last_watched_at = c.last_watched_at
+FROM (
+    SELECT s.title_id,
+           COUNT(*) AS viewing_records,
+           SUM(vr.rating) AS rating_sum,
+           MAX(vr.watched_at) AS last_watched_at
+    FROM viewing_records vr
+    JOIN episodes e ON e.id = vr.episode_id
+    JOIN series s ON s.id = e.series_id
+    GROUP BY s.title_id
+) c
+WHERE p.title_id = c.title_id;
+
+DROP TRIGGER trg_titles_watch_status_insert ON titles;
+DROP TRIGGER trg_episodes_watch_status_insert ON episodes;
+DROP TRIGGER trg_episodes_watch_status_update ON episodes;
+DROP TRIGGER trg_episodes_watch_status_delete ON episodes;
+DROP TRIGGER trg_series_watch_status_delete ON series;
+DROP TRIGGER trg_series_watch_status_update ON series;
+DROP FUNCTION title_watch_status_insert_titles();
+DROP FUNCTION title_watch_status_apply_episode_changes();
+DROP FUNCTION title_watch_status_recount_series_titles();
+DROP FUNCTION title_watch_status_recount(BIGINT[]);
+
+CREATE FUNCTION title_progress_insert_titles() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO title_progress (title_id)
+    SELECT id FROM new_titles
+    ON CONFLICT (title_id) DO NOTHING;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_titles_progress_insert
+    AFTER INSERT ON titles
+    REFERENCING NEW TABLE AS new_titles
+    FOR EACH STATEMENT EXECUTE FUNCTION title_progress_insert_titles();
+
+-- Recounts all columns of the given titles from their episodes and viewing records.
+CREATE FUNCTION title_progress_recount(title_ids BIGINT[]) RETURNS void LANGUAGE sql AS $$
+    UPDATE title_progress p
+    SET unwatched_episodes = c.unwatched,
+        watched_episodes = c.watched,
+        viewing_records = c.viewing_records,
+        rating_sum = c.rating_sum,
+        last_watched_at = c.last_watched_at
+    FROM (
+        SELECT ids.title_id,
+               COUNT(e.id) FILTER (WHERE e.watch_status = 'UNWATCHED') AS unwatched,
+               COUNT(e.id) FILTER (WHERE e.watch_status = 'WATCHED') AS watched,
+               COALESCE(SUM(r.viewing_records), 0) AS viewing_records,
+               COALESCE(SUM(r.rating_sum), 0) AS rating_sum,
+               MAX(r.last_watched_at) AS last_watched_at
+        FROM (SELECT DISTINCT unnest(title_ids) AS title_id) ids
+        LEFT JOIN series s ON s.title_id = ids.title_id
+        LEFT JOIN episodes e ON e.series_id = s.id
+        LEFT JOIN LATERAL (
+            SELECT COUNT(*) AS viewing_records, SUM(vr.rating) AS rating_sum, MAX(vr.watched_at) AS last_watched_at
+            FROM viewing_records vr
+            WHERE vr.episode_id = e.id
+        ) r ON TRUE
+        GROUP BY ids.title_id
+    ) c
+    WHERE p.title_id = c.title_id;
+$$;
+
+-- Episodes: adds the per-title deltas of the episode counts. An UPDATE contributes its old version
+-- as -1 and its new version as +1, so only a watch_status or series change has an effect.
+-- Deleting episodes (and their cascaded viewing records) or moving them to another series
+-- recounts the affected titles instead, since the deleted viewing records are not visible here.
+-- Episodes whose series is already gone (cascaded delete) are skipped; the series trigger recounts them.
+CREATE FUNCTION title_progress_apply_episode_changes() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE title_progress p
+        SET unwatched_episodes = p.unwatched_episodes + d.unwatched,
+            watched_episodes = p.watched_episodes + d.watched
+        FROM (
+            SELECT s.title_id,
+                   COUNT(*) FILTER (WHERE e.watch_status = 'UNWATCHED') AS unwatched,
+                   COUNT(*) FILTER (WHERE e.watch_status = 'WATCHED') AS watched
+            FROM new_episodes e
+            JOIN series s ON s.id = e.series_id
+            GROUP BY s.title_id
+        ) d
+        WHERE p.title_id = d.title_id;
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM title_progress_recount(ARRAY(
+            SELECT DISTINCT s.title_id
+            FROM old_episodes e
+            JOIN series s ON s.id = e.series_id
+        ));
+    ELSE
+        UPDATE title_progress p
+        SET unwatched_episodes = p.unwatched_episodes + d.unwatched,
+            watched_episodes = p.watched_episodes + d.watched
+        FROM (
+            SELECT s.title_id,
+                   COALESCE(SUM(c.delta) FILTER (WHERE c.watch_status = 'UNWATCHED'), 0) AS unwatched,
+                   COALESCE(SUM(c.delta) FILTER (WHERE c.watch_status = 'WATCHED'), 0) AS watched
+            FROM (
+                SELECT series_id, watch_status, 1 AS delta FROM new_episodes
+                UNION ALL
+                SELECT series_id, watch_status, -1 AS delta FROM old_episodes
+            ) c
+            JOIN series s ON s.id = c.series_id
+            GROUP BY s.title_id
+        ) d
+        WHERE p.title_id = d.title_id
+          AND (d.unwatched <> 0 OR d.watched <> 0);
+
+        PERFORM title_progress_recount(ARRAY(
+            SELECT s.title_id
+            FROM old_episodes o
+            JOIN new_episodes n ON n.id = o.id
+            JOIN series s ON s.id IN (o.series_id, n.series_id)
+            WHERE o.series_id <> n.series_id
+        ));
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_episodes_progress_insert
+    AFTER INSERT ON episodes
+    REFERENCING NEW TABLE AS new_episodes
+    FOR EACH STATEMENT EXECUTE FUNCTION title_progress_apply_episode_changes();
+
+CREATE TRIGGER trg_episodes_progress_update
+    AFTER UPDATE ON episodes
+    REFERENCING OLD TABLE AS old_episodes NEW TABLE AS new_episodes
+    FOR EACH STATEMENT EXECUTE FUNCTION title_progress_apply_episode_changes();
+
+CREATE TRIGGER trg_episodes_progress_delete
+    AFTER DELETE ON episodes
+    REFERENCING OLD TABLE AS old_episodes
+    FOR EACH STATEMENT EXECUTE FUNCTION title_progress_apply_episode_changes();
+
+-- Viewing records: adds / subtracts the per-title count and rating sum.
+-- last_watched_at only moves forward on INSERT; a DELETE looks up the title's remaining
+-- records only when it removed the latest one. Records whose episode is already gone
+-- (cascaded delete) are skipped; the episode trigger recounts them.
+CREATE FUNCTION title_progress_apply_viewing_record_changes() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE title_progress p
+        SET viewing_records = p.viewing_records + d.viewing_records,
+            rating_sum = p.rating_sum + d.rating_sum,
+            last_watched_at = GREATEST(p.last_watched_at, d.last_watched_at)
+        FROM (
+            SELECT s.title_id, COUNT(*) AS viewing_records, SUM(vr.rating) AS rating_sum, MAX(vr.watched_at) AS last_watched_at
+            FROM new_viewing_records vr
+            JOIN episodes e ON e.id = vr.episode_id
+            JOIN series s ON s.id = e.series_id
+            GROUP BY s.title_id
+        ) d
+        WHERE p.title_id = d.title_id;
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE title_progress p
+        SET viewing_records = p.viewing_records - d.viewing_records,
+            rating_sum = p.rating_sum - d.rating_sum,
+            last_watched_at = CASE
+                WHEN d.last_watched_at < p.last_watched_at THEN p.last_watched_at
+                ELSE (
+                    SELECT MAX(vr.watched_at)
+                    FROM series s
+                    JOIN episodes e ON e.series_id = s.id
+                    JOIN viewing_records vr ON vr.episode_id = e.id
+                    WHERE s.title_id = p.title_id
+                )
+            END
+        FROM (
+            SELECT s.title_id, COUNT(*) AS viewing_records, SUM(vr.rating) AS rating_sum, MAX(vr.watched_at) AS last_watched_at
+            FROM old_viewing_records vr
+            JOIN episodes e ON e.id = vr.episode_id
+            JOIN series s ON s.id = e.series_id
+            GROUP BY s.title_id
+        ) d
+        WHERE p.title_id = d.title_id;
+    ELSE
+        PERFORM title_progress_recount(ARRAY(
+            SELECT s.title_id
+            FROM (
+                SELECT episode_id FROM old_viewing_records
+                UNION
+                SELECT episode_id FROM new_viewing_records
+            ) vr
+            JOIN episodes e ON e.id = vr.episode_id
+            JOIN series s ON s.id = e.series_id
+        ));
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_viewing_records_progress_insert
+    AFTER INSERT ON viewing_records
+    REFERENCING NEW TABLE AS new_viewing_records
+    FOR EACH STATEMENT EXECUTE FUNCTION title_progress_apply_viewing_record_changes();
+
+CREATE TRIGGER trg_viewing_records_progress_update
+    AFTER UPDATE ON viewing_records
+    REFERENCING OLD TABLE AS old_viewing_records NEW TABLE AS new_viewing_records
+    FOR EACH STATEMENT EXECUTE FUNCTION title_progress_apply_viewing_record_changes();
+
+CREATE TRIGGER trg_viewing_records_progress_delete
+    AFTER DELETE ON viewing_records
+    REFERENCING OLD TABLE AS old_viewing_records
+    FOR EACH STATEMENT EXECUTE FUNCTION title_progress_apply_viewing_record_changes();
+
+-- Recounts the titles that lost series (or gained them by a title_id change).
+-- AFTER STATEMENT triggers run after the cascaded episode / viewing record deletes,
+-- so they are no longer counted. Renaming a series does not recount.
+CREATE FUNCTION title_progress_recount_series_titles() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM title_progress_recount(ARRAY(SELECT title_id FROM old_series));
+    ELSE
+        PERFORM title_progress_recount(ARRAY(
+            SELECT unnest(ARRAY[o.title_id, n.title_id])
+            FROM old_series o
+            JOIN new_series n ON n.id = o.id
+            WHERE o.title_id <> n.title_id
+        ));
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_series_progress_delete
+    AFTER DELETE ON series
+    REFERENCING OLD TABLE AS old_series
+    FOR EACH STATEMENT EXECUTE FUNCTION title_progress_recount_series_titles();
+
+CREATE TRIGGER trg_series_progress_update
+    AFTER UPDATE ON series
+    REFERENCING OLD TABLE AS old_series NEW TABLE AS new_series
+    FOR EACH STATEMENT EXECUTE FUNCTION title_progress_recount_series_titles();
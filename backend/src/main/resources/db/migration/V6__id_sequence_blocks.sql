@@ -0,0 +1,12 @@
+-- Reserve entity IDs in blocks: one nextval() hands the application a block of
+-- INCREMENT BY consecutive IDs (the returned value and the following INCREMENT BY - 1),
+-- which the IdService implementations then give out from memory without a round trip.
+--
+-- Every nextval() owns its whole block, so IDs stay unique across processes and
+-- rows inserted with the column DEFAULT merely skip the rest of their block.
+-- The application's id-generation.block-size must not exceed this increment
+-- (checked on every block reservation); raise both together in a new migration.
+ALTER SEQUENCE titles_id_seq INCREMENT BY 50;
+ALTER SEQUENCE series_id_seq INCREMENT BY 50;
+ALTER SEQUENCE episodes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE viewing_records_id_seq INCREMENT BY 50;
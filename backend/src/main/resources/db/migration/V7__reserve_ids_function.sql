@@ -0,0 +1,19 @@
+-- Reserve n IDs from a pooled sequence (see V6) in a single call, for set-based
+-- inserts that assign IDs in SQL (the watch list import merge).
+--
+-- Calls nextval() once per block of INCREMENT BY IDs, exactly like the application's
+-- IdService, and expands the blocks into individual IDs (ascending). The unused tail
+-- of the last block is skipped, as with any other block.
+CREATE FUNCTION reserve_ids(seq REGCLASS, n BIGINT) RETURNS SETOF BIGINT LANGUAGE sql VOLATILE AS $$
+    WITH blocks AS (
+        SELECT nextval(seq) AS first_id, p.seqincrement AS size
+        FROM pg_sequence p
+        CROSS JOIN generate_series(1, (n + p.seqincrement - 1) / p.seqincrement)
+        WHERE p.seqrelid = seq
+    )
+    SELECT ids.id
+    FROM blocks
+    CROSS JOIN LATERAL generate_series(blocks.first_id, blocks.first_id + blocks.size - 1) AS ids(id)
+    ORDER BY ids.id
+    LIMIT n
+$$;
@@ -0,0 +1,201 @@
+package com.example.videowatchlog.application.readmodel.search;
+
+import com.example.videowatchlog.application.readmodel.TitleCursor;
+import com.example.videowatchlog.application.readmodel.TitleListReadModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TitleSearchIndexTest - タイトル名のメモリ上の転置索引のテスト
+ */
+@DisplayName("TitleSearchIndex のテスト")
+class TitleSearchIndexTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private TitleSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TitleSearchIndex();
+    }
+
+    @Test
+    @DisplayName("全角・半角、大文字・小文字、ひらがな・カタカナを区別せずに検索できる")
+    void shouldNormalizeWidthCaseAndKana() {
+        // Arrange
+        put(1L, "ＳＰＹ×ＦＡＭＩＬＹ", CREATED_AT);
+        put(2L, "ｶﾞﾝﾀﾞﾑ", CREATED_AT);
+        put(3L, "ひぐらしのなく頃に", CREATED_AT);
+
+        // Act & Assert
+        assertThat(ids("spy×family")).containsExactly(1L);
+        assertThat(ids("ガンダム")).containsExactly(2L);
+        assertThat(ids("ヒグラシ")).containsExactly(3L);
+        assertThat(TitleSearchIndex.normalize("ＡＢＣ ｶﾞ ひら")).isEqualTo("abc ガ ヒラ");
+    }
+
+    @Test
+    @DisplayName("クエリ中のバイグラムをすべて含んでも部分一致しないタイトルは返さない")
+    void shouldVerifyCandidatesBySubstringMatch() {
+        // Arrange
+        put(1L, "巨人の進撃", CREATED_AT);
+        put(2L, "進撃の巨人", CREATED_AT);
+
+        // Act & Assert
+        assertThat(ids("進撃の")).containsExactly(2L);
+        assertThat(ids("存在しない")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("1文字のクエリでも検索できる")
+    void shouldSearchBySingleCharacter() {
+        // Arrange
+        put(1L, "進撃の巨人", CREATED_AT);
+        put(2L, "鬼滅の刃", CREATED_AT);
+
+        // Act & Assert
+        assertThat(ids("刃")).containsExactly(2L);
+        assertThat(ids("の")).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("タイトル名に占めるクエリの割合が大きいほど上位、同じ場合は作成日時・IDの新しい順")
+    void shouldOrderByRankThenCreatedAtAndId() {
+        // Arrange
+        put(1L, "進撃の巨人 The Final Season", CREATED_AT);
+        put(2L, "進撃の巨人", CREATED_AT);
+        put(3L, "進撃の巨人2", CREATED_AT);
+        put(4L, "進撃の巨人3", CREATED_AT.plusDays(1));
+
+        // Act
+        TitleSearchIndex.Result result = index.search("進撃の巨人", null, 10);
+
+        // Assert
+        assertThat(result.getHits()).extracting(hit -> hit.getTitle().getId()).containsExactly(2L, 4L, 3L, 1L);
+        assertThat(result.getHits().get(0).getRank()).isEqualTo(2.0f);
+        assertThat(result.getMatchCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("カーソル以降の limit 件を返し、一致件数はカーソルに関係なく数える")
+    void shouldPageWithCursor() {
+        // Arrange
+        for (long id = 1; id <= 5; id++) {
+            put(id, "進撃の巨人 Season " + id, CREATED_AT.plusMinutes(id));
+        }
+
+        // Act
+        TitleSearchIndex.Result first = index.search("進撃", null, 2);
+        TitleSearchIndex.Hit last = first.getHits().get(1);
+        TitleSearchIndex.Result second = index.search("進撃",
+                new TitleCursor(last.getRank(), last.getTitle().getCreatedAt(), last.getTitle().getId()), 2);
+
+        // Assert
+        assertThat(first.getHits()).extracting(hit -> hit.getTitle().getId()).containsExactly(5L, 4L);
+        assertThat(second.getHits()).extracting(hit -> hit.getTitle().getId()).containsExactly(3L, 2L);
+        assertThat(second.getMatchCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("タイトル名の変更と削除が検索結果に反映される")
+    void shouldReflectUpdateAndRemove() {
+        // Arrange
+        put(1L, "進撃の巨人", CREATED_AT);
+        put(2L, "鬼滅の刃", CREATED_AT);
+
+        // Act
+        put(1L, "呪術廻戦", CREATED_AT);
+        index.remove(2L);
+        index.remove(99L);
+
+        // Assert
+        assertThat(ids("進撃")).isEmpty();
+        assertThat(ids("呪術")).containsExactly(1L);
+        assertThat(ids("鬼滅")).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ポスティングリストは追加順に伸長し、削除後も昇順を保つ")
+    void shouldKeepPostingListSorted() {
+        // Arrange
+        TitleSearchIndex.PostingList list = new TitleSearchIndex.PostingList();
+        for (int id = 0; id < 10; id++) {
+            list.append(id);
+        }
+
+        // Act
+        list.remove(3);
+        list.remove(42);
+
+        // Assert: 0, 1, 2, 4, ..., 9 の9件で、3 を探すと次に大きい 4 の位置になる
+        assertThat(list.seek(0, 3)).isEqualTo(3);
+        assertThat(list.seek(0, 4)).isEqualTo(3);
+        assertThat(list.seek(3, 9)).isEqualTo(8);
+        assertThat(list.seek(0, 10)).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("名前の変更・削除を繰り返しても文書番号を詰め直し、詰め直しの前後で検索結果が変わらない")
+    void shouldCompactDocumentsAfterRepeatedRenames() {
+        // Arrange
+        put(1L, "進撃の巨人", CREATED_AT);
+        put(2L, "鬼滅の刃", CREATED_AT.plusDays(1));
+        put(3L, "進撃の巨人 Season 2", CREATED_AT.plusDays(2));
+
+        // Act: 名前の変更のたびに文書番号が1つ空く
+        for (int i = 0; i < TitleSearchIndex.COMPACTION_MIN_FREE_SLOTS * 3; i++) {
+            put(2L, "鬼滅の刃 " + i, CREATED_AT.plusDays(1));
+        }
+        put(4L, "進撃の巨人 The Final", CREATED_AT.plusDays(3));
+        index.remove(3L);
+
+        // Assert
+        assertThat(index.documentSlots()).isLessThanOrEqualTo(TitleSearchIndex.COMPACTION_MIN_FREE_SLOTS + index.size());
+        assertThat(ids("進撃")).containsExactly(1L, 4L);
+        assertThat(ids("進撃の巨人")).containsExactly(1L, 4L);
+        assertThat(ids("刃 " + (TitleSearchIndex.COMPACTION_MIN_FREE_SLOTS * 3 - 1))).containsExactly(2L);
+        assertThat(ids("刃 0")).isEmpty();
+        assertThat(ids("の")).containsExactlyInAnyOrder(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("視聴の進捗を保持して検索結果・get で返し、進捗を持たない置き換えでは以前の進捗を引き継ぐ")
+    void shouldKeepProgress() {
+        // Arrange
+        index.put(new TitleListReadModel(1L, "進撃の巨人", CREATED_AT, CREATED_AT, 25, 12, CREATED_AT, 4.25));
+        index.put(new TitleListReadModel(2L, "進撃の巨人 Season 2", CREATED_AT, CREATED_AT, 0, 0, null, null));
+
+        // Act
+        put(1L, "進撃の巨人（改題）", CREATED_AT);
+        TitleListReadModel renamed = index.search("改題", null, 10).getHits().get(0).getTitle();
+        TitleListReadModel empty = index.get(2L).orElseThrow();
+
+        // Assert
+        assertThat(renamed.getName()).isEqualTo("進撃の巨人（改題）");
+        assertThat(renamed.getTotalEpisodes()).isEqualTo(25);
+        assertThat(renamed.getWatchedEpisodes()).isEqualTo(12);
+        assertThat(renamed.getLastWatchedAt()).isEqualTo(CREATED_AT);
+        assertThat(renamed.getAverageRating()).isEqualTo(4.25);
+        assertThat(empty.getTotalEpisodes()).isZero();
+        assertThat(empty.getLastWatchedAt()).isNull();
+        assertThat(empty.getAverageRating()).isNull();
+        assertThat(index.get(99L)).isEmpty();
+    }
+
+    private void put(Long id, String name, LocalDateTime createdAt) {
+        index.put(new TitleListReadModel(id, name, createdAt, createdAt));
+    }
+
+    private List<Long> ids(String query) {
+        return index.search(query, null, 100).getHits().stream()
+                .map(hit -> hit.getTitle().getId())
+                .toList();
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.videowatchlog.application.readmodel.service;
+
+import com.example.videowatchlog.application.readmodel.EpisodeDetailReadModel;
+import com.example.videowatchlog.application.readmodel.EpisodeReadModel;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChange;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChangeBus;
+import com.example.videowatchlog.application.readmodel.change.RemoteReadModelChangeEvent;
+import com.example.videowatchlog.application.readmodel.repository.EpisodeReadRepository;
+import com.example.videowatchlog.domain.model.WatchStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EpisodeReadServiceTest - エピソード詳細のキャッシュと無効化のテスト
+ */
+@DisplayName("EpisodeReadService のテスト")
+class EpisodeReadServiceTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private EpisodeReadRepository episodeReadRepository;
+
+    @Mock
+    private ReadModelChangeBus readModelChangeBus;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EpisodeReadService episodeReadService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        episodeReadService = new EpisodeReadService(episodeReadRepository, readModelChangeBus, meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("2回目以降はリポジトリを読まず、存在しないエピソードはキャッシュしない")
+    void shouldServeRepeatedReadsFromCache() {
+        // Given
+        givenEpisode(10L, 1L, WatchStatus.UNWATCHED);
+        when(episodeReadRepository.findEpisodeDetailById(99L)).thenReturn(Optional.empty());
+
+        // When
+        Optional<EpisodeDetailReadModel> first = episodeReadService.getEpisodeDetail(1L);
+        Optional<EpisodeDetailReadModel> second = episodeReadService.getEpisodeDetail(1L);
+        Optional<EpisodeDetailReadModel> third = episodeReadService.getEpisodeDetail(1L);
+        episodeReadService.getEpisodeDetail(99L);
+        Optional<EpisodeDetailReadModel> missing = episodeReadService.getEpisodeDetail(99L);
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second).containsSame(first.get());
+        assertThat(third).containsSame(first.get());
+        assertThat(missing).isEmpty();
+        verify(episodeReadRepository, times(1)).findEpisodeDetailById(1L);
+        verify(episodeReadRepository, times(2)).findEpisodeDetailById(99L);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "episodeDetail").tag("result", "hit").functionCounter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("エピソード単位・シリーズ単位・タイトル単位の無効化後は読み直す")
+    void shouldReloadAfterEviction() {
+        // Given
+        givenEpisode(10L, 1L, WatchStatus.UNWATCHED);
+        givenEpisode(10L, 2L, WatchStatus.UNWATCHED);
+        episodeReadService.getEpisodeDetail(1L);
+        episodeReadService.getEpisodeDetail(2L);
+        givenEpisode(10L, 1L, WatchStatus.WATCHED);
+        givenEpisode(10L, 2L, WatchStatus.WATCHED);
+        when(episodeReadRepository.findEpisodeIdsBySeriesId(10L)).thenReturn(List.of(1L, 2L));
+
+        // When
+        episodeReadService.evictEpisodeDetail(1L);
+        WatchStatus afterEpisodeEviction = episodeReadService.getEpisodeDetail(1L).orElseThrow().getEpisode().getWatchStatus();
+        WatchStatus notEvicted = episodeReadService.getEpisodeDetail(2L).orElseThrow().getEpisode().getWatchStatus();
+        episodeReadService.evictEpisodeDetailsOfSeries(10L);
+        WatchStatus afterSeriesEviction = episodeReadService.getEpisodeDetail(2L).orElseThrow().getEpisode().getWatchStatus();
+
+        // Then
+        assertThat(afterEpisodeEviction).isEqualTo(WatchStatus.WATCHED);
+        assertThat(notEvicted).isEqualTo(WatchStatus.UNWATCHED);
+        assertThat(afterSeriesEviction).isEqualTo(WatchStatus.WATCHED);
+        verify(readModelChangeBus).publish(argThat(change -> change.getEpisodeDetailIds().equals(Set.of(1L))));
+        verify(readModelChangeBus).publish(argThat(change -> change.getEpisodeDetailIds().equals(Set.of(1L, 2L))));
+    }
+
+    @Test
+    @DisplayName("他のプロセスからの変更・再同期の後は読み直す")
+    void shouldReloadAfterRemoteChangeAndResync() {
+        // Given
+        givenEpisode(10L, 1L, WatchStatus.UNWATCHED);
+        givenEpisode(10L, 2L, WatchStatus.UNWATCHED);
+        episodeReadService.getEpisodeDetail(1L);
+        episodeReadService.getEpisodeDetail(2L);
+
+        // When
+        episodeReadService.onRemoteChange(new RemoteReadModelChangeEvent(ReadModelChange.episodeDetails(List.of(1L))));
+        episodeReadService.getEpisodeDetail(1L);
+        episodeReadService.getEpisodeDetail(2L);
+        episodeReadService.onResync();
+        episodeReadService.getEpisodeDetail(2L);
+
+        // Then
+        verify(episodeReadRepository, times(2)).findEpisodeDetailById(1L);
+        verify(episodeReadRepository, times(2)).findEpisodeDetailById(2L);
+    }
+
+    @Test
+    @DisplayName("ETag のバージョンを指定した読み込みは、キャッシュのバージョンが異なれば読み直す")
+    void shouldReloadWhenCachedVersionDiffers() {
+        // Given: バージョンを指定しない読み込みでキャッシュされた詳細は、バージョンが分からない
+        givenEpisode(10L, 1L, WatchStatus.UNWATCHED);
+        episodeReadService.getEpisodeDetail(1L);
+        givenEpisode(10L, 1L, WatchStatus.WATCHED);
+
+        // When
+        WatchStatus firstVersion = episodeReadService.getEpisodeDetail(1L, "v1").orElseThrow().getEpisode().getWatchStatus();
+        episodeReadService.getEpisodeDetail(1L, "v1");
+        episodeReadService.getEpisodeDetail(1L);
+        episodeReadService.getEpisodeDetail(1L, "v2");
+
+        // Then
+        assertThat(firstVersion).isEqualTo(WatchStatus.WATCHED);
+        verify(episodeReadRepository, times(3)).findEpisodeDetailById(1L);
+    }
+
+    private void givenEpisode(Long seriesId, Long episodeId, WatchStatus watchStatus) {
+        when(episodeReadRepository.findEpisodeDetailById(episodeId))
+                .thenReturn(Optional.of(new EpisodeDetailReadModel(
+                        new EpisodeReadModel(episodeId, seriesId, "第" + episodeId + "話", watchStatus,
+                                List.of(), List.of(), CREATED_AT, CREATED_AT),
+                        "", 100L, "タイトル")));
+    }
+}
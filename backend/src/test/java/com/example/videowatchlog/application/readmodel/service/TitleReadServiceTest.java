@@ -0,0 +1,255 @@
+package com.example.videowatchlog.application.readmodel.service;
+
+import com.example.videowatchlog.application.readmodel.TitleDetailExpansion;
+import com.example.videowatchlog.application.readmodel.TitleDetailReadModel;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChange;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChangeBus;
+import com.example.videowatchlog.application.readmodel.change.RemoteReadModelChangeEvent;
+import com.example.videowatchlog.application.readmodel.change.TitleDetailChangedEvent;
+import com.example.videowatchlog.application.readmodel.repository.TitleReadRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TitleReadServiceTest - タイトル詳細のキャッシュと無効化のテスト
+ */
+@DisplayName("TitleReadService のテスト")
+class TitleReadServiceTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private TitleReadRepository titleReadRepository;
+
+    @Mock
+    private ReadModelChangeBus readModelChangeBus;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TitleReadService titleReadService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        titleReadService = new TitleReadService(titleReadRepository, readModelChangeBus, eventPublisher, meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("同じタイトル・展開オプションの2回目以降はリポジトリを読まず、ヒット・ミスがメトリクスに記録される")
+    void shouldServeRepeatedReadsFromCache() {
+        // Given
+        givenTitle(1L, "進撃の巨人");
+
+        // When
+        titleReadService.getTitleDetail(1L);
+        titleReadService.getTitleDetail(1L);
+        Optional<TitleDetailReadModel> detail = titleReadService.getTitleDetail(1L, Set.of());
+        titleReadService.getTitleDetail(1L, EnumSet.of(TitleDetailExpansion.VIEWING_RECORDS));
+
+        // Then
+        assertThat(detail).get().extracting(TitleDetailReadModel::getName).isEqualTo("進撃の巨人");
+        verify(titleReadRepository, times(1)).findTitleDetailById(1L, Set.of());
+        verify(titleReadRepository, times(1)).findTitleDetailById(1L, EnumSet.of(TitleDetailExpansion.VIEWING_RECORDS));
+        assertThat(cacheGets("hit")).isEqualTo(2);
+        assertThat(cacheGets("miss")).isEqualTo(2);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", "titleDetail").functionCounter()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("存在しないタイトルはキャッシュせず、作成後に読める")
+    void shouldNotCacheMissingTitle() {
+        // Given
+        when(titleReadRepository.findTitleDetailById(eq(1L), any())).thenReturn(Optional.empty());
+        boolean foundBeforeCreate = titleReadService.getTitleDetail(1L).isPresent();
+
+        // When
+        givenTitle(1L, "進撃の巨人");
+
+        // Then
+        assertThat(foundBeforeCreate).isFalse();
+        assertThat(titleReadService.getTitleDetail(1L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("ETag のバージョンを指定した読み込みは、キャッシュのバージョンが異なれば読み直す")
+    void shouldReloadWhenCachedVersionDiffers() {
+        // Given: バージョンを指定しない読み込みでキャッシュされた詳細は、バージョンが分からない
+        givenTitle(1L, "進撃の巨人");
+        titleReadService.getTitleDetail(1L);
+        givenTitle(1L, "進撃の巨人（改題）");
+
+        // When
+        String firstVersion = titleReadService.getTitleDetail(1L, Set.of(), "v1").orElseThrow().getName();
+        titleReadService.getTitleDetail(1L, Set.of(), "v1");
+        titleReadService.getTitleDetail(1L);
+        titleReadService.getTitleDetail(1L, Set.of(), "v2");
+
+        // Then
+        assertThat(firstVersion).isEqualTo("進撃の巨人（改題）");
+        verify(titleReadRepository, times(3)).findTitleDetailById(1L, Set.of());
+    }
+
+    @Test
+    @DisplayName("無効化はすべての展開オプションのエントリに及び、トランザクション内ではコミット後に行われる")
+    void shouldEvictAllExpansionsAfterCommit() {
+        // Given
+        givenTitle(1L, "進撃の巨人");
+        titleReadService.getTitleDetail(1L);
+        titleReadService.getTitleDetail(1L, EnumSet.allOf(TitleDetailExpansion.class));
+        givenTitle(1L, "進撃の巨人（改題）");
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        titleReadService.evictTitleDetail(1L);
+        String nameBeforeCommit = titleReadService.getTitleDetail(1L).orElseThrow().getName();
+        completeTransaction(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(nameBeforeCommit).isEqualTo("進撃の巨人");
+        assertThat(titleReadService.getTitleDetail(1L).orElseThrow().getName()).isEqualTo("進撃の巨人（改題）");
+        assertThat(titleReadService.getTitleDetail(1L, EnumSet.allOf(TitleDetailExpansion.class)).orElseThrow().getName())
+                .isEqualTo("進撃の巨人（改題）");
+    }
+
+    @Test
+    @DisplayName("無効化は他のプロセス・このプロセスの検索索引へも伝えられ、他のプロセスからの変更・再同期でもキャッシュを読み直す")
+    void shouldPropagateAndApplyRemoteChanges() {
+        // Given
+        givenTitle(1L, "進撃の巨人");
+        givenTitle(2L, "ワンピース");
+        titleReadService.getTitleDetail(1L);
+        titleReadService.getTitleDetail(2L, EnumSet.of(TitleDetailExpansion.WATCH_PAGE_URLS));
+
+        // When
+        titleReadService.evictTitleDetail(1L);
+        titleReadService.onRemoteChange(new RemoteReadModelChangeEvent(ReadModelChange.titleDetail(2L)));
+        titleReadService.getTitleDetail(1L);
+        titleReadService.getTitleDetail(2L, EnumSet.of(TitleDetailExpansion.WATCH_PAGE_URLS));
+        titleReadService.onResync();
+        titleReadService.getTitleDetail(1L);
+
+        // Then
+        verify(readModelChangeBus).publish(argThat(change -> change.getTitleDetailIds().equals(Set.of(1L))));
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof TitleDetailChangedEvent changed && changed.getTitleIds().equals(Set.of(1L))));
+        verify(titleReadRepository, times(3)).findTitleDetailById(1L, Set.of());
+        verify(titleReadRepository, times(2)).findTitleDetailById(2L, EnumSet.of(TitleDetailExpansion.WATCH_PAGE_URLS));
+    }
+
+    @Test
+    @DisplayName("ロールバックされたトランザクションではキャッシュを無効化しない")
+    void shouldKeepCacheOnRollback() {
+        // Given
+        givenTitle(1L, "進撃の巨人");
+        titleReadService.getTitleDetail(1L);
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        titleReadService.evictTitleDetail(1L);
+        completeTransaction(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        titleReadService.getTitleDetail(1L);
+
+        // Then
+        verify(titleReadRepository, times(1)).findTitleDetailById(1L, Set.of());
+    }
+
+    @Test
+    @DisplayName("シリーズ単位の無効化はシリーズが属するタイトルを解決して無効化する")
+    void shouldEvictTitleOfSeries() {
+        // Given
+        givenTitle(1L, "進撃の巨人");
+        titleReadService.getTitleDetail(1L);
+        when(titleReadRepository.findTitleIdBySeriesId(10L)).thenReturn(Optional.of(1L));
+        when(titleReadRepository.findTitleIdBySeriesId(99L)).thenReturn(Optional.empty());
+
+        // When
+        titleReadService.evictTitleDetailOfSeries(99L);
+        titleReadService.getTitleDetail(1L);
+        titleReadService.evictTitleDetailOfSeries(10L);
+        titleReadService.getTitleDetail(1L);
+
+        // Then
+        verify(titleReadRepository, times(2)).findTitleDetailById(1L, Set.of());
+    }
+
+    @Test
+    @DisplayName("読み込み中のエントリの無効化は読み込みの完了を待ち、読み込まれた古い値を残さない")
+    void shouldNotKeepValueLoadedBeforeEviction() throws Exception {
+        // Given: 1回目の読み込みは変更前の値を返すが、無効化が呼ばれるまで完了しない
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evictionStarted = new CountDownLatch(1);
+        when(titleReadRepository.findTitleDetailById(1L, Set.of()))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    evictionStarted.await(5, TimeUnit.SECONDS);
+                    return Optional.of(title(1L, "進撃の巨人"));
+                })
+                .thenReturn(Optional.of(title(1L, "進撃の巨人（改題）")));
+        CompletableFuture<Optional<TitleDetailReadModel>> staleRead =
+                CompletableFuture.supplyAsync(() -> titleReadService.getTitleDetail(1L));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        CompletableFuture<Void> eviction = CompletableFuture.runAsync(() -> titleReadService.evictTitleDetail(1L));
+        evictionStarted.countDown();
+        eviction.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(staleRead.get(5, TimeUnit.SECONDS).orElseThrow().getName()).isEqualTo("進撃の巨人");
+        assertThat(titleReadService.getTitleDetail(1L).orElseThrow().getName()).isEqualTo("進撃の巨人（改題）");
+    }
+
+    private void givenTitle(Long id, String name) {
+        when(titleReadRepository.findTitleDetailById(eq(id), any())).thenReturn(Optional.of(title(id, name)));
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "titleDetail").tag("result", result).functionCounter().count();
+    }
+
+    private static void completeTransaction(Consumer<TransactionSynchronization> callback) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(callback);
+    }
+
+    private static TitleDetailReadModel title(Long id, String name) {
+        return new TitleDetailReadModel(id, name, List.of(), CREATED_AT, CREATED_AT);
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.videowatchlog.application.readmodel.service;
+
+import com.example.videowatchlog.application.readmodel.TitleListReadModel;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChange;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChangeBus;
+import com.example.videowatchlog.application.readmodel.change.RemoteReadModelChangeEvent;
+import com.example.videowatchlog.application.readmodel.change.TitleDetailChangedEvent;
+import com.example.videowatchlog.application.readmodel.search.TitleSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * TitleSearchIndexServiceTest - 検索索引の構築・更新のテスト
+ */
+@DisplayName("TitleSearchIndexService のテスト")
+class TitleSearchIndexServiceTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private TitleReadService titleReadService;
+
+    @Mock
+    private ReadModelChangeBus readModelChangeBus;
+
+    @InjectMocks
+    private TitleSearchIndexService titleSearchIndexService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("構築前は検索結果を返さず（DB の検索を使わせ）、構築後は全タイトルを検索できる")
+    void shouldSearchOnlyAfterRebuild() {
+        // Given
+        givenTitles(title(1L, "進撃の巨人"), title(2L, "鬼滅の刃"));
+
+        // When
+        boolean availableBeforeRebuild = titleSearchIndexService.search("進撃", null, 10).isPresent();
+        titleSearchIndexService.rebuild();
+
+        // Then
+        assertThat(availableBeforeRebuild).isFalse();
+        assertThat(searchIds("進撃")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("トランザクション内の変更はコミット後に反映され、ロールバックでは反映されない")
+    void shouldApplyChangesAfterCommit() {
+        // Given
+        givenTitles(title(1L, "進撃の巨人"));
+        titleSearchIndexService.rebuild();
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        titleSearchIndexService.titleSaved(title(2L, "進撃の巨人 Season 2"));
+        List<Long> beforeCommit = searchIds("進撃");
+        completeTransaction(TransactionSynchronization::afterCommit);
+
+        TransactionSynchronizationManager.initSynchronization();
+        titleSearchIndexService.titleDeleted(1L);
+        completeTransaction(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertThat(beforeCommit).containsExactly(1L);
+        assertThat(searchIds("進撃")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("構築中に行われた変更も構築後の索引に反映される")
+    void shouldReplayChangesMadeDuringRebuild() {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<TitleListReadModel> action = invocation.getArgument(0);
+            action.accept(title(1L, "進撃の巨人"));
+            // 読み込み済みのタイトルの削除と、読み込み後に作成されたタイトル
+            titleSearchIndexService.titleDeleted(1L);
+            titleSearchIndexService.titleSaved(title(2L, "進撃の巨人 Season 2"));
+            return null;
+        }).when(titleReadService).forEachTitle(any());
+
+        // When
+        titleSearchIndexService.rebuild();
+
+        // Then
+        assertThat(searchIds("進撃")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("変更は他のプロセスへ伝えられ、他のプロセスで変更・削除されたタイトルは DB から1ステートメントで読み直して反映される")
+    void shouldPropagateAndApplyRemoteChanges() {
+        // Given
+        givenTitles(title(1L, "進撃の巨人"), title(2L, "鬼滅の刃"));
+        titleSearchIndexService.rebuild();
+        when(titleReadService.getTitles(Set.of(1L, 2L))).thenReturn(List.of(title(2L, "進撃の刃")));
+
+        // When
+        titleSearchIndexService.titleSaved(title(3L, "進撃の巨人 Season 2"));
+        titleSearchIndexService.onRemoteChange(new RemoteReadModelChangeEvent(
+                new ReadModelChange(Set.of(), Set.of(), Set.of(1L, 2L))));
+
+        // Then
+        verify(readModelChangeBus).publish(argThat(change -> change.getSearchIndexTitleIds().equals(Set.of(3L))));
+        assertThat(searchIds("進撃")).containsExactly(2L, 3L);
+        verify(titleReadService, times(1)).getTitles(any());
+    }
+
+    @Test
+    @DisplayName("他のプロセスの一括の変更（インポートなど）も、件数に関わらず1回の読み直しで反映される")
+    void shouldApplyBulkRemoteChangeWithSingleReload() {
+        // Given: 他のプロセスで 1000 件が作成され、うち 1 件はすでに削除されている
+        givenTitles(title(1L, "進撃の巨人"));
+        titleSearchIndexService.rebuild();
+        Set<Long> changedIds = LongStream.rangeClosed(1, 1000).boxed().collect(Collectors.toSet());
+        when(titleReadService.getTitles(changedIds)).thenReturn(LongStream.rangeClosed(2, 1000)
+                .mapToObj(id -> title(id, "インポート " + id))
+                .toList());
+
+        // When
+        titleSearchIndexService.onRemoteChange(new RemoteReadModelChangeEvent(
+                new ReadModelChange(Set.of(), Set.of(), changedIds)));
+
+        // Then
+        verify(titleReadService, times(1)).getTitles(any());
+        verify(titleReadService, never()).getTitle(any());
+        assertThat(searchIds("進撃")).isEmpty();
+        assertThat(titleSearchIndexService.search("インポート", null, 2000).orElseThrow().getHits()).hasSize(999);
+    }
+
+    @Test
+    @DisplayName("進捗の変更はトランザクション内で読み直してコミット後に反映され、名前だけの変更では進捗を引き継ぐ")
+    void shouldRefreshProgressAfterCommit() {
+        // Given
+        givenTitles(title(1L, "進撃の巨人"));
+        titleSearchIndexService.rebuild();
+        when(titleReadService.getTitles(Set.of(1L))).thenReturn(List.of(
+                new TitleListReadModel(1L, "進撃の巨人", CREATED_AT, CREATED_AT, 25, 12, CREATED_AT, 4.25)));
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        titleSearchIndexService.onTitleDetailChanged(new TitleDetailChangedEvent(Set.of(1L)));
+        Integer beforeCommit = titleSearchIndexService.getTitle(1L).orElseThrow().getTotalEpisodes();
+        completeTransaction(TransactionSynchronization::afterCommit);
+        titleSearchIndexService.titleSaved(title(1L, "進撃の巨人（改題）"));
+
+        // Then
+        assertThat(beforeCommit).isNull();
+        TitleListReadModel indexed = titleSearchIndexService.getTitle(1L).orElseThrow();
+        assertThat(indexed.getName()).isEqualTo("進撃の巨人（改題）");
+        assertThat(indexed.getTotalEpisodes()).isEqualTo(25);
+        assertThat(indexed.getWatchedEpisodes()).isEqualTo(12);
+        assertThat(indexed.getLastWatchedAt()).isEqualTo(CREATED_AT);
+        assertThat(indexed.getAverageRating()).isEqualTo(4.25);
+    }
+
+    @Test
+    @DisplayName("他のプロセスでのタイトル詳細（進捗）の変更も読み直して反映される")
+    void shouldRefreshProgressOfRemoteTitleDetailChanges() {
+        // Given
+        givenTitles(title(1L, "進撃の巨人"));
+        titleSearchIndexService.rebuild();
+        when(titleReadService.getTitles(Set.of(1L))).thenReturn(List.of(
+                new TitleListReadModel(1L, "進撃の巨人", CREATED_AT, CREATED_AT, 25, 25, CREATED_AT, null)));
+
+        // When
+        titleSearchIndexService.onRemoteChange(new RemoteReadModelChangeEvent(ReadModelChange.titleDetail(1L)));
+
+        // Then
+        assertThat(titleSearchIndexService.getTitle(1L).orElseThrow().getWatchedEpisodes()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("索引の構築前は、このプロセス・他のプロセスの変更のために DB を読み直さない")
+    void shouldNotReloadBeforeRebuild() {
+        // When
+        titleSearchIndexService.onTitleDetailChanged(new TitleDetailChangedEvent(Set.of(1L)));
+        titleSearchIndexService.onRemoteChange(new RemoteReadModelChangeEvent(ReadModelChange.titleDetail(1L)));
+
+        // Then
+        verifyNoInteractions(titleReadService);
+        assertThat(titleSearchIndexService.getTitle(1L)).isEmpty();
+    }
+
+    private void givenTitles(TitleListReadModel... titles) {
+        doAnswer(invocation -> {
+            Consumer<TitleListReadModel> action = invocation.getArgument(0);
+            for (TitleListReadModel title : titles) {
+                action.accept(title);
+            }
+            return null;
+        }).when(titleReadService).forEachTitle(any());
+    }
+
+    private static void completeTransaction(Consumer<TransactionSynchronization> callback) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(callback);
+    }
+
+    private List<Long> searchIds(String query) {
+        return titleSearchIndexService.search(query, null, 10).orElseThrow().getHits().stream()
+                .map(TitleSearchIndex.Hit::getTitle)
+                .map(TitleListReadModel::getId)
+                .sorted()
+                .toList();
+    }
+
+    private static TitleListReadModel title(Long id, String name) {
+        return new TitleListReadModel(id, name, CREATED_AT, CREATED_AT);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.videowatchlog.application.usecase;
 
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
 import com.example.videowatchlog.domain.model.Episode;
 import com.example.videowatchlog.domain.model.ViewingRecord;
 import com.example.videowatchlog.domain.model.WatchStatus;
@@ -29,12 +31,18 @@ class AddViewingRecordUseCaseTest {
     @Mock
     private EpisodeRepository episodeRepository;
 
+    @Mock
+    private TitleReadService titleReadService;
+
+    @Mock
+    private EpisodeReadService episodeReadService;
+
     private AddViewingRecordUseCase useCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        useCase = new AddViewingRecordUseCase(viewingRecordIdService, episodeRepository);
+        useCase = new AddViewingRecordUseCase(viewingRecordIdService, episodeRepository, titleReadService, episodeReadService);
     }
 
     @Test
@@ -67,6 +75,8 @@ class AddViewingRecordUseCaseTest {
 
         verify(episodeRepository, times(1)).findById(episodeId);
         verify(episodeRepository, times(1)).save(episode);
+        verify(titleReadService).evictTitleDetailOfSeries(1L);
+        verify(episodeReadService).evictEpisodeDetail(episodeId);
     }
 
     @Test
@@ -185,5 +195,6 @@ class AddViewingRecordUseCaseTest {
         );
 
         verify(episodeRepository, never()).save(any());
+        verifyNoInteractions(titleReadService, episodeReadService);
     }
 }
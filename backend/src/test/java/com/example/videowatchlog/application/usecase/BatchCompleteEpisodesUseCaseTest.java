@@ -0,0 +1,138 @@
+package com.example.videowatchlog.application.usecase;
+
+import com.example.videowatchlog.application.dto.BatchCompleteEpisodeItemDTO;
+import com.example.videowatchlog.application.dto.BatchCompleteEpisodesRequestDTO;
+import com.example.videowatchlog.application.dto.BatchCompleteEpisodesResultDTO;
+import com.example.videowatchlog.application.dto.BatchCompleteEpisodesResultDTO.ItemResultDTO;
+import com.example.videowatchlog.application.dto.BatchCompleteEpisodesResultDTO.ResultCode;
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.domain.model.ViewingRecord;
+import com.example.videowatchlog.domain.repository.EpisodeCompletion;
+import com.example.videowatchlog.domain.repository.EpisodeRepository;
+import com.example.videowatchlog.domain.service.ViewingRecordIdService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BatchCompleteEpisodesUseCase")
+@ExtendWith(MockitoExtension.class)
+class BatchCompleteEpisodesUseCaseTest {
+
+    @Mock
+    private ViewingRecordIdService viewingRecordIdService;
+
+    @Mock
+    private EpisodeRepository episodeRepository;
+
+    @Mock
+    private TitleReadService titleReadService;
+
+    @Mock
+    private EpisodeReadService episodeReadService;
+
+    private BatchCompleteEpisodesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new BatchCompleteEpisodesUseCase(viewingRecordIdService, episodeRepository, titleReadService,
+                episodeReadService, 10);
+    }
+
+    @Test
+    @DisplayName("共通の値とエピソードごとの上書きで視聴記録を作り、エピソードごとの結果を指定順に返す")
+    void shouldReturnResultPerEpisodeInRequestOrder() {
+        // Given
+        LocalDateTime shared = LocalDateTime.of(2024, 1, 1, 20, 0);
+        LocalDateTime own = LocalDateTime.of(2024, 1, 2, 20, 0);
+        BatchCompleteEpisodesRequestDTO request = new BatchCompleteEpisodesRequestDTO(List.of(
+                new BatchCompleteEpisodeItemDTO(1L, null, null, null),
+                new BatchCompleteEpisodeItemDTO(2L, own, 5, "最高"),
+                new BatchCompleteEpisodeItemDTO(3L, null, null, null),
+                new BatchCompleteEpisodeItemDTO(1L, null, null, null),
+                new BatchCompleteEpisodeItemDTO(4L, null, 9, null),
+                new BatchCompleteEpisodeItemDTO(5L, null, null, null)),
+                shared, 3, null);
+        when(viewingRecordIdService.generateIds(4)).thenReturn(List.of(101L, 102L, 103L, 104L));
+        when(episodeRepository.markAllAsWatched(anyList())).thenReturn(List.of(
+                new EpisodeCompletion(1L, 10L, EpisodeCompletion.Outcome.COMPLETED),
+                new EpisodeCompletion(2L, 20L, EpisodeCompletion.Outcome.COMPLETED),
+                new EpisodeCompletion(3L, 10L, EpisodeCompletion.Outcome.ALREADY_WATCHED),
+                new EpisodeCompletion(5L, null, EpisodeCompletion.Outcome.NOT_FOUND)));
+
+        // When
+        BatchCompleteEpisodesResultDTO result = useCase.execute(request);
+
+        // Then
+        assertThat(result.getCompletedCount()).isEqualTo(2);
+        assertThat(result.getResults())
+                .extracting(ItemResultDTO::getEpisodeId, ItemResultDTO::getResult, ItemResultDTO::getViewingRecordId)
+                .containsExactly(
+                        tuple(1L, ResultCode.COMPLETED, 101L),
+                        tuple(2L, ResultCode.COMPLETED, 102L),
+                        tuple(3L, ResultCode.ALREADY_WATCHED, null),
+                        tuple(1L, ResultCode.DUPLICATE, null),
+                        tuple(4L, ResultCode.INVALID, null),
+                        tuple(5L, ResultCode.NOT_FOUND, null));
+        assertThat(result.getResults().get(4).getMessage()).contains("between 1 and 5");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ViewingRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(episodeRepository).markAllAsWatched(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(ViewingRecord::getEpisodeId, ViewingRecord::getWatchedAt, ViewingRecord::getRating,
+                        ViewingRecord::getComment)
+                .containsExactly(
+                        tuple(1L, shared, 3, null),
+                        tuple(2L, own, 5, "最高"),
+                        tuple(3L, shared, 3, null),
+                        tuple(5L, shared, 3, null));
+        verify(titleReadService).evictTitleDetail(10L);
+        verify(titleReadService).evictTitleDetail(20L);
+        verifyNoMoreInteractions(titleReadService);
+        verify(episodeReadService).evictEpisodeDetails(argThat(ids -> ids.containsAll(List.of(1L, 2L)) && ids.size() == 2));
+    }
+
+    @Test
+    @DisplayName("視聴日時・評価が共通にもエピソードごとにも指定されていない場合は INVALID")
+    void shouldRejectItemsWithoutWatchedAtOrRating() {
+        // Given
+        BatchCompleteEpisodesRequestDTO request = new BatchCompleteEpisodesRequestDTO(
+                List.of(new BatchCompleteEpisodeItemDTO(1L, null, 4, null)), null, null, null);
+        when(viewingRecordIdService.generateIds(0)).thenReturn(List.of());
+
+        // When
+        BatchCompleteEpisodesResultDTO result = useCase.execute(request);
+
+        // Then
+        assertThat(result.getCompletedCount()).isZero();
+        assertThat(result.getResults()).extracting(ItemResultDTO::getResult).containsExactly(ResultCode.INVALID);
+    }
+
+    @Test
+    @DisplayName("上限を超えるエピソード数は処理しない")
+    void shouldRejectTooManyEpisodes() {
+        // Given
+        List<BatchCompleteEpisodeItemDTO> items = LongStream.rangeClosed(1, 11)
+                .mapToObj(id -> new BatchCompleteEpisodeItemDTO(id, null, null, null))
+                .toList();
+
+        // When & Then
+        assertThatThrownBy(() -> useCase.execute(new BatchCompleteEpisodesRequestDTO(items, LocalDateTime.now(), 3, null)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("10件まで");
+        verifyNoInteractions(viewingRecordIdService, episodeRepository);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.videowatchlog.application.usecase;
+
+import com.example.videowatchlog.application.dto.BatchCreateEpisodesRequestDTO;
+import com.example.videowatchlog.application.dto.BatchCreateEpisodesResultDTO;
+import com.example.videowatchlog.application.dto.CreateEpisodeRequestDTO;
+import com.example.videowatchlog.application.dto.EpisodeNumberingDTO;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.domain.model.Episode;
+import com.example.videowatchlog.domain.model.Series;
+import com.example.videowatchlog.domain.model.WatchPageUrl;
+import com.example.videowatchlog.domain.repository.EpisodeRepository;
+import com.example.videowatchlog.domain.repository.SeriesRepository;
+import com.example.videowatchlog.domain.service.EpisodeIdService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BatchCreateEpisodesUseCase")
+@ExtendWith(MockitoExtension.class)
+class BatchCreateEpisodesUseCaseTest {
+
+    @Mock
+    private EpisodeIdService episodeIdService;
+
+    @Mock
+    private EpisodeRepository episodeRepository;
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private TitleReadService titleReadService;
+
+    private BatchCreateEpisodesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new BatchCreateEpisodesUseCase(episodeIdService, episodeRepository, seriesRepository, titleReadService, 30);
+    }
+
+    @Test
+    @DisplayName("個別の指定と連番のテンプレートを展開し、IDをまとめて采番して一括保存する")
+    void shouldCreateEpisodesInOneBatch() {
+        // Given
+        when(seriesRepository.findById(1L)).thenReturn(Optional.of(Series.create(1L, 10L, "")));
+        when(episodeIdService.generateIds(4)).thenReturn(LongStream.rangeClosed(101, 104).boxed().toList());
+        BatchCreateEpisodesRequestDTO request = new BatchCreateEpisodesRequestDTO(
+                List.of(new CreateEpisodeRequestDTO("特別編", List.of("https://example.com/special"))),
+                new EpisodeNumberingDTO("第{n}話", "https://example.com/ep/{n}", 9, 3, 2));
+
+        // When
+        BatchCreateEpisodesResultDTO result = useCase.execute(10L, 1L, request);
+
+        // Then
+        assertThat(result.getSeriesId()).isEqualTo(1L);
+        assertThat(result.getCreatedCount()).isEqualTo(4);
+        assertThat(result.getEpisodeIds()).containsExactly(101L, 102L, 103L, 104L);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Episode>> captor = ArgumentCaptor.forClass(List.class);
+        verify(episodeRepository).addAll(captor.capture());
+        List<Episode> episodes = captor.getValue();
+        assertThat(episodes).extracting(Episode::getId).containsExactly(101L, 102L, 103L, 104L);
+        assertThat(episodes).extracting(Episode::getEpisodeInfo).containsExactly("特別編", "第09話", "第10話", "第11話");
+        assertThat(episodes.get(2).getWatchPageUrls()).extracting(WatchPageUrl::getUrl)
+                .containsExactly("https://example.com/ep/10");
+        verify(episodeIdService, never()).generateId();
+        verify(titleReadService).evictTitleDetail(10L);
+    }
+
+    @Test
+    @DisplayName("作成するエピソードがない場合は保存しない")
+    void shouldRejectEmptyRequest() {
+        // When & Then
+        assertThatThrownBy(() -> useCase.execute(10L, 1L, new BatchCreateEpisodesRequestDTO(List.of(), null)))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(episodeIdService, episodeRepository);
+    }
+
+    @Test
+    @DisplayName("上限を超えるエピソード数は保存しない")
+    void shouldRejectTooManyEpisodes() {
+        // Given
+        BatchCreateEpisodesRequestDTO request = new BatchCreateEpisodesRequestDTO(null,
+                new EpisodeNumberingDTO("第{n}話", null, 1, 31, null));
+
+        // When & Then
+        assertThatThrownBy(() -> useCase.execute(10L, 1L, request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("30件まで");
+        verifyNoInteractions(episodeIdService, episodeRepository);
+    }
+
+    @Test
+    @DisplayName("シリーズが指定したタイトルに属さない場合は見つからないものとして扱う")
+    void shouldRejectSeriesOfOtherTitle() {
+        // Given
+        when(seriesRepository.findById(1L)).thenReturn(Optional.of(Series.create(1L, 20L, "")));
+        BatchCreateEpisodesRequestDTO request = new BatchCreateEpisodesRequestDTO(null,
+                new EpisodeNumberingDTO("第{n}話", null, 1, 3, null));
+
+        // When & Then
+        assertThatThrownBy(() -> useCase.execute(10L, 1L, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("シリーズが見つかりません");
+        verifyNoInteractions(episodeIdService, episodeRepository);
+    }
+}
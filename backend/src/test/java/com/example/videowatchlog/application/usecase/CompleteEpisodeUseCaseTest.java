@@ -1,5 +1,7 @@
 package com.example.videowatchlog.application.usecase;
 
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
 import com.example.videowatchlog.domain.model.Episode;
 import com.example.videowatchlog.domain.model.ViewingRecord;
 import com.example.videowatchlog.domain.model.WatchStatus;
@@ -29,12 +31,18 @@ class CompleteEpisodeUseCaseTest {
     @Mock
     private EpisodeRepository episodeRepository;
 
+    @Mock
+    private TitleReadService titleReadService;
+
+    @Mock
+    private EpisodeReadService episodeReadService;
+
     private CompleteEpisodeUseCase useCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        useCase = new CompleteEpisodeUseCase(viewingRecordIdService, episodeRepository);
+        useCase = new CompleteEpisodeUseCase(viewingRecordIdService, episodeRepository, titleReadService, episodeReadService);
     }
 
     @Test
@@ -68,6 +76,8 @@ class CompleteEpisodeUseCaseTest {
 
         verify(episodeRepository, times(1)).findById(episodeId);
         verify(episodeRepository, times(1)).save(episode);
+        verify(titleReadService).evictTitleDetailOfSeries(1L);
+        verify(episodeReadService).evictEpisodeDetail(episodeId);
     }
 
     @Test
@@ -208,5 +218,6 @@ class CompleteEpisodeUseCaseTest {
         );
 
         verify(episodeRepository, never()).save(any());
+        verifyNoInteractions(titleReadService, episodeReadService);
     }
 }
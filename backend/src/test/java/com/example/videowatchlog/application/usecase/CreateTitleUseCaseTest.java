@@ -2,6 +2,8 @@ package com.example.videowatchlog.application.usecase;
 
 import com.example.videowatchlog.application.dto.CreateTitleRequestDTO;
 import com.example.videowatchlog.application.dto.TitleSummaryDTO;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleSearchIndexService;
 import com.example.videowatchlog.domain.model.Title;
 import com.example.videowatchlog.domain.repository.TitleRepository;
 import com.example.videowatchlog.domain.service.TitleIdService;
@@ -29,6 +31,12 @@ class CreateTitleUseCaseTest {
     @Mock
     private TitleDuplicationCheckService duplicationCheckService;
 
+    @Mock
+    private TitleSearchIndexService titleSearchIndexService;
+
+    @Mock
+    private TitleReadService titleReadService;
+
     @InjectMocks
     private CreateTitleUseCase useCase;
 
@@ -72,6 +80,7 @@ class CreateTitleUseCaseTest {
                 .hasMessageContaining("すでに存在します");
         verify(titleIdService, never()).generateId();
         verify(titleRepository, never()).save(any());
+        verifyNoInteractions(titleSearchIndexService);
     }
 
     @Test
@@ -98,4 +107,24 @@ class CreateTitleUseCaseTest {
                 title.getId().equals(2L) && title.getName().equals("鬼滅の刃")
         ));
     }
+
+    @Test
+    @DisplayName("作成したタイトルを検索索引に反映する")
+    void shouldAddCreatedTitleToSearchIndex() {
+        // Given
+        CreateTitleRequestDTO request = new CreateTitleRequestDTO("鬼滅の刃", null);
+        when(titleIdService.generateId()).thenReturn(2L);
+        when(duplicationCheckService.isDuplicate("鬼滅の刃")).thenReturn(false);
+        when(titleRepository.save(any(Title.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        useCase.execute(request);
+
+        // Then
+        verify(titleSearchIndexService, times(1)).titleSaved(argThat(title ->
+                title.getId().equals(2L) && title.getName().equals("鬼滅の刃")
+        ));
+        // 自動生成したエピソードの進捗を索引に反映するため
+        verify(titleReadService, times(1)).evictTitleDetail(2L);
+    }
 }
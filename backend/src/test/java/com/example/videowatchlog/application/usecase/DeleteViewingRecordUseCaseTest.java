@@ -1,5 +1,7 @@
 package com.example.videowatchlog.application.usecase;
 
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
 import com.example.videowatchlog.domain.model.Episode;
 import com.example.videowatchlog.domain.model.ViewingRecord;
 import com.example.videowatchlog.domain.model.WatchStatus;
@@ -29,12 +31,18 @@ class DeleteViewingRecordUseCaseTest {
     @Mock
     private EpisodeRepository episodeRepository;
 
+    @Mock
+    private TitleReadService titleReadService;
+
+    @Mock
+    private EpisodeReadService episodeReadService;
+
     private DeleteViewingRecordUseCase useCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        useCase = new DeleteViewingRecordUseCase(episodeRepository, viewingRecordRepository);
+        useCase = new DeleteViewingRecordUseCase(episodeRepository, viewingRecordRepository, titleReadService, episodeReadService);
     }
 
     @Test
@@ -64,6 +72,8 @@ class DeleteViewingRecordUseCaseTest {
         assertEquals(1, episode.getViewingRecords().size());
 
         verify(episodeRepository, times(1)).save(episode);
+        verify(titleReadService).evictTitleDetailOfSeries(1L);
+        verify(episodeReadService).evictEpisodeDetail(episodeId);
     }
 
     @Test
@@ -107,6 +117,7 @@ class DeleteViewingRecordUseCaseTest {
         );
 
         verify(episodeRepository, never()).save(any());
+        verifyNoInteractions(titleReadService, episodeReadService);
     }
 
     @Test
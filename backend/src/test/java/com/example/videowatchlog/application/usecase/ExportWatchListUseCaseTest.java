@@ -0,0 +1,72 @@
+package com.example.videowatchlog.application.usecase;
+
+import com.example.videowatchlog.application.readmodel.WatchListExportNode;
+import com.example.videowatchlog.application.readmodel.WatchListExportNode.Kind;
+import com.example.videowatchlog.application.readmodel.repository.WatchListExportRepository;
+import com.example.videowatchlog.application.watchlistexport.WatchListExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ExportWatchListUseCase")
+@ExtendWith(MockitoExtension.class)
+class ExportWatchListUseCaseTest {
+
+    @Mock
+    private WatchListExportRepository watchListExportRepository;
+
+    private ExportWatchListUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ExportWatchListUseCase(watchListExportRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("NDJSON は要素を読み込んだ順に1行1タイトルで書き出す")
+    void shouldWriteNdjsonFromNodes() {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<WatchListExportNode> action = invocation.getArgument(0);
+            action.accept(new WatchListExportNode(Kind.TITLE, 1L, "名探偵コナン", null, null, null, null, null, null));
+            action.accept(new WatchListExportNode(Kind.TITLE, 2L, "ワンピース", null, null, null, null, null, null));
+            return null;
+        }).when(watchListExportRepository).forEachNode(any());
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        useCase.execute(WatchListExportFormat.NDJSON, out);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":1,\"name\":\"名探偵コナン\",\"createdAt\":null,\"updatedAt\":null,\"titleInfoUrls\":[],\"series\":[]}\n"
+                        + "{\"id\":2,\"name\":\"ワンピース\",\"createdAt\":null,\"updatedAt\":null,\"titleInfoUrls\":[],\"series\":[]}\n");
+        verify(watchListExportRepository, never()).writeCsv(any());
+    }
+
+    @Test
+    @DisplayName("CSV は DB が生成した CSV をそのまま書き出す")
+    void shouldDelegateCsvToRepository() {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        useCase.execute(WatchListExportFormat.CSV, out);
+
+        // Then
+        verify(watchListExportRepository).writeCsv(out);
+        verify(watchListExportRepository, never()).forEachNode(any());
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.videowatchlog.application.usecase;
 
+import com.example.videowatchlog.application.dto.TitlePageDTO;
+import com.example.videowatchlog.application.dto.TitlePageRequestDTO;
 import com.example.videowatchlog.application.dto.TitleSummaryDTO;
+import com.example.videowatchlog.application.readmodel.TitleCursor;
 import com.example.videowatchlog.application.readmodel.TitleListReadModel;
 import com.example.videowatchlog.application.readmodel.service.TitleReadService;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,10 +14,17 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 
 /**
@@ -45,12 +55,14 @@ class GetAllTitlesUseCaseTest {
         TitleListReadModel title2 = new TitleListReadModel(2L, "Title 2", now, now);
 
         List<TitleListReadModel> titles = Arrays.asList(title1, title2);
-        when(titleReadService.getAllTitles()).thenReturn(titles);
+        when(titleReadService.getTitlesPage(null, TitlePageRequestDTO.DEFAULT_LIMIT + 1)).thenReturn(titles);
 
         // When
-        List<TitleSummaryDTO> result = getAllTitlesUseCase.execute();
+        TitlePageDTO page = getAllTitlesUseCase.execute(TitlePageRequestDTO.firstPage());
 
         // Then
+        List<TitleSummaryDTO> result = page.getItems();
+        assertThat(page.getNextCursor()).isNull();
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getId()).isEqualTo(1L);
         assertThat(result.get(0).getName()).isEqualTo("Title 1");
@@ -58,16 +70,109 @@ class GetAllTitlesUseCaseTest {
         assertThat(result.get(1).getName()).isEqualTo("Title 2");
     }
 
+    @Test
+    @DisplayName("タイトルの視聴の進捗がサマリーに含まれる")
+    void shouldIncludeProgress() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lastWatchedAt = now.minusDays(1);
+        when(titleReadService.getTitlesPage(null, TitlePageRequestDTO.DEFAULT_LIMIT + 1))
+                .thenReturn(List.of(new TitleListReadModel(1L, "Title 1", now, now, 12, 5, lastWatchedAt, 4.5)));
+
+        // When
+        TitleSummaryDTO result = getAllTitlesUseCase.execute(TitlePageRequestDTO.firstPage()).getItems().get(0);
+
+        // Then
+        assertThat(result.getTotalEpisodes()).isEqualTo(12);
+        assertThat(result.getWatchedEpisodes()).isEqualTo(5);
+        assertThat(result.getLastWatchedAt()).isEqualTo(lastWatchedAt);
+        assertThat(result.getAverageRating()).isEqualTo(4.5);
+    }
+
     @Test
     @DisplayName("タイトルが存在しない場合は空のリストを返す")
     void shouldReturnEmptyListWhenNoTitles() {
         // Given
-        when(titleReadService.getAllTitles()).thenReturn(List.of());
+        when(titleReadService.getTitlesPage(null, TitlePageRequestDTO.DEFAULT_LIMIT + 1)).thenReturn(List.of());
+
+        // When
+        TitlePageDTO page = getAllTitlesUseCase.execute(TitlePageRequestDTO.firstPage());
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("limit を超えるタイトルがある場合は limit 件と次ページのカーソルを返す")
+    void shouldReturnNextCursorWhenMoreTitlesExist() {
+        // Given
+        LocalDateTime t1 = LocalDateTime.of(2024, 3, 1, 0, 0);
+        LocalDateTime t2 = LocalDateTime.of(2024, 2, 1, 0, 0);
+        LocalDateTime t3 = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(titleReadService.getTitlesPage(null, 3)).thenReturn(Arrays.asList(
+                new TitleListReadModel(3L, "Title 3", t1, t1),
+                new TitleListReadModel(2L, "Title 2", t2, t2),
+                new TitleListReadModel(1L, "Title 1", t3, t3)));
+
+        // When
+        TitlePageDTO page = getAllTitlesUseCase.execute(TitlePageRequestDTO.of(null, 2));
+
+        // Then
+        assertThat(page.getItems()).extracting(TitleSummaryDTO::getId).containsExactly(3L, 2L);
+        TitleCursor next = TitleCursor.decode(page.getNextCursor());
+        assertThat(next.getCreatedAt()).isEqualTo(t2);
+        assertThat(next.getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("カーソルを指定すると、その位置から読み込む")
+    void shouldPassCursorToReadService() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 2, 1, 0, 0);
+        TitleCursor cursor = new TitleCursor(createdAt, 2L);
+        when(titleReadService.getTitlesPage(argThat(after -> after != null
+                && after.getId().equals(2L) && after.getCreatedAt().equals(createdAt)), eq(3)))
+                .thenReturn(List.of(new TitleListReadModel(1L, "Title 1", createdAt, createdAt)));
+
+        // When
+        TitlePageDTO page = getAllTitlesUseCase.execute(TitlePageRequestDTO.of(cursor.encode(), 2));
+
+        // Then
+        assertThat(page.getItems()).extracting(TitleSummaryDTO::getId).containsExactly(1L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("不正なカーソルや範囲外の limit は IllegalStateException（400）になる")
+    void shouldRejectInvalidPageRequest() {
+        assertThatThrownBy(() -> TitlePageRequestDTO.of("not-a-cursor", null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> TitlePageRequestDTO.of(null, 0))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> TitlePageRequestDTO.of(null, TitlePageRequestDTO.MAX_LIMIT + 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("streamAll は Read Model を1件ずつ TitleSummaryDTO に変換して渡す")
+    @SuppressWarnings("unchecked")
+    void shouldStreamAllTitlesAsSummaries() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        doAnswer(invocation -> {
+            Consumer<TitleListReadModel> action = invocation.getArgument(0);
+            action.accept(new TitleListReadModel(2L, "Title 2", now, now));
+            action.accept(new TitleListReadModel(1L, "Title 1", now, now));
+            return null;
+        }).when(titleReadService).forEachTitle(any(Consumer.class));
 
         // When
-        List<TitleSummaryDTO> result = getAllTitlesUseCase.execute();
+        List<TitleSummaryDTO> received = new ArrayList<>();
+        getAllTitlesUseCase.streamAll(received::add);
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(received).extracting(TitleSummaryDTO::getId).containsExactly(2L, 1L);
+        assertThat(received).extracting(TitleSummaryDTO::getName).containsExactly("Title 2", "Title 1");
     }
 }
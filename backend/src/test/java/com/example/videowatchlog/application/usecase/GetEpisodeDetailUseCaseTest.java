@@ -0,0 +1,138 @@
+package com.example.videowatchlog.application.usecase;
+
+import com.example.videowatchlog.application.dto.EpisodeDetailDTO;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChangeBus;
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.infrastructure.persistence.SqlStatementCounter;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.EpisodeReadRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * GetEpisodeDetailUseCaseTest - エピソード詳細取得ユースケーステスト
+ *
+ * Read Model のサービス・リポジトリは実装を使い、1回の取得（バージョン + 詳細）で発行される
+ * ステートメント数を数えます。
+ */
+@DisplayName("GetEpisodeDetailUseCase")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional
+@Import({
+        GetEpisodeDetailUseCase.class, EpisodeReadService.class, EpisodeReadRepositoryImpl.class,
+        SqlStatementCounter.class, GetEpisodeDetailUseCaseTest.MetricsConfig.class
+})
+class GetEpisodeDetailUseCaseTest {
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @MockBean
+    private ReadModelChangeBus readModelChangeBus;
+
+    @Autowired
+    private GetEpisodeDetailUseCase useCase;
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlSessionTemplate sqlSessionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE TABLE viewing_records, watch_page_urls, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE");
+        jdbcTemplate.update("INSERT INTO titles (id, name) VALUES (1, '名探偵コナン')");
+        jdbcTemplate.update("INSERT INTO title_info_urls (title_id, url) VALUES (1, 'https://example.com/info')");
+        jdbcTemplate.update("INSERT INTO series (id, title_id, name) VALUES (1, 1, '第1シーズン')");
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES (1, 1, '第1話', 'WATCHED')");
+        jdbcTemplate.update("INSERT INTO watch_page_urls (episode_id, url) VALUES "
+                + "(1, 'https://example.com/ep1/a'), (1, 'https://example.com/ep1/b')");
+        jdbcTemplate.update("INSERT INTO viewing_records (id, episode_id, watched_at, rating, comment) VALUES "
+                + "(1, 1, '2024-01-01 20:00', 4, '初回'), (2, 1, '2024-01-02 20:00', 5, NULL)");
+        statementCounter.reset();
+    }
+
+    @Test
+    @DisplayName("エピソード詳細をシリーズ名・タイトル名を含めて取得できること")
+    void shouldReturnEpisodeDetailWithSeriesAndTitleNames() {
+        // Act
+        EpisodeDetailDTO detail = useCase.execute(1L);
+
+        // Assert
+        assertThat(detail.getId()).isEqualTo(1L);
+        assertThat(detail.getEpisodeInfo()).isEqualTo("第1話");
+        assertThat(detail.getWatchStatus()).isEqualTo("WATCHED");
+        assertThat(detail.getWatchPageUrls()).containsExactly("https://example.com/ep1/a", "https://example.com/ep1/b");
+        assertThat(detail.getSeriesId()).isEqualTo(1L);
+        assertThat(detail.getSeriesName()).isEqualTo("第1シーズン");
+        assertThat(detail.getTitleId()).isEqualTo(1L);
+        assertThat(detail.getTitleName()).isEqualTo("名探偵コナン");
+        assertThat(detail.getViewingRecords()).extracting(EpisodeDetailDTO.ViewingRecordDTO::getId)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("バージョンと詳細の取得は2ステートメント、キャッシュにある場合はバージョンの1ステートメント")
+    void shouldIssueAtMostTwoStatements() {
+        // Act
+        useCase.execute(1L, useCase.getVersion(1L));
+        int firstRequest = statementCounter.count();
+        // 別のリクエストと同じ条件にするため、テストのトランザクション内の MyBatis のキャッシュを捨てる
+        sqlSessionTemplate.clearCache();
+        statementCounter.reset();
+        useCase.execute(1L, useCase.getVersion(1L));
+        int cachedRequest = statementCounter.count();
+
+        // Assert
+        assertThat(firstRequest).isEqualTo(2);
+        assertThat(cachedRequest).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("キャッシュされた詳細のバージョンが現在のバージョンと異なれば、詳細を読み直す")
+    void shouldReloadStaleDetailForCurrentVersion() {
+        // Arrange: キャッシュの無効化を通らない変更（他のプロセスの通知が届く前の状態）
+        useCase.execute(1L, useCase.getVersion(1L));
+        jdbcTemplate.update("UPDATE episodes SET watch_status = 'UNWATCHED', updated_at = updated_at + INTERVAL '1 second' WHERE id = 1");
+        sqlSessionTemplate.clearCache();
+
+        // Act
+        EpisodeDetailDTO detail = useCase.execute(1L, useCase.getVersion(1L));
+
+        // Assert
+        assertThat(detail.getWatchStatus()).isEqualTo("UNWATCHED");
+    }
+
+    @Test
+    @DisplayName("存在しないエピソードは IllegalArgumentException")
+    void shouldThrowWhenEpisodeNotFound() {
+        assertThatThrownBy(() -> useCase.getVersion(99L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> useCase.execute(99L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.videowatchlog.application.usecase;
 import com.example.videowatchlog.application.dto.TitleDetailDTO;
 import com.example.videowatchlog.application.readmodel.EpisodeReadModel;
 import com.example.videowatchlog.application.readmodel.SeriesReadModel;
+import com.example.videowatchlog.application.readmodel.TitleDetailExpansion;
 import com.example.videowatchlog.application.readmodel.TitleDetailReadModel;
 import com.example.videowatchlog.application.readmodel.ViewingRecordReadModel;
 import com.example.videowatchlog.application.readmodel.service.TitleReadService;
@@ -12,8 +13,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -250,4 +253,48 @@ class GetTitleDetailUseCaseTest {
         assertEquals("Excellent", episodeDTO.getViewingRecords().get(0).getComment());
         assertEquals("Good", episodeDTO.getViewingRecords().get(1).getComment());
     }
+
+    @Test
+    @DisplayName("展開オプションが TitleReadService に渡されること")
+    void testExecuteWithExpansions() {
+        // Arrange
+        Long titleId = 4L;
+        LocalDateTime now = LocalDateTime.now();
+        Set<TitleDetailExpansion> expansions = EnumSet.of(TitleDetailExpansion.WATCH_PAGE_URLS);
+
+        EpisodeReadModel episode = new EpisodeReadModel(
+                1L, 1L, "Episode 1", WatchStatus.UNWATCHED,
+                List.of("https://example.com/watch"), List.of(), now, now
+        );
+        TitleDetailReadModel titleDetail = new TitleDetailReadModel(
+                titleId, "Title 4",
+                List.of(new SeriesReadModel(1L, titleId, "", List.of(episode), now, now)),
+                now, now
+        );
+
+        when(titleReadService.getTitleDetail(titleId, expansions)).thenReturn(Optional.of(titleDetail));
+
+        // Act
+        TitleDetailDTO result = useCase.execute(titleId, expansions);
+
+        // Assert
+        assertEquals(List.of("https://example.com/watch"),
+                result.getSeries().get(0).getEpisodes().get(0).getWatchPageUrls());
+        verify(titleReadService).getTitleDetail(titleId, expansions);
+        verify(titleReadService, never()).getTitleDetail(titleId);
+    }
+
+    @Test
+    @DisplayName("バージョンは展開オプション付きで TitleReadService から取得し、詳細は読み込まないこと")
+    void testGetVersion() {
+        // Arrange
+        Set<TitleDetailExpansion> expansions = EnumSet.of(TitleDetailExpansion.VIEWING_RECORDS);
+        when(titleReadService.getTitleDetailVersion(1L, expansions)).thenReturn(Optional.of("abc"));
+        when(titleReadService.getTitleDetailVersion(999L, Set.of())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertEquals("abc", useCase.getVersion(1L, expansions));
+        assertThrows(IllegalArgumentException.class, () -> useCase.getVersion(999L, Set.of()));
+        verify(titleReadService, never()).getTitleDetail(anyLong(), any());
+    }
 }
@@ -0,0 +1,136 @@
+package com.example.videowatchlog.application.usecase;
+
+import com.example.videowatchlog.application.dto.WatchListImportProgressDTO;
+import com.example.videowatchlog.application.dto.WatchListImportResultDTO;
+import com.example.videowatchlog.application.dto.WatchListImportResultDTO.RowErrorDTO;
+import com.example.videowatchlog.application.readmodel.TitleListReadModel;
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleSearchIndexService;
+import com.example.videowatchlog.application.watchlistimport.WatchListImportFormat;
+import com.example.videowatchlog.application.watchlistimport.WatchListImportTracker;
+import com.example.videowatchlog.domain.model.Title;
+import com.example.videowatchlog.domain.repository.WatchListImportRepository;
+import com.example.videowatchlog.domain.repository.WatchListImportRow;
+import com.example.videowatchlog.domain.repository.WatchListMergeResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ImportWatchListUseCase")
+@ExtendWith(MockitoExtension.class)
+class ImportWatchListUseCaseTest {
+
+    @Mock
+    private WatchListImportRepository watchListImportRepository;
+
+    @Mock
+    private TitleReadService titleReadService;
+
+    @Mock
+    private EpisodeReadService episodeReadService;
+
+    @Mock
+    private TitleSearchIndexService titleSearchIndexService;
+
+    private WatchListImportTracker tracker;
+    private ImportWatchListUseCase useCase;
+    private final List<WatchListImportRow> stagedRows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        tracker = new WatchListImportTracker(10000);
+        useCase = new ImportWatchListUseCase(watchListImportRepository, tracker, titleReadService,
+                episodeReadService, titleSearchIndexService, new ObjectMapper(), 2);
+        lenient().when(watchListImportRepository.stage(any())).thenAnswer(invocation -> {
+            Iterator<WatchListImportRow> rows = invocation.getArgument(0);
+            rows.forEachRemaining(stagedRows::add);
+            return (long) stagedRows.size();
+        });
+    }
+
+    @Test
+    @DisplayName("ドメインの規則で検証した有効な行だけを送り、不正な行は件数と先頭からの理由を返す")
+    void shouldStageValidRowsAndReportRejectedOnes() {
+        // Given
+        String csv = "title,series,episode,watchPageUrl,watchedAt,rating,comment\n"
+                + "名探偵コナン,,第1話,https://example.com/1,2024-02-01T20:00:00,5,面白い\n"
+                + "名探偵コナン,,,https://example.com/2,,,\n"
+                + "ワンピース,,,,,,\n"
+                + ",,第1話,,,,\n"
+                + "名探偵コナン,,第2話,,2024-02-01T20:00:00,6,\n"
+                + "名探偵コナン,,第3話,,yesterday,3,\n"
+                + "名探偵コナン,,第4話,,,3,\n";
+        Title created = new Title(1L, "ワンピース", null, LocalDateTime.now(), LocalDateTime.now());
+        when(watchListImportRepository.merge()).thenReturn(
+                new WatchListMergeResult(List.of(created), 2, 3, 2, 1, List.of(1L, 2L), List.of(7L)));
+
+        // When
+        WatchListImportResultDTO result = useCase.execute(WatchListImportFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(stagedRows).extracting(WatchListImportRow::getLineNumber).containsExactly(2L, 3L, 4L);
+        WatchListImportRow watched = stagedRows.get(0);
+        assertThat(watched.getSeriesName()).isEmpty();
+        assertThat(watched.getWatchedAt()).isEqualTo(LocalDateTime.of(2024, 2, 1, 20, 0));
+        assertThat(watched.getRating()).isEqualTo(5);
+        assertThat(stagedRows.get(1).getEpisodeInfo()).isEmpty();
+        assertThat(stagedRows.get(2).getSeriesName()).isNull();
+        assertThat(stagedRows.get(2).getEpisodeInfo()).isNull();
+
+        assertThat(result.getRowsRead()).isEqualTo(7);
+        assertThat(result.getRowsImported()).isEqualTo(3);
+        assertThat(result.getRowsRejected()).isEqualTo(4);
+        assertThat(result.getErrors()).extracting(RowErrorDTO::getLine, RowErrorDTO::getMessage).containsExactly(
+                tuple(5L, "タイトル名は1文字以上である必要があります"),
+                tuple(6L, "Rating must be between 1 and 5"));
+        assertThat(result.getTitlesCreated()).isEqualTo(1);
+        assertThat(result.getEpisodesCreated()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("統合の結果から Read Model（タイトル詳細・エピソード詳細・検索索引）を更新し、進捗を記録する")
+    void shouldUpdateReadModelsAndTrackProgress() {
+        // Given
+        String ndjson = "{\"title\":\"ワンピース\"}\n{\"title\":\"\"}\n";
+        LocalDateTime now = LocalDateTime.now();
+        when(watchListImportRepository.merge()).thenReturn(new WatchListMergeResult(
+                List.of(new Title(1L, "ワンピース", null, now, now)), 0, 0, 0, 0, List.of(1L), List.of()));
+
+        // When
+        WatchListImportResultDTO result = useCase.execute(WatchListImportFormat.NDJSON,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        verify(titleReadService).evictTitleDetails(List.of(1L));
+        verify(episodeReadService).evictEpisodeDetails(List.of());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TitleListReadModel>> saved = ArgumentCaptor.forClass(List.class);
+        verify(titleSearchIndexService).titlesSaved(saved.capture());
+        assertThat(saved.getValue()).extracting(TitleListReadModel::getId, TitleListReadModel::getName)
+                .containsExactly(tuple(1L, "ワンピース"));
+        assertThat(tracker.list()).singleElement().satisfies(progress -> {
+            assertThat(progress.getId()).isEqualTo(result.getImportId());
+            assertThat(progress.getPhase()).isEqualTo(WatchListImportProgressDTO.Phase.MERGING);
+            assertThat(progress.getRowsRead()).isEqualTo(2);
+            assertThat(progress.getRowsRejected()).isEqualTo(1);
+        });
+    }
+}
@@ -1,9 +1,17 @@
 package com.example.videowatchlog.application.usecase;
 
+import com.example.videowatchlog.application.dto.TitlePageDTO;
+import com.example.videowatchlog.application.dto.TitlePageRequestDTO;
 import com.example.videowatchlog.application.dto.TitleSummaryDTO;
+import com.example.videowatchlog.application.readmodel.TitleCursor;
+import com.example.videowatchlog.application.readmodel.TitleListReadModel;
+import com.example.videowatchlog.application.readmodel.search.TitleSearchIndex;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleSearchIndexService;
 import com.example.videowatchlog.domain.model.Title;
 import com.example.videowatchlog.domain.model.WatchStatus;
 import com.example.videowatchlog.domain.repository.TitleRepository;
+import com.example.videowatchlog.domain.repository.TitleSearchHit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,10 +20,21 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -23,10 +42,21 @@ import static org.mockito.Mockito.when;
  */
 @DisplayName("SearchTitlesUseCase のテスト")
 class SearchTitlesUseCaseTest {
+    /** 先頭ページでは次ページ判定のため DEFAULT_LIMIT + 1 件を要求する */
+    private static final int FIRST_PAGE_FETCH_SIZE = TitlePageRequestDTO.DEFAULT_LIMIT + 1;
+    /** クエリ指定時の検索結果に付く rank（部分一致） */
+    private static final Float RANK = 1.5f;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
 
     @Mock
     private TitleRepository titleRepository;
 
+    @Mock
+    private TitleSearchIndexService titleSearchIndexService;
+
+    @Mock
+    private TitleReadService titleReadService;
+
     @InjectMocks
     private SearchTitlesUseCase searchTitlesUseCase;
 
@@ -46,7 +76,7 @@ class SearchTitlesUseCaseTest {
                                 now, now);
 
         List<Title> titles = Arrays.asList(title1);
-        when(titleRepository.search("進撃", null)).thenReturn(titles);
+        when(titleRepository.search("進撃", null, null, null, null, FIRST_PAGE_FETCH_SIZE)).thenReturn(toHits(titles, RANK));
 
         // When
         List<TitleSummaryDTO> result = searchTitlesUseCase.execute("進撃", null);
@@ -66,7 +96,7 @@ class SearchTitlesUseCaseTest {
                                 now, now);
 
         List<Title> titles = Arrays.asList(title1);
-        when(titleRepository.search(null, WatchStatus.UNWATCHED)).thenReturn(titles);
+        when(titleRepository.search(null, WatchStatus.UNWATCHED, null, null, null, FIRST_PAGE_FETCH_SIZE)).thenReturn(toHits(titles, null));
 
         // When
         List<TitleSummaryDTO> result = searchTitlesUseCase.execute(null, WatchStatus.UNWATCHED);
@@ -85,7 +115,7 @@ class SearchTitlesUseCaseTest {
                                 now, now);
 
         List<Title> titles = Arrays.asList(title1);
-        when(titleRepository.search("進撃", WatchStatus.WATCHED)).thenReturn(titles);
+        when(titleRepository.search("進撃", WatchStatus.WATCHED, null, null, null, FIRST_PAGE_FETCH_SIZE)).thenReturn(toHits(titles, RANK));
 
         // When
         List<TitleSummaryDTO> result = searchTitlesUseCase.execute("進撃", WatchStatus.WATCHED);
@@ -99,7 +129,7 @@ class SearchTitlesUseCaseTest {
     @DisplayName("クエリがマッチしない場合は空のリストを返す")
     void shouldReturnEmptyListWhenQueryDoesNotMatch() {
         // Given
-        when(titleRepository.search("存在しないタイトル", null)).thenReturn(List.of());
+        when(titleRepository.search("存在しないタイトル", null, null, null, null, FIRST_PAGE_FETCH_SIZE)).thenReturn(List.of());
 
         // When
         List<TitleSummaryDTO> result = searchTitlesUseCase.execute("存在しないタイトル", null);
@@ -119,7 +149,7 @@ class SearchTitlesUseCaseTest {
                                 now, now);
 
         List<Title> titles = Arrays.asList(title1, title2);
-        when(titleRepository.search(null, null)).thenReturn(titles);
+        when(titleRepository.search(null, null, null, null, null, FIRST_PAGE_FETCH_SIZE)).thenReturn(toHits(titles, null));
 
         // When
         List<TitleSummaryDTO> result = searchTitlesUseCase.execute(null, null);
@@ -139,7 +169,7 @@ class SearchTitlesUseCaseTest {
                                 now, now);
 
         List<Title> titles = Arrays.asList(title1, title2);
-        when(titleRepository.search("進撃", null)).thenReturn(titles);
+        when(titleRepository.search("進撃", null, null, null, null, FIRST_PAGE_FETCH_SIZE)).thenReturn(toHits(titles, RANK));
 
         // When
         List<TitleSummaryDTO> result = searchTitlesUseCase.execute("進撃", null);
@@ -160,7 +190,7 @@ class SearchTitlesUseCaseTest {
 
         List<Title> titles = Arrays.asList(title1);
         // Repository側で大文字小文字区別なし処理するはず
-        when(titleRepository.search("進撃", null)).thenReturn(titles);
+        when(titleRepository.search("進撃", null, null, null, null, FIRST_PAGE_FETCH_SIZE)).thenReturn(toHits(titles, RANK));
 
         // When
         List<TitleSummaryDTO> result = searchTitlesUseCase.execute("進撃", null);
@@ -168,4 +198,265 @@ class SearchTitlesUseCaseTest {
         // Then
         assertThat(result).hasSize(1);
     }
+
+    @Test
+    @DisplayName("limit を超える結果がある場合は limit 件と、rank を含む次ページのカーソルを返す")
+    void shouldReturnNextCursorWhenMoreResultsExist() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<TitleSearchHit> hits = Arrays.asList(
+                new TitleSearchHit(new Title(3L, "進撃 3", new java.util.LinkedHashSet<>(), createdAt, createdAt), 1.9f),
+                new TitleSearchHit(new Title(2L, "進撃 2", new java.util.LinkedHashSet<>(), createdAt, createdAt), 1.5f),
+                new TitleSearchHit(new Title(1L, "進撃 1", new java.util.LinkedHashSet<>(), createdAt, createdAt), 0.6f));
+        when(titleRepository.search("進撃", null, null, null, null, 3)).thenReturn(hits);
+
+        // When
+        TitlePageDTO page = searchTitlesUseCase.execute("進撃", null, TitlePageRequestDTO.of(null, 2));
+
+        // Then
+        assertThat(page.getItems()).extracting(TitleSummaryDTO::getId).containsExactly(3L, 2L);
+        TitleCursor next = TitleCursor.decode(page.getNextCursor());
+        assertThat(next.getRank()).isEqualTo(1.5f);
+        assertThat(next.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(next.getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("カーソルの位置から検索を続ける")
+    void shouldContinueFromCursor() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String cursor = new TitleCursor(1.5f, createdAt, 2L).encode();
+        when(titleRepository.search("進撃", WatchStatus.WATCHED, 1.5f, createdAt, 2L, 3)).thenReturn(List.of(
+                new TitleSearchHit(new Title(1L, "進撃 1", new java.util.LinkedHashSet<>(), createdAt, createdAt), 0.6f)));
+
+        // When
+        TitlePageDTO page = searchTitlesUseCase.execute("進撃", WatchStatus.WATCHED, TitlePageRequestDTO.of(cursor, 2));
+
+        // Then
+        assertThat(page.getItems()).extracting(TitleSummaryDTO::getId).containsExactly(1L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("クエリなしの検索は rank を持たない（一覧と同じ形式の）カーソルで続ける")
+    void shouldContinueFromCursorWithoutRankWhenQueryIsNull() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String cursor = new TitleCursor(createdAt, 2L).encode();
+        when(titleRepository.search(null, WatchStatus.WATCHED, null, createdAt, 2L, 3)).thenReturn(List.of());
+
+        // When
+        TitlePageDTO page = searchTitlesUseCase.execute(null, WatchStatus.WATCHED, TitlePageRequestDTO.of(cursor, 2));
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("クエリの有無とカーソルの形式（rank の有無）が一致しない場合は IllegalStateException")
+    void shouldRejectCursorFromDifferentSearch() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String listCursor = new TitleCursor(createdAt, 2L).encode();
+        String rankedCursor = new TitleCursor(1.5f, createdAt, 2L).encode();
+
+        // When & Then
+        assertThatThrownBy(() -> searchTitlesUseCase.execute("進撃", null, TitlePageRequestDTO.of(listCursor, 2)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> searchTitlesUseCase.execute(null, WatchStatus.WATCHED, TitlePageRequestDTO.of(rankedCursor, 2)))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(titleRepository);
+    }
+
+    @Test
+    @DisplayName("検索索引の部分一致でページが埋まる場合は DB の検索を使わずに返す")
+    void shouldSearchWithIndexWithoutRepository() {
+        // Given
+        givenIndex(
+                new TitleListReadModel(1L, "進撃の巨人", CREATED_AT, CREATED_AT),
+                new TitleListReadModel(2L, "進撃の巨人 Season 2", CREATED_AT, CREATED_AT),
+                new TitleListReadModel(3L, "鬼滅の刃", CREATED_AT, CREATED_AT));
+
+        // When
+        TitlePageDTO first = searchTitlesUseCase.execute("進撃", null, TitlePageRequestDTO.of(null, 1));
+
+        // Then
+        assertThat(first.getItems()).extracting(TitleSummaryDTO::getId).containsExactly(1L);
+        assertThat(TitleCursor.decode(first.getNextCursor()).getSource()).isEqualTo(TitleCursor.Source.INDEX);
+        verify(titleSearchIndexService).search("進撃", null, 2);
+        verifyNoInteractions(titleRepository);
+    }
+
+    @Test
+    @DisplayName("検索索引に部分一致があれば、ページに収まらなくても DB の類似検索を行わない")
+    void shouldNotSearchSimilarWhenIndexHasMatches() {
+        // Given: 部分一致 2 件（索引）と、DB では類似のタイトル
+        givenIndex(
+                new TitleListReadModel(1L, "進撃の巨人", CREATED_AT, CREATED_AT),
+                new TitleListReadModel(2L, "進撃の巨人 Season 2", CREATED_AT, CREATED_AT));
+        givenSimilar("進撃の巨人", List.of(similarHit(3L, "進撃の巨大", 0.8f)));
+
+        // When
+        TitlePageDTO first = searchTitlesUseCase.execute("進撃の巨人", null, TitlePageRequestDTO.of(null, 1));
+        TitlePageDTO second = searchTitlesUseCase.execute("進撃の巨人", null, TitlePageRequestDTO.of(first.getNextCursor(), 1));
+
+        // Then
+        assertThat(first.getItems()).extracting(TitleSummaryDTO::getId).containsExactly(1L);
+        assertThat(second.getItems()).extracting(TitleSummaryDTO::getId).containsExactly(2L);
+        assertThat(second.getNextCursor()).isNull();
+        verifyNoInteractions(titleRepository, titleReadService);
+    }
+
+    @Test
+    @DisplayName("検索索引に部分一致がない場合は、DB の類似検索を1ページ1クエリで行い、重複・欠落なくページングできる")
+    void shouldPageSimilarTitlesWithSingleQueryPerPage() {
+        // Given: 部分一致 0 件（索引）と類似 5 件（DB）
+        givenIndex(new TitleListReadModel(1L, "鬼滅の刃", CREATED_AT, CREATED_AT));
+        List<TitleSearchHit> similar = List.of(
+                similarHit(3L, "進撃の巨大", 0.8f), similarHit(4L, "進撃の巨", 0.7f), similarHit(5L, "進撃巨人", 0.6f),
+                similarHit(6L, "新劇の巨人", 0.5f), similarHit(7L, "進撃の小人", 0.4f));
+        givenSimilar("進撃の巨入", similar);
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        List<TitleCursor.Source> sources = new ArrayList<>();
+        int pages = 0;
+        String cursor = null;
+        do {
+            TitlePageDTO page = searchTitlesUseCase.execute("進撃の巨入", null, TitlePageRequestDTO.of(cursor, 2));
+            pages++;
+            page.getItems().forEach(item -> ids.add(item.getId()));
+            cursor = page.getNextCursor();
+            if (cursor != null) {
+                sources.add(TitleCursor.decode(cursor).getSource());
+            }
+        } while (cursor != null);
+
+        // Then
+        assertThat(ids).containsExactly(3L, 4L, 5L, 6L, 7L);
+        assertThat(sources).containsOnly(TitleCursor.Source.SIMILAR);
+        verify(titleRepository, times(pages)).searchSimilar(eq("進撃の巨入"), any(), any(), any(), eq(3));
+        verify(titleRepository, never()).search(any(), any(), any(), any(), any(), anyInt());
+        verifyNoInteractions(titleReadService);
+    }
+
+    @Test
+    @DisplayName("検索索引で部分一致しない場合は DB の類似検索を使う")
+    void shouldFallBackToRepositoryWhenIndexHasNoMatch() {
+        // Given
+        givenIndex(new TitleListReadModel(1L, "進撃の巨人", CREATED_AT, CREATED_AT));
+        when(titleRepository.searchSimilar("進撃の巨入", null, null, null, FIRST_PAGE_FETCH_SIZE))
+                .thenReturn(List.of(similarHit(1L, "進撃の巨人", 0.6f)));
+
+        // When
+        List<TitleSummaryDTO> result = searchTitlesUseCase.execute("進撃の巨入", null);
+
+        // Then
+        assertThat(result).extracting(TitleSummaryDTO::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("DB の検索のカーソルは、検索索引が使える場合も DB の検索で続ける")
+    void shouldContinueDatabaseCursorWithRepository() {
+        // Given
+        givenIndex(new TitleListReadModel(1L, "進撃の巨人", CREATED_AT, CREATED_AT));
+        String cursor = new TitleCursor(1.5f, CREATED_AT, 2L).encode();
+        when(titleRepository.search("進撃", null, 1.5f, CREATED_AT, 2L, 3)).thenReturn(List.of());
+
+        // When
+        TitlePageDTO page = searchTitlesUseCase.execute("進撃", null, TitlePageRequestDTO.of(cursor, 2));
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        verifyNoInteractions(titleSearchIndexService);
+    }
+
+    @Test
+    @DisplayName("検索索引のカーソルで索引を使えない場合、または watchStatus を指定した場合は IllegalStateException")
+    void shouldRejectIndexCursorWhenIndexCannotBeUsed() {
+        // Given: 索引の構築前（search は空を返す）
+        String cursor = new TitleCursor(TitleCursor.Source.INDEX, 1.5f, CREATED_AT, 2L).encode();
+
+        // When & Then
+        assertThatThrownBy(() -> searchTitlesUseCase.execute("進撃", null, TitlePageRequestDTO.of(cursor, 2)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> searchTitlesUseCase.execute("進撃", WatchStatus.WATCHED, TitlePageRequestDTO.of(cursor, 2)))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(titleRepository);
+    }
+
+    @Test
+    @DisplayName("検索結果には一覧と同じく視聴の進捗を付け、検索索引の経路では進捗も索引から返す")
+    void shouldReturnProgressWithSearchResults() {
+        // Given
+        TitleListReadModel withProgress = new TitleListReadModel(1L, "進撃の巨人", CREATED_AT, CREATED_AT, 25, 12, CREATED_AT, 4.25);
+        givenIndex(withProgress);
+        when(titleRepository.search("進撃", WatchStatus.WATCHED, null, null, null, FIRST_PAGE_FETCH_SIZE))
+                .thenReturn(toHits(List.of(new Title(1L, "進撃の巨人", new java.util.LinkedHashSet<>(), CREATED_AT, CREATED_AT)), RANK));
+        when(titleRepository.searchSimilar("進撃の巨入", null, null, null, FIRST_PAGE_FETCH_SIZE))
+                .thenReturn(List.of(similarHit(1L, "進撃の巨人", 0.6f)));
+        when(titleReadService.getTitles(List.of(1L))).thenReturn(List.of(withProgress));
+
+        // When
+        TitleSummaryDTO indexed = searchTitlesUseCase.execute("進撃", null).get(0);
+        TitleSummaryDTO similar = searchTitlesUseCase.execute("進撃の巨入", null).get(0);
+        TitleSummaryDTO database = searchTitlesUseCase.execute("進撃", WatchStatus.WATCHED).get(0);
+
+        // Then
+        for (TitleSummaryDTO title : List.of(indexed, similar, database)) {
+            assertThat(title.getTotalEpisodes()).isEqualTo(25);
+            assertThat(title.getWatchedEpisodes()).isEqualTo(12);
+            assertThat(title.getLastWatchedAt()).isEqualTo(CREATED_AT);
+            assertThat(title.getAverageRating()).isEqualTo(4.25);
+        }
+        // 進捗を DB から読むのは DB の経路だけ
+        verify(titleReadService, times(1)).getTitles(any());
+    }
+
+    @Test
+    @DisplayName("watchStatus を指定した場合は検索索引を使わない")
+    void shouldNotUseIndexWhenWatchStatusIsSpecified() {
+        // Given
+        when(titleRepository.search("進撃", WatchStatus.WATCHED, null, null, null, FIRST_PAGE_FETCH_SIZE)).thenReturn(List.of());
+
+        // When
+        searchTitlesUseCase.execute("進撃", WatchStatus.WATCHED);
+
+        // Then
+        verifyNoInteractions(titleSearchIndexService);
+    }
+
+    private void givenIndex(TitleListReadModel... titles) {
+        TitleSearchIndex index = new TitleSearchIndex();
+        for (TitleListReadModel title : titles) {
+            index.put(title);
+        }
+        when(titleSearchIndexService.search(anyString(), any(), anyInt()))
+                .thenAnswer(invocation -> Optional.of(index.search(
+                        invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2))));
+        when(titleSearchIndexService.getTitle(any())).thenAnswer(invocation -> index.get(invocation.getArgument(0)));
+    }
+
+    /**
+     * searchSimilar が hits を (rank, createdAt, id) のキーセットでページングして返すようにする
+     */
+    private void givenSimilar(String query, List<TitleSearchHit> hits) {
+        when(titleRepository.searchSimilar(eq(query), any(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            Long afterId = invocation.getArgument(3);
+            int from = afterId == null ? 0 : hits.indexOf(hits.stream()
+                    .filter(hit -> hit.getTitle().getId().equals(afterId)).findFirst().orElseThrow()) + 1;
+            int limit = invocation.getArgument(4);
+            return hits.subList(from, Math.min(from + limit, hits.size()));
+        });
+    }
+
+    private static TitleSearchHit similarHit(Long id, String name, float rank) {
+        return new TitleSearchHit(new Title(id, name, new java.util.LinkedHashSet<>(), CREATED_AT, CREATED_AT), rank);
+    }
+
+    private static List<TitleSearchHit> toHits(List<Title> titles, Float rank) {
+        return titles.stream().map(title -> new TitleSearchHit(title, rank)).toList();
+    }
 }
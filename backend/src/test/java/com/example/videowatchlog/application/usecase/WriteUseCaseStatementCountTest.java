@@ -0,0 +1,360 @@
+package com.example.videowatchlog.application.usecase;
+
+import com.example.videowatchlog.application.dto.BatchCompleteEpisodeItemDTO;
+import com.example.videowatchlog.application.dto.BatchCompleteEpisodesRequestDTO;
+import com.example.videowatchlog.application.dto.BatchCreateEpisodesRequestDTO;
+import com.example.videowatchlog.application.dto.CreateEpisodeRequestDTO;
+import com.example.videowatchlog.application.dto.CreateSeriesRequestDTO;
+import com.example.videowatchlog.application.dto.CreateTitleRequestDTO;
+import com.example.videowatchlog.application.dto.EpisodeNumberingDTO;
+import com.example.videowatchlog.application.dto.UpdateTitleRequestDTO;
+import com.example.videowatchlog.application.readmodel.change.ReadModelChangeBus;
+import com.example.videowatchlog.application.readmodel.service.EpisodeReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleReadService;
+import com.example.videowatchlog.application.readmodel.service.TitleSearchIndexService;
+import com.example.videowatchlog.domain.service.EpisodeIdService;
+import com.example.videowatchlog.domain.service.SeriesIdService;
+import com.example.videowatchlog.domain.service.TitleDuplicationCheckService;
+import com.example.videowatchlog.domain.service.TitleIdService;
+import com.example.videowatchlog.domain.service.ViewingRecordIdService;
+import com.example.videowatchlog.infrastructure.persistence.EpisodeRepositoryImpl;
+import com.example.videowatchlog.infrastructure.persistence.MyBatisBatchWriter;
+import com.example.videowatchlog.infrastructure.persistence.SeriesRepositoryImpl;
+import com.example.videowatchlog.infrastructure.persistence.SqlStatementCounter;
+import com.example.videowatchlog.infrastructure.persistence.TitleRepositoryImpl;
+import com.example.videowatchlog.infrastructure.persistence.ViewingRecordRepositoryImpl;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.EpisodeReadRepositoryImpl;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.TitleReadRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * WriteUseCaseStatementCountTest - 書き込みの UseCase ごとに発行される SQL ステートメント数
+ *
+ * Repository・Read Model のサービスは実装を使い、UseCase 1回の実行で発行されるステートメント数を数えます。
+ * ID采番はシーケンスからブロック単位で予約され（1件あたりのステートメント数は償却して0）、
+ * 補充のタイミングで件数がぶれるため、テストでは固定値を返すモックにしています。
+ * 他のプロセスへの変更の通知（ReadModelChangeBus）はコミット時に送られるため、ここでは数えません。
+ * 検索索引は起動時に構築されるため、変更したタイトルの進捗を索引に反映する読み直し（1ステートメント）を含みます。
+ */
+@DisplayName("書き込み UseCase の SQL ステートメント数")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional
+@Import({
+        CreateTitleUseCase.class, UpdateTitleUseCase.class, DeleteTitleUseCase.class,
+        CreateSeriesUseCase.class, UpdateSeriesUseCase.class, DeleteSeriesUseCase.class,
+        CreateEpisodeUseCase.class, UpdateEpisodeUseCase.class, DeleteEpisodeUseCase.class,
+        CompleteEpisodeUseCase.class, AddViewingRecordUseCase.class, DeleteViewingRecordUseCase.class,
+        BatchCreateEpisodesUseCase.class, BatchCompleteEpisodesUseCase.class,
+        TitleRepositoryImpl.class, SeriesRepositoryImpl.class, EpisodeRepositoryImpl.class, ViewingRecordRepositoryImpl.class,
+        MyBatisBatchWriter.class,
+        TitleReadRepositoryImpl.class, EpisodeReadRepositoryImpl.class,
+        TitleReadService.class, EpisodeReadService.class, TitleSearchIndexService.class,
+        TitleDuplicationCheckService.class, SqlStatementCounter.class,
+        WriteUseCaseStatementCountTest.MetricsConfig.class
+})
+class WriteUseCaseStatementCountTest {
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @MockBean
+    private TitleIdService titleIdService;
+
+    @MockBean
+    private SeriesIdService seriesIdService;
+
+    @MockBean
+    private EpisodeIdService episodeIdService;
+
+    @MockBean
+    private ViewingRecordIdService viewingRecordIdService;
+
+    @MockBean
+    private ReadModelChangeBus readModelChangeBus;
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CreateTitleUseCase createTitleUseCase;
+
+    @Autowired
+    private UpdateTitleUseCase updateTitleUseCase;
+
+    @Autowired
+    private DeleteTitleUseCase deleteTitleUseCase;
+
+    @Autowired
+    private CreateSeriesUseCase createSeriesUseCase;
+
+    @Autowired
+    private UpdateSeriesUseCase updateSeriesUseCase;
+
+    @Autowired
+    private DeleteSeriesUseCase deleteSeriesUseCase;
+
+    @Autowired
+    private CreateEpisodeUseCase createEpisodeUseCase;
+
+    @Autowired
+    private UpdateEpisodeUseCase updateEpisodeUseCase;
+
+    @Autowired
+    private DeleteEpisodeUseCase deleteEpisodeUseCase;
+
+    @Autowired
+    private CompleteEpisodeUseCase completeEpisodeUseCase;
+
+    @Autowired
+    private AddViewingRecordUseCase addViewingRecordUseCase;
+
+    @Autowired
+    private DeleteViewingRecordUseCase deleteViewingRecordUseCase;
+
+    @Autowired
+    private BatchCreateEpisodesUseCase batchCreateEpisodesUseCase;
+
+    @Autowired
+    private BatchCompleteEpisodesUseCase batchCompleteEpisodesUseCase;
+
+    /**
+     * タイトル1・シリーズ1・エピソード2件（未視聴の1話は視聴ページURL 2件、視聴済みの2話は視聴履歴2件）
+     */
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE TABLE viewing_records, watch_page_urls, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE");
+        jdbcTemplate.update("INSERT INTO titles (id, name) VALUES (1, '名探偵コナン')");
+        jdbcTemplate.update("INSERT INTO series (id, title_id, name) VALUES (1, 1, '')");
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES "
+                + "(1, 1, '第1話', 'UNWATCHED'), (2, 1, '第2話', 'WATCHED')");
+        jdbcTemplate.update("INSERT INTO watch_page_urls (episode_id, url) VALUES "
+                + "(1, 'https://example.com/ep1/a'), (1, 'https://example.com/ep1/b')");
+        jdbcTemplate.update("INSERT INTO viewing_records (id, episode_id, watched_at, rating) VALUES "
+                + "(1, 2, '2024-01-01 20:00', 4), (2, 2, '2024-01-02 20:00', 5)");
+
+        when(titleIdService.generateId()).thenReturn(100L);
+        when(seriesIdService.generateId()).thenReturn(100L);
+        when(episodeIdService.generateId()).thenReturn(100L);
+        when(viewingRecordIdService.generateId()).thenReturn(100L);
+        statementCounter.reset();
+    }
+
+    @Test
+    @DisplayName("タイトル作成: 名前の重複確認・タイトルの保存・検索索引の進捗の読み直し")
+    void createTitle() {
+        // Act
+        createTitleUseCase.execute(new CreateTitleRequestDTO("ワンピース", null));
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(3);
+        assertThat(countRows("titles")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("タイトル更新: タイトル・タイトル情報URLの読み込み・タイトルの保存・キャッシュ無効化対象のエピソードID・検索索引の進捗の読み直し")
+    void updateTitle() {
+        // Act
+        updateTitleUseCase.execute(1L, new UpdateTitleRequestDTO("名探偵コナン（新）", null));
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM titles WHERE id = 1", String.class))
+                .isEqualTo("名探偵コナン（新）");
+    }
+
+    @Test
+    @DisplayName("タイトル削除: タイトル・タイトル情報URLの読み込み・キャッシュ無効化対象のエピソードID・削除・検索索引の進捗の読み直し")
+    void deleteTitle() {
+        // Act
+        deleteTitleUseCase.execute(1L);
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(5);
+        assertThat(countRows("titles")).isZero();
+    }
+
+    @Test
+    @DisplayName("シリーズ作成: タイトル・タイトル情報URLの読み込み・シリーズの保存・検索索引の進捗の読み直し")
+    void createSeries() {
+        // Act
+        createSeriesUseCase.execute(1L, new CreateSeriesRequestDTO("劇場版"));
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(4);
+        assertThat(countRows("series")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("シリーズ更新: シリーズの読み込み・保存・キャッシュ無効化対象のエピソードID・検索索引の進捗の読み直し")
+    void updateSeries() {
+        // Act
+        updateSeriesUseCase.execute(1L, "第1シーズン");
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM series WHERE id = 1", String.class))
+                .isEqualTo("第1シーズン");
+    }
+
+    @Test
+    @DisplayName("シリーズ削除: シリーズの読み込み・キャッシュ無効化対象のエピソードID・削除・検索索引の進捗の読み直し")
+    void deleteSeries() {
+        // Act
+        deleteSeriesUseCase.execute(1L);
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(4);
+        assertThat(countRows("series")).isZero();
+    }
+
+    @Test
+    @DisplayName("エピソード作成: シリーズの読み込み・エピソードの保存（視聴ページURL 2件）・検索索引の進捗の読み直し")
+    void createEpisode() {
+        // Act
+        createEpisodeUseCase.execute(1L, new CreateEpisodeRequestDTO("第3話",
+                List.of("https://example.com/ep3/a", "https://example.com/ep3/b")));
+
+        // Assert: シリーズ 1 + エピソード 1 + URLの挿入 1（2件をまとめて）
+        assertThat(statementCounter.count()).isEqualTo(4);
+        assertThat(countRows("watch_page_urls")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("エピソード更新: エピソードの読み込み・保存・タイトルIDの解決・検索索引の進捗の読み直し")
+    void updateEpisode() {
+        // Act
+        updateEpisodeUseCase.execute(1L, "第1話（改）", null);
+
+        // Assert: 読み込み 3 + エピソード 1 + タイトルID 1（URLは変更していないため書き込まない）
+        assertThat(statementCounter.count()).isEqualTo(6);
+        assertThat(countRows("watch_page_urls")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("エピソード更新（視聴ページURLの置き換え）: 削除・追加されたURLだけを書き込む・検索索引の進捗の読み直し")
+    void updateEpisodeWatchPageUrls() {
+        // Act
+        updateEpisodeUseCase.execute(1L, null, List.of("https://example.com/ep1/b", "https://example.com/ep1/c"));
+
+        // Assert: 読み込み 3 + エピソード 1 + URLの削除 1 + URLの挿入 1 + タイトルID 1
+        assertThat(statementCounter.count()).isEqualTo(8);
+        assertThat(jdbcTemplate.queryForList("SELECT url FROM watch_page_urls WHERE episode_id = 1 ORDER BY id", String.class))
+                .containsExactly("https://example.com/ep1/b", "https://example.com/ep1/c");
+    }
+
+    @Test
+    @DisplayName("エピソード削除: エピソードの読み込み・削除・タイトルIDの解決・検索索引の進捗の読み直し")
+    void deleteEpisode() {
+        // Act
+        deleteEpisodeUseCase.execute(1L);
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(6);
+        assertThat(countRows("episodes")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("視聴完了: エピソードの読み込み・保存（視聴履歴の追加）・タイトルIDの解決・検索索引の進捗の読み直し")
+    void completeEpisode() {
+        // Act
+        completeEpisodeUseCase.execute(1L, LocalDateTime.now().minusHours(1), 5, null);
+
+        // Assert: 読み込み 3 + エピソード 1 + 視聴履歴の挿入 1 + タイトルID 1
+        assertThat(statementCounter.count()).isEqualTo(7);
+        assertThat(countRows("viewing_records")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("視聴履歴の追加: エピソードの読み込み・保存（視聴履歴の追加）・タイトルIDの解決・検索索引の進捗の読み直し")
+    void addViewingRecord() {
+        // Act
+        addViewingRecordUseCase.execute(2L, LocalDateTime.now().minusHours(1), 3, "再視聴");
+
+        // Assert: 読み込み 3 + エピソード 1 + 視聴履歴の挿入 1 + タイトルID 1
+        assertThat(statementCounter.count()).isEqualTo(7);
+        assertThat(countRows("viewing_records")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("視聴履歴の削除: 視聴履歴・エピソードの読み込み・保存（視聴履歴の削除）・タイトルIDの解決・検索索引の進捗の読み直し")
+    void deleteViewingRecord() {
+        // Act
+        deleteViewingRecordUseCase.execute(1L);
+
+        // Assert: 視聴履歴 1 + 読み込み 3 + エピソード 1 + 視聴履歴の削除 1 + タイトルID 1
+        assertThat(statementCounter.count()).isEqualTo(8);
+        assertThat(countRows("viewing_records")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("エピソード一括作成（24話・各URL 1件）: シリーズの読み込み・エピソードの挿入・URLの挿入・検索索引の進捗の読み直し")
+    void batchCreateEpisodes() {
+        // Arrange
+        when(episodeIdService.generateIds(24)).thenReturn(LongStream.rangeClosed(101, 124).boxed().toList());
+
+        // Act
+        batchCreateEpisodesUseCase.execute(1L, 1L, new BatchCreateEpisodesRequestDTO(null,
+                new EpisodeNumberingDTO("第{n}話", "https://example.com/ep{n}", 3, 24, null)));
+
+        // Assert: シリーズ 1 + エピソードの挿入 1（バッチ）+ URLの挿入 1（バッチ）
+        assertThat(statementCounter.count()).isEqualTo(4);
+        assertThat(countRows("episodes")).isEqualTo(26);
+        assertThat(countRows("watch_page_urls")).isEqualTo(26);
+    }
+
+    @Test
+    @DisplayName("一括視聴完了（50話）: 状態の遷移と視聴記録の挿入を1ステートメントで行う（ほかに検索索引の進捗の読み直し）")
+    void batchCompleteEpisodes() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) "
+                + "SELECT n, 1, '第' || n || '話', 'UNWATCHED' FROM generate_series(3, 50) n");
+        when(viewingRecordIdService.generateIds(50)).thenReturn(LongStream.rangeClosed(101, 150).boxed().toList());
+        List<BatchCompleteEpisodeItemDTO> items = LongStream.rangeClosed(1, 50)
+                .mapToObj(id -> new BatchCompleteEpisodeItemDTO(id, null, null, null))
+                .toList();
+        statementCounter.reset();
+
+        // Act
+        batchCompleteEpisodesUseCase.execute(new BatchCompleteEpisodesRequestDTO(
+                items, LocalDateTime.now().minusHours(1), 4, null));
+
+        // Assert: 視聴済みの2話を除く49話を視聴済みにし、視聴記録を49件作成する
+        assertThat(statementCounter.count()).isEqualTo(2);
+        assertThat(countRows("viewing_records")).isEqualTo(2 + 49);
+    }
+
+    private int countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.videowatchlog.application.watchlistexport;
+
+import com.example.videowatchlog.application.readmodel.WatchListExportNode;
+import com.example.videowatchlog.application.readmodel.WatchListExportNode.Kind;
+import com.example.videowatchlog.domain.model.WatchStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WatchListNdjsonWriter のテスト")
+class WatchListNdjsonWriterTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final LocalDateTime WATCHED_AT = LocalDateTime.of(2024, 2, 1, 20, 0);
+
+    // Spring Boot の ObjectMapper と同じく日時を ISO 8601 の文字列で出力する
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    @DisplayName("深さ優先の要素の列を1行1タイトルの入れ子の JSON にし、子要素のない配列は空で出力する")
+    void shouldWriteOneNestedLinePerTitle() throws Exception {
+        // Given
+        List<WatchListExportNode> nodes = List.of(
+                node(Kind.TITLE, 1L, "名探偵コナン"),
+                node(Kind.TITLE_INFO_URL, 1L, "https://example.com/conan"),
+                node(Kind.SERIES, 1L, ""),
+                episode(1L, "第1話", WatchStatus.WATCHED),
+                node(Kind.WATCH_PAGE_URL, 1L, "https://example.com/conan/1"),
+                record(1L, 5, "面白い"),
+                record(2L, 4, null),
+                episode(2L, "第2話", WatchStatus.UNWATCHED),
+                node(Kind.SERIES, 2L, "劇場版"),
+                episode(3L, "時計じかけの摩天楼", WatchStatus.WATCHED),
+                record(3L, 3, "\"引用符\"\n改行"),
+                node(Kind.TITLE, 2L, "ワンピース"),
+                node(Kind.TITLE, 3L, "空のシリーズ"),
+                node(Kind.SERIES, 3L, ""));
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        WatchListNdjsonWriter writer = new WatchListNdjsonWriter(objectMapper, out);
+        nodes.forEach(writer);
+        long titles = writer.finish();
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertThat(titles).isEqualTo(3);
+        assertThat(lines).hasSize(4);
+        assertThat(lines[3]).isEmpty();
+
+        JsonNode conan = objectMapper.readTree(lines[0]);
+        assertThat(conan.get("name").asText()).isEqualTo("名探偵コナン");
+        assertThat(conan.get("createdAt").asText()).isEqualTo("2024-01-01T09:00:00");
+        assertThat(conan.get("titleInfoUrls")).extracting(JsonNode::asText).containsExactly("https://example.com/conan");
+        assertThat(conan.get("series")).extracting(series -> series.get("name").asText()).containsExactly("", "劇場版");
+        JsonNode firstEpisodes = conan.get("series").get(0).get("episodes");
+        assertThat(firstEpisodes).extracting(episode -> episode.get("episodeInfo").asText()).containsExactly("第1話", "第2話");
+        assertThat(firstEpisodes.get(0).get("watchStatus").asText()).isEqualTo("WATCHED");
+        assertThat(firstEpisodes.get(0).get("watchPageUrls")).extracting(JsonNode::asText)
+                .containsExactly("https://example.com/conan/1");
+        assertThat(firstEpisodes.get(0).get("viewingRecords"))
+                .extracting(record -> record.get("rating").asInt(), record -> record.get("comment").isNull())
+                .containsExactly(tuple(5, false), tuple(4, true));
+        assertThat(firstEpisodes.get(0).get("viewingRecords").get(0).get("watchedAt").asText())
+                .isEqualTo("2024-02-01T20:00:00");
+        assertThat(firstEpisodes.get(1).get("watchPageUrls")).isEmpty();
+        assertThat(firstEpisodes.get(1).get("viewingRecords")).isEmpty();
+        JsonNode movie = conan.get("series").get(1).get("episodes").get(0);
+        assertThat(movie.get("watchPageUrls")).isEmpty();
+        assertThat(movie.get("viewingRecords").get(0).get("comment").asText()).isEqualTo("\"引用符\"\n改行");
+
+        JsonNode onePiece = objectMapper.readTree(lines[1]);
+        assertThat(onePiece.get("titleInfoUrls")).isEmpty();
+        assertThat(onePiece.get("series")).isEmpty();
+        JsonNode emptySeries = objectMapper.readTree(lines[2]);
+        assertThat(emptySeries.get("series").get(0).get("episodes")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("要素がない場合は何も出力しない")
+    void shouldWriteNothingWithoutNodes() {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long titles = new WatchListNdjsonWriter(objectMapper, out).finish();
+
+        // Then
+        assertThat(titles).isZero();
+        assertThat(out.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("上位の要素より前に子要素が来た場合は IllegalStateException")
+    void shouldRejectNodesOutOfOrder() {
+        // Given
+        WatchListNdjsonWriter writer = new WatchListNdjsonWriter(objectMapper, new ByteArrayOutputStream());
+        writer.accept(node(Kind.TITLE, 1L, "名探偵コナン"));
+
+        // When/Then
+        assertThatThrownBy(() -> writer.accept(episode(1L, "第1話", WatchStatus.UNWATCHED)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("EPISODE");
+    }
+
+    private static WatchListExportNode node(Kind kind, Long id, String text) {
+        return new WatchListExportNode(kind, id, text, null, null, null, null, CREATED_AT, CREATED_AT);
+    }
+
+    private static WatchListExportNode episode(Long id, String episodeInfo, WatchStatus watchStatus) {
+        return new WatchListExportNode(Kind.EPISODE, id, episodeInfo, watchStatus, null, null, null, CREATED_AT, CREATED_AT);
+    }
+
+    private static WatchListExportNode record(Long id, int rating, String comment) {
+        return new WatchListExportNode(Kind.VIEWING_RECORD, id, null, null, WATCHED_AT, rating, comment, CREATED_AT, null);
+    }
+}
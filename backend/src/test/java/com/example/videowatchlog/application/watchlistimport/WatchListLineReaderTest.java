@@ -0,0 +1,124 @@
+package com.example.videowatchlog.application.watchlistimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WatchListLineReader のテスト")
+class WatchListLineReaderTest {
+
+    @Test
+    @DisplayName("CSV は引用符内の区切り文字・改行・引用符を値として読み、空の値は引用符の有無で null と空文字を区別する")
+    void csvShouldHandleQuotedValues() throws IOException {
+        // Given
+        String csv = "title,series,episode,comment\r\n"
+                + "名探偵コナン,,第1話,\"面白い, \"\"名作\"\"\n2回目\"\r\n"
+                + "\n"
+                + "ワンピース,\"\",,\n";
+
+        // When
+        List<WatchListLine> lines = readAll(WatchListImportFormat.CSV, csv);
+
+        // Then
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).getLineNumber()).isEqualTo(2);
+        assertThat(lines.get(0).getTitle()).isEqualTo("名探偵コナン");
+        assertThat(lines.get(0).getSeries()).isNull();
+        assertThat(lines.get(0).getEpisode()).isEqualTo("第1話");
+        assertThat(lines.get(0).getComment()).isEqualTo("面白い, \"名作\"\n2回目");
+        assertThat(lines.get(0).getWatchedAt()).isNull();
+        assertThat(lines.get(1).getLineNumber()).isEqualTo(5);
+        assertThat(lines.get(1).getSeries()).isEmpty();
+        assertThat(lines.get(1).getEpisode()).isNull();
+    }
+
+    @Test
+    @DisplayName("CSV の列の数が合わないレコードは不正な行として返し、続きを読み込める")
+    void csvShouldReportMalformedRecords() throws IOException {
+        // Given
+        String csv = "\uFEFFtitle,rating\n名探偵コナン\nワンピース,5\n\"閉じていない,3\n";
+
+        // When
+        List<WatchListLine> lines = readAll(WatchListImportFormat.CSV, csv);
+
+        // Then
+        assertThat(lines).extracting(WatchListLine::getLineNumber).containsExactly(2L, 3L, 4L);
+        assertThat(lines.get(0).getError()).contains("列の数");
+        assertThat(lines.get(1).getError()).isNull();
+        assertThat(lines.get(1).getRating()).isEqualTo("5");
+        assertThat(lines.get(2).getError()).isEqualTo("引用符が閉じられていません");
+    }
+
+    @Test
+    @DisplayName("CSV のヘッダー行に不明な列・title 列がない場合は IllegalStateException")
+    void csvShouldRejectInvalidHeader() {
+        assertThatThrownBy(() -> readAll(WatchListImportFormat.CSV, "title,unknown\n"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("unknown");
+        assertThatThrownBy(() -> readAll(WatchListImportFormat.CSV, "series,episode\n"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("title");
+        assertThatThrownBy(() -> readAll(WatchListImportFormat.CSV, ""))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("NDJSON は1行ずつ読み、数値は文字列として返し、読み込めない行だけを不正な行にする")
+    void ndjsonShouldParseEachLine() throws IOException {
+        // Given
+        String ndjson = "{\"title\":\"名探偵コナン\",\"episode\":\"第1話\",\"rating\":5,\"watchedAt\":\"2024-02-01T20:00:00\"}\r\n"
+                + "\n"
+                + "{\"title\":\n"
+                + "[1, 2]\n"
+                + "{\"title\":{\"name\":\"x\"}}\n"
+                + "{\"title\":\"ワンピース\",\"series\":null,\"extra\":true}";
+
+        // When
+        List<WatchListLine> lines = readAll(WatchListImportFormat.NDJSON, ndjson);
+
+        // Then
+        assertThat(lines).extracting(WatchListLine::getLineNumber).containsExactly(1L, 3L, 4L, 5L, 6L);
+        assertThat(lines.get(0).getError()).isNull();
+        assertThat(lines.get(0).getRating()).isEqualTo("5");
+        assertThat(lines.get(0).getWatchedAt()).isEqualTo("2024-02-01T20:00:00");
+        assertThat(lines.get(1).getError()).startsWith("JSON として読み込めません");
+        assertThat(lines.get(2).getError()).isEqualTo("JSON オブジェクトではありません");
+        assertThat(lines.get(3).getError()).contains("title");
+        assertThat(lines.get(4).getTitle()).isEqualTo("ワンピース");
+        assertThat(lines.get(4).getSeries()).isNull();
+    }
+
+    @Test
+    @DisplayName("上限を超える長さの行は読み飛ばして不正な行にする")
+    void shouldRejectTooLongLines() throws IOException {
+        // Given
+        String ndjson = "{\"title\":\"" + "a".repeat(WatchListLineReader.MAX_LINE_LENGTH) + "\"}\n{\"title\":\"b\"}\n";
+
+        // When
+        List<WatchListLine> lines = readAll(WatchListImportFormat.NDJSON, ndjson);
+
+        // Then
+        assertThat(lines.get(0).getError()).startsWith("行が長すぎます");
+        assertThat(lines.get(1).getTitle()).isEqualTo("b");
+    }
+
+    private static List<WatchListLine> readAll(WatchListImportFormat format, String input) throws IOException {
+        List<WatchListLine> lines = new ArrayList<>();
+        try (WatchListLineReader reader = WatchListLineReader.open(
+                format, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), new ObjectMapper())) {
+            WatchListLine line;
+            while ((line = reader.read()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+}
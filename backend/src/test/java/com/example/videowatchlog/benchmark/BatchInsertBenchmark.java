@@ -0,0 +1,99 @@
+package com.example.videowatchlog.benchmark;
+
+import com.example.videowatchlog.domain.model.Episode;
+import com.example.videowatchlog.infrastructure.persistence.EpisodeMapper;
+import com.example.videowatchlog.infrastructure.persistence.entity.EpisodeEntity;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BatchInsertBenchmark - 10,000 エピソードの挿入（EpisodeMapper.insert）の実行方式の比較
+ *
+ * 1つのトランザクションで 10,000 行を挿入し、最後にロールバックするまでの時間を計測します
+ * （行数 / 時間 が挿入のスループット）。
+ * - SIMPLE: 既定の実行方式。1行ごとに1回のラウンドトリップ（導入前）
+ * - BATCH: ExecutorType.BATCH で 1,000 行ごとに executeBatch（ドライバは1行ずつの INSERT を続けて送る）
+ * - BATCH_REWRITE: BATCH + reWriteBatchedInserts=true（ドライバが複数行の VALUES に書き換える。
+ *   MyBatisBatchWriter とアプリケーションの設定）
+ *
+ * 実行例:
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=BatchInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchInsertBenchmark {
+    private static final int ROW_COUNT = 10_000;
+    private static final int FLUSH_SIZE = 1_000;
+
+    public enum Variant {
+        SIMPLE(ExecutorType.SIMPLE, ""),
+        BATCH(ExecutorType.BATCH, ""),
+        BATCH_REWRITE(ExecutorType.BATCH, "&reWriteBatchedInserts=true");
+
+        private final ExecutorType executorType;
+        private final String urlParameters;
+
+        Variant(ExecutorType executorType, String urlParameters) {
+            this.executorType = executorType;
+            this.urlParameters = urlParameters;
+        }
+    }
+
+    @Param({"SIMPLE", "BATCH", "BATCH_REWRITE"})
+    public Variant variant;
+
+    private BenchmarkDatabase database;
+    private List<EpisodeEntity> episodes;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.open(variant.urlParameters);
+        database.execute(
+            "TRUNCATE TABLE viewing_records, watch_page_urls, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE",
+            "INSERT INTO titles (id, name) VALUES (1, 'タイトル')",
+            "INSERT INTO series (id, title_id, name) VALUES (1, 1, '')"
+        );
+
+        // 各回の挿入はロールバックするため、同じ ID のエピソードを繰り返し使う
+        episodes = new ArrayList<>(ROW_COUNT);
+        for (long id = 1; id <= ROW_COUNT; id++) {
+            episodes.add(EpisodeEntity.fromDomain(Episode.create(id, 1L, "第" + id + "話")));
+        }
+    }
+
+    @Benchmark
+    public int insert() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession(variant.executorType, false)) {
+            EpisodeMapper mapper = session.getMapper(EpisodeMapper.class);
+            int count = 0;
+            for (EpisodeEntity episode : episodes) {
+                mapper.insert(episode);
+                if (++count % FLUSH_SIZE == 0) {
+                    session.flushStatements();
+                }
+            }
+            session.flushStatements();
+            session.rollback(true);
+            return count;
+        }
+    }
+}
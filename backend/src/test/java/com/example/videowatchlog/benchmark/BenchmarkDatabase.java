@@ -0,0 +1,176 @@
+package com.example.videowatchlog.benchmark;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.logging.nologging.NoLoggingImpl;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.LocalCacheScope;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.flywaydb.core.Flyway;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BenchmarkDatabase - JMH ベンチマーク用のデータベース接続と MyBatis 設定
+ *
+ * Spring コンテキストを起動せず、アプリケーションと同じマッパー XML を読み込んだ
+ * SqlSessionFactory を構築します。データは専用スキーマ（benchmark）に Flyway で作成するため、
+ * 開発用のデータには影響しません。
+ *
+ * 接続先はシステムプロパティで指定します（pom.xml の benchmark プロファイルが設定）。
+ * - benchmark.db.url（既定: jdbc:postgresql://localhost:5432/videowatchlog）
+ * - benchmark.db.user / benchmark.db.password
+ */
+public final class BenchmarkDatabase {
+    static final String SCHEMA = "benchmark";
+
+    /** application.yml の TITLE_SEARCH_MIN_SIMILARITY の既定値 */
+    static final String TITLE_SEARCH_MIN_SIMILARITY = "0.5";
+
+    private static final String[] MAPPER_RESOURCES = {
+        "mybatis/mapper/TitleMapper.xml",
+        "mybatis/mapper/SeriesMapper.xml",
+        "mybatis/mapper/EpisodeMapper.xml",
+        "mybatis/mapper/ViewingRecordMapper.xml",
+        "mybatis/mapper/readmodel/TitleReadMapper.xml",
+        "mybatis/mapper/EpisodeReadMapper.xml",
+        "benchmark/LegacyReadMapper.xml"
+    };
+
+    private final DataSource dataSource;
+    private final SqlSessionFactory sqlSessionFactory;
+
+    private BenchmarkDatabase(DataSource dataSource, SqlSessionFactory sqlSessionFactory) {
+        this.dataSource = dataSource;
+        this.sqlSessionFactory = sqlSessionFactory;
+    }
+
+    /**
+     * benchmark スキーマをマイグレーションし、MyBatis を構成します
+     */
+    public static BenchmarkDatabase open() {
+        return open("");
+    }
+
+    /**
+     * benchmark スキーマをマイグレーションし、接続パラメータを追加した接続で MyBatis を構成します
+     *
+     * @param extraUrlParameters 接続 URL に追加するパラメータ（例: "&reWriteBatchedInserts=true"、なしの場合は空文字）
+     */
+    public static BenchmarkDatabase open(String extraUrlParameters) {
+        String url = System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/videowatchlog");
+        String user = System.getProperty("benchmark.db.user", "videowatchlog");
+        String password = System.getProperty("benchmark.db.password", "password");
+
+        Flyway.configure()
+            .dataSource(url, user, password)
+            .schemas(SCHEMA)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+
+        // pg_trgm は public スキーマに作成されるため検索パスに含め、
+        // セッション設定はアプリケーションの接続初期化 SQL（application.yml）と揃える
+        String separator = url.contains("?") ? "&" : "?";
+        DataSource dataSource = new PooledDataSource(
+            "org.postgresql.Driver",
+            url + separator + "currentSchema=" + SCHEMA + ",public"
+                + "&options=-c%20pg_trgm.word_similarity_threshold%3D" + TITLE_SEARCH_MIN_SIMILARITY
+                + "%20-c%20plan_cache_mode%3Dforce_custom_plan"
+                + extraUrlParameters,
+            user, password);
+
+        Configuration configuration = new Configuration(
+            new Environment(SCHEMA, new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        // 計測ごとに同じクエリを実行するため、セッション内のキャッシュは無効化する
+        configuration.setLocalCacheScope(LocalCacheScope.STATEMENT);
+        // SQL・パラメータのログ出力を計測に含めない
+        configuration.setLogImpl(NoLoggingImpl.class);
+        for (String resource : MAPPER_RESOURCES) {
+            try (InputStream inputStream = Resources.getResourceAsStream(resource)) {
+                new XMLMapperBuilder(inputStream, configuration, resource, configuration.getSqlFragments()).parse();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to load mapper: " + resource, e);
+            }
+        }
+        return new BenchmarkDatabase(dataSource, new SqlSessionFactoryBuilder().build(configuration));
+    }
+
+    public SqlSessionFactory getSqlSessionFactory() {
+        return sqlSessionFactory;
+    }
+
+    /**
+     * SQL を順に実行します（データ投入用）
+     */
+    public void execute(String... sqls) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to execute benchmark SQL", e);
+        }
+    }
+
+    /**
+     * マッパーのステートメントを MyBatis と同じ SQL・パラメータで EXPLAIN し、実行計画の各行を返します
+     *
+     * @param statementId ステートメントID（例: com.example...TitleMapper.search）
+     * @param parameter ステートメントのパラメータ
+     * @param options EXPLAIN のオプション（例: "ANALYZE, BUFFERS"、なしの場合は空文字）
+     */
+    public List<String> explain(String statementId, Object parameter, String options) {
+        MappedStatement statement = sqlSessionFactory.getConfiguration().getMappedStatement(statementId);
+        BoundSql boundSql = statement.getBoundSql(parameter);
+        String explain = options.isEmpty() ? "EXPLAIN " : "EXPLAIN (" + options + ") ";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(explain + boundSql.getSql())) {
+            new DefaultParameterHandler(statement, parameter, boundSql).setParameters(preparedStatement);
+            List<String> plan = new ArrayList<>();
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+            }
+            return plan;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to explain " + statementId, e);
+        }
+    }
+
+    /**
+     * クエリを実行し、1列目を文字列のリストとして返します（データ確認・クエリ選択用）
+     */
+    public List<String> queryForStrings(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            List<String> values = new ArrayList<>();
+            while (resultSet.next()) {
+                values.add(resultSet.getString(1));
+            }
+            return values;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to execute benchmark SQL", e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.videowatchlog.benchmark;
+
+import com.example.videowatchlog.application.readmodel.EpisodeDetailReadModel;
+import com.example.videowatchlog.application.readmodel.TitleDetailReadModel;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.EpisodeDetailAggregator;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.EpisodeReadMapper;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.TitleDetailAggregator;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.TitleReadMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.apache.ibatis.session.SqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConditionalGetBenchmark - 条件付き GET（If-None-Match）の再検証と全件取得の比較
+ *
+ * タイトル詳細・エピソード詳細について、サーバー側で1リクエストにかかる処理を比較します。
+ * - *FullFetch: 詳細の読み込み・Read Model への集約・JSON の生成（200 の場合）
+ * - *Revalidate: バージョンの集計クエリと ETag の比較のみ（304 の場合）
+ *
+ * タイトル配下のエピソードは rows 件（各1件の視聴ページURL・視聴記録、全展開で取得）、
+ * エピソード詳細の対象エピソードは視聴記録 rows 件を持ちます。
+ *
+ * 実行例（割り当て量も見る場合は -prof gc を付ける）:
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark="ConditionalGetBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConditionalGetBenchmark {
+    private static final long TITLE_ID = 1L;
+    private static final long EPISODE_ID = 1L;
+
+    @Param({"10", "1000", "10000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private ObjectMapper objectMapper;
+    private String titleEtag;
+    private String episodeEtag;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.open();
+        database.execute(
+            "TRUNCATE TABLE viewing_records, watch_page_urls, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE",
+            "INSERT INTO titles (id, name) VALUES (1, 'ベンチマーク')",
+            "INSERT INTO series (id, title_id, name) VALUES (1, 1, '')",
+            "INSERT INTO episodes (id, series_id, episode_info, watch_status) "
+                + "SELECT n, 1, '第' || n || '話', 'WATCHED' FROM generate_series(1, " + rows + ") n",
+            "INSERT INTO watch_page_urls (episode_id, url) "
+                + "SELECT id, 'https://example.com/watch/' || id FROM episodes",
+            "INSERT INTO viewing_records (episode_id, watched_at, rating, comment) "
+                + "SELECT id, NOW() - INTERVAL '1 day', 1 + id % 5, 'comment ' || id FROM episodes",
+            "INSERT INTO viewing_records (episode_id, watched_at, rating, comment) "
+                + "SELECT 1, NOW() - n * INTERVAL '1 minute', 1 + n % 5, 'comment ' || n FROM generate_series(2, " + rows + ") n",
+            "ANALYZE"
+        );
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        titleEtag = titleRevalidateVersion();
+        episodeEtag = episodeRevalidateVersion();
+    }
+
+    @Benchmark
+    public byte[] titleFullFetch() throws JsonProcessingException {
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            TitleDetailAggregator aggregator = new TitleDetailAggregator();
+            session.getMapper(TitleReadMapper.class).findTitleDetailById(TITLE_ID, true, true, aggregator);
+            TitleDetailReadModel detail = aggregator.getResult().orElseThrow();
+            return objectMapper.writeValueAsBytes(detail);
+        }
+    }
+
+    @Benchmark
+    public boolean titleRevalidate() {
+        return titleEtag.equals(titleRevalidateVersion());
+    }
+
+    @Benchmark
+    public byte[] episodeFullFetch() throws JsonProcessingException {
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            EpisodeDetailAggregator aggregator = new EpisodeDetailAggregator();
+            session.getMapper(EpisodeReadMapper.class).findEpisodeDetailById(EPISODE_ID, aggregator);
+            EpisodeDetailReadModel detail = aggregator.getResult().orElseThrow();
+            return objectMapper.writeValueAsBytes(detail);
+        }
+    }
+
+    @Benchmark
+    public boolean episodeRevalidate() {
+        return episodeEtag.equals(episodeRevalidateVersion());
+    }
+
+    private String titleRevalidateVersion() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            return session.getMapper(TitleReadMapper.class).findTitleDetailVersion(TITLE_ID, true, true);
+        }
+    }
+
+    private String episodeRevalidateVersion() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            return session.getMapper(EpisodeReadMapper.class).findEpisodeDetailVersion(EPISODE_ID);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.videowatchlog.benchmark;
+
+import com.example.videowatchlog.application.readmodel.EpisodeDetailReadModel;
+import com.example.videowatchlog.domain.model.Episode;
+import com.example.videowatchlog.domain.model.Series;
+import com.example.videowatchlog.domain.model.Title;
+import com.example.videowatchlog.infrastructure.persistence.EpisodeMapper;
+import com.example.videowatchlog.infrastructure.persistence.EpisodeRepositoryImpl;
+import com.example.videowatchlog.infrastructure.persistence.SeriesMapper;
+import com.example.videowatchlog.infrastructure.persistence.SeriesRepositoryImpl;
+import com.example.videowatchlog.infrastructure.persistence.TitleMapper;
+import com.example.videowatchlog.infrastructure.persistence.TitleRepositoryImpl;
+import com.example.videowatchlog.infrastructure.persistence.ViewingRecordMapper;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.EpisodeDetailAggregator;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.EpisodeReadMapper;
+import org.apache.ibatis.session.SqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EpisodeDetailQueryBenchmark - エピソード詳細（GET /episodes/{id}、キャッシュなし）の読み込み方式の比較
+ *
+ * 視聴ページURL 3件・視聴記録 records 件のエピソード、タイトル情報URL 3件のタイトルを読み込みます。
+ * - perAggregate: 旧 GetEpisodeDetailUseCase。Episode 集約（エピソード・URL・視聴記録）、Series、
+ *   Title（タイトル情報URLを含む）を読み込んでから、同じ行を含むエピソード詳細のクエリを発行する（7ステートメント）
+ * - singleQuery: シリーズ名・タイトル名を含むエピソード詳細の Read Model を1ステートメントで読み込む
+ *
+ * 実行例:
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=EpisodeDetailQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EpisodeDetailQueryBenchmark {
+    private static final long EPISODE_ID = 1L;
+
+    @Param({"10", "200"})
+    public int records;
+
+    private BenchmarkDatabase database;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.open();
+        database.execute(
+            "TRUNCATE TABLE viewing_records, watch_page_urls, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE",
+            "INSERT INTO titles (id, name) VALUES (1, 'ベンチマーク')",
+            "INSERT INTO title_info_urls (title_id, url) "
+                + "SELECT 1, 'https://example.com/info/' || n FROM generate_series(1, 3) n",
+            "INSERT INTO series (id, title_id, name) VALUES (1, 1, 'Season 1')",
+            "INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES (1, 1, '第1話', 'WATCHED')",
+            "INSERT INTO watch_page_urls (episode_id, url) "
+                + "SELECT 1, 'https://example.com/watch/' || n FROM generate_series(1, 3) n",
+            "INSERT INTO viewing_records (episode_id, watched_at, rating, comment, recorded_at) "
+                + "SELECT 1, NOW() - n * INTERVAL '1 hour', 1 + n % 5, 'comment ' || n, NOW() - n * INTERVAL '1 hour' "
+                + "FROM generate_series(1, " + records + ") n",
+            "ANALYZE"
+        );
+    }
+
+    @Benchmark
+    public EpisodeDetailReadModel perAggregate() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            // 読み込みだけのため MyBatisBatchWriter は使わない
+            EpisodeRepositoryImpl episodeRepository = new EpisodeRepositoryImpl(
+                session.getMapper(EpisodeMapper.class), session.getMapper(ViewingRecordMapper.class), null);
+            SeriesRepositoryImpl seriesRepository = new SeriesRepositoryImpl(session.getMapper(SeriesMapper.class));
+            TitleRepositoryImpl titleRepository = new TitleRepositoryImpl(
+                session.getMapper(TitleMapper.class), session.getMapper(SeriesMapper.class), session.getMapper(EpisodeMapper.class));
+
+            Episode episode = episodeRepository.findById(EPISODE_ID).orElseThrow();
+            Series series = seriesRepository.findById(episode.getSeriesId()).orElseThrow();
+            Title title = titleRepository.findById(series.getTitleId()).orElseThrow();
+            EpisodeDetailAggregator aggregator = new EpisodeDetailAggregator();
+            session.getMapper(EpisodeReadMapper.class).findEpisodeDetailById(EPISODE_ID, aggregator);
+            EpisodeDetailReadModel detail = aggregator.getResult().orElseThrow();
+            return new EpisodeDetailReadModel(detail.getEpisode(), series.getName(), title.getId(), title.getName());
+        }
+    }
+
+    @Benchmark
+    public EpisodeDetailReadModel singleQuery() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            EpisodeDetailAggregator aggregator = new EpisodeDetailAggregator();
+            session.getMapper(EpisodeReadMapper.class).findEpisodeDetailById(EPISODE_ID, aggregator);
+            return aggregator.getResult().orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.videowatchlog.benchmark;
+
+import com.example.videowatchlog.application.readmodel.EpisodeReadModel;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.EpisodeDetailAggregator;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.EpisodeReadMapper;
+import org.apache.ibatis.session.SqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EpisodeDetailRowGrowthBenchmark - エピソード詳細の結果行数とレイテンシの伸び方
+ *
+ * 視聴ページURL（urls 件）と視聴記録（records 件）を持つ1エピソードを読み込みます。
+ * - cartesianJoin: 旧クエリ（LEFT JOIN × 2）。結果行数は urls × records
+ * - unionAll: 現行クエリ（UNION ALL）。結果行数は 1 + urls + records
+ * 各パラメータの結果行数は Setup 時に標準出力へ表示します。
+ *
+ * 実行例:
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=EpisodeDetailRowGrowthBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EpisodeDetailRowGrowthBenchmark {
+    private static final long SERIES_ID = 1L;
+    private static final long EPISODE_ID = 1L;
+
+    @Param({"1", "5", "20"})
+    public int urls;
+
+    @Param({"10", "200", "1000"})
+    public int records;
+
+    private BenchmarkDatabase database;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.open();
+        database.execute(
+            "TRUNCATE TABLE viewing_records, watch_page_urls, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE",
+            "INSERT INTO titles (id, name) VALUES (1, 'ベンチマーク')",
+            "INSERT INTO series (id, title_id, name) VALUES (1, 1, '')",
+            "INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES (1, 1, '第1話', 'WATCHED')",
+            "INSERT INTO watch_page_urls (episode_id, url) "
+                + "SELECT 1, 'https://example.com/watch/' || n FROM generate_series(1, " + urls + ") n",
+            "INSERT INTO viewing_records (episode_id, watched_at, rating, comment, recorded_at) "
+                + "SELECT 1, NOW() - n * INTERVAL '1 hour', 1 + n % 5, 'comment ' || n, NOW() - n * INTERVAL '1 hour' "
+                + "FROM generate_series(1, " + records + ") n",
+            "ANALYZE"
+        );
+
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            int cartesianRows = session.selectList(
+                "benchmark.LegacyReadMapper.findEpisodeDetailByIdAndSeriesIdRaw", legacyParameters()).size();
+            int[] unionRows = new int[1];
+            session.getMapper(EpisodeReadMapper.class)
+                .findEpisodeDetailById(EPISODE_ID, context -> unionRows[0]++);
+            System.out.printf("%n[rows] urls=%d records=%d cartesianJoin=%d unionAll=%d%n",
+                urls, records, cartesianRows, unionRows[0]);
+        }
+    }
+
+    @Benchmark
+    public EpisodeReadModel cartesianJoin() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            List<Map<String, Object>> rawRows = session.selectList(
+                "benchmark.LegacyReadMapper.findEpisodeDetailByIdAndSeriesIdRaw", legacyParameters());
+            return LegacyMapBasedBuilders.buildEpisodeDetail(rawRows);
+        }
+    }
+
+    @Benchmark
+    public EpisodeReadModel unionAll() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            EpisodeDetailAggregator aggregator = new EpisodeDetailAggregator();
+            session.getMapper(EpisodeReadMapper.class).findEpisodeDetailById(EPISODE_ID, aggregator);
+            return aggregator.getResult().orElseThrow().getEpisode();
+        }
+    }
+
+    private static Map<String, Object> legacyParameters() {
+        return Map.of("seriesId", SERIES_ID, "episodeId", EPISODE_ID);
+    }
+}
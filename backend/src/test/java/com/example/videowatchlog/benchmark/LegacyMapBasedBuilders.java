@@ -0,0 +1,143 @@
+package com.example.videowatchlog.benchmark;
+
+import com.example.videowatchlog.application.readmodel.EpisodeReadModel;
+import com.example.videowatchlog.application.readmodel.SeriesReadModel;
+import com.example.videowatchlog.application.readmodel.TitleDetailReadModel;
+import com.example.videowatchlog.application.readmodel.ViewingRecordReadModel;
+import com.example.videowatchlog.domain.model.WatchStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LegacyMapBasedBuilders - 旧 Read Repository の集約ロジック（ベンチマーク比較用）
+ *
+ * ResultHandler による逐次集約へ置き換える前の buildTitleDetail / buildEpisodeDetail を
+ * そのまま移植したものです。全行を List&lt;Map&lt;String, Object&gt;&gt; として受け取った後に
+ * キャストと Map による重複排除で Read Model を構築します。
+ */
+final class LegacyMapBasedBuilders {
+
+    private LegacyMapBasedBuilders() {
+    }
+
+    static TitleDetailReadModel buildTitleDetail(List<Map<String, Object>> rows) {
+        Map<String, Object> firstRow = rows.get(0);
+        Long titleId = ((Number) firstRow.get("title_id")).longValue();
+        String titleName = (String) firstRow.get("title_name");
+        LocalDateTime titleCreatedAt = toLocalDateTime(firstRow.get("title_created_at"));
+        LocalDateTime titleUpdatedAt = toLocalDateTime(firstRow.get("title_updated_at"));
+
+        LinkedHashMap<Long, SeriesReadModel> seriesMap = new LinkedHashMap<>();
+
+        for (Map<String, Object> row : rows) {
+            Object seriesIdObj = row.get("s_id");
+            if (seriesIdObj != null) {
+                Long seriesId = ((Number) seriesIdObj).longValue();
+
+                if (!seriesMap.containsKey(seriesId)) {
+                    SeriesReadModel series = new SeriesReadModel(
+                        seriesId,
+                        ((Number) row.get("s_title_id")).longValue(),
+                        (String) row.get("s_name"),
+                        new ArrayList<>(),
+                        toLocalDateTime(row.get("s_created_at")),
+                        toLocalDateTime(row.get("s_updated_at"))
+                    );
+                    seriesMap.put(seriesId, series);
+                }
+
+                Object episodeIdObj = row.get("e_id");
+                if (episodeIdObj != null) {
+                    Long episodeId = ((Number) episodeIdObj).longValue();
+                    Long episodeSeriesId = ((Number) row.get("e_series_id")).longValue();
+                    EpisodeReadModel episode = new EpisodeReadModel(
+                        episodeId,
+                        episodeSeriesId,
+                        (String) row.get("e_episode_info"),
+                        WatchStatus.valueOf((String) row.get("e_watch_status")),
+                        new ArrayList<>(),
+                        new ArrayList<>(),
+                        toLocalDateTime(row.get("e_created_at")),
+                        toLocalDateTime(row.get("e_updated_at"))
+                    );
+
+                    SeriesReadModel series = seriesMap.get(episodeSeriesId);
+                    if (series != null) {
+                        series.getEpisodes().add(episode);
+                    }
+                }
+            }
+        }
+
+        return new TitleDetailReadModel(
+            titleId,
+            titleName,
+            new ArrayList<>(seriesMap.values()),
+            titleCreatedAt,
+            titleUpdatedAt
+        );
+    }
+
+    static EpisodeReadModel buildEpisodeDetail(List<Map<String, Object>> rows) {
+        Map<String, Object> firstRow = rows.get(0);
+        Long episodeId = ((Number) firstRow.get("e_id")).longValue();
+        Long seriesId = ((Number) firstRow.get("e_series_id")).longValue();
+        String episodeInfo = (String) firstRow.get("e_episode_info");
+        WatchStatus watchStatus = WatchStatus.valueOf((String) firstRow.get("e_watch_status"));
+        LocalDateTime episodeCreatedAt = toLocalDateTime(firstRow.get("e_created_at"));
+        LocalDateTime episodeUpdatedAt = toLocalDateTime(firstRow.get("e_updated_at"));
+
+        List<String> watchPageUrls = new ArrayList<>();
+        Map<Long, ViewingRecordReadModel> viewingRecordsMap = new LinkedHashMap<>();
+
+        for (Map<String, Object> row : rows) {
+            String url = (String) row.get("wpu_url");
+            if (url != null && !watchPageUrls.contains(url)) {
+                watchPageUrls.add(url);
+            }
+
+            Object recordIdObj = row.get("vr_id");
+            if (recordIdObj != null) {
+                Long recordId = ((Number) recordIdObj).longValue();
+                if (!viewingRecordsMap.containsKey(recordId)) {
+                    viewingRecordsMap.put(recordId, new ViewingRecordReadModel(
+                        recordId,
+                        ((Number) row.get("vr_episode_id")).longValue(),
+                        toLocalDateTime(row.get("vr_watched_at")),
+                        ((Number) row.get("vr_rating")).intValue(),
+                        (String) row.get("vr_comment"),
+                        toLocalDateTime(row.get("vr_recorded_at"))
+                    ));
+                }
+            }
+        }
+
+        return new EpisodeReadModel(
+            episodeId,
+            seriesId,
+            episodeInfo,
+            watchStatus,
+            watchPageUrls,
+            new ArrayList<>(viewingRecordsMap.values()),
+            episodeCreatedAt,
+            episodeUpdatedAt
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
+        if (value instanceof java.sql.Timestamp) {
+            return ((java.sql.Timestamp) value).toLocalDateTime();
+        }
+        throw new IllegalArgumentException("Cannot convert " + value.getClass() + " to LocalDateTime");
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.videowatchlog.benchmark;
+
+import com.example.videowatchlog.application.readmodel.EpisodeReadModel;
+import com.example.videowatchlog.application.readmodel.TitleDetailReadModel;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.EpisodeDetailAggregator;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.EpisodeReadMapper;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.TitleDetailAggregator;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.TitleReadMapper;
+import org.apache.ibatis.session.SqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReadModelAggregationBenchmark - Read Model 集約方式の比較
+ *
+ * 同じデータに対し、旧方式（List&lt;Map&gt; を全件受け取ってから集約）と
+ * ResultHandler による逐次集約（TitleDetailAggregator / EpisodeDetailAggregator）を比較します。
+ * - titleDetail*: タイトル配下のエピソード rows 件（= 結果行数）
+ * - episodeDetail*: 視聴ページURL 5件と視聴記録 rows/5 件（旧クエリは直積で rows 行、
+ *   現行クエリは 1 + 5 + rows/5 行。行数の伸び方は EpisodeDetailRowGrowthBenchmark を参照）
+ *
+ * 実行例（割り当て量も見る場合は -prof gc を付ける）:
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark="ReadModelAggregationBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadModelAggregationBenchmark {
+    private static final long TITLE_ID = 1L;
+    private static final long EPISODE_SERIES_ID = 2L;
+    private static final long EPISODE_ID = 1L;
+    private static final int URLS_PER_EPISODE = 5;
+
+    @Param({"10", "1000", "100000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.open();
+        int records = rows / URLS_PER_EPISODE;
+        database.execute(
+            "TRUNCATE TABLE viewing_records, watch_page_urls, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE",
+            "INSERT INTO titles (id, name) VALUES (1, 'ベンチマーク')",
+            "INSERT INTO series (id, title_id, name) VALUES (1, 1, ''), (2, 1, '視聴記録')",
+            // 視聴記録用のエピソードを id = 1 とし、タイトル詳細用のエピソードは series 1 に rows 件
+            "INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES (1, 2, '記録あり', 'WATCHED')",
+            "INSERT INTO episodes (id, series_id, episode_info, watch_status) "
+                + "SELECT n + 1, 1, '第' || n || '話', 'UNWATCHED' FROM generate_series(1, " + (rows - 1) + ") n",
+            "INSERT INTO watch_page_urls (episode_id, url) "
+                + "SELECT 1, 'https://example.com/watch/' || n FROM generate_series(1, " + URLS_PER_EPISODE + ") n",
+            "INSERT INTO viewing_records (episode_id, watched_at, rating, comment) "
+                + "SELECT 1, NOW() - n * INTERVAL '1 minute', 1 + n % 5, 'comment ' || n FROM generate_series(1, " + records + ") n",
+            "ANALYZE"
+        );
+    }
+
+    @Benchmark
+    public TitleDetailReadModel titleDetailMapBased() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            List<Map<String, Object>> rawRows = session.selectList("benchmark.LegacyReadMapper.findTitleDetailByIdRaw", TITLE_ID);
+            return LegacyMapBasedBuilders.buildTitleDetail(rawRows);
+        }
+    }
+
+    @Benchmark
+    public TitleDetailReadModel titleDetailResultHandler() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            TitleDetailAggregator aggregator = new TitleDetailAggregator();
+            session.getMapper(TitleReadMapper.class).findTitleDetailById(TITLE_ID, false, false, aggregator);
+            return aggregator.getResult().orElseThrow();
+        }
+    }
+
+    @Benchmark
+    public EpisodeReadModel episodeDetailMapBased() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            List<Map<String, Object>> rawRows = session.selectList(
+                "benchmark.LegacyReadMapper.findEpisodeDetailByIdAndSeriesIdRaw",
+                Map.of("seriesId", EPISODE_SERIES_ID, "episodeId", EPISODE_ID));
+            return LegacyMapBasedBuilders.buildEpisodeDetail(rawRows);
+        }
+    }
+
+    @Benchmark
+    public EpisodeReadModel episodeDetailResultHandler() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            EpisodeDetailAggregator aggregator = new EpisodeDetailAggregator();
+            session.getMapper(EpisodeReadMapper.class).findEpisodeDetailById(EPISODE_ID, aggregator);
+            return aggregator.getResult().orElseThrow().getEpisode();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.videowatchlog.benchmark;
+
+import com.example.videowatchlog.VideoWatchLogApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RequestExecutionModeBenchmark - リクエストを処理するスレッドの方式ごとのスループットと p99 レイテンシ（負荷試験）
+ *
+ * アプリケーション全体を同じプロセスで起動し（接続先は benchmark スキーマ、コネクションプールは application.yml と同じ 10）、
+ * CLIENTS 個のスレッドが待ち時間なしで GET /titles/{id}?expand=watchPageUrls,viewingRecords を送り続けます
+ * （バースト時のようにコネクションプールより多くのリクエストが同時に DB を待つ状態）。
+ * タイトル詳細のキャッシュは無効にし、すべてのリクエストが DB を読みます。
+ * - platform: Tomcat のスレッドプール（既定の max-threads 200）
+ * - virtual: 仮想スレッド + 同時処理数の上限（RequestConcurrencyLimitFilter、既定はコネクションプールの最大数から予約分の 2 を除いた 8）
+ * - virtual-unlimited: 仮想スレッドのみ（同時処理数の上限なし）
+ *
+ * Throughput が1秒あたりの応答数、SampleTime の p0.99 が 99 パーセンタイルのレイテンシです。
+ * 200 以外の応答（上限による 503 など）と通信エラーの件数は各計測の終了時に出力します。
+ * 負荷をかけるクライアントも同じプロセスで動くため、CPU はクライアントとサーバーで共有されます。
+ * 仮想スレッドのピン留め（synchronized の中での I/O の待ち）は -Djdk.tracePinnedThreads=short を
+ * -jvmArgsAppend に指定すると出力されます。
+ *
+ * データの生成には数秒かかります。同じ件数のデータが残っている場合は再利用します。
+ *
+ * 実行例（Java 21 以上）:
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=RequestExecutionModeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(RequestExecutionModeBenchmark.CLIENTS)
+@Fork(1)
+public class RequestExecutionModeBenchmark {
+    static final int CLIENTS = 400;
+    private static final int TITLE_COUNT = 2_000;
+    private static final int EPISODES_PER_TITLE = 20;
+    /** 応答が止まった場合も計測を終えられるよう、応答を待つ最大の時間（超えた場合は HttpTimeoutException として数える） */
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    @Param({"platform", "virtual", "virtual-unlimited"})
+    public String mode;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase database = BenchmarkDatabase.open();
+        generateTitlesIfAbsent(database);
+
+        String url = System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/videowatchlog");
+        String separator = url.contains("?") ? "&" : "?";
+        // application.yml より優先されるよう、起動引数として指定する
+        context = new SpringApplicationBuilder(VideoWatchLogApplication.class).run(
+            "--server.port=0",
+            "--spring.datasource.url=" + url + separator + "currentSchema=" + BenchmarkDatabase.SCHEMA + ",public",
+            "--spring.datasource.username=" + System.getProperty("benchmark.db.user", "videowatchlog"),
+            "--spring.datasource.password=" + System.getProperty("benchmark.db.password", "password"),
+            "--spring.flyway.enabled=false",
+            "--spring.threads.virtual.enabled=" + !mode.equals("platform"),
+            "--request-concurrency.enabled=" + mode.equals("virtual"),
+            "--read-model-cache.title-detail.maximum-size=0",
+            "--read-model-cache.invalidation.enabled=false",
+            // SQL・リクエストのログ出力を計測に含めない
+            "--logging.level.root=WARN",
+            "--logging.level.com.example.videowatchlog=WARN",
+            "--logging.level.org.springframework.web=WARN",
+            "--logging.level.org.mybatis=WARN");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/api/v1/titles/";
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (!failures.isEmpty()) {
+            System.out.printf("%n[failures] %s: %s%n", mode, failures);
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public int getTitleDetail() throws InterruptedException {
+        long titleId = ThreadLocalRandom.current().nextLong(1, TITLE_COUNT + 1);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + titleId + "?expand=watchPageUrls,viewingRecords"))
+            .timeout(REQUEST_TIMEOUT)
+            .build();
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status != 200) {
+                failures.computeIfAbsent(String.valueOf(status), key -> new LongAdder()).increment();
+            }
+            return status;
+        } catch (IOException e) {
+            failures.computeIfAbsent(e.getClass().getSimpleName(), key -> new LongAdder()).increment();
+            return -1;
+        }
+    }
+
+    private static void generateTitlesIfAbsent(BenchmarkDatabase database) {
+        List<String> counts = database.queryForStrings(
+            "SELECT (SELECT COUNT(*) FROM titles) || ',' || (SELECT COUNT(*) FROM episodes)");
+        if (counts.get(0).equals(TITLE_COUNT + "," + TITLE_COUNT * EPISODES_PER_TITLE)) {
+            return;
+        }
+        database.execute(
+            "TRUNCATE TABLE viewing_records, watch_page_urls, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE",
+            "INSERT INTO titles (id, name) SELECT n, 'タイトル ' || n FROM generate_series(1, " + TITLE_COUNT + ") n",
+            "INSERT INTO series (id, title_id, name) SELECT n, n, '' FROM generate_series(1, " + TITLE_COUNT + ") n",
+            "INSERT INTO episodes (series_id, episode_info, watch_status) "
+                + "SELECT s, '第' || e || '話', 'WATCHED' FROM generate_series(1, " + TITLE_COUNT + ") s "
+                + "CROSS JOIN generate_series(1, " + EPISODES_PER_TITLE + ") e",
+            "INSERT INTO watch_page_urls (episode_id, url) SELECT id, 'https://example.com/watch/' || id FROM episodes",
+            "INSERT INTO viewing_records (episode_id, watched_at, rating, comment) "
+                + "SELECT id, NOW() - INTERVAL '1 day', 1 + id % 5, 'comment ' || id FROM episodes",
+            "ANALYZE"
+        );
+    }
+}
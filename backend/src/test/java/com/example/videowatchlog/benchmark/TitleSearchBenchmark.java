@@ -0,0 +1,154 @@
+package com.example.videowatchlog.benchmark;
+
+import com.example.videowatchlog.application.dto.TitlePageRequestDTO;
+import com.example.videowatchlog.infrastructure.persistence.TitleMapper;
+import com.example.videowatchlog.infrastructure.persistence.entity.TitleSearchHitEntity;
+import org.apache.ibatis.session.SqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TitleSearchBenchmark - pg_trgm を使ったタイトル検索のレイテンシ分布（100万件）
+ *
+ * 「日本語の語 + の + 日本語の語 + 英字の語 × 2」形式のタイトル 100 万件（各タイトルにエピソード1件）を生成し、
+ * TitleMapper.search で先頭ページ（DEFAULT_LIMIT + 1 件）を取得する時間を SampleTime で計測します。
+ * 結果の p0.99 が 99 パーセンタイルのレイテンシです。
+ * - JAPANESE: データ中の日本語の語（3〜4文字）で検索（部分一致でページが埋まる）
+ * - ASCII: データ中の英字の語で検索（部分一致でページが埋まる）
+ * - TYPO: 英字の語の1文字を置き換えて検索（部分一致がほぼなく、類似検索まで実行される）
+ * 各種別とも QUERY_COUNT 個のクエリを順番に使います。
+ *
+ * 3文字未満のクエリはトライグラムを持たず部分一致に索引を使えないため、ここでは計測しません。
+ * データの生成には1分程度かかります。同じ件数のデータが残っている場合は再利用します。
+ *
+ * 実行例:
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=TitleSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TitleSearchBenchmark {
+    private static final int TITLE_COUNT = 1_000_000;
+    private static final int VOCABULARY_SIZE = 20_000;
+    private static final int QUERY_COUNT = 100;
+    private static final int FETCH_SIZE = TitlePageRequestDTO.DEFAULT_LIMIT + 1;
+
+    /** 日本語の語に使う文字（「の」は区切りに使うため含めない） */
+    private static final String JAPANESE_CHARACTERS =
+        "日月火水木金土山川田中大小上空海風雲雪花春夏秋冬光影夢恋愛心星宙鉄道銀河竜王姫剣魔法少女騎士学園物語伝説戦記"
+            + "探偵事件怪盗忍者侍英雄神話世界転生勇冒険旅路あいうえかきくけさしすせたちつてなにぬはひふまみむやゆよらりるれろわん"
+            + "アイウカキクサシスタチツナニハヒフマミムラリルレロン";
+
+    public enum QueryKind {
+        JAPANESE,
+        ASCII,
+        TYPO,
+        /** 日本語の語の先頭2文字（トライグラム索引を使えないため TitleSearchIndexBenchmark でのみ使用） */
+        SHORT
+    }
+
+    @Param({"JAPANESE", "ASCII", "TYPO"})
+    public QueryKind queryKind;
+
+    private BenchmarkDatabase database;
+    private List<String> queries;
+    private int nextQuery;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.open();
+        generateTitlesIfAbsent(database);
+        queries = database.queryForStrings(querySql(queryKind));
+        System.out.printf("%n[queries] %s: %s ...%n", queryKind, queries.subList(0, 5));
+    }
+
+    @Benchmark
+    public List<TitleSearchHitEntity> search() {
+        String query = queries.get(nextQuery++ % queries.size());
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            // クエリに LIKE のワイルドカードは含まれないため、エスケープせずにパターンを作る
+            return session.getMapper(TitleMapper.class)
+                .search(query, "%" + query + "%", null, null, null, null, FETCH_SIZE);
+        }
+    }
+
+    /**
+     * ベンチマーク用の 100 万件のタイトルを生成します（同じ件数のデータが残っている場合は再利用）
+     * TitleSearchIndexBenchmark も同じデータを使います。
+     */
+    static void generateTitlesIfAbsent(BenchmarkDatabase database) {
+        if (!database.queryForStrings("SELECT COUNT(*) FROM titles").equals(List.of(String.valueOf(TITLE_COUNT)))) {
+            generateTitles(database);
+        }
+    }
+
+    private static void generateTitles(BenchmarkDatabase database) {
+        database.execute(
+            "TRUNCATE TABLE viewing_records, watch_page_urls, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE",
+            // 大量投入中の GIN 索引の更新を避けるため、投入後に V3 と同じ定義で作り直す
+            "DROP INDEX IF EXISTS idx_titles_name_trgm",
+            "SELECT setseed(0.42)",
+            "CREATE TEMP TABLE japanese_words AS SELECT n, (SELECT string_agg(substr('" + JAPANESE_CHARACTERS + "', "
+                + "1 + floor(random() * " + JAPANESE_CHARACTERS.length() + ")::int, 1), '') "
+                + "FROM generate_series(1, 3 + n % 2) WHERE n > 0) AS word "
+                + "FROM generate_series(1, " + VOCABULARY_SIZE + ") n",
+            // 子音 × 母音 × 末尾子音の音節を 2〜3 個つないだ英字の語
+            "CREATE TEMP TABLE ascii_words AS SELECT n, (SELECT initcap(string_agg("
+                + "(ARRAY['b','c','d','f','g','h','j','k','l','m','n','p','r','s','t','v','w','z','ch','th'])[1 + floor(random() * 20)::int]"
+                + " || (ARRAY['a','e','i','o','u'])[1 + floor(random() * 5)::int]"
+                + " || (ARRAY['','n','r','s','l','x'])[1 + floor(random() * 6)::int], '')) "
+                + "FROM generate_series(1, 2 + n % 2) WHERE n > 0) AS word "
+                + "FROM generate_series(1, " + VOCABULARY_SIZE + ") n",
+            "INSERT INTO titles (id, name, created_at, updated_at) "
+                + "SELECT r.g, j1.word || 'の' || j2.word || ' ' || a1.word || ' ' || a2.word, "
+                + "TIMESTAMP '2020-01-01' + r.g * INTERVAL '1 minute', TIMESTAMP '2020-01-01' + r.g * INTERVAL '1 minute' "
+                + "FROM (SELECT g, " + randomWordId() + " AS j1, " + randomWordId() + " AS j2, "
+                + randomWordId() + " AS a1, " + randomWordId() + " AS a2 "
+                + "FROM generate_series(1, " + TITLE_COUNT + ") g OFFSET 0) r "
+                + "JOIN japanese_words j1 ON j1.n = r.j1 JOIN japanese_words j2 ON j2.n = r.j2 "
+                + "JOIN ascii_words a1 ON a1.n = r.a1 JOIN ascii_words a2 ON a2.n = r.a2",
+            "INSERT INTO series (id, title_id, name) SELECT id, id, '' FROM titles",
+            "INSERT INTO episodes (id, series_id, episode_info, watch_status) "
+                + "SELECT id, id, '第1話', CAST(CASE WHEN id % 2 = 0 THEN 'WATCHED' ELSE 'UNWATCHED' END AS watch_status) FROM series",
+            "CREATE INDEX idx_titles_name_trgm ON titles USING gin (LOWER(name) gin_trgm_ops)",
+            "VACUUM ANALYZE titles",
+            "VACUUM ANALYZE series",
+            "VACUUM ANALYZE episodes"
+        );
+    }
+
+    private static String randomWordId() {
+        return "1 + floor(random() * " + VOCABULARY_SIZE + ")::int";
+    }
+
+    /**
+     * データ中のタイトル名から検索クエリを QUERY_COUNT 個取り出す SQL
+     */
+    static String querySql(QueryKind queryKind) {
+        // タイトル名から語を取り出す（"日本語の日本語 English English"）
+        String japaneseWord = "split_part(name, 'の', 1)";
+        String asciiWord = "split_part(name, ' ', 2)";
+        String word = switch (queryKind) {
+            case JAPANESE -> japaneseWord;
+            case ASCII -> asciiWord;
+            case TYPO -> "overlay(" + asciiWord + " placing 'q' from char_length(" + asciiWord + ") / 2 + 1 for 1)";
+            case SHORT -> "left(" + japaneseWord + ", 2)";
+        };
+        return "SELECT " + word + " FROM titles WHERE id % 9973 = 0 ORDER BY id LIMIT " + QUERY_COUNT;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.videowatchlog.benchmark;
+
+import com.example.videowatchlog.application.dto.TitlePageRequestDTO;
+import com.example.videowatchlog.application.readmodel.TitleListReadModel;
+import com.example.videowatchlog.application.readmodel.search.TitleSearchIndex;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.TitleReadMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TitleSearchIndexBenchmark - メモリ上の検索索引（TitleSearchIndex）のレイテンシ分布（100万件）
+ *
+ * TitleSearchBenchmark と同じ 100 万件のタイトルを DB から読み込んで索引を構築し、
+ * 同じクエリで先頭ページ（DEFAULT_LIMIT + 1 件）を検索する時間を SampleTime で計測します。
+ * TYPO は部分一致がないことの判定（この後 DB の類似検索に回る）までの時間です。
+ * SHORT（2文字）は DB ではトライグラム索引を使えず全件走査になるクエリです。
+ * 索引の構築時間と、構築後のヒープ使用量の目安をセットアップ時に出力します。
+ *
+ * 実行例:
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=TitleSearchIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class TitleSearchIndexBenchmark {
+    private static final int FETCH_SIZE = TitlePageRequestDTO.DEFAULT_LIMIT + 1;
+
+    @Param({"JAPANESE", "ASCII", "TYPO", "SHORT"})
+    public TitleSearchBenchmark.QueryKind queryKind;
+
+    private TitleSearchIndex index;
+    private List<String> queries;
+    private int nextQuery;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase database = BenchmarkDatabase.open();
+        TitleSearchBenchmark.generateTitlesIfAbsent(database);
+        queries = database.queryForStrings(TitleSearchBenchmark.querySql(queryKind));
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        long startedAt = System.nanoTime();
+        index = new TitleSearchIndex();
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false);
+             Cursor<TitleListReadModel> titles = session.getMapper(TitleReadMapper.class).streamAllTitles()) {
+            titles.forEach(index::put);
+            index.trimToSize();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long buildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        System.gc();
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+        System.out.printf("%n[index] %d titles, built in %d ms, ~%d MB heap%n",
+                index.size(), buildMillis, (heapAfter - heapBefore) / (1024 * 1024));
+    }
+
+    @Benchmark
+    public TitleSearchIndex.Result search() {
+        return index.search(queries.get(nextQuery++ % queries.size()), null, FETCH_SIZE);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.videowatchlog.benchmark;
+
+import com.example.videowatchlog.application.dto.TitlePageRequestDTO;
+import com.example.videowatchlog.domain.model.WatchStatus;
+import com.example.videowatchlog.infrastructure.persistence.TitleMapper;
+import org.apache.ibatis.session.SqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TitleWatchStatusFilterBenchmark - 視聴状態でのタイトル絞り込み（search の先頭ページ）の比較
+ *
+ * 20,000 タイトルのうち 10 件に 1 件が 2,000 エピソード、残りが 12 エピソードを持つデータ（約 420 万エピソード）で、
+ * watchStatus を指定した検索（query なし）の先頭ページ（DEFAULT_LIMIT + 1 件）を取得する時間を計測します。
+ * 100 件に 1 件のタイトルだけがすべて視聴済みで、それ以外はすべて未視聴です（WATCHED は絞り込みの結果が少ない）。
+ * - DISTINCT_JOIN: titles × series × episodes の結合 + DISTINCT（旧実装）
+ * - EPISODE_EXISTS: タイトルごとに episodes を EXISTS で探す（集計テーブル導入前）
+ * - ROLLUP: title_progress の部分索引を引く（TitleMapper.search）
+ *
+ * セットアップ時に各方式の EXPLAIN (ANALYZE, BUFFERS) を出力し、ROLLUP の実行計画が episodes を読まず
+ * title_progress の索引を使っていることを確認します（満たさない場合は失敗します）。
+ * データの生成には1分程度かかります。同じ件数のデータが残っている場合は再利用します。
+ *
+ * 実行例:
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=TitleWatchStatusFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TitleWatchStatusFilterBenchmark {
+    private static final int TITLE_COUNT = 20_000;
+    private static final int LARGE_TITLE_INTERVAL = 10;
+    private static final int LARGE_TITLE_EPISODES = 2_000;
+    private static final int SMALL_TITLE_EPISODES = 12;
+    private static final int WATCHED_TITLE_INTERVAL = 100;
+    private static final int FETCH_SIZE = TitlePageRequestDTO.DEFAULT_LIMIT + 1;
+
+    public enum Variant {
+        DISTINCT_JOIN("benchmark.LegacyReadMapper.searchByDistinctJoin"),
+        EPISODE_EXISTS("benchmark.LegacyReadMapper.searchByEpisodeExists"),
+        ROLLUP(TitleMapper.class.getName() + ".search");
+
+        private final String statementId;
+
+        Variant(String statementId) {
+            this.statementId = statementId;
+        }
+    }
+
+    @Param({"DISTINCT_JOIN", "EPISODE_EXISTS", "ROLLUP"})
+    public Variant variant;
+
+    @Param({"WATCHED", "UNWATCHED"})
+    public WatchStatus watchStatus;
+
+    private BenchmarkDatabase database;
+    private Map<String, Object> parameters;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.open();
+        long expectedEpisodes = (long) TITLE_COUNT / LARGE_TITLE_INTERVAL * LARGE_TITLE_EPISODES
+            + (long) (TITLE_COUNT - TITLE_COUNT / LARGE_TITLE_INTERVAL) * SMALL_TITLE_EPISODES;
+        if (!database.queryForStrings("SELECT (SELECT COUNT(*) FROM titles) || '/' || (SELECT COUNT(*) FROM episodes)")
+                .equals(List.of(TITLE_COUNT + "/" + expectedEpisodes))) {
+            generateData();
+        }
+
+        // search は名前付きパラメータ（@Param）を持つため、同じ名前のマップで渡す
+        parameters = new HashMap<>();
+        parameters.put("query", null);
+        parameters.put("pattern", null);
+        parameters.put("watchStatus", watchStatus);
+        parameters.put("afterRank", null);
+        parameters.put("afterCreatedAt", null);
+        parameters.put("afterId", null);
+        parameters.put("limit", FETCH_SIZE);
+
+        List<String> plan = database.explain(variant.statementId, parameters, "ANALYZE, BUFFERS");
+        System.out.printf("%n[plan] %s %s%n  %s%n", variant, watchStatus, String.join("\n  ", plan));
+        if (variant == Variant.ROLLUP) {
+            String text = String.join("\n", plan);
+            if (text.contains("episodes") || !text.contains("idx_title_progress_")) {
+                throw new IllegalStateException("search should use the title_progress index without reading episodes");
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Object> search() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession(false)) {
+            return session.selectList(variant.statementId, parameters);
+        }
+    }
+
+    private void generateData() {
+        database.execute(
+            "TRUNCATE TABLE viewing_records, watch_page_urls, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE",
+            "INSERT INTO titles (id, name, created_at, updated_at) "
+                + "SELECT g, 'タイトル' || g, TIMESTAMP '2020-01-01' + g * INTERVAL '1 minute', TIMESTAMP '2020-01-01' "
+                + "FROM generate_series(1, " + TITLE_COUNT + ") g",
+            "INSERT INTO series (id, title_id, name) SELECT id, id, '' FROM titles",
+            "INSERT INTO episodes (series_id, episode_info, watch_status) "
+                + "SELECT s.id, '第' || n || '話', "
+                + "CAST(CASE WHEN s.id % " + WATCHED_TITLE_INTERVAL + " = 0 THEN 'WATCHED' ELSE 'UNWATCHED' END AS watch_status) "
+                + "FROM series s CROSS JOIN LATERAL generate_series(1, CASE WHEN s.id % " + LARGE_TITLE_INTERVAL + " = 0 "
+                + "THEN " + LARGE_TITLE_EPISODES + " ELSE " + SMALL_TITLE_EPISODES + " END) n",
+            "VACUUM ANALYZE titles",
+            "VACUUM ANALYZE series",
+            "VACUUM ANALYZE episodes",
+            "VACUUM ANALYZE title_progress"
+        );
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Nested;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -421,4 +422,94 @@ class EpisodeTest {
             assertThat(episode.getUpdatedAt()).isAfterOrEqualTo(originalUpdatedAt);
         }
     }
+
+    @Nested
+    @DisplayName("変更の追跡")
+    class ChangeTracking {
+
+        @Test
+        @DisplayName("読み込み後に追加・削除された視聴ページURLと視聴履歴だけが変更として記録される")
+        void shouldTrackAddedAndRemovedChildren() {
+            // Given: 永続化済みの状態（コンストラクタに渡した子要素は変更として扱わない）
+            ViewingRecord existing = ViewingRecord.create(1L, 1L, LocalDateTime.now().minusDays(1), 4, null);
+            Episode episode = new Episode(1L, 1L, "第1話",
+                    List.of(new WatchPageUrl("https://example.com/a"), new WatchPageUrl("https://example.com/b")),
+                    WatchStatus.WATCHED, List.of(existing), LocalDateTime.now(), LocalDateTime.now());
+            ViewingRecord added = ViewingRecord.create(2L, 1L, LocalDateTime.now().minusHours(1), 5, null);
+
+            // When
+            episode.replaceWatchPageUrls(List.of(new WatchPageUrl("https://example.com/b"), new WatchPageUrl("https://example.com/c")));
+            episode.addViewingRecord(added);
+            episode.removeViewingRecord(existing);
+
+            // Then
+            assertThat(episode.getWatchPageUrls()).extracting(WatchPageUrl::getUrl)
+                    .containsExactly("https://example.com/b", "https://example.com/c");
+            assertThat(episode.getAddedWatchPageUrls()).extracting(WatchPageUrl::getUrl).containsExactly("https://example.com/c");
+            assertThat(episode.getRemovedWatchPageUrls()).extracting(WatchPageUrl::getUrl).containsExactly("https://example.com/a");
+            assertThat(episode.getAddedViewingRecords()).containsExactly(added);
+            assertThat(episode.getRemovedViewingRecords()).containsExactly(existing);
+        }
+
+        @Test
+        @DisplayName("置き換えで並び順だけが変わった場合は並び替えとして記録され、保存後に解除される")
+        void shouldTrackReorderOfWatchPageUrls() {
+            // Given
+            Episode episode = new Episode(1L, 1L, "第1話",
+                    List.of(new WatchPageUrl("https://example.com/a"), new WatchPageUrl("https://example.com/b")),
+                    WatchStatus.UNWATCHED, null, LocalDateTime.now(), LocalDateTime.now());
+
+            // When
+            episode.replaceWatchPageUrls(List.of(new WatchPageUrl("https://example.com/b"), new WatchPageUrl("https://example.com/a")));
+            boolean reordered = episode.isWatchPageUrlsReordered();
+            episode.clearChanges();
+            episode.replaceWatchPageUrls(List.of(new WatchPageUrl("https://example.com/b"), new WatchPageUrl("https://example.com/a"),
+                    new WatchPageUrl("https://example.com/c")));
+
+            // Then
+            assertThat(reordered).isTrue();
+            assertThat(episode.isWatchPageUrlsReordered()).isFalse();
+            assertThat(episode.getWatchPageUrls()).extracting(WatchPageUrl::getUrl)
+                    .containsExactly("https://example.com/b", "https://example.com/a", "https://example.com/c");
+            assertThat(episode.getAddedWatchPageUrls()).extracting(WatchPageUrl::getUrl).containsExactly("https://example.com/c");
+        }
+
+        @Test
+        @DisplayName("追加してから削除した要素（またはその逆）は変更として残らない")
+        void shouldCancelOutAddThenRemove() {
+            // Given
+            Episode episode = new Episode(1L, 1L, "第1話", List.of(new WatchPageUrl("https://example.com/a")),
+                    WatchStatus.UNWATCHED, null, LocalDateTime.now(), LocalDateTime.now());
+            ViewingRecord record = ViewingRecord.create(1L, 1L, LocalDateTime.now().minusHours(1), 5, null);
+
+            // When
+            episode.addWatchPageUrl(new WatchPageUrl("https://example.com/b"));
+            episode.removeWatchPageUrl(new WatchPageUrl("https://example.com/b"));
+            episode.removeWatchPageUrl(new WatchPageUrl("https://example.com/a"));
+            episode.addWatchPageUrl(new WatchPageUrl("https://example.com/a"));
+            episode.addViewingRecord(record);
+            episode.removeViewingRecord(record);
+
+            // Then
+            assertThat(episode.getAddedWatchPageUrls()).isEmpty();
+            assertThat(episode.getRemovedWatchPageUrls()).isEmpty();
+            assertThat(episode.getAddedViewingRecords()).isEmpty();
+            assertThat(episode.getRemovedViewingRecords()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("clearChanges() で記録された変更が消える")
+        void shouldClearChanges() {
+            // Given
+            Episode episode = Episode.create(1L, 1L, "第1話");
+            episode.addWatchPageUrl(new WatchPageUrl("https://example.com/a"));
+
+            // When
+            episode.clearChanges();
+
+            // Then
+            assertThat(episode.getAddedWatchPageUrls()).isEmpty();
+            assertThat(episode.getWatchPageUrls()).hasSize(1);
+        }
+    }
 }
@@ -0,0 +1,334 @@
+package com.example.videowatchlog.infrastructure.persistence;
+
+import com.example.videowatchlog.domain.model.Episode;
+import com.example.videowatchlog.domain.model.ViewingRecord;
+import com.example.videowatchlog.domain.model.WatchPageUrl;
+import com.example.videowatchlog.domain.repository.EpisodeCompletion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("EpisodeRepositoryImpl 統合テスト")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional
+@Import({EpisodeRepositoryImpl.class, MyBatisBatchWriter.class, SqlStatementCounter.class})
+class EpisodeRepositoryImplTest {
+
+    @Autowired
+    private EpisodeRepositoryImpl episodeRepository;
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanDatabase() {
+        jdbcTemplate.execute("TRUNCATE TABLE viewing_records, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE");
+        jdbcTemplate.update("INSERT INTO titles (id, name) VALUES (1, '名探偵コナン')");
+        jdbcTemplate.update("INSERT INTO series (id, title_id, name) VALUES (1, 1, ''), (2, 1, '劇場版')");
+    }
+
+    @ParameterizedTest(name = "エピソード {0} 件")
+    @ValueSource(ints = {1, 10, 1000})
+    @DisplayName("findBySeriesId はエピソード件数に関わらず3ステートメントで子要素まで読み込む")
+    void findBySeriesIdShouldIssueConstantNumberOfStatements(int episodeCount) {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) "
+                + "SELECT n, 1, '第' || n || '話', 'WATCHED' FROM generate_series(1, ?) n", episodeCount);
+        jdbcTemplate.update("INSERT INTO watch_page_urls (episode_id, url) "
+                + "SELECT id, 'https://example.com/watch/' || id FROM episodes");
+        jdbcTemplate.update("INSERT INTO viewing_records (episode_id, watched_at, rating) "
+                + "SELECT id, NOW() - INTERVAL '1 day', 4 FROM episodes");
+        statementCounter.reset();
+
+        // Act
+        List<Episode> episodes = episodeRepository.findBySeriesId(1L);
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(3);
+        assertThat(episodes).hasSize(episodeCount);
+        assertThat(episodes).allSatisfy(episode -> {
+            assertThat(episode.getWatchPageUrls()).hasSize(1);
+            assertThat(episode.getViewingRecords()).hasSize(1);
+        });
+    }
+
+    @Test
+    @DisplayName("子要素は所属するエピソードに振り分けられ、URLは登録順・視聴履歴は新しい順になる")
+    void shouldAssignChildrenToOwningEpisode() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES "
+                + "(1, 1, '第1話', 'WATCHED'), (2, 1, '第2話', 'UNWATCHED'), (3, 2, '劇場版', 'WATCHED')");
+        jdbcTemplate.update("INSERT INTO watch_page_urls (episode_id, url) VALUES "
+                + "(1, 'https://example.com/ep1/b'), (1, 'https://example.com/ep1/a'), (3, 'https://example.com/movie')");
+        jdbcTemplate.update("INSERT INTO viewing_records (id, episode_id, watched_at, rating, recorded_at) VALUES "
+                + "(10, 1, '2024-01-01 20:00', 3, '2024-01-01 21:00'), "
+                + "(11, 1, '2024-02-01 20:00', 5, '2024-02-01 21:00'), "
+                + "(12, 3, '2024-03-01 20:00', 4, '2024-03-01 21:00')");
+
+        // Act
+        List<Episode> episodes = episodeRepository.findBySeriesId(1L);
+
+        // Assert
+        assertThat(episodes).extracting(Episode::getId).containsExactly(1L, 2L);
+        Episode first = episodes.get(0);
+        assertThat(first.getWatchPageUrls()).extracting(WatchPageUrl::getUrl)
+                .containsExactly("https://example.com/ep1/b", "https://example.com/ep1/a");
+        assertThat(first.getViewingRecords()).extracting(ViewingRecord::getId).containsExactly(11L, 10L);
+        Episode second = episodes.get(1);
+        assertThat(second.getWatchPageUrls()).isEmpty();
+        assertThat(second.getViewingRecords()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("エピソードが存在しないシリーズでは子要素のクエリを発行しない")
+    void shouldNotQueryChildrenForEmptySeries() {
+        // Arrange
+        statementCounter.reset();
+
+        // Act
+        List<Episode> episodes = episodeRepository.findBySeriesId(2L);
+
+        // Assert
+        assertThat(episodes).isEmpty();
+        assertThat(statementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("エピソードの作成・視聴完了・視聴記録の追加と削除・エピソードの削除が同じトランザクションで title_progress に反映される")
+    void saveAndDeleteShouldMaintainTitleProgress() {
+        // Arrange
+        LocalDateTime firstWatchedAt = LocalDateTime.of(2024, 1, 1, 20, 0);
+        LocalDateTime secondWatchedAt = LocalDateTime.of(2024, 2, 1, 20, 0);
+
+        // Act & Assert: CreateEpisodeUseCase
+        episodeRepository.save(Episode.create(1L, 1L, "第1話"));
+        episodeRepository.save(Episode.create(2L, 2L, "劇場版"));
+        assertThat(progress()).isEqualTo("2/0/0/0/null");
+
+        // Act & Assert: CompleteEpisodeUseCase
+        Episode episode = episodeRepository.findById(1L).orElseThrow();
+        episode.markAsWatched();
+        episode.addViewingRecord(ViewingRecord.create(10L, 1L, firstWatchedAt, 3, null));
+        episodeRepository.save(episode);
+        assertThat(progress()).isEqualTo("2/1/1/3/2024-01-01 20:00:00");
+
+        // Act & Assert: AddViewingRecordUseCase
+        episode = episodeRepository.findById(1L).orElseThrow();
+        episode.addViewingRecord(ViewingRecord.create(11L, 1L, secondWatchedAt, 5, null));
+        episodeRepository.save(episode);
+        assertThat(progress()).isEqualTo("2/1/2/8/2024-02-01 20:00:00");
+
+        // Act & Assert: DeleteViewingRecordUseCase（最新の記録を削除すると最終視聴日時が戻る）
+        episode = episodeRepository.findById(1L).orElseThrow();
+        episode.removeViewingRecord(episode.getViewingRecords().stream()
+                .filter(record -> record.getId().equals(11L))
+                .findFirst()
+                .orElseThrow());
+        episodeRepository.save(episode);
+        assertThat(progress()).isEqualTo("2/1/1/3/2024-01-01 20:00:00");
+
+        // Act & Assert: DeleteEpisodeUseCase（視聴記録はカスケード削除される）
+        episodeRepository.delete(1L);
+        assertThat(progress()).isEqualTo("1/0/0/0/null");
+    }
+
+    @ParameterizedTest(name = "既存の視聴記録 {0} 件")
+    @ValueSource(ints = {1, 1000})
+    @DisplayName("save は追加・削除された子要素だけを書き込み、ステートメント数は既存の子要素の件数に依存しない")
+    void saveShouldWriteOnlyChangedChildren(int existingRecords) {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES (1, 1, '第1話', 'WATCHED')");
+        jdbcTemplate.update("INSERT INTO watch_page_urls (episode_id, url) VALUES "
+                + "(1, 'https://example.com/a'), (1, 'https://example.com/b')");
+        jdbcTemplate.update("INSERT INTO viewing_records (id, episode_id, watched_at, rating) "
+                + "SELECT n, 1, TIMESTAMP '2024-01-01' + n * INTERVAL '1 minute', 3 FROM generate_series(1, ?) n", existingRecords);
+        Episode episode = episodeRepository.findById(1L).orElseThrow();
+        episode.addViewingRecord(ViewingRecord.create(100000L, 1L, LocalDateTime.of(2024, 6, 1, 20, 0), 5, null));
+        episode.replaceWatchPageUrls(List.of(new WatchPageUrl("https://example.com/b"), new WatchPageUrl("https://example.com/c")));
+        statementCounter.reset();
+
+        // Act
+        episodeRepository.save(episode);
+        int firstSaveCount = statementCounter.count();
+        statementCounter.reset();
+        episodeRepository.save(episode);
+
+        // Assert: エピソード 1 + URLの削除 1 + URLの挿入 1 + 視聴記録の挿入 1、変更のない再保存はエピソードのみ
+        assertThat(firstSaveCount).isEqualTo(4);
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT url FROM watch_page_urls WHERE episode_id = 1 ORDER BY id", String.class))
+                .containsExactly("https://example.com/b", "https://example.com/c");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM viewing_records WHERE episode_id = 1", Integer.class))
+                .isEqualTo(existingRecords + 1);
+    }
+
+    @Test
+    @DisplayName("save は視聴ページURLの並び順の変更を保存する")
+    void saveShouldPersistReorderedWatchPageUrls() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES (1, 1, '第1話', 'UNWATCHED')");
+        jdbcTemplate.update("INSERT INTO watch_page_urls (episode_id, url) VALUES "
+                + "(1, 'https://example.com/a'), (1, 'https://example.com/b'), (1, 'https://example.com/c')");
+        Episode episode = episodeRepository.findById(1L).orElseThrow();
+        episode.replaceWatchPageUrls(List.of(new WatchPageUrl("https://example.com/c"), new WatchPageUrl("https://example.com/a"),
+                new WatchPageUrl("https://example.com/d")));
+        statementCounter.reset();
+
+        // Act
+        episodeRepository.save(episode);
+
+        // Assert: エピソード 1 + URLの削除 1 + URLの挿入 1
+        assertThat(statementCounter.count()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("SELECT url FROM watch_page_urls WHERE episode_id = 1 ORDER BY id", String.class))
+                .containsExactly("https://example.com/c", "https://example.com/a", "https://example.com/d");
+    }
+
+    @Test
+    @DisplayName("save は削除された複数の視聴記録を1ステートメントで削除する")
+    void saveShouldDeleteRemovedRecordsInSingleStatement() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES (1, 1, '第1話', 'WATCHED')");
+        jdbcTemplate.update("INSERT INTO viewing_records (id, episode_id, watched_at, rating) VALUES "
+                + "(1, 1, '2024-01-01 20:00', 3), (2, 1, '2024-01-02 20:00', 4), (3, 1, '2024-01-03 20:00', 5)");
+        Episode episode = episodeRepository.findById(1L).orElseThrow();
+        List<ViewingRecord> records = episode.getViewingRecords();
+        records.stream().filter(record -> record.getId() != 2L).forEach(episode::removeViewingRecord);
+        statementCounter.reset();
+
+        // Act
+        episodeRepository.save(episode);
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM viewing_records", Long.class)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("addAll は新規のエピソードを子要素まで含めて、件数に関わらず3ステートメントで保存する")
+    void addAllShouldInsertEpisodesWithChildrenInBatches() {
+        // Arrange
+        List<Episode> episodes = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            Episode episode = Episode.create(id, 1L, "第" + id + "話");
+            episode.addWatchPageUrl(new WatchPageUrl("https://example.com/" + id + "/b"));
+            episode.addWatchPageUrl(new WatchPageUrl("https://example.com/" + id + "/a"));
+            episode.markAsWatched();
+            episode.addViewingRecord(ViewingRecord.create(id, id, LocalDateTime.of(2024, 1, 1, 20, 0), 4, null));
+            episodes.add(episode);
+        }
+        statementCounter.reset();
+
+        // Act
+        episodeRepository.addAll(episodes);
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(3);
+        assertThat(episodes).allSatisfy(episode -> {
+            assertThat(episode.getAddedWatchPageUrls()).isEmpty();
+            assertThat(episode.getAddedViewingRecords()).isEmpty();
+        });
+        assertThat(progress()).isEqualTo("500/500/500/2000/2024-01-01 20:00:00");
+        Episode reloaded = episodeRepository.findById(250L).orElseThrow();
+        assertThat(reloaded.getWatchPageUrls()).extracting(WatchPageUrl::getUrl)
+                .containsExactly("https://example.com/250/b", "https://example.com/250/a");
+        assertThat(reloaded.getViewingRecords()).extracting(ViewingRecord::getRating).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("addAll の JDBC バッチで制約違反になった場合は Spring の DataIntegrityViolationException に変換する")
+    void addAllShouldTranslateBatchFailure() {
+        // Arrange: 失敗したバッチの後もテストのトランザクションを使えるよう、セーブポイントまで戻す
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES (1, 1, '第1話', 'UNWATCHED')");
+        jdbcTemplate.execute("SAVEPOINT before_failure");
+
+        // Act & Assert: 既存のIDで挿入して主キー制約違反にする
+        assertThatThrownBy(() -> episodeRepository.addAll(List.of(Episode.create(2L, 1L, "第2話"), Episode.create(1L, 1L, "重複"))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        jdbcTemplate.execute("ROLLBACK TO SAVEPOINT before_failure");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM episodes", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("markAllAsWatched は未視聴のエピソードだけを1ステートメントで視聴済みにし、視聴記録を作成する")
+    void markAllAsWatchedShouldCompleteOnlyUnwatchedEpisodes() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES "
+                + "(1, 1, '第1話', 'UNWATCHED'), (2, 1, '第2話', 'WATCHED'), (3, 2, '劇場版', 'UNWATCHED')");
+        jdbcTemplate.update("INSERT INTO viewing_records (id, episode_id, watched_at, rating) VALUES (1, 2, '2024-01-01 20:00', 3)");
+        LocalDateTime watchedAt = LocalDateTime.of(2024, 2, 1, 20, 0);
+        statementCounter.reset();
+
+        // Act
+        List<EpisodeCompletion> completions = episodeRepository.markAllAsWatched(List.of(
+                ViewingRecord.create(10L, 1L, watchedAt, 5, "一気見"),
+                ViewingRecord.create(11L, 2L, watchedAt, 5, null),
+                ViewingRecord.create(12L, 3L, watchedAt, 4, null),
+                ViewingRecord.create(13L, 99L, watchedAt, 4, null)));
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(completions)
+                .extracting(EpisodeCompletion::getEpisodeId, EpisodeCompletion::getTitleId, EpisodeCompletion::getOutcome)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, 1L, EpisodeCompletion.Outcome.COMPLETED),
+                        tuple(2L, 1L, EpisodeCompletion.Outcome.ALREADY_WATCHED),
+                        tuple(3L, 1L, EpisodeCompletion.Outcome.COMPLETED),
+                        tuple(99L, null, EpisodeCompletion.Outcome.NOT_FOUND));
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM episodes WHERE watch_status = 'WATCHED' ORDER BY id", Long.class))
+                .containsExactly(1L, 2L, 3L);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM viewing_records ORDER BY id", Long.class))
+                .containsExactly(1L, 10L, 12L);
+        assertThat(episodeRepository.findById(1L).orElseThrow().getViewingRecords())
+                .extracting(ViewingRecord::getComment).containsExactly("一気見");
+        assertThat(progress()).isEqualTo("3/3/3/12/2024-02-01 20:00:00");
+    }
+
+    @Test
+    @DisplayName("シリーズの削除でカスケード削除されたエピソード・視聴記録も title_progress から除かれる")
+    void seriesDeleteShouldRecountTitleProgress() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES "
+                + "(1, 1, '第1話', 'WATCHED'), (2, 2, '劇場版', 'WATCHED')");
+        jdbcTemplate.update("INSERT INTO viewing_records (episode_id, watched_at, rating) VALUES "
+                + "(1, '2024-01-01 20:00', 2), (2, '2024-03-01 20:00', 4)");
+        assertThat(progress()).isEqualTo("2/2/2/6/2024-03-01 20:00:00");
+
+        // Act
+        jdbcTemplate.update("DELETE FROM series WHERE id = 2");
+
+        // Assert
+        assertThat(progress()).isEqualTo("1/1/1/2/2024-01-01 20:00:00");
+    }
+
+    /**
+     * タイトル1の title_progress を "エピソード数/視聴済み/視聴記録数/評価の合計/最終視聴日時" で返す
+     */
+    private String progress() {
+        return jdbcTemplate.queryForObject(
+                "SELECT (unwatched_episodes + watched_episodes) || '/' || watched_episodes || '/' || viewing_records "
+                        + "|| '/' || rating_sum || '/' || COALESCE(CAST(last_watched_at AS TEXT), 'null') "
+                        + "FROM title_progress WHERE title_id = 1",
+                String.class);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.videowatchlog.infrastructure.persistence;
+
+import com.example.videowatchlog.config.MyBatisMetricsConfig;
+import com.example.videowatchlog.domain.model.Title;
+import com.example.videowatchlog.infrastructure.persistence.entity.TitleEntity;
+import com.example.videowatchlog.infrastructure.persistence.readmodel.EpisodeReadMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MyBatisStatementMetricsInterceptor 統合テスト")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional
+@Import({MyBatisMetricsConfig.class, MyBatisStatementMetricsInterceptorTest.MetricsConfig.class})
+class MyBatisStatementMetricsInterceptorTest {
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TitleMapper titleMapper;
+
+    @Autowired
+    private EpisodeReadMapper episodeReadMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlSessionTemplate sqlSessionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE TABLE viewing_records, watch_page_urls, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE");
+        jdbcTemplate.update("INSERT INTO titles (id, name) VALUES (1, '進撃の巨人'), (2, '鬼滅の刃'), (3, '呪術廻戦')");
+        jdbcTemplate.update("INSERT INTO series (id, title_id, name) VALUES (1, 1, '')");
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES (1, 1, '第1話', 'WATCHED')");
+        jdbcTemplate.update("INSERT INTO watch_page_urls (episode_id, url) VALUES "
+                + "(1, 'https://example.com/a'), (1, 'https://example.com/b')");
+    }
+
+    @Test
+    @DisplayName("クエリの実行時間と返した行数をステートメントIDごとに記録する")
+    void shouldRecordQueryTimeAndRows() {
+        // Act
+        titleMapper.findAll();
+        sqlSessionTemplate.clearCache();
+        titleMapper.findAll();
+
+        // Assert
+        Timer timer = meterRegistry.get(MyBatisStatementMetricsInterceptor.TIMER_NAME)
+                .tags("statement", "TitleMapper.findAll", "command", "select", "outcome", "success")
+                .timer();
+        DistributionSummary rows = meterRegistry.get(MyBatisStatementMetricsInterceptor.ROWS_NAME)
+                .tags("statement", "TitleMapper.findAll", "command", "select")
+                .summary();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+        assertThat(rows.count()).isEqualTo(2);
+        assertThat(rows.max()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("ResultHandler で受け取るクエリは handler に渡された行を数え、handler にはすべての行が渡る")
+    void shouldCountRowsPassedToResultHandler() {
+        // Arrange
+        int[] handled = new int[1];
+
+        // Act
+        episodeReadMapper.findEpisodeDetailById(1L, context -> handled[0]++);
+
+        // Assert: エピソード 1 + URL 2
+        assertThat(handled[0]).isEqualTo(3);
+        DistributionSummary rows = meterRegistry.get(MyBatisStatementMetricsInterceptor.ROWS_NAME)
+                .tags("statement", "EpisodeReadMapper.findEpisodeDetailById")
+                .summary();
+        assertThat(rows.totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("更新系のステートメントは更新した行数を記録する")
+    void shouldRecordAffectedRows() {
+        // Act
+        titleMapper.delete(3L);
+
+        // Assert
+        assertThat(meterRegistry.get(MyBatisStatementMetricsInterceptor.TIMER_NAME)
+                .tags("statement", "TitleMapper.delete", "command", "delete", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MyBatisStatementMetricsInterceptor.ROWS_NAME)
+                .tags("statement", "TitleMapper.delete")
+                .summary().totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("失敗した実行は outcome=error で記録し、例外はそのまま送出する")
+    void shouldRecordFailure() {
+        // Arrange: 失敗したステートメントの後もテストのトランザクションを使えるよう、セーブポイントまで戻す
+        jdbcTemplate.execute("SAVEPOINT before_failure");
+
+        // Act: 既存のIDで挿入して主キー制約違反にする
+        assertThatThrownBy(() -> titleMapper.insert(TitleEntity.fromDomain(Title.create(1L, "重複"))))
+                .isInstanceOf(RuntimeException.class);
+        jdbcTemplate.execute("ROLLBACK TO SAVEPOINT before_failure");
+
+        // Assert
+        assertThat(meterRegistry.get(MyBatisStatementMetricsInterceptor.TIMER_NAME)
+                .tags("statement", "TitleMapper.insert", "outcome", "error")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MyBatisStatementMetricsInterceptor.TIMER_NAME)
+                .tags("statement", "TitleMapper.insert", "outcome", "success")
+                .timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("ステートメントIDはパッケージ名を除いた Mapper 名.メソッド名にする")
+    void shouldShortenStatementId() {
+        assertThat(MyBatisStatementMetricsInterceptor.shortStatementId(
+                "com.example.videowatchlog.infrastructure.persistence.readmodel.TitleReadMapper.findTitleDetailById"))
+                .isEqualTo("TitleReadMapper.findTitleDetailById");
+        assertThat(MyBatisStatementMetricsInterceptor.shortStatementId("findAll")).isEqualTo("findAll");
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.videowatchlog.infrastructure.persistence;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SqlStatementCounter - 発行された SQL ステートメント数を数えるテスト用ユーティリティ
+ *
+ * DataSource → Connection → Statement を JDK Proxy でラップし、
+ * execute 系メソッド（executeBatch は1回のラウンドトリップとして1件）の呼び出し回数を数えます。
+ * MyBatis と JdbcTemplate の両方が対象になります。
+ *
+ * 使い方: テストクラスに {@code @Import(SqlStatementCounter.class)} を付与し、
+ * Act の直前に {@link #reset()} を呼び出してから {@link #count()} を検証します。
+ */
+public class SqlStatementCounter implements BeanPostProcessor {
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * カウンタを0に戻します
+     */
+    public void reset() {
+        count.set(0);
+    }
+
+    /**
+     * 直近の {@link #reset()} 以降に実行されたステートメント数を返します
+     * @return 実行されたステートメント数
+     */
+    public int count() {
+        return count.get();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return wrap(dataSource, DataSource.class, (proxy, method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                if (result instanceof Connection connection) {
+                    return wrapConnection(connection);
+                }
+                return result;
+            });
+        }
+        return bean;
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return wrap(connection, Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(statement, CallableStatement.class);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(statement, PreparedStatement.class);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(statement, Statement.class);
+            }
+            return result;
+        });
+    }
+
+    private <T extends Statement> T wrapStatement(T statement, Class<T> type) {
+        return wrap(statement, type, (proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                count.incrementAndGet();
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T wrap(T target, Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,463 @@
+package com.example.videowatchlog.infrastructure.persistence;
+
+import com.example.videowatchlog.domain.model.Title;
+import com.example.videowatchlog.domain.model.TitleInfoUrl;
+import com.example.videowatchlog.domain.model.WatchStatus;
+import com.example.videowatchlog.domain.repository.TitleSearchHit;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TitleRepositoryImpl 統合テスト")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional
+@Import({TitleRepositoryImpl.class, SqlStatementCounter.class})
+class TitleRepositoryImplTest {
+
+    @Autowired
+    private TitleRepositoryImpl titleRepository;
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private SqlSessionTemplate sqlSessionTemplate;
+
+    @BeforeEach
+    void cleanDatabase() {
+        jdbcTemplate.execute("TRUNCATE TABLE viewing_records, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE");
+    }
+
+    @ParameterizedTest(name = "タイトル {0} 件")
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("findAll はタイトル件数に関わらず2ステートメントで TitleInfoUrl まで読み込む")
+    void findAllShouldIssueConstantNumberOfStatements(int titleCount) {
+        // Arrange
+        insertTitlesWithUrls(titleCount, 3);
+        statementCounter.reset();
+
+        // Act
+        List<Title> titles = titleRepository.findAll();
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(2);
+        assertThat(titles).hasSize(titleCount);
+        assertThat(titles).allSatisfy(title -> assertThat(title.getTitleInfoUrls()).hasSize(3));
+    }
+
+    @ParameterizedTest(name = "タイトル {0} 件")
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("search はタイトル件数に関わらず2ステートメントで TitleInfoUrl まで読み込む")
+    void searchShouldIssueConstantNumberOfStatements(int titleCount) {
+        // Arrange
+        insertTitlesWithUrls(titleCount, 2);
+        jdbcTemplate.update("INSERT INTO series (id, title_id, name, created_at, updated_at) "
+                + "SELECT id, id, '', NOW(), NOW() FROM titles");
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status, created_at, updated_at) "
+                + "SELECT id, id, '第1話', 'UNWATCHED', NOW(), NOW() FROM series");
+        statementCounter.reset();
+
+        // Act
+        List<TitleSearchHit> hits = titleRepository.search("タイトル", WatchStatus.UNWATCHED, null, null, null, 1000);
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(2);
+        assertThat(hits).hasSize(titleCount);
+        assertThat(hits).allSatisfy(hit -> assertThat(hit.getTitle().getTitleInfoUrls()).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("search は (createdAt, id) のキーセットで重複・欠落なくページングできる")
+    void searchShouldPaginateByKeyset() {
+        // Arrange: 同じ作成日時のタイトルを含めて 7 件
+        jdbcTemplate.update("INSERT INTO titles (id, name, created_at, updated_at) "
+                + "SELECT n, 'タイトル' || n, TIMESTAMP '2024-01-01' + (n / 3) * INTERVAL '1 day', NOW() "
+                + "FROM generate_series(1, 7) n");
+        insertEpisodesForAllTitles();
+
+        // Act
+        List<Long> ids = searchAllPages("タイトル", 3);
+
+        // Assert
+        assertThat(ids).containsExactly(7L, 6L, 5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("search は部分一致を類似（タイプミス）より上位に並べ、しきい値未満のタイトルは返さない")
+    void searchShouldRankSubstringMatchesAboveSimilarTitles() {
+        // Arrange
+        insertTitle(1L, "Shingeki no Kyojin");
+        insertTitle(2L, "Shingeky no Kyojin");
+        insertTitle(3L, "Kimetsu no Yaiba");
+        insertTitle(4L, "SHINGEKI");
+        insertEpisodesForAllTitles();
+
+        // Act
+        List<TitleSearchHit> hits = titleRepository.search("shingeki", null, null, null, null, 10);
+
+        // Assert: 部分一致（大文字小文字区別なし）の 4, 1 → 類似の 2 の順
+        assertThat(hits).extracting(hit -> hit.getTitle().getId()).containsExactly(4L, 1L, 2L);
+        assertThat(hits.get(0).getRank()).isGreaterThanOrEqualTo(1.0f);
+        assertThat(hits.get(1).getRank()).isGreaterThanOrEqualTo(1.0f);
+        assertThat(hits.get(2).getRank()).isLessThan(1.0f);
+    }
+
+    @Test
+    @DisplayName("searchSimilar は search の類似の部分だけを同じ rank・順序でキーセットページングする")
+    void searchSimilarShouldReturnOnlySimilarPartOfSearch() {
+        // Arrange: 部分一致 2 件と類似 3 件
+        insertTitle(1L, "Shingeki no Kyojin");
+        insertTitle(2L, "SHINGEKI");
+        insertTitle(3L, "Shingeky no Kyojin");
+        insertTitle(4L, "Shingeky");
+        insertTitle(5L, "Shingek no Kyojin");
+        insertEpisodesForAllTitles();
+        List<TitleSearchHit> expected = titleRepository.search("shingeki", null, null, null, null, 10).stream()
+                .filter(hit -> hit.getRank() < 1.0f)
+                .toList();
+
+        // Act
+        List<TitleSearchHit> first = titleRepository.searchSimilar("shingeki", null, null, null, 2);
+        TitleSearchHit last = first.get(first.size() - 1);
+        List<TitleSearchHit> second = titleRepository.searchSimilar(
+                "shingeki", last.getRank(), last.getTitle().getCreatedAt(), last.getTitle().getId(), 2);
+
+        // Assert
+        assertThat(expected).hasSize(3);
+        assertThat(Stream.concat(first.stream(), second.stream()))
+                .extracting(hit -> hit.getTitle().getId(), TitleSearchHit::getRank)
+                .containsExactlyElementsOf(expected.stream()
+                        .map(hit -> tuple(hit.getTitle().getId(), hit.getRank()))
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("search は日本語のタイトルも類似で検索できる")
+    void searchShouldFindSimilarJapaneseTitles() {
+        // Arrange
+        insertTitle(1L, "進撃の巨人");
+        insertTitle(2L, "鬼滅の刃");
+        insertEpisodesForAllTitles();
+
+        // Act
+        List<TitleSearchHit> hits = titleRepository.search("進撃の巨入", null, null, null, null, 10);
+
+        // Assert
+        assertThat(hits).extracting(hit -> hit.getTitle().getName()).containsExactly("進撃の巨人");
+    }
+
+    @Test
+    @DisplayName("類似度のしきい値と計画キャッシュの設定は接続初期化 SQL で適用される")
+    void connectionShouldBeInitializedForTitleSearch() {
+        // Act & Assert
+        assertThat(jdbcTemplate.queryForObject("SHOW pg_trgm.word_similarity_threshold", String.class)).isEqualTo("0.5");
+        assertThat(jdbcTemplate.queryForObject("SHOW plan_cache_mode", String.class)).isEqualTo("force_custom_plan");
+    }
+
+    @Test
+    @DisplayName("search は検索クエリ中の % と _ を文字として部分一致させる")
+    void searchShouldTreatLikeWildcardsLiterally() {
+        // Arrange
+        insertTitle(1L, "a_c");
+        insertTitle(2L, "abc");
+        insertTitle(3L, "100% Orange");
+        insertTitle(4L, "1000 Oranges");
+        insertEpisodesForAllTitles();
+
+        // Act
+        List<TitleSearchHit> underscoreHits = titleRepository.search("a_c", null, null, null, null, 10);
+        List<TitleSearchHit> percentHits = titleRepository.search("0% o", null, null, null, null, 10);
+
+        // Assert
+        assertThat(underscoreHits).extracting(hit -> hit.getTitle().getId()).containsExactly(1L);
+        assertThat(percentHits).filteredOn(hit -> hit.getRank() >= 1.0f)
+                .extracting(hit -> hit.getTitle().getId()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("search は (rank, createdAt, id) のキーセットで部分一致と類似をまたいで重複・欠落なくページングできる")
+    void searchShouldPaginateAcrossRanksByKeyset() {
+        // Arrange: 部分一致 5 件（名前の長さで rank が異なる）と類似 3 件
+        jdbcTemplate.update("INSERT INTO titles (id, name, created_at, updated_at) "
+                + "SELECT n, 'Frieren' || repeat(' extra', n % 3), TIMESTAMP '2024-01-01' + (n / 2) * INTERVAL '1 day', NOW() "
+                + "FROM generate_series(1, 5) n");
+        jdbcTemplate.update("INSERT INTO titles (id, name, created_at, updated_at) "
+                + "SELECT n, 'Frieran' || repeat(' extra', n % 2), TIMESTAMP '2024-01-01', NOW() "
+                + "FROM generate_series(6, 8) n");
+        insertEpisodesForAllTitles();
+        List<Long> expected = titleRepository.search("frieren", null, null, null, null, 100).stream()
+                .map(hit -> hit.getTitle().getId())
+                .toList();
+
+        // Act
+        List<Long> ids = searchAllPages("frieren", 2);
+
+        // Assert
+        assertThat(expected).hasSize(8);
+        assertThat(ids).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("search は watchStatus を指定しなければエピソードのないタイトルも返す")
+    void searchShouldReturnTitlesWithoutEpisodes() {
+        // Arrange
+        insertTitle(1L, "エピソードあり");
+        insertTitle(2L, "エピソードなし");
+        insertSeries(1L, 1L);
+        insertEpisode(1L, 1L, WatchStatus.UNWATCHED);
+
+        // Act
+        List<Long> all = searchIds(null, null);
+        List<Long> unwatched = searchIds(null, WatchStatus.UNWATCHED);
+
+        // Assert
+        assertThat(all).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(unwatched).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("search の watchStatus フィルタはエピソードの追加・視聴状態の変更・削除・シリーズの削除に追従する")
+    void searchShouldFollowWatchStatusRollup() {
+        // Arrange
+        insertTitle(1L, "タイトル1");
+        insertTitle(2L, "タイトル2");
+        insertSeries(1L, 1L);
+        insertSeries(2L, 1L);
+        insertSeries(3L, 2L);
+        insertEpisode(1L, 1L, WatchStatus.UNWATCHED);
+        insertEpisode(2L, 2L, WatchStatus.WATCHED);
+        insertEpisode(3L, 3L, WatchStatus.UNWATCHED);
+
+        // Act & Assert
+        assertThat(searchIds(null, WatchStatus.WATCHED)).containsExactly(1L);
+        assertThat(searchIds(null, WatchStatus.UNWATCHED)).containsExactlyInAnyOrder(1L, 2L);
+
+        jdbcTemplate.update("UPDATE episodes SET watch_status = 'WATCHED' WHERE id IN (1, 3)");
+        assertThat(searchIds(null, WatchStatus.WATCHED)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(searchIds(null, WatchStatus.UNWATCHED)).isEmpty();
+
+        jdbcTemplate.update("DELETE FROM episodes WHERE id = 3");
+        jdbcTemplate.update("DELETE FROM series WHERE id = 2");
+        assertThat(searchIds(null, WatchStatus.WATCHED)).containsExactly(1L);
+
+        jdbcTemplate.update("DELETE FROM series WHERE id = 1");
+        assertThat(searchIds(null, WatchStatus.WATCHED)).isEmpty();
+        assertThat(searchIds("タイトル", null)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("watchStatus を指定した search の実行計画は episodes を読まず、title_progress だけで判定する")
+    void searchWithWatchStatusShouldNotReadEpisodes() {
+        // Arrange
+        insertTitle(1L, "タイトル1");
+
+        // Act
+        List<String> listPlan = explainSearch(null, WatchStatus.WATCHED);
+        List<String> queryPlan = explainSearch("タイトル", WatchStatus.UNWATCHED);
+
+        // Assert
+        assertThat(String.join("\n", listPlan)).contains("title_progress").doesNotContain("episodes");
+        assertThat(String.join("\n", queryPlan)).contains("title_progress").doesNotContain("episodes");
+    }
+
+    @Test
+    @DisplayName("TitleInfoUrl は各タイトルに正しく振り分けられ、登録順が保持される")
+    void shouldAssignTitleInfoUrlsToOwningTitle() {
+        // Arrange
+        insertTitle(1L, "進撃の巨人");
+        insertTitle(2L, "鬼滅の刃");
+        insertTitle(3L, "URLなし");
+        insertUrl(1L, "https://example.com/shingeki/2");
+        insertUrl(2L, "https://example.com/kimetsu");
+        insertUrl(1L, "https://example.com/shingeki/1");
+
+        // Act
+        List<Title> titles = titleRepository.findAll();
+
+        // Assert
+        assertThat(titles).extracting(Title::getId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(urlsOf(titles, 1L)).containsExactly("https://example.com/shingeki/2", "https://example.com/shingeki/1");
+        assertThat(urlsOf(titles, 2L)).containsExactly("https://example.com/kimetsu");
+        assertThat(urlsOf(titles, 3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findById は2ステートメントで TitleInfoUrl まで読み込む")
+    void findByIdShouldLoadTitleInfoUrls() {
+        // Arrange
+        insertTitle(1L, "進撃の巨人");
+        insertUrl(1L, "https://example.com/shingeki");
+        statementCounter.reset();
+
+        // Act
+        Optional<Title> title = titleRepository.findById(1L);
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(2);
+        assertThat(title).isPresent();
+        assertThat(title.get().getTitleInfoUrls()).extracting(TitleInfoUrl::getUrl)
+                .containsExactly("https://example.com/shingeki");
+    }
+
+    @Test
+    @DisplayName("save は存在確認をせず、新規・既存どちらも1ステートメントで保存し、更新では作成日時を変えない")
+    void saveShouldUpsertInSingleStatement() {
+        // Arrange
+        Title title = Title.create(1L, "進撃の巨人");
+        statementCounter.reset();
+
+        // Act
+        titleRepository.save(title);
+        int insertCount = statementCounter.count();
+        Title loaded = titleRepository.findById(1L).orElseThrow();
+        loaded.updateName("進撃の巨人 The Final Season");
+        statementCounter.reset();
+        titleRepository.save(loaded);
+        int updateCount = statementCounter.count();
+
+        // Assert
+        assertThat(insertCount).isEqualTo(1);
+        assertThat(updateCount).isEqualTo(1);
+        sqlSessionTemplate.clearCache();
+        Title saved = titleRepository.findById(1L).orElseThrow();
+        assertThat(saved.getName()).isEqualTo("進撃の巨人 The Final Season");
+        assertThat(saved.getCreatedAt()).isEqualTo(loaded.getCreatedAt());
+        assertThat(saved.getUpdatedAt()).isCloseTo(loaded.getUpdatedAt(), within(1, ChronoUnit.MICROS));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM title_progress WHERE title_id = 1", Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("結果が空の場合は TitleInfoUrl のクエリを発行しない")
+    void shouldNotQueryTitleInfoUrlsForEmptyResult() {
+        // Arrange
+        statementCounter.reset();
+
+        // Act
+        List<Title> titles = titleRepository.findAll();
+        Optional<Title> title = titleRepository.findById(999L);
+
+        // Assert
+        assertThat(titles).isEmpty();
+        assertThat(title).isEmpty();
+        assertThat(statementCounter.count()).isEqualTo(2);
+    }
+
+    private void insertTitlesWithUrls(int titleCount, int urlsPerTitle) {
+        for (long id = 1; id <= titleCount; id++) {
+            insertTitle(id, "タイトル" + id);
+            for (int i = 1; i <= urlsPerTitle; i++) {
+                insertUrl(id, "https://example.com/titles/" + id + "/" + i);
+            }
+        }
+    }
+
+    private void insertEpisodesForAllTitles() {
+        jdbcTemplate.update("INSERT INTO series (id, title_id, name) SELECT id, id, '' FROM titles");
+        jdbcTemplate.update("INSERT INTO episodes (series_id, episode_info, watch_status) "
+                + "SELECT id, '第1話', 'UNWATCHED' FROM series");
+    }
+
+    private List<Long> searchAllPages(String query, int limit) {
+        List<Long> ids = new java.util.ArrayList<>();
+        List<TitleSearchHit> page = titleRepository.search(query, null, null, null, null, limit);
+        while (!page.isEmpty()) {
+            page.forEach(hit -> ids.add(hit.getTitle().getId()));
+            TitleSearchHit last = page.get(page.size() - 1);
+            page = titleRepository.search(query, null,
+                    last.getRank(), last.getTitle().getCreatedAt(), last.getTitle().getId(), limit);
+        }
+        return ids;
+    }
+
+    private List<Long> searchIds(String query, WatchStatus watchStatus) {
+        // JdbcTemplate での変更後に同じ条件で検索するため、テストのトランザクション内の MyBatis のキャッシュを捨てる
+        sqlSessionTemplate.clearCache();
+        return titleRepository.search(query, watchStatus, null, null, null, 100).stream()
+                .map(hit -> hit.getTitle().getId())
+                .toList();
+    }
+
+    /**
+     * TitleMapper.search の SQL を MyBatis で組み立て、同じパラメータで EXPLAIN した結果を返します
+     */
+    private List<String> explainSearch(String query, WatchStatus watchStatus) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("query", query);
+        params.put("pattern", query == null ? null : "%" + query + "%");
+        params.put("watchStatus", watchStatus);
+        params.put("afterRank", null);
+        params.put("afterCreatedAt", null);
+        params.put("afterId", null);
+        params.put("limit", 21);
+        MappedStatement statement = sqlSessionFactory.getConfiguration()
+                .getMappedStatement(TitleMapper.class.getName() + ".search");
+        BoundSql boundSql = statement.getBoundSql(params);
+        return jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement explain = connection.prepareStatement("EXPLAIN " + boundSql.getSql());
+                    new DefaultParameterHandler(statement, params, boundSql).setParameters(explain);
+                    return explain;
+                },
+                (resultSet, rowNum) -> resultSet.getString(1));
+    }
+
+    private void insertSeries(Long id, Long titleId) {
+        jdbcTemplate.update("INSERT INTO series (id, title_id, name) VALUES (?, ?, '')", id, titleId);
+    }
+
+    private void insertEpisode(Long id, Long seriesId, WatchStatus watchStatus) {
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) "
+                + "VALUES (?, ?, '第1話', CAST(? AS watch_status))", id, seriesId, watchStatus.name());
+    }
+
+    private void insertTitle(Long id, String name) {
+        jdbcTemplate.update("INSERT INTO titles (id, name, created_at, updated_at) VALUES (?, ?, NOW(), NOW())", id, name);
+    }
+
+    private void insertUrl(Long titleId, String url) {
+        jdbcTemplate.update("INSERT INTO title_info_urls (title_id, url) VALUES (?, ?)", titleId, url);
+    }
+
+    private List<String> urlsOf(List<Title> titles, Long titleId) {
+        return titles.stream()
+                .filter(title -> title.getId().equals(titleId))
+                .findFirst()
+                .orElseThrow()
+                .getTitleInfoUrls().stream()
+                .map(TitleInfoUrl::getUrl)
+                .toList();
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.videowatchlog.infrastructure.persistence;
+
+import com.example.videowatchlog.domain.model.Title;
+import com.example.videowatchlog.domain.repository.WatchListImportRow;
+import com.example.videowatchlog.domain.repository.WatchListMergeResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WatchListImportRepositoryImpl 統合テスト")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional
+@Import(WatchListImportRepositoryImpl.class)
+class WatchListImportRepositoryImplTest {
+    private static final LocalDateTime WATCHED_AT = LocalDateTime.of(2024, 2, 1, 20, 0);
+
+    @Autowired
+    private WatchListImportRepositoryImpl importRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanDatabase() {
+        jdbcTemplate.execute("TRUNCATE TABLE viewing_records, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE");
+    }
+
+    @Test
+    @DisplayName("新しいタイトル・シリーズ・エピソード・URL・視聴記録を入力順のIDで作成する")
+    void shouldCreateHierarchyFromRows() {
+        // Arrange
+        List<WatchListImportRow> rows = List.of(
+                row(1, "名探偵コナン", "", "第1話", "https://example.com/conan/1", WATCHED_AT, 5, "面白い"),
+                row(2, "名探偵コナン", "", "第2話", null, null, null, null),
+                row(3, "名探偵コナン", "劇場版", "時計じかけの摩天楼", null, WATCHED_AT.minusDays(1), 4, null),
+                row(4, "ワンピース", null, null, null, null, null, null));
+
+        // Act
+        long staged = importRepository.stage(rows.iterator());
+        WatchListMergeResult result = importRepository.merge();
+
+        // Assert
+        assertThat(staged).isEqualTo(4);
+        assertThat(result.getCreatedTitles()).extracting(Title::getName).containsExactly("名探偵コナン", "ワンピース");
+        assertThat(result.getSeriesCreated()).isEqualTo(2);
+        assertThat(result.getEpisodesCreated()).isEqualTo(3);
+        assertThat(result.getWatchPageUrlsAdded()).isEqualTo(1);
+        assertThat(result.getViewingRecordsAdded()).isEqualTo(2);
+        assertThat(result.getTitleIds()).hasSize(2);
+        assertThat(result.getUpdatedEpisodeIds()).isEmpty();
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT s.name || ':' || e.episode_info || ':' || e.watch_status FROM episodes e "
+                        + "JOIN series s ON s.id = e.series_id ORDER BY e.id", String.class))
+                .containsExactly(":第1話:WATCHED", ":第2話:UNWATCHED", "劇場版:時計じかけの摩天楼:WATCHED");
+        assertThat(jdbcTemplate.queryForObject("SELECT comment FROM viewing_records WHERE rating = 5", String.class))
+                .isEqualTo("面白い");
+        Long conanId = result.getCreatedTitles().get(0).getId();
+        assertThat(progress(conanId)).isEqualTo("3/2/2/9/2024-02-01 20:00:00");
+    }
+
+    @Test
+    @DisplayName("既存のタイトル（大文字・小文字を区別しない）・シリーズ・エピソードに追加し、未視聴のエピソードを視聴済みにする")
+    void shouldMergeIntoExistingData() {
+        // Arrange: シーケンスが割り当てる範囲と重ならない ID で既存のデータを作成する
+        jdbcTemplate.update("INSERT INTO titles (id, name) VALUES (9001, 'Breaking Bad')");
+        jdbcTemplate.update("INSERT INTO series (id, title_id, name) VALUES (9001, 9001, 'Season 1')");
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES (9001, 9001, 'Pilot', 'UNWATCHED')");
+        jdbcTemplate.update("INSERT INTO watch_page_urls (episode_id, url) VALUES (9001, 'https://example.com/bb/1')");
+
+        // Act
+        importRepository.stage(List.of(
+                row(1, "breaking bad", "Season 1", "Pilot", "https://example.com/bb/1", WATCHED_AT, 5, null),
+                row(2, "BREAKING BAD", "Season 1", "Pilot", "https://example.com/bb/1-alt", null, null, null),
+                row(3, "Breaking Bad", "Season 1", "Cat's in the Bag...", null, null, null, null)).iterator());
+        WatchListMergeResult result = importRepository.merge();
+
+        // Assert
+        assertThat(result.getCreatedTitles()).isEmpty();
+        assertThat(result.getSeriesCreated()).isZero();
+        assertThat(result.getEpisodesCreated()).isEqualTo(1);
+        assertThat(result.getWatchPageUrlsAdded()).isEqualTo(1);
+        assertThat(result.getViewingRecordsAdded()).isEqualTo(1);
+        assertThat(result.getTitleIds()).containsExactly(9001L);
+        assertThat(result.getUpdatedEpisodeIds()).containsExactly(9001L);
+        assertThat(jdbcTemplate.queryForObject("SELECT watch_status::text FROM episodes WHERE id = 9001", String.class))
+                .isEqualTo("WATCHED");
+        assertThat(jdbcTemplate.queryForList("SELECT url FROM watch_page_urls WHERE episode_id = 9001 ORDER BY id", String.class))
+                .containsExactly("https://example.com/bb/1", "https://example.com/bb/1-alt");
+        assertThat(progress(9001L)).isEqualTo("2/1/1/5/2024-02-01 20:00:00");
+    }
+
+    @Test
+    @DisplayName("同じ行を再度取り込んでもデータは変わらない（同じトランザクション内でも取り込み用のテーブルは作り直される）")
+    void reimportShouldBeIdempotent() {
+        // Arrange
+        List<WatchListImportRow> rows = List.of(
+                row(1, "名探偵コナン", "", "第1話", "https://example.com/conan/1", WATCHED_AT, 5, null),
+                row(2, "名探偵コナン", "", "第1話", "https://example.com/conan/1", WATCHED_AT, 3, "重複"));
+        importRepository.stage(rows.iterator());
+        importRepository.merge();
+        String before = snapshot();
+
+        // Act
+        importRepository.stage(rows.iterator());
+        WatchListMergeResult result = importRepository.merge();
+
+        // Assert
+        assertThat(result.getCreatedTitles()).isEmpty();
+        assertThat(result.getSeriesCreated() + result.getEpisodesCreated()
+                + result.getWatchPageUrlsAdded() + result.getViewingRecordsAdded()).isZero();
+        assertThat(snapshot()).isEqualTo(before).isEqualTo("1/1/1/1/1");
+    }
+
+    @Test
+    @DisplayName("多数の行も1回の COPY で読み込み、ID はブロック単位の予約から重複なく割り当てる")
+    void shouldStageManyRows() {
+        // Arrange
+        Iterator<WatchListImportRow> rows = LongStream.rangeClosed(1, 5000)
+                .mapToObj(n -> row(n, "タイトル" + (n % 100), "", "第" + n + "話",
+                        "https://example.com/" + n, WATCHED_AT.minusMinutes(n), (int) (n % 5) + 1, "\"引用符\", カンマ\n改行"))
+                .iterator();
+
+        // Act
+        long staged = importRepository.stage(rows);
+        WatchListMergeResult result = importRepository.merge();
+
+        // Assert
+        assertThat(staged).isEqualTo(5000);
+        assertThat(result.getCreatedTitles()).hasSize(100);
+        assertThat(result.getEpisodesCreated()).isEqualTo(5000);
+        assertThat(result.getViewingRecordsAdded()).isEqualTo(5000);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT comment) FROM viewing_records", Integer.class))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT comment FROM viewing_records LIMIT 1", String.class))
+                .isEqualTo("\"引用符\", カンマ\n改行");
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(watched_episodes) FROM title_progress", Long.class))
+                .isEqualTo(5000L);
+    }
+
+    private static WatchListImportRow row(long line, String title, String series, String episode, String url,
+                                          LocalDateTime watchedAt, Integer rating, String comment) {
+        return new WatchListImportRow(line, title, series, episode, url, watchedAt, rating, comment);
+    }
+
+    /**
+     * タイトル・シリーズ・エピソード・URL・視聴記録の件数を "/" 区切りで返す
+     */
+    private String snapshot() {
+        return jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM titles) || '/' || (SELECT COUNT(*) FROM series) || '/' "
+                        + "|| (SELECT COUNT(*) FROM episodes) || '/' || (SELECT COUNT(*) FROM watch_page_urls) || '/' "
+                        + "|| (SELECT COUNT(*) FROM viewing_records)",
+                String.class);
+    }
+
+    /**
+     * タイトルの title_progress を "エピソード数/視聴済み/視聴記録数/評価の合計/最終視聴日時" で返す
+     */
+    private String progress(Long titleId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT (unwatched_episodes + watched_episodes) || '/' || watched_episodes || '/' || viewing_records "
+                        + "|| '/' || rating_sum || '/' || COALESCE(CAST(last_watched_at AS TEXT), 'null') "
+                        + "FROM title_progress WHERE title_id = ?",
+                String.class, titleId);
+    }
+}
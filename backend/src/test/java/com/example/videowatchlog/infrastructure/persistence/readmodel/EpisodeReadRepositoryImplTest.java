@@ -0,0 +1,191 @@
+package com.example.videowatchlog.infrastructure.persistence.readmodel;
+
+import com.example.videowatchlog.application.readmodel.EpisodeDetailReadModel;
+import com.example.videowatchlog.application.readmodel.EpisodeReadModel;
+import com.example.videowatchlog.application.readmodel.ViewingRecordReadModel;
+import com.example.videowatchlog.domain.model.WatchStatus;
+import com.example.videowatchlog.infrastructure.persistence.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("EpisodeReadRepositoryImpl 統合テスト")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional
+@Import({EpisodeReadRepositoryImpl.class, SqlStatementCounter.class})
+class EpisodeReadRepositoryImplTest {
+
+    @Autowired
+    private EpisodeReadRepositoryImpl episodeReadRepository;
+
+    @Autowired
+    private EpisodeReadMapper episodeReadMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlSessionTemplate sqlSessionTemplate;
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @BeforeEach
+    void cleanDatabase() {
+        jdbcTemplate.execute("TRUNCATE TABLE viewing_records, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE");
+        jdbcTemplate.update("INSERT INTO titles (id, name) VALUES (1, '進撃の巨人')");
+        jdbcTemplate.update("INSERT INTO series (id, title_id, name) VALUES (1, 1, 'Season 1')");
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES "
+                + "(1, 1, '第1話', 'WATCHED'), (2, 1, '第2話', 'UNWATCHED')");
+    }
+
+    @Test
+    @DisplayName("シリーズ名・タイトル名、視聴ページURLと視聴記録を1ステートメントで取得し、重複なくそれぞれの順序で集約する")
+    void shouldAggregateUrlsAndRecordsWithoutDuplicates() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO watch_page_urls (id, episode_id, url) VALUES "
+                + "(1, 1, 'https://example.com/a'), (2, 1, 'https://example.com/b'), (3, 1, 'https://example.com/c')");
+        jdbcTemplate.update("INSERT INTO viewing_records (id, episode_id, watched_at, rating, comment, recorded_at) VALUES "
+                + "(10, 1, '2024-01-01 20:00', 3, '初回', '2024-01-01 21:00'), "
+                + "(11, 1, '2024-02-01 20:00', 5, NULL, '2024-02-01 21:00')");
+        statementCounter.reset();
+
+        // Act
+        EpisodeDetailReadModel detail = episodeReadRepository.findEpisodeDetailById(1L).orElseThrow();
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(detail.getSeriesName()).isEqualTo("Season 1");
+        assertThat(detail.getTitleId()).isEqualTo(1L);
+        assertThat(detail.getTitleName()).isEqualTo("進撃の巨人");
+        EpisodeReadModel episode = detail.getEpisode();
+        assertThat(episode.getSeriesId()).isEqualTo(1L);
+        assertThat(episode.getEpisodeInfo()).isEqualTo("第1話");
+        assertThat(episode.getWatchStatus()).isEqualTo(WatchStatus.WATCHED);
+        assertThat(episode.getWatchPageUrls())
+                .containsExactly("https://example.com/a", "https://example.com/b", "https://example.com/c");
+        assertThat(episode.getViewingRecords()).extracting(ViewingRecordReadModel::getId).containsExactly(11L, 10L);
+        assertThat(episode.getViewingRecords().get(1).getComment()).isEqualTo("初回");
+        assertThat(episode.getViewingRecords().get(1).getRating()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("URL と視聴記録の直積にならず、結果行数は 1 + URL件数 + 視聴記録件数になる")
+    void shouldNotMultiplyUrlsByRecords() {
+        // Arrange: 5 URL × 200 視聴記録（直積なら 1,000 行）
+        jdbcTemplate.update("INSERT INTO watch_page_urls (episode_id, url) "
+                + "SELECT 1, 'https://example.com/watch/' || n FROM generate_series(1, 5) n");
+        jdbcTemplate.update("INSERT INTO viewing_records (episode_id, watched_at, rating, recorded_at) "
+                + "SELECT 1, '2024-01-01'::timestamp + n * INTERVAL '1 day', 4, '2024-01-01'::timestamp + n * INTERVAL '1 day' "
+                + "FROM generate_series(1, 200) n");
+        List<EpisodeDetailRow> rows = new ArrayList<>();
+
+        // Act
+        episodeReadMapper.findEpisodeDetailById(1L, context -> rows.add(context.getResultObject()));
+        EpisodeReadModel episode = episodeReadRepository.findEpisodeDetailById(1L).orElseThrow().getEpisode();
+
+        // Assert
+        assertThat(rows).hasSize(1 + 5 + 200);
+        assertThat(episode.getWatchPageUrls()).hasSize(5);
+        assertThat(episode.getViewingRecords()).hasSize(200);
+        assertThat(episode.getViewingRecords()).extracting(ViewingRecordReadModel::getRecordedAt)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("子要素がないエピソードは空のリストで返される")
+    void shouldReturnEpisodeWithoutChildren() {
+        // Act
+        EpisodeReadModel episode = episodeReadRepository.findEpisodeDetailById(2L).orElseThrow().getEpisode();
+
+        // Assert
+        assertThat(episode.getId()).isEqualTo(2L);
+        assertThat(episode.getSeriesId()).isEqualTo(1L);
+        assertThat(episode.getWatchPageUrls()).isEmpty();
+        assertThat(episode.getViewingRecords()).isEmpty();
+        // キャッシュで共有されるため、リストは変更できない
+        assertThatThrownBy(() -> episode.getWatchPageUrls().add("https://example.com"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("エピソードが存在しない場合は空を返す")
+    void shouldReturnEmptyForMissingEpisode() {
+        // Act & Assert
+        assertThat(episodeReadRepository.findEpisodeDetailById(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("キャッシュの無効化対象として、シリーズ・タイトルに属するエピソードのIDを取得できる")
+    void shouldFindEpisodeIdsBySeriesAndTitle() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO series (id, title_id, name) VALUES (2, 1, '劇場版')");
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES (3, 2, '劇場版', 'UNWATCHED')");
+
+        // Act & Assert
+        assertThat(episodeReadRepository.findEpisodeIdsBySeriesId(1L)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(episodeReadRepository.findEpisodeIdsByTitleId(1L)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(episodeReadRepository.findEpisodeIdsByTitleId(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("エピソード詳細のバージョンは視聴ページURL・視聴記録・シリーズ名の変更で変わり、他のエピソードの変更では変わらない")
+    void shouldChangeEpisodeDetailVersionOnlyWhenDetailChanges() {
+        // Arrange
+        String initial = episodeDetailVersion();
+
+        // Act
+        jdbcTemplate.update("UPDATE episodes SET updated_at = '2030-01-01' WHERE id = 2");
+        String afterOtherEpisode = episodeDetailVersion();
+        jdbcTemplate.update("INSERT INTO watch_page_urls (episode_id, url) VALUES (1, 'https://example.com/ep1')");
+        String afterUrl = episodeDetailVersion();
+        jdbcTemplate.update("INSERT INTO viewing_records (episode_id, watched_at, rating) VALUES (1, '2024-01-01 20:00', 4)");
+        String afterRecord = episodeDetailVersion();
+        jdbcTemplate.update("UPDATE series SET name = 'Season 2', updated_at = '2030-01-01' WHERE id = 1");
+        String afterSeries = episodeDetailVersion();
+
+        // Assert
+        assertThat(afterOtherEpisode).isEqualTo(initial);
+        assertThat(List.of(initial, afterUrl, afterRecord, afterSeries)).doesNotHaveDuplicates();
+        assertThat(episodeReadRepository.findEpisodeDetailVersion(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("エピソード詳細のバージョンは、id の小さい行の削除と大きい id の行の追加が重なっても変わる")
+    void shouldChangeEpisodeDetailVersionWhenChildIsReplaced() {
+        // Arrange: 件数と id の最大値が変わらない入れ替え（ブロック単位の採番では、先に払い出した小さい id の行が後から入る）
+        jdbcTemplate.update("INSERT INTO watch_page_urls (id, episode_id, url) VALUES "
+                + "(1001, 1, 'https://example.com/a'), (1003, 1, 'https://example.com/c')");
+        String initial = episodeDetailVersion();
+
+        // Act
+        jdbcTemplate.update("DELETE FROM watch_page_urls WHERE id = 1001");
+        jdbcTemplate.update("INSERT INTO watch_page_urls (id, episode_id, url) VALUES (1002, 1, 'https://example.com/b')");
+        String afterReplace = episodeDetailVersion();
+
+        // Assert
+        assertThat(afterReplace).isNotEqualTo(initial);
+    }
+
+    private String episodeDetailVersion() {
+        // JdbcTemplate での変更後に同じ条件で読むため、テストのトランザクション内の MyBatis のキャッシュを捨てる
+        sqlSessionTemplate.clearCache();
+        return episodeReadRepository.findEpisodeDetailVersion(1L).orElseThrow();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.videowatchlog.infrastructure.persistence.readmodel;
+
+import com.example.videowatchlog.application.readmodel.change.ReadModelChange;
+import com.example.videowatchlog.application.readmodel.change.ReadModelResyncEvent;
+import com.example.videowatchlog.application.readmodel.change.RemoteReadModelChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PgNotifyReadModelChangeBusTest - LISTEN/NOTIFY による Read Model の変更の伝達
+ *
+ * 2つのプロセス（送信側 sender・受信側 receiver）を同じデータベースに対する2つのインスタンスで再現します。
+ * 通知はコミット時に配信されるため、テストのトランザクションは使わずに TransactionTemplate でコミットします。
+ */
+@DisplayName("PgNotifyReadModelChangeBus 統合テスト")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PgNotifyReadModelChangeBusTest {
+    private static final String CHANNEL = "read_model_changes_test";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    private final BlockingQueue<Object> senderEvents = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Object> receiverEvents = new LinkedBlockingQueue<>();
+    private PgNotifyReadModelChangeBus sender;
+    private PgNotifyReadModelChangeBus receiver;
+
+    @BeforeEach
+    void setUp() {
+        sender = newBus(senderEvents);
+        receiver = newBus(receiverEvents);
+        sender.start();
+        receiver.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.stop();
+        receiver.stop();
+    }
+
+    @Test
+    @DisplayName("コミットされたトランザクションの変更は1通知にまとめて他のプロセスに届き、送信元には届かない")
+    void shouldDeliverCommittedChangesToOtherNodes() throws InterruptedException {
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            sender.publish(ReadModelChange.titleDetail(1L));
+            sender.publish(ReadModelChange.episodeDetails(List.of(2L, 3L)));
+            sender.publish(ReadModelChange.searchIndexTitle(1L));
+        });
+
+        // Assert
+        ReadModelChange received = nextChange(receiverEvents);
+        assertThat(received.getTitleDetailIds()).containsExactly(1L);
+        assertThat(received.getEpisodeDetailIds()).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(received.getSearchIndexTitleIds()).containsExactly(1L);
+        assertThat(receiverEvents.poll(300, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(senderEvents).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ロールバックされたトランザクションの変更は届かない")
+    void shouldNotDeliverRolledBackChanges() throws InterruptedException {
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            sender.publish(ReadModelChange.titleDetail(1L));
+            status.setRollbackOnly();
+        });
+        sender.publish(ReadModelChange.titleDetail(2L));
+
+        // Assert: トランザクション外の変更は即座に送られ、ロールバックされた変更より先には何も届かない
+        assertThat(nextChange(receiverEvents).getTitleDetailIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("ペイロードの上限を超える件数の変更は複数の通知に分割して届く")
+    void shouldSplitLargeChanges() throws InterruptedException {
+        // Arrange
+        List<Long> episodeIds = LongStream.rangeClosed(1, 1000).boxed().toList();
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                sender.publish(ReadModelChange.episodeDetails(episodeIds)));
+
+        // Assert
+        Set<Long> received = new HashSet<>();
+        while (received.size() < episodeIds.size()) {
+            received.addAll(nextChange(receiverEvents).getEpisodeDetailIds());
+        }
+        assertThat(received).containsExactlyInAnyOrderElementsOf(episodeIds);
+        assertThat(PgNotifyReadModelChangeBus.encode("node", ReadModelChange.episodeDetails(episodeIds)))
+                .hasSize(4)
+                .allSatisfy(payload -> assertThat(payload.length()).isLessThan(8000));
+    }
+
+    @Test
+    @DisplayName("受信の接続が切れた場合は再接続して再同期を要求し、以降の変更も届く")
+    void shouldResyncAfterReconnect() throws InterruptedException {
+        // Act: 受信用の接続をサーバー側から切断する
+        jdbcTemplate.queryForList("SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = ?",
+                PgNotifyReadModelChangeBus.LISTENER_APPLICATION_NAME);
+
+        // Assert
+        assertThat(receiverEvents.poll(10, TimeUnit.SECONDS)).isInstanceOf(ReadModelResyncEvent.class);
+        sender.publish(ReadModelChange.titleDetail(3L));
+        assertThat(nextChange(receiverEvents).getTitleDetailIds()).containsExactly(3L);
+    }
+
+    private PgNotifyReadModelChangeBus newBus(BlockingQueue<Object> events) {
+        return new PgNotifyReadModelChangeBus(jdbcTemplate, events::add, true, CHANNEL, url, username, password,
+                Duration.ofMillis(200), Duration.ofMillis(100));
+    }
+
+    private static ReadModelChange nextChange(BlockingQueue<Object> events) throws InterruptedException {
+        Object event = events.poll(5, TimeUnit.SECONDS);
+        assertThat(event).isInstanceOf(RemoteReadModelChangeEvent.class);
+        return ((RemoteReadModelChangeEvent) event).getChange();
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.videowatchlog.infrastructure.persistence.readmodel;
+
+import com.example.videowatchlog.application.readmodel.EpisodeReadModel;
+import com.example.videowatchlog.application.readmodel.TitleCursor;
+import com.example.videowatchlog.application.readmodel.TitleDetailExpansion;
+import com.example.videowatchlog.application.readmodel.TitleDetailReadModel;
+import com.example.videowatchlog.application.readmodel.TitleListReadModel;
+import com.example.videowatchlog.application.readmodel.ViewingRecordReadModel;
+import com.example.videowatchlog.infrastructure.persistence.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TitleReadRepositoryImpl 統合テスト")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional
+@Import({TitleReadRepositoryImpl.class, SqlStatementCounter.class})
+class TitleReadRepositoryImplTest {
+
+    @Autowired
+    private TitleReadRepositoryImpl titleReadRepository;
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlSessionTemplate sqlSessionTemplate;
+
+    @BeforeEach
+    void cleanDatabase() {
+        jdbcTemplate.execute("TRUNCATE TABLE viewing_records, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE");
+        jdbcTemplate.update("INSERT INTO titles (id, name) VALUES (1, 'ワンピース'), (2, '別タイトル')");
+        jdbcTemplate.update("INSERT INTO series (id, title_id, name, created_at) VALUES "
+                + "(1, 1, '', '2024-01-01'), (2, 1, '劇場版', '2024-01-02'), (3, 2, '', '2024-01-01')");
+    }
+
+    @ParameterizedTest(name = "エピソード {0} 件")
+    @ValueSource(ints = {1, 10, 500})
+    @DisplayName("全展開でもエピソード件数に関わらず1ステートメントでタイトル全体を読み込む")
+    void shouldLoadWholeTreeWithSingleStatement(int episodeCount) {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) "
+                + "SELECT n, 1 + n % 2, '第' || n || '話', 'WATCHED' FROM generate_series(1, ?) n", episodeCount);
+        jdbcTemplate.update("INSERT INTO watch_page_urls (episode_id, url) "
+                + "SELECT id, 'https://example.com/watch/' || id FROM episodes");
+        jdbcTemplate.update("INSERT INTO viewing_records (episode_id, watched_at, rating) "
+                + "SELECT id, NOW() - INTERVAL '1 day', 5 FROM episodes");
+        statementCounter.reset();
+
+        // Act
+        TitleDetailReadModel detail = titleReadRepository
+                .findTitleDetailById(1L, EnumSet.allOf(TitleDetailExpansion.class))
+                .orElseThrow();
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(1);
+        List<EpisodeReadModel> episodes = detail.getSeries().stream()
+                .flatMap(series -> series.getEpisodes().stream())
+                .toList();
+        assertThat(episodes).hasSize(episodeCount);
+        assertThat(episodes).allSatisfy(episode -> {
+            assertThat(episode.getWatchPageUrls()).containsExactly("https://example.com/watch/" + episode.getId());
+            assertThat(episode.getViewingRecords()).hasSize(1);
+        });
+    }
+
+    @Test
+    @DisplayName("展開を指定しない場合は1ステートメントで子要素は空になる")
+    void shouldSkipChildrenWithoutExpansion() {
+        // Arrange
+        insertEpisodeWithChildren();
+        statementCounter.reset();
+
+        // Act
+        TitleDetailReadModel detail = titleReadRepository.findTitleDetailById(1L, Set.of()).orElseThrow();
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(1);
+        EpisodeReadModel episode = detail.getSeries().get(0).getEpisodes().get(0);
+        assertThat(episode.getWatchPageUrls()).isEmpty();
+        assertThat(episode.getViewingRecords()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("指定した展開のみ読み込み、子要素は所属エピソードに振り分けられる")
+    void shouldLoadOnlyRequestedExpansion() {
+        // Arrange
+        insertEpisodeWithChildren();
+        statementCounter.reset();
+
+        // Act
+        TitleDetailReadModel detail = titleReadRepository
+                .findTitleDetailById(1L, EnumSet.of(TitleDetailExpansion.VIEWING_RECORDS))
+                .orElseThrow();
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(detail.getSeries()).extracting("name").containsExactly("", "劇場版");
+        EpisodeReadModel episode = detail.getSeries().get(0).getEpisodes().get(0);
+        assertThat(episode.getWatchPageUrls()).isEmpty();
+        assertThat(episode.getViewingRecords()).extracting(ViewingRecordReadModel::getId).containsExactly(11L, 10L);
+        assertThat(detail.getSeries().get(1).getEpisodes()).isEmpty();
+        // キャッシュで共有されるため、リストは変更できない
+        assertThatThrownBy(() -> detail.getSeries().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> detail.getSeries().get(1).getEpisodes().add(episode))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> episode.getViewingRecords().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("タイトル一覧は (createdAt, id) のキーセットで、各ページ1ステートメントで重複・欠落なく読める")
+    void shouldPaginateTitlesByKeyset() {
+        // Arrange: 同じ作成日時のタイトルを含めて計 12 件（@BeforeEach の 2 件を含む）
+        jdbcTemplate.update("UPDATE titles SET created_at = TIMESTAMP '2023-12-31'");
+        jdbcTemplate.update("INSERT INTO titles (id, name, created_at) "
+                + "SELECT n, 'タイトル' || n, TIMESTAMP '2024-01-01' + (n / 4) * INTERVAL '1 hour' "
+                + "FROM generate_series(3, 12) n");
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        List<Integer> statementsPerPage = new ArrayList<>();
+        TitleCursor cursor = null;
+        do {
+            statementCounter.reset();
+            List<TitleListReadModel> page = titleReadRepository.findTitlesPage(cursor, 5);
+            statementsPerPage.add(statementCounter.count());
+            page.forEach(title -> ids.add(title.getId()));
+            TitleListReadModel last = page.isEmpty() ? null : page.get(page.size() - 1);
+            cursor = page.size() < 5 ? null : new TitleCursor(last.getCreatedAt(), last.getId());
+        } while (cursor != null);
+
+        // Assert
+        assertThat(ids).containsExactly(12L, 11L, 10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L);
+        assertThat(statementsPerPage).containsOnly(1);
+    }
+
+    @Test
+    @DisplayName("タイトル一覧の各行は title_progress から進捗を読み込む")
+    void shouldLoadProgressWithTitles() {
+        // Arrange
+        insertEpisodeWithChildren();
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES (3, 2, '劇場版', 'UNWATCHED')");
+        jdbcTemplate.update("INSERT INTO titles (id, name, created_at) VALUES (3, 'エピソードなし', '2000-01-01')");
+        statementCounter.reset();
+
+        // Act
+        List<TitleListReadModel> titles = titleReadRepository.findTitlesPage(null, 10);
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(titles)
+                .extracting(TitleListReadModel::getId, TitleListReadModel::getTotalEpisodes, TitleListReadModel::getWatchedEpisodes,
+                        TitleListReadModel::getLastWatchedAt, TitleListReadModel::getAverageRating)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, 2, 1, LocalDateTime.of(2024, 2, 1, 20, 0), 4.0),
+                        tuple(2L, 1, 1, LocalDateTime.of(2024, 3, 1, 20, 0), 4.0),
+                        tuple(3L, 0, 0, null, null));
+    }
+
+    @Test
+    @DisplayName("findTitlesByIds は指定したタイトルを進捗付きで1ステートメントで読み込み、存在しないIDは含めない")
+    void shouldLoadTitlesByIdsWithSingleStatement() {
+        // Arrange
+        insertEpisodeWithChildren();
+        statementCounter.reset();
+
+        // Act
+        List<TitleListReadModel> titles = titleReadRepository.findTitlesByIds(List.of(1L, 2L, 999L));
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(titles)
+                .extracting(TitleListReadModel::getId, TitleListReadModel::getName, TitleListReadModel::getTotalEpisodes)
+                .containsExactlyInAnyOrder(tuple(1L, "ワンピース", 1), tuple(2L, "別タイトル", 1));
+        assertThat(titleReadRepository.findTitlesByIds(List.of())).isEmpty();
+        assertThat(statementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("forEachTitle は全タイトルを (createdAt, id) の降順に1ステートメントで1件ずつ渡す")
+    void shouldStreamAllTitlesInOrder() {
+        // Arrange: fetchSize（1000）を超える件数（@BeforeEach の 2 件が最も古くなるようにする）
+        jdbcTemplate.update("UPDATE titles SET created_at = TIMESTAMP '2023-12-31'");
+        jdbcTemplate.update("INSERT INTO titles (id, name, created_at) "
+                + "SELECT n, 'タイトル' || n, TIMESTAMP '2024-01-01' + (n / 2) * INTERVAL '1 minute' "
+                + "FROM generate_series(3, 2502) n");
+        statementCounter.reset();
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        titleReadRepository.forEachTitle(title -> ids.add(title.getId()));
+
+        // Assert
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(ids).hasSize(2502);
+        assertThat(ids.subList(0, 3)).containsExactly(2502L, 2501L, 2500L);
+        assertThat(ids.subList(2500, 2502)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("存在しないタイトルは空を返す")
+    void shouldReturnEmptyForUnknownTitle() {
+        // Arrange
+        statementCounter.reset();
+
+        // Act & Assert
+        assertThat(titleReadRepository.findTitleDetailById(999L, EnumSet.allOf(TitleDetailExpansion.class))).isEmpty();
+        assertThat(statementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("シリーズが属するタイトルのIDを取得できる")
+    void shouldFindTitleIdBySeriesId() {
+        // Act & Assert
+        assertThat(titleReadRepository.findTitleIdBySeriesId(3L)).contains(2L);
+        assertThat(titleReadRepository.findTitleIdBySeriesId(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("タイトル詳細のバージョンは1ステートメントで求まり、展開オプションと詳細に含まれる変更によってのみ変わる")
+    void shouldChangeTitleDetailVersionOnlyWhenDetailChanges() {
+        // Arrange
+        insertEpisodeWithChildren();
+        statementCounter.reset();
+        String plain = titleDetailVersion(Set.of());
+        assertThat(statementCounter.count()).isEqualTo(1);
+        String withUrls = titleDetailVersion(EnumSet.of(TitleDetailExpansion.WATCH_PAGE_URLS));
+        String withRecords = titleDetailVersion(EnumSet.of(TitleDetailExpansion.VIEWING_RECORDS));
+
+        // Act: 視聴記録の追加（展開しない詳細には含まれない）
+        jdbcTemplate.update("INSERT INTO viewing_records (id, episode_id, watched_at, rating) VALUES (13, 1, '2024-04-01 20:00', 4)");
+        String plainAfterRecord = titleDetailVersion(Set.of());
+        String withRecordsAfterRecord = titleDetailVersion(EnumSet.of(TitleDetailExpansion.VIEWING_RECORDS));
+        // Act: 別タイトルのエピソードの更新
+        jdbcTemplate.update("UPDATE episodes SET updated_at = '2030-01-01' WHERE id = 2");
+        String plainAfterOtherTitle = titleDetailVersion(Set.of());
+        // Act: エピソードの更新、シリーズの削除
+        jdbcTemplate.update("UPDATE episodes SET updated_at = '2030-01-01' WHERE id = 1");
+        String plainAfterEpisode = titleDetailVersion(Set.of());
+        jdbcTemplate.update("DELETE FROM series WHERE id = 2");
+        String plainAfterSeriesDelete = titleDetailVersion(Set.of());
+
+        // Assert
+        assertThat(List.of(plain, withUrls, withRecords)).doesNotHaveDuplicates();
+        assertThat(plainAfterRecord).isEqualTo(plain);
+        assertThat(withRecordsAfterRecord).isNotEqualTo(withRecords);
+        assertThat(plainAfterOtherTitle).isEqualTo(plain);
+        assertThat(List.of(plain, plainAfterEpisode, plainAfterSeriesDelete)).doesNotHaveDuplicates();
+        assertThat(titleReadRepository.findTitleDetailVersion(999L, Set.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("タイトル詳細のバージョンは、id の小さい視聴記録の削除と大きい id の視聴記録の追加が重なっても変わる")
+    void shouldChangeTitleDetailVersionWhenChildIsReplaced() {
+        // Arrange: 件数と id の最大値が変わらない入れ替え（ブロック単位の採番では、先に払い出した小さい id の行が後から入る）
+        insertEpisodeWithChildren();
+        String initial = titleDetailVersion(EnumSet.of(TitleDetailExpansion.VIEWING_RECORDS));
+
+        // Act
+        jdbcTemplate.update("DELETE FROM viewing_records WHERE id = 10");
+        jdbcTemplate.update("INSERT INTO viewing_records (id, episode_id, watched_at, rating) VALUES (9, 1, '2024-01-01 20:00', 3)");
+        String afterReplace = titleDetailVersion(EnumSet.of(TitleDetailExpansion.VIEWING_RECORDS));
+
+        // Assert
+        assertThat(afterReplace).isNotEqualTo(initial);
+    }
+
+    private String titleDetailVersion(Set<TitleDetailExpansion> expansions) {
+        // JdbcTemplate での変更後に同じ条件で読むため、テストのトランザクション内の MyBatis のキャッシュを捨てる
+        sqlSessionTemplate.clearCache();
+        return titleReadRepository.findTitleDetailVersion(1L, expansions).orElseThrow();
+    }
+
+    private void insertEpisodeWithChildren() {
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES "
+                + "(1, 1, '第1話', 'WATCHED'), (2, 3, '別タイトルの第1話', 'WATCHED')");
+        jdbcTemplate.update("INSERT INTO watch_page_urls (episode_id, url) VALUES "
+                + "(1, 'https://example.com/ep1'), (2, 'https://example.com/other')");
+        jdbcTemplate.update("INSERT INTO viewing_records (id, episode_id, watched_at, rating) VALUES "
+                + "(10, 1, '2024-01-01 20:00', 3), (11, 1, '2024-02-01 20:00', 5), (12, 2, '2024-03-01 20:00', 4)");
+    }
+}
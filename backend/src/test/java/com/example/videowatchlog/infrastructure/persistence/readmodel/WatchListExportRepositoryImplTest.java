@@ -0,0 +1,106 @@
+package com.example.videowatchlog.infrastructure.persistence.readmodel;
+
+import com.example.videowatchlog.application.readmodel.WatchListExportNode;
+import com.example.videowatchlog.application.readmodel.WatchListExportNode.Kind;
+import com.example.videowatchlog.domain.model.WatchStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WatchListExportRepositoryImpl 統合テスト")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional
+@Import(WatchListExportRepositoryImpl.class)
+class WatchListExportRepositoryImplTest {
+
+    @Autowired
+    private WatchListExportRepositoryImpl exportRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE TABLE viewing_records, episodes, series, title_info_urls, titles RESTART IDENTITY CASCADE");
+        // ID の順と作成順が逆になるデータも含める（並び順は ID で決まる）
+        jdbcTemplate.update("INSERT INTO titles (id, name) VALUES (1, '名探偵コナン'), (2, 'ワンピース'), (3, '空のシリーズ')");
+        jdbcTemplate.update("INSERT INTO title_info_urls (id, title_id, url) VALUES (1, 1, 'https://example.com/conan')");
+        jdbcTemplate.update("INSERT INTO series (id, title_id, name) VALUES (2, 1, '劇場版'), (1, 1, ''), (3, 3, '')");
+        jdbcTemplate.update("INSERT INTO episodes (id, series_id, episode_info, watch_status) VALUES "
+                + "(1, 1, '第1話', 'WATCHED'), (2, 1, '第2話', 'UNWATCHED'), (3, 2, '時計じかけの摩天楼', 'WATCHED')");
+        jdbcTemplate.update("INSERT INTO watch_page_urls (id, episode_id, url) VALUES "
+                + "(1, 1, 'https://example.com/conan/1'), (2, 1, 'https://example.com/conan/1-alt')");
+        jdbcTemplate.update("INSERT INTO viewing_records (id, episode_id, watched_at, rating, comment) VALUES "
+                + "(1, 1, '2024-02-01 20:00:00', 5, '\"面白い\", 名作'), "
+                + "(2, 3, '2024-02-02 21:30:00.5', 4, NULL)");
+    }
+
+    @Test
+    @DisplayName("すべての要素をタイトル → シリーズ → エピソード → 子要素の深さ優先の順に返す")
+    void forEachNodeShouldReturnNodesDepthFirst() {
+        // Act
+        List<WatchListExportNode> nodes = new ArrayList<>();
+        exportRepository.forEachNode(nodes::add);
+
+        // Assert
+        assertThat(nodes).extracting(WatchListExportNode::getKind, WatchListExportNode::getId).containsExactly(
+                tuple(Kind.TITLE, 1L),
+                tuple(Kind.TITLE_INFO_URL, 1L),
+                tuple(Kind.SERIES, 1L),
+                tuple(Kind.EPISODE, 1L),
+                tuple(Kind.WATCH_PAGE_URL, 1L),
+                tuple(Kind.WATCH_PAGE_URL, 2L),
+                tuple(Kind.VIEWING_RECORD, 1L),
+                tuple(Kind.EPISODE, 2L),
+                tuple(Kind.SERIES, 2L),
+                tuple(Kind.EPISODE, 3L),
+                tuple(Kind.VIEWING_RECORD, 2L),
+                tuple(Kind.TITLE, 2L),
+                tuple(Kind.TITLE, 3L),
+                tuple(Kind.SERIES, 3L));
+        WatchListExportNode episode = nodes.get(3);
+        assertThat(episode.getText()).isEqualTo("第1話");
+        assertThat(episode.getWatchStatus()).isEqualTo(WatchStatus.WATCHED);
+        assertThat(episode.getCreatedAt()).isNotNull();
+        WatchListExportNode record = nodes.get(10);
+        assertThat(record.getWatchedAt()).isEqualTo(LocalDateTime.of(2024, 2, 2, 21, 30, 0, 500_000_000));
+        assertThat(record.getRating()).isEqualTo(4);
+        assertThat(record.getComment()).isNull();
+    }
+
+    @Test
+    @DisplayName("CSV は COPY で一括取り込みと同じ列の1行1件を出力し、NULL と空文字を区別する")
+    void writeCsvShouldCopyFlatRows() {
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportRepository.writeCsv(out);
+
+        // Assert
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "title,series,episode,watchPageUrl,watchedAt,rating,comment\n"
+                        + "名探偵コナン,\"\",第1話,https://example.com/conan/1,,,\n"
+                        + "名探偵コナン,\"\",第1話,https://example.com/conan/1-alt,,,\n"
+                        + "名探偵コナン,\"\",第1話,,2024-02-01T20:00:00,5,\"\"\"面白い\"\", 名作\"\n"
+                        + "名探偵コナン,\"\",第2話,,,,\n"
+                        + "名探偵コナン,劇場版,時計じかけの摩天楼,,2024-02-02T21:30:00.5,4,\n"
+                        + "ワンピース,,,,,,\n"
+                        + "空のシリーズ,\"\",,,,,\n");
+    }
+}
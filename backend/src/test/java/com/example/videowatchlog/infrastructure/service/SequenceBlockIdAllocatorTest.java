@@ -0,0 +1,133 @@
+package com.example.videowatchlog.infrastructure.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SequenceBlockIdAllocatorTest - シーケンスからのブロック単位のID采番
+ *
+ * nextval はトランザクションに関係なく進むため、複数スレッドがそれぞれの接続で采番できるようテストのトランザクションは使いません。
+ */
+@DisplayName("SequenceBlockIdAllocator 統合テスト")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SequenceBlockIdAllocatorTest {
+    private static final String SEQUENCE = "titles_id_seq";
+    private static final int BLOCK_SIZE = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("1回の nextval で予約したブロックから連続したIDを払い出し、使い切った時だけ次のブロックを予約する")
+    void shouldReserveOneBlockPerBlockSizeIds() {
+        // Arrange
+        SequenceBlockIdAllocator allocator = new SequenceBlockIdAllocator(jdbcTemplate, SEQUENCE, BLOCK_SIZE);
+
+        // Act
+        long first = allocator.nextId();
+        long lastValueAfterFirst = lastValue();
+        List<Long> ids = new ArrayList<>(List.of(first));
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            ids.add(allocator.nextId());
+        }
+        long lastValueAfterBlock = lastValue();
+        long next = allocator.nextId();
+
+        // Assert
+        assertThat(first).isEqualTo(lastValueAfterFirst);
+        assertThat(ids).containsExactlyElementsOf(LongStream.range(first, first + BLOCK_SIZE).boxed().toList());
+        assertThat(lastValueAfterBlock).isEqualTo(lastValueAfterFirst);
+        assertThat(next).isGreaterThanOrEqualTo(first + BLOCK_SIZE);
+        assertThat(lastValue()).isEqualTo(next);
+    }
+
+    @Test
+    @DisplayName("複数のスレッド・複数の采番器（プロセス）から同時に采番してもIDは重複しない")
+    void shouldGenerateUniqueIdsConcurrently() throws Exception {
+        // Arrange
+        List<SequenceBlockIdAllocator> allocators = List.of(
+                new SequenceBlockIdAllocator(jdbcTemplate, SEQUENCE, BLOCK_SIZE),
+                new SequenceBlockIdAllocator(jdbcTemplate, SEQUENCE, 7));
+        int threads = 8;
+        int idsPerThread = 1000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                SequenceBlockIdAllocator allocator = allocators.get(t % allocators.size());
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < idsPerThread; i++) {
+                        assertThat(ids.add(allocator.nextId())).isTrue();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertThat(ids).hasSize(threads * idsPerThread);
+    }
+
+    @Test
+    @DisplayName("nextIds は必要な数のブロックを1回のシーケンス呼び出しで予約し、払い出し中のブロックとは重複しない")
+    void nextIdsShouldReserveAllBlocksAtOnce() {
+        // Arrange
+        SequenceBlockIdAllocator allocator = new SequenceBlockIdAllocator(jdbcTemplate, SEQUENCE, BLOCK_SIZE);
+        long single = allocator.nextId();
+        long lastValueBefore = lastValue();
+
+        // Act
+        List<Long> ids = allocator.nextIds(BLOCK_SIZE * 2 + 20);
+        long lastValueAfter = lastValue();
+
+        // Assert: 3ブロック分だけシーケンスが進み、IDは昇順で一意
+        assertThat(ids).hasSize(BLOCK_SIZE * 2 + 20).doesNotHaveDuplicates().isSorted().doesNotContain(single);
+        assertThat(lastValueAfter).isEqualTo(lastValueBefore + 3L * BLOCK_SIZE);
+        assertThat(ids.get(0)).isGreaterThan(lastValueBefore);
+        assertThat(allocator.nextId()).isEqualTo(single + 1);
+    }
+
+    @Test
+    @DisplayName("ブロックサイズがシーケンスの INCREMENT BY を超える場合は他のプロセスのIDと重複しうるため采番しない")
+    void shouldRejectBlockSizeLargerThanSequenceIncrement() {
+        // Arrange
+        SequenceBlockIdAllocator allocator = new SequenceBlockIdAllocator(jdbcTemplate, SEQUENCE, BLOCK_SIZE + 1);
+
+        // Act & Assert
+        assertThatThrownBy(allocator::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("INCREMENT BY");
+    }
+
+    private long lastValue() {
+        return jdbcTemplate.queryForObject("SELECT last_value FROM " + SEQUENCE, Long.class);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.videowatchlog.presentation.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExportController の Accept-Encoding の判定")
+class ExportControllerTest {
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @ValueSource(strings = {"gzip", "GZIP", "deflate, gzip", "gzip;q=0.5, br", "x-gzip", "*", "br, *;q=0.1"})
+    @DisplayName("gzip（または *）を受け付ける指定では圧縮する")
+    void shouldAcceptGzip(String acceptEncoding) {
+        assertThat(ExportController.acceptsGzip(acceptEncoding)).isTrue();
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @NullSource
+    @ValueSource(strings = {"", "identity", "br, deflate", "gzip;q=0", "gzip; q=0.000, br", "*;q=0", "gzip;q=0, *", "gzip;q=abc"})
+    @DisplayName("gzip を指定しない、または q=0 で拒否した指定では圧縮しない")
+    void shouldNotAcceptGzip(String acceptEncoding) {
+        assertThat(ExportController.acceptsGzip(acceptEncoding)).isFalse();
+    }
+}
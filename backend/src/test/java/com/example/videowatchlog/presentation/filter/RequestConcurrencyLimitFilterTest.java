@@ -0,0 +1,110 @@
+package com.example.videowatchlog.presentation.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RequestConcurrencyLimitFilter のテスト")
+class RequestConcurrencyLimitFilterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("処理が終わったリクエストの枠は返却される")
+    void shouldReleasePermitAfterRequest() throws Exception {
+        // Given
+        RequestConcurrencyLimitFilter filter = new RequestConcurrencyLimitFilter(1, Duration.ofMillis(10), objectMapper);
+        AtomicInteger activeDuringRequest = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request("/titles"), response,
+                    (req, res) -> activeDuringRequest.set(filter.getActiveRequests()));
+
+            // Then
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+        assertThat(activeDuringRequest.get()).isEqualTo(1);
+        assertThat(filter.getActiveRequests()).isZero();
+    }
+
+    @Test
+    @DisplayName("上限に達したまま待ち時間を過ぎたリクエストは 503 と Retry-After を返す")
+    void shouldRejectWhenLimitReached() throws Exception {
+        // Given
+        RequestConcurrencyLimitFilter filter = new RequestConcurrencyLimitFilter(1, Duration.ofMillis(10), objectMapper);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        AtomicInteger secondRequestCalls = new AtomicInteger();
+
+        // When: 1件目の処理中に2件目が到着する
+        filter.doFilter(request("/titles/1"), new MockHttpServletResponse(),
+                (req, res) -> filter.doFilter(request("/titles/2"), rejected,
+                        (secondReq, secondRes) -> secondRequestCalls.incrementAndGet()));
+
+        // Then
+        assertThat(secondRequestCalls.get()).isZero();
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        JsonNode body = objectMapper.readTree(rejected.getContentAsByteArray());
+        assertThat(body.get("code").asText()).isEqualTo(RequestConcurrencyLimitFilter.ERROR_CODE);
+        assertThat(body.get("path").asText()).isEqualTo("/api/v1/titles/2");
+        assertThat(filter.getActiveRequests()).isZero();
+    }
+
+    @Test
+    @DisplayName("非同期リクエストは非同期処理が終わるまで枠を使う")
+    void shouldHoldPermitUntilAsyncCompletes() throws Exception {
+        // Given
+        RequestConcurrencyLimitFilter filter = new RequestConcurrencyLimitFilter(2, Duration.ofMillis(10), objectMapper);
+        MockHttpServletRequest request = request("/export");
+        request.setAsyncSupported(true);
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        // Then
+        assertThat(filter.getActiveRequests()).isEqualTo(1);
+        AsyncContext asyncContext = request.getAsyncContext();
+        asyncContext.complete();
+        assertThat(filter.getActiveRequests()).isZero();
+    }
+
+    @Test
+    @DisplayName("/actuator は上限の対象外")
+    void shouldNotLimitActuator() throws Exception {
+        // Given
+        RequestConcurrencyLimitFilter filter = new RequestConcurrencyLimitFilter(1, Duration.ofMillis(10), objectMapper);
+        MockHttpServletResponse health = new MockHttpServletResponse();
+
+        // When: 上限に達している間のヘルスチェック
+        filter.doFilter(request("/titles"), new MockHttpServletResponse(),
+                (req, res) -> filter.doFilter(request("/actuator/health"), health, new MockFilterChain()));
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("上限が1未満の場合は IllegalArgumentException")
+    void shouldRejectNonPositiveLimit() {
+        assertThatThrownBy(() -> new RequestConcurrencyLimitFilter(0, Duration.ofSeconds(1), objectMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1" + path);
+        request.setContextPath("/api/v1");
+        request.setServletPath(path);
+        return request;
+    }
+}
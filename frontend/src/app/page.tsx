@@ -2,28 +2,41 @@
 
 import { useEffect, useState } from 'react';
 import { titlesApi } from '@/lib/api/titles';
-import { TitleSummary } from '@/types/title';
+import { TitlePage, TitleSummary } from '@/types/title';
 import { WatchStatus } from '@/types/episode';
 import TitleList from '@/components/title/TitleList';
 import SearchBar from '@/components/common/SearchBar';
 import Spinner from '@/components/common/Spinner';
+import { Button } from '@/components/ui/button';
 import { Alert, AlertDescription } from '@/components/ui/alert';
 import { AlertCircle } from 'lucide-react';
 
+// 一覧・検索は先頭ページだけを読み込み、続きは「さらに読み込む」で1ページずつ取得する
+type PageLoader = (cursor?: string) => Promise<TitlePage>;
+
+const loadAllTitles: PageLoader = (cursor) => titlesApi.getAllTitles(cursor);
+
 export default function HomePage() {
   const [titles, setTitles] = useState<TitleSummary[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | undefined>();
+  // 続きのページを同じ一覧・検索条件で読み込むため、表示中のページの取得方法を保持する
+  const [pageLoader, setPageLoader] = useState<PageLoader>(() => loadAllTitles);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState<string | null>(null);
 
   useEffect(() => {
-    loadTitles();
+    loadFirstPage(loadAllTitles);
   }, []);
 
-  const loadTitles = async () => {
+  const loadFirstPage = async (loader: PageLoader) => {
     try {
       setLoading(true);
-      const data = await titlesApi.getAllTitles();
-      setTitles(data);
+      setError(null);
+      const page = await loader();
+      setPageLoader(() => loader);
+      setTitles(page.items);
+      setNextCursor(page.nextCursor);
     } catch (err) {
       setError(err instanceof Error ? err.message : 'エラーが発生しました');
     } finally {
@@ -31,16 +44,24 @@ export default function HomePage() {
     }
   };
 
-  const handleSearch = async (query: string | undefined, watchStatus: WatchStatus | undefined) => {
+  const handleSearch = (query: string | undefined, watchStatus: WatchStatus | undefined) => {
+    loadFirstPage((cursor) => titlesApi.searchTitles(query, watchStatus, cursor));
+  };
+
+  const handleLoadMore = async () => {
+    if (!nextCursor) {
+      return;
+    }
     try {
-      setLoading(true);
+      setLoadingMore(true);
       setError(null);
-      const data = await titlesApi.searchTitles(query, watchStatus);
-      setTitles(data);
+      const page = await pageLoader(nextCursor);
+      setTitles((current) => [...current, ...page.items]);
+      setNextCursor(page.nextCursor);
     } catch (err) {
       setError(err instanceof Error ? err.message : 'エラーが発生しました');
     } finally {
-      setLoading(false);
+      setLoadingMore(false);
     }
   };
 
@@ -66,7 +87,21 @@ export default function HomePage() {
       {loading ? (
         <Spinner fullScreen />
       ) : (
-        <TitleList titles={titles} onDelete={handleDelete} />
+        <>
+          <TitleList titles={titles} onDelete={handleDelete} />
+          {nextCursor && (
+            <div className="flex justify-center">
+              <Button
+                variant="outline"
+                onClick={handleLoadMore}
+                disabled={loadingMore}
+                data-testid="load-more-button"
+              >
+                さらに読み込む
+              </Button>
+            </div>
+          )}
+        </>
       )}
     </div>
   );
@@ -20,6 +20,14 @@ class ApiClient {
     return response.data;
   }
 
+  async getWithHeaders<T>(
+    url: string,
+    config?: AxiosRequestConfig
+  ): Promise<{ data: T; headers: Record<string, string | undefined> }> {
+    const response = await this.client.get<T>(url, config);
+    return { data: response.data, headers: response.headers as Record<string, string | undefined> };
+  }
+
   async post<T>(url: string, data?: unknown, config?: AxiosRequestConfig): Promise<T> {
     const response = await this.client.post<T>(url, data, config);
     return response.data;
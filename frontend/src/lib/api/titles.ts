@@ -1,6 +1,7 @@
 import { apiClient } from './client';
 import {
   TitleSummary,
+  TitlePage,
   TitleDetail,
   CreateTitleRequest,
   UpdateTitleRequest,
@@ -8,6 +9,16 @@ import {
 import { WatchStatus } from '@/types/episode';
 
 const BASE_URL = '/titles';
+// axios はレスポンスヘッダー名を小文字で返す
+const NEXT_CURSOR_HEADER = 'x-next-cursor';
+
+// 一覧・検索はページ単位で返される。次のページは X-Next-Cursor の値を cursor に渡して取得する
+async function getPage(url: string, cursor?: string): Promise<TitlePage> {
+  const separator = url.includes('?') ? '&' : '?';
+  const pageUrl = cursor ? `${url}${separator}cursor=${encodeURIComponent(cursor)}` : url;
+  const { data, headers } = await apiClient.getWithHeaders<TitleSummary[]>(pageUrl);
+  return { items: data, nextCursor: headers[NEXT_CURSOR_HEADER] };
+}
 
 export const titlesApi = {
   async createTitle(request: CreateTitleRequest): Promise<TitleSummary> {
@@ -26,14 +37,15 @@ export const titlesApi = {
     return apiClient.delete<void>(`${BASE_URL}/${id}`);
   },
 
-  async getAllTitles(): Promise<TitleSummary[]> {
-    return apiClient.get<TitleSummary[]>(BASE_URL);
+  async getAllTitles(cursor?: string): Promise<TitlePage> {
+    return getPage(BASE_URL, cursor);
   },
 
   async searchTitles(
     query?: string,
-    watchStatus?: WatchStatus
-  ): Promise<TitleSummary[]> {
+    watchStatus?: WatchStatus,
+    cursor?: string
+  ): Promise<TitlePage> {
     const params = new URLSearchParams();
     if (query) {
       params.append('query', query);
@@ -43,6 +55,6 @@ export const titlesApi = {
     }
     const queryString = params.toString();
     const url = queryString ? `${BASE_URL}/search?${queryString}` : `${BASE_URL}/search`;
-    return apiClient.get<TitleSummary[]>(url);
+    return getPage(url, cursor);
   },
 };
@@ -26,7 +26,7 @@ describe('Home Page', () => {
 
   describe('initial rendering', () => {
     it('should render page title', async () => {
-      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue(mockTitles);
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: mockTitles });
 
       render(<HomePage />);
 
@@ -36,7 +36,7 @@ describe('Home Page', () => {
     });
 
     it('should load all titles on mount', async () => {
-      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue(mockTitles);
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: mockTitles });
 
       render(<HomePage />);
 
@@ -47,7 +47,7 @@ describe('Home Page', () => {
 
     it('should display loading message initially', () => {
       (titlesApi.titlesApi.getAllTitles as jest.Mock).mockImplementation(
-        () => new Promise(resolve => setTimeout(() => resolve(mockTitles), 100))
+        () => new Promise(resolve => setTimeout(() => resolve({ items: mockTitles }), 100))
       );
 
       render(<HomePage />);
@@ -56,7 +56,7 @@ describe('Home Page', () => {
     });
 
     it('should render SearchBar component', async () => {
-      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue(mockTitles);
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: mockTitles });
 
       render(<HomePage />);
 
@@ -68,7 +68,7 @@ describe('Home Page', () => {
     });
 
     it('should render new title creation link', async () => {
-      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue(mockTitles);
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: mockTitles });
 
       render(<HomePage />);
 
@@ -104,9 +104,9 @@ describe('Home Page', () => {
   describe('search functionality', () => {
     it('should call searchTitles when search button is clicked', async () => {
       const user = userEvent.setup();
-      const mockSearchTitles = jest.fn().mockResolvedValue([mockTitles[0]]);
+      const mockSearchTitles = jest.fn().mockResolvedValue({ items: [mockTitles[0]] });
 
-      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue(mockTitles);
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: mockTitles });
       (titlesApi.titlesApi.searchTitles as jest.Mock).mockImplementation(mockSearchTitles);
 
       render(<HomePage />);
@@ -122,15 +122,15 @@ describe('Home Page', () => {
       await user.click(searchButton);
 
       await waitFor(() => {
-        expect(mockSearchTitles).toHaveBeenCalledWith('Anime', undefined);
+        expect(mockSearchTitles).toHaveBeenCalledWith('Anime', undefined, undefined);
       });
     });
 
     it('should call searchTitles with watch status filter', async () => {
       const user = userEvent.setup();
-      const mockSearchTitles = jest.fn().mockResolvedValue([]);
+      const mockSearchTitles = jest.fn().mockResolvedValue({ items: [] });
 
-      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue(mockTitles);
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: mockTitles });
       (titlesApi.titlesApi.searchTitles as jest.Mock).mockImplementation(mockSearchTitles);
 
       render(<HomePage />);
@@ -146,15 +146,15 @@ describe('Home Page', () => {
       await user.click(searchButton);
 
       await waitFor(() => {
-        expect(mockSearchTitles).toHaveBeenCalledWith(undefined, 'WATCHED');
+        expect(mockSearchTitles).toHaveBeenCalledWith(undefined, 'WATCHED', undefined);
       });
     });
 
     it('should call searchTitles with both query and filter', async () => {
       const user = userEvent.setup();
-      const mockSearchTitles = jest.fn().mockResolvedValue([]);
+      const mockSearchTitles = jest.fn().mockResolvedValue({ items: [] });
 
-      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue(mockTitles);
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: mockTitles });
       (titlesApi.titlesApi.searchTitles as jest.Mock).mockImplementation(mockSearchTitles);
 
       render(<HomePage />);
@@ -172,15 +172,15 @@ describe('Home Page', () => {
       await user.click(searchButton);
 
       await waitFor(() => {
-        expect(mockSearchTitles).toHaveBeenCalledWith('Title', 'UNWATCHED');
+        expect(mockSearchTitles).toHaveBeenCalledWith('Title', 'UNWATCHED', undefined);
       });
     });
 
     it('should trigger search when Enter key is pressed', async () => {
       const user = userEvent.setup();
-      const mockSearchTitles = jest.fn().mockResolvedValue([mockTitles[0]]);
+      const mockSearchTitles = jest.fn().mockResolvedValue({ items: [mockTitles[0]] });
 
-      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue(mockTitles);
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: mockTitles });
       (titlesApi.titlesApi.searchTitles as jest.Mock).mockImplementation(mockSearchTitles);
 
       render(<HomePage />);
@@ -193,16 +193,16 @@ describe('Home Page', () => {
       await user.type(searchInput, 'test{Enter}');
 
       await waitFor(() => {
-        expect(mockSearchTitles).toHaveBeenCalledWith('test', undefined);
+        expect(mockSearchTitles).toHaveBeenCalledWith('test', undefined, undefined);
       });
     });
 
     it('should display search results', async () => {
       const user = userEvent.setup();
       const searchResults = [mockTitles[0]];
-      const mockSearchTitles = jest.fn().mockResolvedValue(searchResults);
+      const mockSearchTitles = jest.fn().mockResolvedValue({ items: searchResults });
 
-      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue(mockTitles);
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: mockTitles });
       (titlesApi.titlesApi.searchTitles as jest.Mock).mockImplementation(mockSearchTitles);
 
       render(<HomePage />);
@@ -218,15 +218,15 @@ describe('Home Page', () => {
       await user.click(searchButton);
 
       await waitFor(() => {
-        expect(mockSearchTitles).toHaveBeenCalledWith('Anime Title 1', undefined);
+        expect(mockSearchTitles).toHaveBeenCalledWith('Anime Title 1', undefined, undefined);
       });
     });
 
     it('should handle empty search results', async () => {
       const user = userEvent.setup();
-      const mockSearchTitles = jest.fn().mockResolvedValue([]);
+      const mockSearchTitles = jest.fn().mockResolvedValue({ items: [] });
 
-      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue(mockTitles);
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: mockTitles });
       (titlesApi.titlesApi.searchTitles as jest.Mock).mockImplementation(mockSearchTitles);
 
       render(<HomePage />);
@@ -242,17 +242,17 @@ describe('Home Page', () => {
       await user.click(searchButton);
 
       await waitFor(() => {
-        expect(mockSearchTitles).toHaveBeenCalledWith('nonexistent', undefined);
+        expect(mockSearchTitles).toHaveBeenCalledWith('nonexistent', undefined, undefined);
       });
     });
 
     it('should show loading state during search', async () => {
       const user = userEvent.setup();
       const mockSearchTitles = jest.fn().mockImplementation(
-        () => new Promise(resolve => setTimeout(() => resolve([]), 50))
+        () => new Promise(resolve => setTimeout(() => resolve({ items: [] }), 50))
       );
 
-      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue(mockTitles);
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: mockTitles });
       (titlesApi.titlesApi.searchTitles as jest.Mock).mockImplementation(mockSearchTitles);
 
       render(<HomePage />);
@@ -275,7 +275,7 @@ describe('Home Page', () => {
       const error = new Error('Search failed');
       const mockSearchTitles = jest.fn().mockRejectedValue(error);
 
-      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue(mockTitles);
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: mockTitles });
       (titlesApi.titlesApi.searchTitles as jest.Mock).mockImplementation(mockSearchTitles);
 
       render(<HomePage />);
@@ -298,10 +298,10 @@ describe('Home Page', () => {
     it('should disable SearchBar during search', async () => {
       const user = userEvent.setup();
       const mockSearchTitles = jest.fn().mockImplementation(
-        () => new Promise(resolve => setTimeout(() => resolve([]), 50))
+        () => new Promise(resolve => setTimeout(() => resolve({ items: [] }), 50))
       );
 
-      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue(mockTitles);
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: mockTitles });
       (titlesApi.titlesApi.searchTitles as jest.Mock).mockImplementation(mockSearchTitles);
 
       render(<HomePage />);
@@ -317,13 +317,69 @@ describe('Home Page', () => {
     });
   });
 
+  describe('paging', () => {
+    it('should load only the first page and fetch the next page with the cursor on load more', async () => {
+      const user = userEvent.setup();
+      const mockGetAllTitles = jest.fn()
+        .mockResolvedValueOnce({ items: mockTitles.slice(0, 2), nextCursor: 'c1' })
+        .mockResolvedValueOnce({ items: mockTitles.slice(2) });
+
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockImplementation(mockGetAllTitles);
+
+      render(<HomePage />);
+
+      await waitFor(() => {
+        expect(screen.getByTestId('load-more-button')).toBeInTheDocument();
+      });
+      expect(mockGetAllTitles).toHaveBeenCalledTimes(1);
+      expect(screen.queryByText('Manga Title 1')).not.toBeInTheDocument();
+
+      await user.click(screen.getByTestId('load-more-button'));
+
+      await waitFor(() => {
+        expect(screen.getByText('Manga Title 1')).toBeInTheDocument();
+      });
+      expect(mockGetAllTitles).toHaveBeenLastCalledWith('c1');
+      expect(screen.getByText('Anime Title 1')).toBeInTheDocument();
+      expect(screen.queryByTestId('load-more-button')).not.toBeInTheDocument();
+    });
+
+    it('should continue a search with the same conditions on load more', async () => {
+      const user = userEvent.setup();
+      const mockSearchTitles = jest.fn()
+        .mockResolvedValueOnce({ items: [mockTitles[0]], nextCursor: 's1' })
+        .mockResolvedValueOnce({ items: [mockTitles[1]] });
+
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: [] });
+      (titlesApi.titlesApi.searchTitles as jest.Mock).mockImplementation(mockSearchTitles);
+
+      render(<HomePage />);
+
+      await waitFor(() => {
+        expect(screen.getByTestId('search-input')).toBeInTheDocument();
+      });
+
+      await user.type(screen.getByTestId('search-input'), 'Anime{Enter}');
+      await waitFor(() => {
+        expect(screen.getByTestId('load-more-button')).toBeInTheDocument();
+      });
+      await user.click(screen.getByTestId('load-more-button'));
+
+      await waitFor(() => {
+        expect(screen.getByText('Anime Title 2')).toBeInTheDocument();
+      });
+      expect(mockSearchTitles).toHaveBeenNthCalledWith(1, 'Anime', undefined, undefined);
+      expect(mockSearchTitles).toHaveBeenNthCalledWith(2, 'Anime', undefined, 's1');
+    });
+  });
+
   describe('clear functionality', () => {
     it('should reload all titles when clear button is clicked', async () => {
       const user = userEvent.setup();
-      const mockSearchTitles = jest.fn().mockResolvedValue([mockTitles[0]]);
+      const mockSearchTitles = jest.fn().mockResolvedValue({ items: [mockTitles[0]] });
       const mockGetAllTitles = jest.fn()
-        .mockResolvedValueOnce(mockTitles)
-        .mockResolvedValueOnce(mockTitles);
+        .mockResolvedValueOnce({ items: mockTitles })
+        .mockResolvedValueOnce({ items: mockTitles });
 
       (titlesApi.titlesApi.getAllTitles as jest.Mock).mockImplementation(mockGetAllTitles);
       (titlesApi.titlesApi.searchTitles as jest.Mock).mockImplementation(mockSearchTitles);
@@ -357,7 +413,7 @@ describe('Home Page', () => {
     it('should call deleteTitle when delete is triggered', async () => {
       const mockDeleteTitle = jest.fn().mockResolvedValue(undefined);
 
-      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue(mockTitles);
+      (titlesApi.titlesApi.getAllTitles as jest.Mock).mockResolvedValue({ items: mockTitles });
       (titlesApi.titlesApi.deleteTitle as jest.Mock).mockImplementation(mockDeleteTitle);
 
       render(<HomePage />);
@@ -19,99 +19,133 @@ describe('titlesApi', () => {
 
     it('should call GET /titles/search with query parameter', async () => {
       const query = 'test';
-      mockedApiClient.get.mockResolvedValue(mockTitles);
+      mockedApiClient.getWithHeaders.mockResolvedValue({ data: mockTitles, headers: {} });
 
       await titlesApi.searchTitles(query);
 
-      expect(mockedApiClient.get).toHaveBeenCalledWith('/titles/search?query=test');
+      expect(mockedApiClient.getWithHeaders).toHaveBeenCalledWith('/titles/search?query=test');
     });
 
     it('should call GET /titles/search with watchStatus parameter', async () => {
       const watchStatus: WatchStatus = 'WATCHED';
-      mockedApiClient.get.mockResolvedValue(mockTitles);
+      mockedApiClient.getWithHeaders.mockResolvedValue({ data: mockTitles, headers: {} });
 
       await titlesApi.searchTitles(undefined, watchStatus);
 
-      expect(mockedApiClient.get).toHaveBeenCalledWith('/titles/search?watchStatus=WATCHED');
+      expect(mockedApiClient.getWithHeaders).toHaveBeenCalledWith('/titles/search?watchStatus=WATCHED');
     });
 
     it('should call GET /titles/search with both query and watchStatus parameters', async () => {
       const query = 'anime';
       const watchStatus: WatchStatus = 'UNWATCHED';
-      mockedApiClient.get.mockResolvedValue(mockTitles);
+      mockedApiClient.getWithHeaders.mockResolvedValue({ data: mockTitles, headers: {} });
 
       await titlesApi.searchTitles(query, watchStatus);
 
-      expect(mockedApiClient.get).toHaveBeenCalledWith(
+      expect(mockedApiClient.getWithHeaders).toHaveBeenCalledWith(
         '/titles/search?query=anime&watchStatus=UNWATCHED'
       );
     });
 
     it('should call GET /titles/search with no parameters when both are undefined', async () => {
-      mockedApiClient.get.mockResolvedValue(mockTitles);
+      mockedApiClient.getWithHeaders.mockResolvedValue({ data: mockTitles, headers: {} });
 
       await titlesApi.searchTitles(undefined, undefined);
 
-      expect(mockedApiClient.get).toHaveBeenCalledWith('/titles/search');
+      expect(mockedApiClient.getWithHeaders).toHaveBeenCalledWith('/titles/search');
     });
 
-    it('should return search results as array', async () => {
-      mockedApiClient.get.mockResolvedValue(mockTitles);
+    it('should return search results as a page', async () => {
+      mockedApiClient.getWithHeaders.mockResolvedValue({ data: mockTitles, headers: {} });
 
       const result = await titlesApi.searchTitles('test');
 
-      expect(result).toEqual(mockTitles);
-      expect(Array.isArray(result)).toBe(true);
+      expect(result.items).toEqual(mockTitles);
+      expect(result.nextCursor).toBeUndefined();
     });
 
-    it('should return empty array when no results found', async () => {
-      mockedApiClient.get.mockResolvedValue([]);
+    it('should return empty items when no results found', async () => {
+      mockedApiClient.getWithHeaders.mockResolvedValue({ data: [], headers: {} });
 
       const result = await titlesApi.searchTitles('nonexistent');
 
-      expect(result).toEqual([]);
+      expect(result.items).toEqual([]);
     });
 
     it('should handle API errors during search', async () => {
       const error = new Error('Search failed');
-      mockedApiClient.get.mockRejectedValue(error);
+      mockedApiClient.getWithHeaders.mockRejectedValue(error);
 
       await expect(titlesApi.searchTitles('test')).rejects.toThrow('Search failed');
     });
 
     it('should handle special characters in query string', async () => {
       const query = 'test & special';
-      mockedApiClient.get.mockResolvedValue(mockTitles);
+      mockedApiClient.getWithHeaders.mockResolvedValue({ data: mockTitles, headers: {} });
 
       await titlesApi.searchTitles(query);
 
-      expect(mockedApiClient.get).toHaveBeenCalledWith(
+      expect(mockedApiClient.getWithHeaders).toHaveBeenCalledWith(
         '/titles/search?query=test%20%26%20special'
       );
     });
 
     it('should handle empty string query parameter', async () => {
-      mockedApiClient.get.mockResolvedValue(mockTitles);
+      mockedApiClient.getWithHeaders.mockResolvedValue({ data: mockTitles, headers: {} });
 
       await titlesApi.searchTitles('');
 
-      expect(mockedApiClient.get).toHaveBeenCalledWith('/titles/search');
+      expect(mockedApiClient.getWithHeaders).toHaveBeenCalledWith('/titles/search');
     });
 
     it('should handle multiple search requests sequentially', async () => {
-      mockedApiClient.get.mockResolvedValue(mockTitles);
+      mockedApiClient.getWithHeaders.mockResolvedValue({ data: mockTitles, headers: {} });
 
       await titlesApi.searchTitles('first');
       await titlesApi.searchTitles('second', 'WATCHED');
       await titlesApi.searchTitles(undefined, 'UNWATCHED');
 
-      expect(mockedApiClient.get).toHaveBeenCalledTimes(3);
-      expect(mockedApiClient.get).toHaveBeenNthCalledWith(1, '/titles/search?query=first');
-      expect(mockedApiClient.get).toHaveBeenNthCalledWith(
+      expect(mockedApiClient.getWithHeaders).toHaveBeenCalledTimes(3);
+      expect(mockedApiClient.getWithHeaders).toHaveBeenNthCalledWith(1, '/titles/search?query=first');
+      expect(mockedApiClient.getWithHeaders).toHaveBeenNthCalledWith(
         2,
         '/titles/search?query=second&watchStatus=WATCHED'
       );
-      expect(mockedApiClient.get).toHaveBeenNthCalledWith(3, '/titles/search?watchStatus=UNWATCHED');
+      expect(mockedApiClient.getWithHeaders).toHaveBeenNthCalledWith(3, '/titles/search?watchStatus=UNWATCHED');
+    });
+  });
+
+  describe('paging', () => {
+    const firstPage = [{ id: 3, name: 'Third', seriesCount: 1 }];
+    const lastPage = [{ id: 1, name: 'First', seriesCount: 1 }];
+
+    it('should fetch only the first page and return X-Next-Cursor in getAllTitles', async () => {
+      mockedApiClient.getWithHeaders.mockResolvedValue({ data: firstPage, headers: { 'x-next-cursor': 'c1' } });
+
+      const result = await titlesApi.getAllTitles();
+
+      expect(result).toEqual({ items: firstPage, nextCursor: 'c1' });
+      expect(mockedApiClient.getWithHeaders).toHaveBeenCalledTimes(1);
+      expect(mockedApiClient.getWithHeaders).toHaveBeenCalledWith('/titles');
+    });
+
+    it('should fetch the page at the cursor in getAllTitles', async () => {
+      mockedApiClient.getWithHeaders.mockResolvedValue({ data: lastPage, headers: {} });
+
+      const result = await titlesApi.getAllTitles('c1');
+
+      expect(result).toEqual({ items: lastPage, nextCursor: undefined });
+      expect(mockedApiClient.getWithHeaders).toHaveBeenCalledWith('/titles?cursor=c1');
+    });
+
+    it('should append the cursor to the search parameters in searchTitles', async () => {
+      mockedApiClient.getWithHeaders.mockResolvedValue({ data: lastPage, headers: {} });
+
+      await titlesApi.searchTitles('test', undefined, 'a+b/c=');
+      await titlesApi.searchTitles(undefined, undefined, 'c2');
+
+      expect(mockedApiClient.getWithHeaders).toHaveBeenNthCalledWith(1, '/titles/search?query=test&cursor=a%2Bb%2Fc%3D');
+      expect(mockedApiClient.getWithHeaders).toHaveBeenNthCalledWith(2, '/titles/search?cursor=c2');
     });
   });
 });
@@ -9,6 +9,14 @@ export interface TitleSummary {
   updatedAt: string;
 }
 
+/**
+ * 一覧・検索の1ページ分（nextCursor がなければ最後のページ）
+ */
+export interface TitlePage {
+  items: TitleSummary[];
+  nextCursor?: string;
+}
+
 export interface TitleDetail extends TitleSummary {
   series: Series[];
   titleInfoUrls: string[];